@@ -202,6 +202,15 @@ public ExecutorService getExecutor() {
         return execution.getExecutor();
     }
 
+    /**
+     * Get the metrics of the build.
+     *
+     * @return the metrics of the build
+     */
+    public BuildMetrics getMetrics() {
+        return execution.getMetrics();
+    }
+
     // -- //
 
     private void doProduce(ItemId id, BuildItem value) {
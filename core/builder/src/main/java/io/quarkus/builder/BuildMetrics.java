@@ -11,8 +11,10 @@
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -33,6 +35,7 @@ public class BuildMetrics {
     private final String buildTargetName;
     private final ConcurrentMap<String, BuildStepRecord> records = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Integer> buildItems = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> timings = new ConcurrentHashMap<>();
     private final AtomicInteger idGenerator;
 
     public BuildMetrics(String buildTargetName) {
@@ -57,6 +60,24 @@ public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime starte
                 new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, duration));
     }
 
+    /**
+     * Adds the duration to the timing of the given name. A timing measures a specific part of the build, e.g. the indexing
+     * of the application dependencies.
+     *
+     * @param name the name of the timing
+     * @param duration the duration in ms
+     */
+    public void addTiming(String name, long duration) {
+        timings.merge(name, duration, Long::sum);
+    }
+
+    /**
+     * @return the timings, in ms
+     */
+    public Map<String, Long> getTimings() {
+        return Collections.unmodifiableMap(timings);
+    }
+
     public void buildItemProduced(BuildItem buildItem) {
         buildItems.compute(buildItem.getClass().getName(), this::itemProduced);
     }
@@ -126,6 +147,15 @@ public int compare(Entry<String, Integer> o1, Entry<String, Integer> o2) {
         }
         json.put("itemsCount", itemsCount);
 
+        JsonArrayBuilder timingsArray = Json.array();
+        json.put("timings", timingsArray);
+        for (Entry<String, Long> e : timings.entrySet()) {
+            JsonObjectBuilder timingObject = Json.object();
+            timingObject.put("name", e.getKey());
+            timingObject.put("duration", e.getValue());
+            timingsArray.add(timingObject);
+        }
+
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
             json.appendTo(writer);
         }
@@ -53,6 +53,7 @@
 import io.quarkus.bootstrap.model.ApplicationModel;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildStepBuilder;
 import io.quarkus.builder.ConsumeFlag;
 import io.quarkus.builder.ConsumeFlags;
@@ -569,6 +570,8 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                     } else if (rawTypeOf(parameterType) == Executor.class
                             || rawTypeOf(parameterType) == ExecutorService.class) {
                         methodParamFns.add((bc, bri) -> bc.getExecutor());
+                    } else if (rawTypeOf(parameterType) == BuildMetrics.class) {
+                        methodParamFns.add((bc, bri) -> bc.getMetrics());
                     } else if (parameterClass.isAnnotationPresent(ConfigRoot.class)) {
                         final ConfigRoot annotation = parameterClass.getAnnotation(ConfigRoot.class);
                         final ConfigPhase phase = annotation.phase();
@@ -5,21 +5,29 @@
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jboss.jandex.Index;
-import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.ApplicationArchiveImpl;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -54,8 +62,12 @@ public class ApplicationArchiveBuildStep {
 
     private static final Logger LOGGER = Logger.getLogger(ApplicationArchiveBuildStep.class);
 
+    private static final String SNAPSHOT_VERSION = "-SNAPSHOT";
+
     IndexDependencyConfiguration config;
 
+    IndexCacheConfiguration indexCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -69,6 +81,28 @@ static final class IndexDependencyConfiguration {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(name = "index-cache", phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfiguration {
+        /**
+         * Whether the indexes of the dependencies that do not contain a Jandex index are stored on disk, so that
+         * subsequent builds do not need to index them again.
+         */
+        @ConfigItem(defaultValue = "true")
+        boolean enabled;
+
+        /**
+         * The directory in which the indexes of the dependencies are stored.
+         */
+        @ConfigItem(defaultValue = "${user.home}/.quarkus/index-cache")
+        String directory;
+
+        /**
+         * The indexes that were not used by any build for longer than this duration are removed from the directory.
+         */
+        @ConfigItem(defaultValue = "30d")
+        Duration maxAge;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -86,13 +120,24 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            ExecutorService buildExecutor,
+            BuildMetrics buildMetrics) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        PersistentIndexCache persistentCache = null;
+        if (indexCacheConfig.enabled) {
+            persistentCache = new PersistentIndexCache(Paths.get(indexCacheConfig.directory));
+            if (!liveReloadContext.isLiveReload()) {
+                persistentCache.evict(indexCacheConfig.maxAge);
+            }
+        }
+        DependencyIndexer indexer = new DependencyIndexer(indexCache, persistentCache,
+                persistentlyCachedArtifacts(curateOutcomeBuildItem), buildExecutor);
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources.entrySet()) {
@@ -102,9 +147,16 @@ ApplicationArchivesBuildItem build(
         // Add resources removed from the classpath by extensions
         removedResources.putAll(curateOutcomeBuildItem.getApplicationModel().getRemovedResources());
 
-        List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
-                appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
-                curateOutcomeBuildItem, removedResources);
+        long start = System.nanoTime();
+        List<ApplicationArchive> applicationArchives = join(scanForOtherIndexes(buildCloseables,
+                appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexer,
+                curateOutcomeBuildItem, removedResources));
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        buildMetrics.addTiming("index-dependencies", duration);
+        if (indexer.persistentCache != null) {
+            LOGGER.debugf("Dependencies indexed in %s ms, persistent index cache hits: %s, misses: %s", duration,
+                    indexer.persistentCache.getHits(), indexer.persistentCache.getMisses());
+        }
 
         final OpenPathTree tree;
         if (root.getRootDirectories().size() == 1) {
@@ -124,14 +176,44 @@ ApplicationArchivesBuildItem build(
                 applicationArchives);
     }
 
-    private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuildItem buildCloseables,
+    /**
+     * The indexes of the snapshots and the workspace modules are not stored, their content changes all the time and each
+     * change would leave a stale index behind.
+     */
+    private static Set<ArtifactKey> persistentlyCachedArtifacts(CurateOutcomeBuildItem curateOutcomeBuildItem) {
+        Set<ArtifactKey> keys = new HashSet<>();
+        for (ResolvedDependency dep : curateOutcomeBuildItem.getApplicationModel().getDependencies()) {
+            if (!dep.isWorkspaceModule() && !dep.getVersion().endsWith(SNAPSHOT_VERSION)) {
+                keys.add(dep.getKey());
+            }
+        }
+        return keys;
+    }
+
+    private static List<ApplicationArchive> join(List<CompletableFuture<ApplicationArchive>> futures) {
+        List<ApplicationArchive> archives = new ArrayList<>(futures.size());
+        for (CompletableFuture<ApplicationArchive> future : futures) {
+            try {
+                archives.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return archives;
+    }
+
+    private List<CompletableFuture<ApplicationArchive>> scanForOtherIndexes(
+            QuarkusBuildCloseablesBuildItem buildCloseables,
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
-            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache,
+            List<IndexDependencyBuildItem> indexDependencyBuildItem, DependencyIndexer indexer,
             CurateOutcomeBuildItem curateOutcomeBuildItem, Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
 
-        List<ApplicationArchive> appArchives = new ArrayList<>();
+        List<CompletableFuture<ApplicationArchive>> appArchives = new ArrayList<>();
         Set<Path> indexedPaths = new HashSet<>();
 
         //get paths that are included via marker files
@@ -141,16 +223,16 @@ private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuild
             markers.add(marker.endsWith("/") ? marker.substring(0, marker.length() - 1) : marker);
         }
         markers.add(IndexingUtil.JANDEX_INDEX);
-        addMarkerFilePaths(markers, root, indexedPaths, appArchives, indexCache, removedResources);
+        addMarkerFilePaths(markers, root, indexedPaths, appArchives, indexer, removedResources);
 
         //get paths that are included via index-dependencies
         addIndexDependencyPaths(indexDependencyBuildItem, root, indexedPaths, appArchives, buildCloseables,
-                indexCache, curateOutcomeBuildItem, removedResources);
+                indexer, curateOutcomeBuildItem, removedResources);
 
         for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchives) {
             for (Path apPath : i.getResolvedPaths()) {
                 if (!root.getResolvedPaths().contains(apPath) && indexedPaths.add(apPath)) {
-                    appArchives.add(createApplicationArchive(buildCloseables, indexCache, apPath, null,
+                    appArchives.add(createApplicationArchive(buildCloseables, indexer, apPath, null,
                             removedResources));
                 }
             }
@@ -160,8 +242,8 @@ private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuild
     }
 
     private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems, ArchiveRootBuildItem root,
-            Set<Path> indexedDeps, List<ApplicationArchive> appArchives,
-            QuarkusBuildCloseablesBuildItem buildCloseables, IndexCache indexCache,
+            Set<Path> indexedDeps, List<CompletableFuture<ApplicationArchive>> appArchives,
+            QuarkusBuildCloseablesBuildItem buildCloseables, DependencyIndexer indexer,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
             Map<ArtifactKey, Set<String>> removedResources) {
         if (indexDependencyBuildItems.isEmpty()) {
@@ -181,7 +263,7 @@ private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDepende
                             && !root.getResolvedPaths().contains(path)
                             && indexedDeps.add(path)) {
                         try {
-                            appArchives.add(createApplicationArchive(buildCloseables, indexCache, path, dep.getKey(),
+                            appArchives.add(createApplicationArchive(buildCloseables, indexer, path, dep.getKey(),
                                     removedResources));
                         } catch (IOException e) {
                             throw new UncheckedIOException(e);
@@ -192,26 +274,29 @@ private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDepende
         }
     }
 
-    private static ApplicationArchive createApplicationArchive(QuarkusBuildCloseablesBuildItem buildCloseables,
-            IndexCache indexCache, Path dep, ArtifactKey artifactKey, Map<ArtifactKey, Set<String>> removedResources)
+    private static CompletableFuture<ApplicationArchive> createApplicationArchive(
+            QuarkusBuildCloseablesBuildItem buildCloseables, DependencyIndexer indexer, Path dep, ArtifactKey artifactKey,
+            Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
         LOGGER.debugf("Indexing dependency: %s", dep);
         final Set<String> removed = removedResources.get(artifactKey);
-        final OpenPathTree openTree;
-        final IndexView index;
         if (Files.isDirectory(dep)) {
-            openTree = new DirectoryPathTree(dep);
-            index = indexPathTree(openTree, removed);
-        } else {
-            openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
-            index = handleJarPath(dep, indexCache, removed);
+            final OpenPathTree openTree = new DirectoryPathTree(dep);
+            return CompletableFuture.completedFuture(
+                    new ApplicationArchiveImpl(indexPathTree(openTree, removed), openTree, artifactKey));
         }
-        return new ApplicationArchiveImpl(index, openTree, artifactKey);
+        final OpenPathTree openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
+        return indexer.indexJar(dep, artifactKey, removed).thenApply(new Function<Index, ApplicationArchive>() {
+            @Override
+            public ApplicationArchive apply(Index index) {
+                return new ApplicationArchiveImpl(index, openTree, artifactKey);
+            }
+        });
     }
 
     private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
-            ArchiveRootBuildItem root, Set<Path> indexedPaths, List<ApplicationArchive> appArchives,
-            IndexCache indexCache, Map<ArtifactKey, Set<String>> removed)
+            ArchiveRootBuildItem root, Set<Path> indexedPaths, List<CompletableFuture<ApplicationArchive>> appArchives,
+            DependencyIndexer indexer, Map<ArtifactKey, Set<String>> removed)
             throws IOException {
         final QuarkusClassLoader cl = ((QuarkusClassLoader) Thread.currentThread().getContextClassLoader());
         final Set<ArtifactKey> indexedElements = new HashSet<>();
@@ -238,16 +323,13 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         if (root.isExcludedFromIndexing(rootPath)) {
                             return null;
                         }
-                        Index index = indexCache.cache.get(rootPath);
-                        if (index == null) {
-                            try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
-                            } catch (IOException ioe) {
-                                throw new UncheckedIOException(ioe);
-                            }
-                            indexCache.cache.put(rootPath, index);
-                        }
-                        appArchives.add(new ApplicationArchiveImpl(index, tree, dependencyKey));
+                        appArchives.add(indexer.indexJar(rootPath, dependencyKey, removed.get(dependencyKey))
+                                .thenApply(new Function<Index, ApplicationArchive>() {
+                                    @Override
+                                    public ApplicationArchive apply(Index index) {
+                                        return new ApplicationArchiveImpl(index, tree, dependencyKey);
+                                    }
+                                }));
                         return null;
                     }
 
@@ -264,7 +346,7 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         return new ApplicationArchiveImpl(index, tree, dependencyKey);
                     });
                     if (archive != null) {
-                        appArchives.add(archive);
+                        appArchives.add(CompletableFuture.completedFuture(archive));
                     }
                     return null;
                 });
@@ -295,17 +377,44 @@ public void visitPath(PathVisit visit) {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache, Set<String> removed) {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try {
-                    return IndexingUtil.indexJar(path, removed);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
-                }
+    /**
+     * Indexes the dependency jars in parallel, using the build executor.
+     */
+    private static final class DependencyIndexer {
+
+        final IndexCache indexCache;
+        final PersistentIndexCache persistentCache;
+        final Set<ArtifactKey> persistentlyCachedArtifacts;
+        final ExecutorService executor;
+
+        DependencyIndexer(IndexCache indexCache, PersistentIndexCache persistentCache,
+                Set<ArtifactKey> persistentlyCachedArtifacts, ExecutorService executor) {
+            this.indexCache = indexCache;
+            this.persistentCache = persistentCache;
+            this.persistentlyCachedArtifacts = persistentlyCachedArtifacts;
+            this.executor = executor;
+        }
+
+        CompletableFuture<Index> indexJar(Path path, ArtifactKey artifactKey, Set<String> removed) {
+            Index index = indexCache.cache.get(path);
+            if (index != null) {
+                return CompletableFuture.completedFuture(index);
             }
-        });
+            return CompletableFuture.supplyAsync(new Supplier<Index>() {
+                @Override
+                public Index get() {
+                    try {
+                        Index index = persistentCache != null && persistentlyCachedArtifacts.contains(artifactKey)
+                                ? persistentCache.indexJar(path, artifactKey, removed)
+                                : IndexingUtil.indexJar(path, removed);
+                        indexCache.cache.put(path, index);
+                        return index;
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to process " + path, e);
+                    }
+                }
+            }, executor);
+        }
     }
 
     /**
@@ -313,6 +422,6 @@ public Index apply(Path path) {
      * to re-index them each time. We cache them here to reduce the hot reload time.
      */
     private static final class IndexCache {
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
     }
 }
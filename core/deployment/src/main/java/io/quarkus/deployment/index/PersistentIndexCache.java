@@ -0,0 +1,183 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+import io.quarkus.maven.dependency.ArtifactKey;
+
+/**
+ * Stores the indexes of dependency jars that do not contain a Jandex index on disk, so that subsequent builds do not
+ * need to index them again.
+ * <p>
+ * An index is stored in a file named after a hash of the artifact key, the resources removed from the artifact and the
+ * content of the jar. A modified jar is therefore indexed again. The indexes that are no longer used are eventually evicted,
+ * see {@link #evict(Duration)}.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final String INDEX_SUFFIX = ".idx";
+
+    // Multi-release jars are indexed for the current Java version, and the index format depends on the Jandex version
+    private static final String ENVIRONMENT = Runtime.version().feature() + ":"
+            + Index.class.getPackage().getImplementationVersion();
+
+    private final Path directory;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param jar the jar
+     * @param artifactKey the key of the artifact, may be {@code null}
+     * @param removed the resources removed from the artifact, may be {@code null}
+     * @return the index of the jar
+     * @throws IOException if the jar cannot be read
+     */
+    Index indexJar(Path jar, ArtifactKey artifactKey, Set<String> removed) throws IOException {
+        if (removed == null && containsIndex(jar)) {
+            // Reading the index of the jar is cheaper than computing its hash
+            return IndexingUtil.indexJar(jar, null);
+        }
+        Path file = directory.resolve(hash(jar, artifactKey, removed) + INDEX_SUFFIX);
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                Index index = new IndexReader(in).read();
+                hits.increment();
+                touch(file);
+                return index;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debugf(e, "Unable to read the cached index of %s, the jar will be indexed again", jar);
+            }
+        }
+        Index index = IndexingUtil.indexJar(jar, removed);
+        misses.increment();
+        store(file, index, jar);
+        return index;
+    }
+
+    /**
+     * Removes the indexes that were not used for longer than the given duration, and the temporary files left over by
+     * interrupted builds.
+     */
+    void evict(Duration maxAge) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        FileTime limit = FileTime.from(Instant.now().minus(maxAge));
+        int evicted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).compareTo(limit) < 0) {
+                        Files.deleteIfExists(file);
+                        evicted++;
+                    }
+                } catch (IOException e) {
+                    // The file may have been evicted by a concurrent build
+                    LOGGER.debugf(e, "Unable to evict %s", file);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to evict the indexes from %s", directory);
+        }
+        if (evicted > 0) {
+            LOGGER.debugf("Evicted %s indexes from %s", evicted, directory);
+        }
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    private static boolean containsIndex(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getEntry(IndexingUtil.JANDEX_INDEX) != null;
+        }
+    }
+
+    private static void touch(Path file) {
+        try {
+            // The last modified time tracks the last use of the index, see evict()
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to update the last modified time of %s", file);
+        }
+    }
+
+    private static void store(Path file, Index index, Path jar) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                    new IndexWriter(out).write(index);
+                }
+                // Concurrent builds may store the same index, a file is never visible before it's complete
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to store the index of %s", jar);
+        }
+    }
+
+    static String hash(Path jar, ArtifactKey artifactKey, Set<String> removed) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(ENVIRONMENT.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(String.valueOf(artifactKey).getBytes(StandardCharsets.UTF_8));
+        if (removed != null) {
+            for (String resource : new TreeSet<>(removed)) {
+                digest.update((byte) 0);
+                digest.update(resource.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        digest.update((byte) 0);
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(jar)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
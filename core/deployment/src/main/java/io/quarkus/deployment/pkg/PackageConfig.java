@@ -58,6 +58,11 @@ public enum BuiltInType {
         UBER_JAR("uber-jar"),
         FAST_JAR("fast-jar"),
         MUTABLE_JAR("mutable-jar"),
+        /**
+         * A fast-jar that also stores the uncompressed class files of the application in a single file that is memory
+         * mapped at runtime.
+         */
+        MAPPED_JAR("mapped-jar"),
         /**
          * @deprecated use {@link #LEGACY_JAR} instead
          */
@@ -97,7 +102,8 @@ public static BuiltInType fromString(String value) {
      * The requested output type.
      * <p>
      * The default built in types are 'jar' (which will use 'fast-jar'), 'legacy-jar' for the pre-1.12 default jar
-     * packaging, 'uber-jar', 'mutable-jar' (for remote development mode), 'native' and 'native-sources'.
+     * packaging, 'uber-jar', 'mutable-jar' (for remote development mode), 'mapped-jar' (a 'fast-jar' whose class files
+     * are memory mapped at runtime), 'native' and 'native-sources'.
      */
     @ConfigItem(defaultValue = "jar")
     public String type;
@@ -274,13 +280,15 @@ public boolean isAnyJarType() {
                 type.equalsIgnoreCase(PackageConfig.BuiltInType.UBER_JAR.getValue())) ||
                 type.equalsIgnoreCase(PackageConfig.BuiltInType.LEGACY_JAR.getValue()) ||
                 type.equalsIgnoreCase(PackageConfig.BuiltInType.LEGACY.getValue()) ||
-                type.equalsIgnoreCase(PackageConfig.BuiltInType.MUTABLE_JAR.getValue());
+                type.equalsIgnoreCase(PackageConfig.BuiltInType.MUTABLE_JAR.getValue()) ||
+                type.equalsIgnoreCase(PackageConfig.BuiltInType.MAPPED_JAR.getValue());
     }
 
     public boolean isFastJar() {
         return type.equalsIgnoreCase(PackageConfig.BuiltInType.JAR.getValue()) ||
                 type.equalsIgnoreCase(PackageConfig.BuiltInType.FAST_JAR.getValue()) ||
-                type.equalsIgnoreCase(PackageConfig.BuiltInType.MUTABLE_JAR.getValue());
+                type.equalsIgnoreCase(PackageConfig.BuiltInType.MUTABLE_JAR.getValue()) ||
+                type.equalsIgnoreCase(PackageConfig.BuiltInType.MAPPED_JAR.getValue());
     }
 
     public boolean isLegacyJar() {
@@ -52,6 +52,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.model.MutableJarApplicationModel;
+import io.quarkus.bootstrap.runner.MappedApplicationArchive;
 import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
 import io.quarkus.bootstrap.runner.SerializedApplication;
 import io.quarkus.bootstrap.util.IoUtils;
@@ -744,6 +745,13 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
             Collections.sort(sortedNonExistentResources);
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, allJars, sortedParentFirst,
                     sortedNonExistentResources);
+            Path mappedArchive = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_ARCHIVE);
+            if (packageConfig.type.equalsIgnoreCase(PackageConfig.BuiltInType.MAPPED_JAR.getValue())) {
+                MappedApplicationArchive.write(mappedArchive, allJars);
+            } else {
+                // the archive would be used by the runner if it was left over from a previous build
+                Files.deleteIfExists(mappedArchive);
+            }
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -23,7 +23,8 @@ List<PackageTypeBuildItem> builtins() {
                 new PackageTypeBuildItem(PackageConfig.BuiltInType.FAST_JAR.getValue()),
                 new PackageTypeBuildItem(PackageConfig.BuiltInType.LEGACY_JAR.getValue()),
                 new PackageTypeBuildItem(PackageConfig.BuiltInType.UBER_JAR.getValue()),
-                new PackageTypeBuildItem(PackageConfig.BuiltInType.MUTABLE_JAR.getValue()));
+                new PackageTypeBuildItem(PackageConfig.BuiltInType.MUTABLE_JAR.getValue()),
+                new PackageTypeBuildItem(PackageConfig.BuiltInType.MAPPED_JAR.getValue()));
     }
 
     @BuildStep
@@ -0,0 +1,133 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.maven.dependency.ArtifactKey;
+
+public class PersistentIndexCacheTest {
+
+    private static final ArtifactKey KEY = ArtifactKey.ga("org.acme", "acme-lib");
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void testIndexIsReused() throws IOException {
+        Path jar = createJar(tmp.resolve("acme-lib.jar"), Alpha.class);
+        PersistentIndexCache cache = new PersistentIndexCache(tmp.resolve("cache"));
+
+        assertNotNull(cache.indexJar(jar, KEY, null).getClassByName(Alpha.class));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // A new cache, e.g. in a subsequent build
+        cache = new PersistentIndexCache(tmp.resolve("cache"));
+        assertNotNull(cache.indexJar(jar, KEY, null).getClassByName(Alpha.class));
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testModifiedJarIsIndexedAgain() throws IOException {
+        Path jar = createJar(tmp.resolve("acme-lib.jar"), Alpha.class);
+        PersistentIndexCache cache = new PersistentIndexCache(tmp.resolve("cache"));
+        cache.indexJar(jar, KEY, null);
+
+        createJar(jar, Alpha.class, Bravo.class);
+        Index index = cache.indexJar(jar, KEY, null);
+        assertNotNull(index.getClassByName(Bravo.class));
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testRemovedResources() throws IOException {
+        Path jar = createJar(tmp.resolve("acme-lib.jar"), Alpha.class, Bravo.class);
+        PersistentIndexCache cache = new PersistentIndexCache(tmp.resolve("cache"));
+        cache.indexJar(jar, KEY, null);
+
+        Index index = cache.indexJar(jar, KEY, Set.of(entryName(Bravo.class)));
+        assertNotNull(index.getClassByName(Alpha.class));
+        assertNull(index.getClassByName(Bravo.class));
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testCorruptedIndexIsIgnored() throws IOException {
+        Path jar = createJar(tmp.resolve("acme-lib.jar"), Alpha.class);
+        Path directory = tmp.resolve("cache");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(PersistentIndexCache.hash(jar, KEY, null) + ".idx"), "foo");
+
+        PersistentIndexCache cache = new PersistentIndexCache(directory);
+        assertNotNull(cache.indexJar(jar, KEY, null).getClassByName(DotName.createSimple(Alpha.class)));
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testUnusedIndexesAreEvicted() throws IOException {
+        Path alphaJar = createJar(tmp.resolve("alpha.jar"), Alpha.class);
+        Path bravoJar = createJar(tmp.resolve("bravo.jar"), Bravo.class);
+        Path directory = tmp.resolve("cache");
+        PersistentIndexCache cache = new PersistentIndexCache(directory);
+        cache.indexJar(alphaJar, KEY, null);
+        cache.indexJar(bravoJar, KEY, null);
+        Path alphaIndex = directory.resolve(PersistentIndexCache.hash(alphaJar, KEY, null) + ".idx");
+        Path bravoIndex = directory.resolve(PersistentIndexCache.hash(bravoJar, KEY, null) + ".idx");
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(40)));
+        Files.setLastModifiedTime(alphaIndex, old);
+        Files.setLastModifiedTime(bravoIndex, old);
+
+        // Using an index marks it as recently used
+        cache.indexJar(bravoJar, KEY, null);
+        assertEquals(1, cache.getHits());
+
+        cache.evict(Duration.ofDays(30));
+        assertFalse(Files.exists(alphaIndex));
+        assertTrue(Files.exists(bravoIndex));
+    }
+
+    private static Path createJar(Path jar, Class<?>... classes) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Class<?> clazz : classes) {
+                out.putNextEntry(new JarEntry(entryName(clazz)));
+                try (InputStream in = PersistentIndexCacheTest.class.getClassLoader()
+                        .getResourceAsStream(entryName(clazz))) {
+                    in.transferTo(out);
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static String entryName(Class<?> clazz) {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+
+    public static class Alpha {
+    }
+
+    public static class Bravo {
+    }
+}
@@ -117,6 +117,7 @@ protected Map<String, File> getBuildOutputDirectories() {
                 break;
             case JAR:
             case FAST_JAR:
+            case MAPPED_JAR:
                 outputs.put("fast-jar", fastJar());
                 break;
             case MUTABLE_JAR:
@@ -152,6 +153,7 @@ protected Map<String, File> getBuildOutputFiles() {
                 break;
             case JAR:
             case FAST_JAR:
+            case MAPPED_JAR:
             case MUTABLE_JAR:
             case NATIVE_SOURCES:
                 outputs.put("artifact-properties", artifactProperties());
@@ -170,6 +172,7 @@ protected Collection<File> getBuildInputFiles() {
         switch (packageType) {
             case JAR:
             case FAST_JAR:
+            case MAPPED_JAR:
             case NATIVE:
                 Path appBuildBaseDir = appBuildDir();
                 inputs.add(genBuildDir().toFile());
@@ -215,6 +218,7 @@ public void finalizeQuarkusBuild() {
         switch (packageType) {
             case JAR:
             case FAST_JAR:
+            case MAPPED_JAR:
             case NATIVE:
                 assembleFastJar();
                 break;
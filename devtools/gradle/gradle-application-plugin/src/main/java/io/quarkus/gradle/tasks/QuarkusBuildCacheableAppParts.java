@@ -31,6 +31,7 @@ public boolean isCachedByDefault() {
         switch (packageType()) {
             case JAR:
             case FAST_JAR:
+            case MAPPED_JAR:
             case LEGACY_JAR:
             case LEGACY:
                 return true;
@@ -50,6 +51,7 @@ public Map<String, File> getOutputDirectories() {
         switch (packageType) {
             case JAR:
             case FAST_JAR:
+            case MAPPED_JAR:
             case NATIVE:
             case LEGACY_JAR:
             case LEGACY:
@@ -77,6 +79,7 @@ public void performQuarkusBuild() {
         switch (packageType) {
             case JAR:
             case FAST_JAR:
+            case MAPPED_JAR:
             case NATIVE:
                 fastJarBuild();
                 break;
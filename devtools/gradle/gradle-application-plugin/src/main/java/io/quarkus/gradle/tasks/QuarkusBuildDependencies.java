@@ -54,6 +54,7 @@ public Map<String, File> getOutputDirectories() {
         switch (packageType) {
             case JAR:
             case FAST_JAR:
+            case MAPPED_JAR:
             case NATIVE:
             case LEGACY_JAR:
             case LEGACY:
@@ -81,6 +82,7 @@ public void collectDependencies() {
         switch (packageType) {
             case JAR:
             case FAST_JAR:
+            case MAPPED_JAR:
             case NATIVE:
                 fastJarDependencies();
                 break;
@@ -187,6 +187,7 @@ void generateBuild() {
             switch (packageType) {
                 case JAR:
                 case FAST_JAR:
+                case MAPPED_JAR:
                     delete.delete(buildDir.resolve(nativeImageSourceJarDirName()));
                     // fall through
                 case NATIVE:
@@ -248,6 +249,7 @@ void generateBuild() {
                     // fall through
                 case JAR:
                 case FAST_JAR:
+                case MAPPED_JAR:
                     copy.include(outputDirectory() + "/**");
                     copy.include(QUARKUS_ARTIFACT_PROPERTIES);
                     break;
@@ -232,6 +232,18 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "true", generateDocumentation = false)
     public boolean optimizeContexts;
 
+    /**
+     * If set to {@code true}, the current context states of all normal scopes are stored in a single {@link ThreadLocal}
+     * variable per thread, which is removed as soon as no context is active on the thread.
+     * <p>
+     * This reduces the footprint of applications that activate the request context on a large number of short-lived
+     * threads, such as virtual threads. Note that an extension may provide a custom
+     * {@link io.quarkus.arc.CurrentContextFactory}, e.g. the Vert.x extension stores the states in the duplicated context
+     * and only uses the shared {@link ThreadLocal} variable as a fallback.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean sharedThreadLocalContexts;
+
     public final boolean isRemoveUnusedBeansFieldValid() {
         return ALLOWED_REMOVE_UNUSED_BEANS_VALUES.contains(removeUnusedBeans.toLowerCase());
     }
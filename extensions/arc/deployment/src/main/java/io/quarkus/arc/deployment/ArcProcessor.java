@@ -598,7 +598,7 @@ public ArcContainerBuildItem initializeContainer(ArcConfig config, ArcRecorder r
             throws Exception {
         ArcContainer container = recorder.initContainer(shutdown,
                 currentContextFactory.isPresent() ? currentContextFactory.get().getFactory() : null,
-                config.strictCompatibility, config.optimizeContexts);
+                config.strictCompatibility, config.optimizeContexts, config.sharedThreadLocalContexts);
         return new ArcContainerBuildItem(container);
     }
 
@@ -21,6 +21,7 @@
 import io.quarkus.arc.InjectableBean.Kind;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.SharedThreadLocalCurrentContextFactory;
 import io.quarkus.arc.runtime.test.PreloadedTestApplicationClassPredicate;
 import io.quarkus.runtime.ApplicationLifecycleManager;
 import io.quarkus.runtime.LaunchMode;
@@ -42,10 +43,14 @@ public class ArcRecorder {
     public static volatile Map<String, Function<SyntheticCreationalContext<?>, ?>> syntheticBeanProviders;
 
     public ArcContainer initContainer(ShutdownContext shutdown, RuntimeValue<CurrentContextFactory> currentContextFactory,
-            boolean strictCompatibility, boolean optimizeContexts)
+            boolean strictCompatibility, boolean optimizeContexts, boolean sharedThreadLocalContexts)
             throws Exception {
         ArcInitConfig.Builder builder = ArcInitConfig.builder();
-        builder.setCurrentContextFactory(currentContextFactory != null ? currentContextFactory.getValue() : null);
+        if (currentContextFactory != null) {
+            builder.setCurrentContextFactory(currentContextFactory.getValue());
+        } else if (sharedThreadLocalContexts) {
+            builder.setCurrentContextFactory(new SharedThreadLocalCurrentContextFactory());
+        }
         builder.setStrictCompatibility(strictCompatibility);
         builder.setOptimizeContexts(optimizeContexts);
         ArcContainer container = Arc.initialize(builder.build());
@@ -106,6 +111,8 @@ public void handleLifecycleEvents(ShutdownContext context, LaunchMode launchMode
         }
 
         fireLifecycleEvent(container, new StartupEvent(), mockBeanClasses);
+        // most of the beans looked up programmatically have been resolved at this point
+        container.freezeResolutionCaches();
 
         context.addShutdownTask(new Runnable() {
             @Override
@@ -1,5 +1,6 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_BULK_RESULT;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
@@ -46,7 +47,8 @@ public void transform(TransformationContext context) {
 
     private boolean requiresCacheKeyParameterPositionsInterceptorBinding(MethodInfo method) {
         return method.hasAnnotation(CACHE_KEY) && (method.hasAnnotation(CACHE_INVALIDATE)
-                || method.hasAnnotation(CACHE_INVALIDATE_LIST) || method.hasAnnotation(CACHE_RESULT));
+                || method.hasAnnotation(CACHE_INVALIDATE_LIST) || method.hasAnnotation(CACHE_RESULT)
+                || method.hasAnnotation(CACHE_BULK_RESULT));
     }
 
     private AnnotationValue[] toArray(List<AnnotationValue> parameters) {
@@ -1,5 +1,6 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_BULK_RESULT;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -11,6 +12,8 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.KEY_COLLECTIONS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
@@ -48,6 +51,7 @@
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.exception.BulkResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -208,6 +212,9 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
                 }
+                if (CACHE_BULK_RESULT.equals(binding.name())) {
+                    throwables.addAll(validateBulkResultTarget(methodInfo));
+                }
                 break;
             default:
                 // This should never be thrown.
@@ -216,6 +223,33 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private List<Throwable> validateBulkResultTarget(MethodInfo methodInfo) {
+        List<Throwable> throwables = new ArrayList<>();
+        if (!MAP.equals(methodInfo.returnType().name())) {
+            throwables.add(new BulkResultTargetException(methodInfo, "it must return " + MAP));
+        }
+        int keysPosition = -1;
+        if (methodInfo.parametersCount() == 1) {
+            keysPosition = 0;
+        } else {
+            List<AnnotationInstance> cacheKeys = methodInfo.annotations(CACHE_KEY);
+            if (cacheKeys.size() == 1) {
+                keysPosition = cacheKeys.get(0).target().asMethodParameter().position();
+            }
+        }
+        if (keysPosition < 0) {
+            throwables.add(new BulkResultTargetException(methodInfo,
+                    "the keys must be its only parameter or its only parameter annotated with @CacheKey"));
+        } else if (!KEY_COLLECTIONS.contains(methodInfo.parameterType(keysPosition).name())) {
+            throwables.add(new BulkResultTargetException(methodInfo, "the keys parameter type must be one of "
+                    + KEY_COLLECTIONS));
+        }
+        if (methodInfo.declaringClass().declaredAnnotation(REGISTER_REST_CLIENT) != null) {
+            throwables.add(new BulkResultTargetException(methodInfo, "it is not supported on REST Client methods"));
+        }
+        return throwables;
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
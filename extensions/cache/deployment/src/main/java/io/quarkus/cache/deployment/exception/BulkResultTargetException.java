@@ -0,0 +1,23 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheBulkResult @CacheBulkResult} does not have a supported signature.
+ */
+@SuppressWarnings("serial")
+public class BulkResultTargetException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public BulkResultTargetException(MethodInfo methodInfo, String reason) {
+        super("@CacheBulkResult is not allowed on this method, " + reason + " [class=" + methodInfo.declaringClass().name()
+                + ", method=" + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
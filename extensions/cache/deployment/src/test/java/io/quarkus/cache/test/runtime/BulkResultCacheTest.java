@@ -0,0 +1,100 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheBulkResult;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the {@link CacheBulkResult @CacheBulkResult} annotation and the {@link Cache#getAll} method.
+ */
+public class BulkResultCacheTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testBulkResult() {
+        // STEP 1
+        // Action: @CacheBulkResult-annotated method call.
+        // Expected effect: method invoked once with all the keys and results cached.
+        Map<Long, String> values1 = cachedService.cachedMethod(List.of(1L, 2L), new Object());
+        assertEquals(List.of(1L, 2L), new ArrayList<>(values1.keySet()));
+        assertEquals(List.of(Set.of(1L, 2L)), cachedService.getInvocations());
+
+        // STEP 2
+        // Action: call with a cached key and a new one.
+        // Expected effect: method invoked with the new key only, the values are returned in the keys order.
+        Map<Long, String> values2 = cachedService.cachedMethod(List.of(3L, 1L), new Object());
+        assertEquals(List.of(3L, 1L), new ArrayList<>(values2.keySet()));
+        assertSame(values1.get(1L), values2.get(1L));
+        assertEquals(List.of(Set.of(1L, 2L), Set.of(3L)), cachedService.getInvocations());
+
+        // STEP 3
+        // Action: call with cached keys only.
+        // Expected effect: method not invoked.
+        Map<Long, String> values3 = cachedService.cachedMethod(List.of(1L, 2L, 3L), new Object());
+        assertEquals(3, values3.size());
+        assertEquals(2, cachedService.getInvocations().size());
+
+        // STEP 4
+        // Action: programmatic bulk lookup.
+        // Expected effect: loader invoked with the missing keys only.
+        List<Set<Object>> loaderInvocations = new ArrayList<>();
+        Map<Object, Object> values4 = cache.getAll(List.<Object> of(2L, 4L), keys -> {
+            loaderInvocations.add(keys);
+            Map<Object, Object> result = new HashMap<>();
+            for (Object key : keys) {
+                result.put(key, "programmatic-" + key);
+            }
+            return result;
+        }).await().indefinitely();
+        assertSame(values1.get(2L), values4.get(2L));
+        assertEquals("programmatic-4", values4.get(4L));
+        assertEquals(List.of(Set.of(4L)), loaderInvocations);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<Set<Long>> invocations = new ArrayList<>();
+
+        @CacheBulkResult(cacheName = CACHE_NAME)
+        public Map<Long, String> cachedMethod(@CacheKey List<Long> keys, Object notPartOfTheKey) {
+            invocations.add(Set.copyOf(keys));
+            Map<Long, String> result = new HashMap<>();
+            for (Long key : keys) {
+                result.put(key, new String("value-" + key));
+            }
+            return result;
+        }
+
+        public List<Set<Long>> getInvocations() {
+            return invocations;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheInterceptionContext;
+import io.quarkus.cache.runtime.CacheInterceptionContexts;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests that the interception contexts are shared by the interceptor instances of the beans that are not singletons.
+ */
+public class SharedInterceptionContextTest {
+
+    private static final String CACHE_NAME = "shared-context";
+    private static final String KEY = "foo";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(RequestScopedService.class, DependentService.class));
+
+    @Inject
+    CacheInterceptionContexts interceptionContexts;
+
+    @Inject
+    Instance<DependentService> dependentServices;
+
+    @Test
+    public void testRequestScopedBean() throws NoSuchMethodException {
+        Method cachedMethod = RequestScopedService.class.getMethod("cachedMethod", String.class);
+        Method invalidateMethod = RequestScopedService.class.getMethod("invalidate", String.class);
+        assertNull(interceptionContexts.get(cachedMethod, CacheResult.class));
+
+        String value1 = inRequest(new Invocation() {
+            @Override
+            public String invoke(RequestScopedService service) {
+                return service.cachedMethod(KEY);
+            }
+        });
+        CacheInterceptionContext<CacheResult> context = interceptionContexts.get(cachedMethod, CacheResult.class);
+        assertNotNull(context);
+        assertEquals(CACHE_NAME, context.getInterceptorBindings().get(0).cacheName());
+
+        // Another request gets another bean instance, and another interceptor instance
+        String value2 = inRequest(new Invocation() {
+            @Override
+            public String invoke(RequestScopedService service) {
+                return service.cachedMethod(KEY);
+            }
+        });
+        assertSame(value1, value2);
+        assertSame(context, interceptionContexts.get(cachedMethod, CacheResult.class));
+
+        inRequest(new Invocation() {
+            @Override
+            public String invoke(RequestScopedService service) {
+                service.invalidate(KEY);
+                return null;
+            }
+        });
+        CacheInterceptionContext<CacheInvalidate> invalidateContext = interceptionContexts.get(invalidateMethod,
+                CacheInvalidate.class);
+        assertNotNull(invalidateContext);
+        assertNull(interceptionContexts.get(invalidateMethod, CacheResult.class));
+
+        String value3 = inRequest(new Invocation() {
+            @Override
+            public String invoke(RequestScopedService service) {
+                return service.cachedMethod(KEY);
+            }
+        });
+        assertNotEquals(value2, value3);
+        assertSame(context, interceptionContexts.get(cachedMethod, CacheResult.class));
+        assertEquals(2, RequestScopedService.INVOCATIONS.get());
+    }
+
+    @Test
+    public void testDependentBean() throws NoSuchMethodException {
+        Method cachedMethod = DependentService.class.getMethod("cachedMethod", String.class);
+
+        DependentService service1 = dependentServices.get();
+        DependentService service2 = dependentServices.get();
+        assertNotSame(service1, service2);
+
+        String value1 = service1.cachedMethod(KEY);
+        CacheInterceptionContext<CacheResult> context = interceptionContexts.get(cachedMethod, CacheResult.class);
+        assertNotNull(context);
+        assertSame(value1, service2.cachedMethod(KEY));
+        assertSame(context, interceptionContexts.get(cachedMethod, CacheResult.class));
+
+        service2.invalidate(KEY);
+        assertNotEquals(value1, service1.cachedMethod(KEY));
+        assertSame(context, interceptionContexts.get(cachedMethod, CacheResult.class));
+        dependentServices.destroy(service1);
+        dependentServices.destroy(service2);
+    }
+
+    private static String inRequest(Invocation invocation) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            return invocation.invoke(Arc.container().instance(RequestScopedService.class).get());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    interface Invocation {
+
+        String invoke(RequestScopedService service);
+    }
+
+    @RequestScoped
+    public static class RequestScopedService {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            return key + INVOCATIONS.incrementAndGet();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+    }
+
+    @Dependent
+    public static class DependentService {
+
+        private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME + "-dependent")
+        public String cachedMethod(String key) {
+            return key + INVOCATIONS.incrementAndGet();
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME + "-dependent")
+        public void invalidate(String key) {
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package io.quarkus.cache;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import io.smallrye.mutiny.Uni;
 
@@ -55,6 +62,55 @@ public interface Cache {
      */
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values of
+     * the keys which are not already associated with a value from a single {@code bulkLoader} call if necessary.
+     * <p>
+     * The emitted map contains the keys in the iteration order of {@code keys}. A key is missing from the emitted map if
+     * {@code bulkLoader} did not return a value for it, such key is not cached either.
+     * <p>
+     * The default implementation loads the missing values one key at a time. The caches provided by Quarkus override it so
+     * that the missing keys are loaded with a single {@code bulkLoader} call.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys which are not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     * @throws NullPointerException if one of the keys is {@code null}
+     * @throws CacheException if an exception is thrown during a cache values computation
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> get() {
+                Map<K, V> result = new LinkedHashMap<>();
+                Uni<Void> chain = Uni.createFrom().voidItem();
+                for (K key : new LinkedHashSet<>(keys)) {
+                    chain = chain.chain(new Function<Void, Uni<?>>() {
+                        @Override
+                        public Uni<?> apply(Void ignored) {
+                            return Cache.this.get(key, new Function<K, V>() {
+                                @Override
+                                public V apply(K k) {
+                                    return bulkLoader.apply(Set.of(k)).get(k);
+                                }
+                            }).invoke(new Consumer<V>() {
+                                @Override
+                                public void accept(V value) {
+                                    if (value != null) {
+                                        result.put(key, value);
+                                    }
+                                }
+                            });
+                        }
+                    }).replaceWithVoid();
+                }
+                return chain.replaceWith(result);
+            }
+        });
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
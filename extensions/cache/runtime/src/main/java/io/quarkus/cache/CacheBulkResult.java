@@ -0,0 +1,38 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * When a method annotated with {@link CacheBulkResult} is invoked with a collection of keys, Quarkus will look up each key
+ * of the collection in the cache and only invoke the method with the keys which are not already associated with a value.
+ * <p>
+ * The collection of keys is the method argument annotated with {@link CacheKey @CacheKey}, or the only method argument. Its
+ * type must be {@link java.util.Collection}, {@link java.util.List} or {@link java.util.Set}. The other method arguments
+ * are passed unchanged to the method invocation. The method must return a {@link java.util.Map} containing the values of
+ * the keys it was invoked with. A key which is missing from the returned map is not cached.
+ * <p>
+ * If all the keys are found in the cache, the annotated method is never actually executed. Otherwise, it is invoked once
+ * with all the missing keys and the returned values are stored in the cache. The returned map contains the keys in the
+ * iteration order of the method argument.
+ * <p>
+ * Unlike {@link CacheResult}, this annotation does not support a {@link CacheKeyGenerator} or a lock timeout.
+ * <p>
+ * The underlying caching provider can be chosen and configured in the Quarkus {@link application.properties} file.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheBulkResult {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String cacheName();
+}
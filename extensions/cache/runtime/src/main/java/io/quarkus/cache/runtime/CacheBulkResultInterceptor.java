@@ -0,0 +1,88 @@
+package io.quarkus.cache.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheBulkResult;
+import io.quarkus.cache.CacheException;
+
+@CacheBulkResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
+@Interceptor
+@Priority(CacheInterceptor.BASE_PRIORITY + 2)
+public class CacheBulkResultInterceptor extends CacheInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheBulkResultInterceptor.class);
+    private static final Function<CacheBulkResult, String> CACHE_NAME = new Function<>() {
+        @Override
+        public String apply(CacheBulkResult binding) {
+            return binding.cacheName();
+        }
+    };
+    private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheBulkResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
+
+    @AroundInvoke
+    @SuppressWarnings("unchecked")
+    public Object intercept(InvocationContext invocationContext) throws Throwable {
+        CacheInterceptionContext<CacheBulkResult> interceptionContext = getInterceptionContext(invocationContext,
+                CacheBulkResult.class, true, CACHE_NAME);
+
+        if (interceptionContext.getInterceptorBindings().isEmpty()) {
+            // This should never happen.
+            LOGGER.warn(INTERCEPTOR_BINDING_ERROR_MSG);
+            return invocationContext.proceed();
+        }
+
+        short[] cacheKeyParameterPositions = interceptionContext.getCacheKeyParameterPositionsArray();
+        // The build time validation guarantees that the keys are either the only parameter or the @CacheKey one.
+        int keysPosition = cacheKeyParameterPositions.length == 1 ? cacheKeyParameterPositions[0] : 0;
+        Object[] parameters = invocationContext.getParameters();
+        Collection<Object> keys = (Collection<Object>) parameters[keysPosition];
+        if (keys == null || keys.isEmpty()) {
+            return invocationContext.proceed();
+        }
+        boolean setOfKeys = Set.class.isAssignableFrom(invocationContext.getMethod().getParameterTypes()[keysPosition]);
+
+        CacheBulkResult binding = interceptionContext.getInterceptorBindings().get(0);
+        Cache cache = interceptionContext.getCache(0);
+        LOGGER.debugf("Loading %d entries from cache [%s]", keys.size(), binding.cacheName());
+
+        try {
+            return cache.getAll(keys, new Function<Set<Object>, Map<Object, Object>>() {
+                @Override
+                public Map<Object, Object> apply(Set<Object> missingKeys) {
+                    LOGGER.debugf("Adding %d entries into cache [%s]", missingKeys.size(), binding.cacheName());
+                    Object[] missingKeysParameters = parameters.clone();
+                    missingKeysParameters[keysPosition] = setOfKeys ? missingKeys : new ArrayList<>(missingKeys);
+                    invocationContext.setParameters(missingKeysParameters);
+                    try {
+                        Map<Object, Object> values = (Map<Object, Object>) invocationContext.proceed();
+                        return values != null ? values : Collections.emptyMap();
+                    } catch (CacheException e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new CacheException(e);
+                    }
+                }
+            }).await().indefinitely();
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+}
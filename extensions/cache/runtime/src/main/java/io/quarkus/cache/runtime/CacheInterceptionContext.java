@@ -1,20 +1,56 @@
 package io.quarkus.cache.runtime;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+import io.quarkus.cache.Cache;
+
+/**
+ * The interception data of a cached method: the interceptor bindings, the positions of the
+ * {@link io.quarkus.cache.CacheKey CacheKey}-annotated parameters and the caches the bindings refer to.
+ * <p>
+ * The context is immutable and computed once per intercepted method, see
+ * {@link CacheInterceptor#getInterceptionContext(jakarta.interceptor.InvocationContext, Class, boolean, java.util.function.Function)}.
+ */
 // this should be <T extends Annotation> but that leads to type pollution
 public class CacheInterceptionContext<T> {
 
+    private static final Cache[] NO_CACHES = new Cache[0];
+
     private final List<T> interceptorBindings;
     private final List<Short> cacheKeyParameterPositions;
+    private final short[] cacheKeyParameterPositionsArray;
+    private final Cache[] caches;
 
     public CacheInterceptionContext(List<T> interceptorBindings, List<Short> cacheKeyParameterPositions) {
         Objects.requireNonNull(interceptorBindings);
         Objects.requireNonNull(cacheKeyParameterPositions);
         this.interceptorBindings = Collections.unmodifiableList(interceptorBindings);
         this.cacheKeyParameterPositions = Collections.unmodifiableList(cacheKeyParameterPositions);
+        this.cacheKeyParameterPositionsArray = new short[cacheKeyParameterPositions.size()];
+        for (int i = 0; i < cacheKeyParameterPositionsArray.length; i++) {
+            cacheKeyParameterPositionsArray[i] = cacheKeyParameterPositions.get(i);
+        }
+        this.caches = NO_CACHES;
+    }
+
+    /**
+     * @param caches the caches referred to by the interceptor bindings, in the same order
+     */
+    public CacheInterceptionContext(List<T> interceptorBindings, short[] cacheKeyParameterPositions, Cache[] caches) {
+        Objects.requireNonNull(interceptorBindings);
+        Objects.requireNonNull(cacheKeyParameterPositions);
+        Objects.requireNonNull(caches);
+        this.interceptorBindings = Collections.unmodifiableList(interceptorBindings);
+        List<Short> positions = new ArrayList<>(cacheKeyParameterPositions.length);
+        for (short position : cacheKeyParameterPositions) {
+            positions.add(position);
+        }
+        this.cacheKeyParameterPositions = Collections.unmodifiableList(positions);
+        this.cacheKeyParameterPositionsArray = cacheKeyParameterPositions;
+        this.caches = caches;
     }
 
     public List<T> getInterceptorBindings() {
@@ -24,4 +60,19 @@ public List<T> getInterceptorBindings() {
     public List<Short> getCacheKeyParameterPositions() {
         return cacheKeyParameterPositions;
     }
+
+    /**
+     * The returned array must not be modified.
+     */
+    short[] getCacheKeyParameterPositionsArray() {
+        return cacheKeyParameterPositionsArray;
+    }
+
+    /**
+     * @param index the index of the interceptor binding
+     * @return the cache the interceptor binding refers to, or {@code null} if it was not resolved
+     */
+    Cache getCache(int index) {
+        return index < caches.length ? caches[index] : null;
+    }
 }
@@ -0,0 +1,50 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Holds the interception contexts of the cached methods.
+ * <p>
+ * The contexts only depend on the intercepted method and on the interceptor binding type, while ArC creates an interceptor
+ * instance for each intercepted bean instance. They are therefore shared by all the interceptor instances, so that they
+ * are not computed again for each instance of a {@code @RequestScoped} or {@code @Dependent} bean.
+ */
+@Singleton
+public class CacheInterceptionContexts {
+
+    // interceptor binding type -> intercepted method -> context
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, CacheInterceptionContext<?>>> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * @return the context computed for the given method and interceptor binding type, or {@code null} if there is none yet
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CacheInterceptionContext<T> get(Method method, Class<T> interceptorBindingClass) {
+        ConcurrentMap<Method, CacheInterceptionContext<?>> methodContexts = contexts.get(interceptorBindingClass);
+        return methodContexts == null ? null : (CacheInterceptionContext<T>) methodContexts.get(method);
+    }
+
+    /**
+     * @return the context stored for the given method and interceptor binding type, which is the given context unless
+     *         another one was stored concurrently
+     */
+    @SuppressWarnings("unchecked")
+    <T> CacheInterceptionContext<T> putIfAbsent(Method method, Class<T> interceptorBindingClass,
+            CacheInterceptionContext<T> context) {
+        ConcurrentMap<Method, CacheInterceptionContext<?>> methodContexts = contexts.get(interceptorBindingClass);
+        if (methodContexts == null) {
+            methodContexts = new ConcurrentHashMap<>();
+            ConcurrentMap<Method, CacheInterceptionContext<?>> previous = contexts.putIfAbsent(interceptorBindingClass,
+                    methodContexts);
+            if (previous != null) {
+                methodContexts = previous;
+            }
+        }
+        CacheInterceptionContext<?> previous = methodContexts.putIfAbsent(method, context);
+        return previous == null ? context : (CacheInterceptionContext<T>) previous;
+    }
+}
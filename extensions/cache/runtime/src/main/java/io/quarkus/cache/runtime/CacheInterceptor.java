@@ -6,9 +6,9 @@
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import jakarta.enterprise.inject.Instance;
@@ -35,6 +35,7 @@ public abstract class CacheInterceptor {
     private static final Logger LOGGER = Logger.getLogger(CacheInterceptor.class);
     private static final String PERFORMANCE_WARN_MSG = "Cache key resolution based on reflection calls. Please create a GitHub issue in the Quarkus repository, the maintainers might be able to improve your application performance.";
     protected static final String UNHANDLED_ASYNC_RETURN_TYPE_MSG = "Unhandled async return type";
+    private static final short[] NO_POSITIONS = new short[0];
 
     @Inject
     CacheManager cacheManager;
@@ -42,6 +43,33 @@ public abstract class CacheInterceptor {
     @Inject
     Instance<CacheKeyGenerator> keyGenerator;
 
+    @Inject
+    CacheInterceptionContexts interceptionContexts;
+
+    protected <T> CacheInterceptionContext<T> getInterceptionContext(InvocationContext invocationContext,
+            Class<T> interceptorBindingClass, boolean supportsCacheKey) {
+        return getInterceptionContext(invocationContext, interceptorBindingClass, supportsCacheKey, null);
+    }
+
+    /**
+     * The interception contexts only depend on the intercepted method, so they are computed once and then reused by all
+     * the invocations of the method, whatever the interceptor instance.
+     *
+     * @param cacheNameFunction the function used to resolve the caches referred to by the interceptor bindings, or
+     *        {@code null} if they should not be resolved
+     */
+    protected <T> CacheInterceptionContext<T> getInterceptionContext(InvocationContext invocationContext,
+            Class<T> interceptorBindingClass, boolean supportsCacheKey, Function<T, String> cacheNameFunction) {
+        Method method = invocationContext.getMethod();
+        CacheInterceptionContext<T> interceptionContext = interceptionContexts.get(method, interceptorBindingClass);
+        if (interceptionContext == null) {
+            interceptionContext = interceptionContexts.putIfAbsent(method, interceptorBindingClass,
+                    createInterceptionContext(invocationContext, interceptorBindingClass, supportsCacheKey,
+                            cacheNameFunction));
+        }
+        return interceptionContext;
+    }
+
     /*
      * The interception is almost always managed by Arc in a Quarkus application. In such a case, we want to retrieve the
      * interceptor bindings stored by Arc in the invocation context data (very good performance-wise). But sometimes the
@@ -51,58 +79,62 @@ public abstract class CacheInterceptor {
      *
      * IMPORTANT: Normally <T> would be <T extends Annotation>, but that leads to type pollution
      */
-    protected <T> CacheInterceptionContext<T> getInterceptionContext(InvocationContext invocationContext,
-            Class<T> interceptorBindingClass, boolean supportsCacheKey) {
-        return getArcCacheInterceptionContext(invocationContext, interceptorBindingClass)
-                .orElseGet(new Supplier<CacheInterceptionContext<T>>() {
-                    @Override
-                    public CacheInterceptionContext<T> get() {
-                        return getNonArcCacheInterceptionContext(invocationContext, interceptorBindingClass, supportsCacheKey);
-                    }
-                });
+    private <T> CacheInterceptionContext<T> createInterceptionContext(InvocationContext invocationContext,
+            Class<T> interceptorBindingClass, boolean supportsCacheKey, Function<T, String> cacheNameFunction) {
+        List<T> interceptorBindings = new ArrayList<>();
+        short[] cacheKeyParameterPositions = getArcInterceptionData(invocationContext, interceptorBindingClass,
+                interceptorBindings);
+        if (cacheKeyParameterPositions == null) {
+            cacheKeyParameterPositions = getNonArcInterceptionData(invocationContext, interceptorBindingClass,
+                    supportsCacheKey, interceptorBindings);
+        }
+        Cache[] caches = new Cache[cacheNameFunction == null ? 0 : interceptorBindings.size()];
+        for (int i = 0; i < caches.length; i++) {
+            caches[i] = cacheManager.getCache(cacheNameFunction.apply(interceptorBindings.get(i))).get();
+        }
+        return new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions, caches);
     }
 
+    /**
+     * @return the cache key parameter positions, or {@code null} if the interception is not managed by ArC
+     */
     @SuppressWarnings("unchecked")
-    private <T> Optional<CacheInterceptionContext<T>> getArcCacheInterceptionContext(
-            InvocationContext invocationContext, Class<T> interceptorBindingClass) {
+    private <T> short[] getArcInterceptionData(InvocationContext invocationContext, Class<T> interceptorBindingClass,
+            List<T> interceptorBindings) {
         Set<AbstractAnnotationLiteral> bindings = InterceptorBindings.getInterceptorBindingLiterals(invocationContext);
         if (bindings == null) {
             LOGGER.trace("Interceptor bindings not found in ArC");
             // This should only happen when the interception is not managed by Arc.
-            return Optional.empty();
+            return null;
         }
-        List<T> interceptorBindings = new ArrayList<>();
-        List<Short> cacheKeyParameterPositions = new ArrayList<>();
+        short[] cacheKeyParameterPositions = NO_POSITIONS;
         for (AbstractAnnotationLiteral binding : bindings) {
             if (binding.annotationType().isAssignableFrom(CacheKeyParameterPositions.class)) {
-                for (short position : ((CacheKeyParameterPositions) binding).value()) {
-                    cacheKeyParameterPositions.add(position);
-                }
+                cacheKeyParameterPositions = ((CacheKeyParameterPositions) binding).value().clone();
             } else if (binding.annotationType().isAssignableFrom((interceptorBindingClass))) {
                 interceptorBindings.add((T) binding);
             }
         }
-        return Optional.of(new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions));
+        return cacheKeyParameterPositions;
     }
 
     @SuppressWarnings("unchecked")
-    private <T> CacheInterceptionContext<T> getNonArcCacheInterceptionContext(
-            InvocationContext invocationContext, Class<T> interceptorBindingClass, boolean supportsCacheKey) {
+    private <T> short[] getNonArcInterceptionData(InvocationContext invocationContext, Class<T> interceptorBindingClass,
+            boolean supportsCacheKey, List<T> interceptorBindings) {
         LOGGER.trace("Retrieving interceptor bindings using reflection");
-        List<T> interceptorBindings = new ArrayList<>();
-        List<Short> cacheKeyParameterPositions = new ArrayList<>();
-        boolean cacheKeyParameterPositionsFound = false;
+        short[] cacheKeyParameterPositions = null;
         for (Annotation annotation : invocationContext.getMethod().getAnnotations()) {
             if (annotation instanceof CacheKeyParameterPositions) {
-                cacheKeyParameterPositionsFound = true;
-                for (short position : ((CacheKeyParameterPositions) annotation).value()) {
-                    cacheKeyParameterPositions.add(position);
-                }
+                cacheKeyParameterPositions = ((CacheKeyParameterPositions) annotation).value().clone();
             } else if (interceptorBindingClass.isInstance(annotation)) {
                 interceptorBindings.add((T) annotation);
             }
         }
-        if (supportsCacheKey && !cacheKeyParameterPositionsFound) {
+        if (cacheKeyParameterPositions != null) {
+            return cacheKeyParameterPositions;
+        }
+        List<Short> positions = new ArrayList<>();
+        if (supportsCacheKey) {
             /*
              * This block is a fallback that should ideally never be executed because of the poor performance of reflection
              * calls. If the following warn message is displayed, then it means that we should update the build time bytecode
@@ -112,11 +144,15 @@ private <T> CacheInterceptionContext<T> getNonArcCacheInterceptionContext(
             Parameter[] parameters = invocationContext.getMethod().getParameters();
             for (short i = 0; i < parameters.length; i++) {
                 if (parameters[i].isAnnotationPresent(CacheKey.class)) {
-                    cacheKeyParameterPositions.add(i);
+                    positions.add(i);
                 }
             }
         }
-        return new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions);
+        cacheKeyParameterPositions = new short[positions.size()];
+        for (int i = 0; i < cacheKeyParameterPositions.length; i++) {
+            cacheKeyParameterPositions[i] = positions.get(i);
+        }
+        return cacheKeyParameterPositions;
     }
 
     @SuppressWarnings("unchecked")
@@ -126,23 +162,32 @@ private <T extends Annotation> T cast(Annotation annotation, Class<T> intercepto
 
     protected Object getCacheKey(Cache cache, Class<? extends CacheKeyGenerator> keyGeneratorClass,
             List<Short> cacheKeyParameterPositions, Method method, Object[] methodParameterValues) {
+        short[] positions = new short[cacheKeyParameterPositions.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = cacheKeyParameterPositions.get(i);
+        }
+        return getCacheKey(cache, keyGeneratorClass, positions, method, methodParameterValues);
+    }
+
+    protected Object getCacheKey(Cache cache, Class<? extends CacheKeyGenerator> keyGeneratorClass,
+            short[] cacheKeyParameterPositions, Method method, Object[] methodParameterValues) {
         if (keyGeneratorClass != UndefinedCacheKeyGenerator.class) {
             return generateKey(keyGeneratorClass, method, methodParameterValues);
         } else if (methodParameterValues == null || methodParameterValues.length == 0) {
             // If the intercepted method doesn't have any parameter, then the default cache key will be used.
             return cache.getDefaultKey();
-        } else if (cacheKeyParameterPositions.size() == 1) {
+        } else if (cacheKeyParameterPositions.length == 1) {
             // If exactly one @CacheKey-annotated parameter was identified for the intercepted method at build time, then this
             // parameter will be used as the cache key.
-            return methodParameterValues[cacheKeyParameterPositions.get(0)];
-        } else if (cacheKeyParameterPositions.size() >= 2) {
+            return methodParameterValues[cacheKeyParameterPositions[0]];
+        } else if (cacheKeyParameterPositions.length >= 2) {
             // If two or more @CacheKey-annotated parameters were identified for the intercepted method at build time, then a
             // composite cache key built from all these parameters will be used.
-            List<Object> keyElements = new ArrayList<>();
-            for (short position : cacheKeyParameterPositions) {
-                keyElements.add(methodParameterValues[position]);
+            Object[] keyElements = new Object[cacheKeyParameterPositions.length];
+            for (int i = 0; i < keyElements.length; i++) {
+                keyElements[i] = methodParameterValues[cacheKeyParameterPositions[i]];
             }
-            return new CompositeCacheKey(keyElements.toArray(new Object[0]));
+            return new CompositeCacheKey(keyElements);
         } else if (methodParameterValues.length == 1) {
             // If the intercepted method has exactly one parameter, then this parameter will be used as the cache key.
             return methodParameterValues[0];
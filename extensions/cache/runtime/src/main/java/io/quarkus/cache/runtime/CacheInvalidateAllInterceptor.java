@@ -21,12 +21,18 @@
 public class CacheInvalidateAllInterceptor extends CacheInterceptor {
 
     private static final Logger LOGGER = Logger.getLogger(CacheInvalidateAllInterceptor.class);
+    private static final Function<CacheInvalidateAll, String> CACHE_NAME = new Function<>() {
+        @Override
+        public String apply(CacheInvalidateAll binding) {
+            return binding.cacheName();
+        }
+    };
     private static final String INTERCEPTOR_BINDINGS_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheInvalidateAll interceptor bindings retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
 
     @AroundInvoke
     public Object intercept(InvocationContext invocationContext) throws Exception {
         CacheInterceptionContext<CacheInvalidateAll> interceptionContext = getInterceptionContext(invocationContext,
-                CacheInvalidateAll.class, false);
+                CacheInvalidateAll.class, false, CACHE_NAME);
 
         if (interceptionContext.getInterceptorBindings().isEmpty()) {
             // This should never happen.
@@ -46,11 +52,11 @@ private Object invalidateAllNonBlocking(InvocationContext invocationContext,
             CacheInterceptionContext<CacheInvalidateAll> interceptionContext,
             ReturnType returnType) {
         LOGGER.trace("Invalidating all cache entries in a non-blocking way");
-        var uni = Multi.createFrom().iterable(interceptionContext.getInterceptorBindings())
-                .onItem().transformToUniAndMerge(new Function<CacheInvalidateAll, Uni<? extends Void>>() {
+        var uni = Multi.createFrom().range(0, interceptionContext.getInterceptorBindings().size())
+                .onItem().transformToUniAndMerge(new Function<Integer, Uni<? extends Void>>() {
                     @Override
-                    public Uni<Void> apply(CacheInvalidateAll binding) {
-                        return invalidateAll(binding);
+                    public Uni<Void> apply(Integer index) {
+                        return invalidateAll(interceptionContext, index);
                     }
                 })
                 .onItem().ignoreAsUni()
@@ -70,15 +76,15 @@ public Uni<?> apply(Object ignored) {
     private Object invalidateAllBlocking(InvocationContext invocationContext,
             CacheInterceptionContext<CacheInvalidateAll> interceptionContext) throws Exception {
         LOGGER.trace("Invalidating all cache entries in a blocking way");
-        for (CacheInvalidateAll binding : interceptionContext.getInterceptorBindings()) {
-            invalidateAll(binding).await().indefinitely();
+        for (int i = 0; i < interceptionContext.getInterceptorBindings().size(); i++) {
+            invalidateAll(interceptionContext, i).await().indefinitely();
         }
         return invocationContext.proceed();
     }
 
-    private Uni<Void> invalidateAll(CacheInvalidateAll binding) {
-        Cache cache = cacheManager.getCache(binding.cacheName()).get();
-        LOGGER.debugf("Invalidating all entries from cache [%s]", binding.cacheName());
+    private Uni<Void> invalidateAll(CacheInterceptionContext<CacheInvalidateAll> interceptionContext, int index) {
+        Cache cache = interceptionContext.getCache(index);
+        LOGGER.debugf("Invalidating all entries from cache [%s]", cache.getName());
         return cache.invalidateAll();
     }
 }
@@ -1,6 +1,5 @@
 package io.quarkus.cache.runtime;
 
-import java.util.List;
 import java.util.function.Function;
 
 import jakarta.annotation.Priority;
@@ -22,12 +21,18 @@
 public class CacheInvalidateInterceptor extends CacheInterceptor {
 
     private static final Logger LOGGER = Logger.getLogger(CacheInvalidateInterceptor.class);
+    private static final Function<CacheInvalidate, String> CACHE_NAME = new Function<>() {
+        @Override
+        public String apply(CacheInvalidate binding) {
+            return binding.cacheName();
+        }
+    };
     private static final String INTERCEPTOR_BINDINGS_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheInvalidate interceptor bindings retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
 
     @AroundInvoke
     public Object intercept(InvocationContext invocationContext) throws Exception {
         CacheInterceptionContext<CacheInvalidate> interceptionContext = getInterceptionContext(invocationContext,
-                CacheInvalidate.class, true);
+                CacheInvalidate.class, true, CACHE_NAME);
         if (interceptionContext.getInterceptorBindings().isEmpty()) {
             // This should never happen.
             LOGGER.warn(INTERCEPTOR_BINDINGS_ERROR_MSG);
@@ -45,11 +50,11 @@ private Object invalidateNonBlocking(InvocationContext invocationContext,
             CacheInterceptionContext<CacheInvalidate> interceptionContext,
             ReturnType returnType) {
         LOGGER.trace("Invalidating cache entries in a non-blocking way");
-        var uni = Multi.createFrom().iterable(interceptionContext.getInterceptorBindings())
-                .onItem().transformToUniAndMerge(new Function<CacheInvalidate, Uni<? extends Void>>() {
+        var uni = Multi.createFrom().range(0, interceptionContext.getInterceptorBindings().size())
+                .onItem().transformToUniAndMerge(new Function<Integer, Uni<? extends Void>>() {
                     @Override
-                    public Uni<Void> apply(CacheInvalidate binding) {
-                        return invalidate(binding, interceptionContext.getCacheKeyParameterPositions(), invocationContext);
+                    public Uni<Void> apply(Integer index) {
+                        return invalidate(interceptionContext, index, invocationContext);
                     }
                 })
                 .onItem().ignoreAsUni()
@@ -69,17 +74,18 @@ public Uni<?> apply(Object ignored) {
     private Object invalidateBlocking(InvocationContext invocationContext,
             CacheInterceptionContext<CacheInvalidate> interceptionContext) throws Exception {
         LOGGER.trace("Invalidating cache entries in a blocking way");
-        for (CacheInvalidate binding : interceptionContext.getInterceptorBindings()) {
-            invalidate(binding, interceptionContext.getCacheKeyParameterPositions(), invocationContext).await().indefinitely();
+        for (int i = 0; i < interceptionContext.getInterceptorBindings().size(); i++) {
+            invalidate(interceptionContext, i, invocationContext).await().indefinitely();
         }
         return invocationContext.proceed();
     }
 
-    private Uni<Void> invalidate(CacheInvalidate binding, List<Short> cacheKeyParameterPositions,
+    private Uni<Void> invalidate(CacheInterceptionContext<CacheInvalidate> interceptionContext, int index,
             InvocationContext invocationContext) {
-        Cache cache = cacheManager.getCache(binding.cacheName()).get();
-        Object key = getCacheKey(cache, binding.keyGenerator(), cacheKeyParameterPositions, invocationContext.getMethod(),
-                invocationContext.getParameters());
+        CacheInvalidate binding = interceptionContext.getInterceptorBindings().get(index);
+        Cache cache = interceptionContext.getCache(index);
+        Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositionsArray(),
+                invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Invalidating entry with key [%s] from cache [%s]", key, binding.cacheName());
         return cache.invalidate(key);
     }
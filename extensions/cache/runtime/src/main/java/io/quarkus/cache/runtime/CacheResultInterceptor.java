@@ -28,6 +28,12 @@
 public class CacheResultInterceptor extends CacheInterceptor {
 
     private static final Logger LOGGER = Logger.getLogger(CacheResultInterceptor.class);
+    private static final Function<CacheResult, String> CACHE_NAME = new Function<>() {
+        @Override
+        public String apply(CacheResult binding) {
+            return binding.cacheName();
+        }
+    };
     private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
 
     @AroundInvoke
@@ -41,7 +47,7 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
         }
 
         CacheInterceptionContext<CacheResult> interceptionContext = getInterceptionContext(invocationContext,
-                CacheResult.class, true);
+                CacheResult.class, true, CACHE_NAME);
 
         if (interceptionContext.getInterceptorBindings().isEmpty()) {
             // This should never happen.
@@ -50,8 +56,8 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
         }
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
-        AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
-        Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
+        AbstractCache cache = (AbstractCache) interceptionContext.getCache(0);
+        Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositionsArray(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
 
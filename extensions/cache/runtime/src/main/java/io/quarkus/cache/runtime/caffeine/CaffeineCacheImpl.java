@@ -1,13 +1,19 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -122,6 +128,61 @@ public CompletableFuture<Object> apply(Object key) {
                 }).map(fromCacheValue());
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                /*
+                 * The missing values are computed synchronously on the calling thread, like in getFromCaffeine, and the
+                 * returned future is already completed.
+                 */
+                CompletableFuture<Map<Object, Object>> cacheValues = cache.getAll(keys,
+                        new BiFunction<Set<? extends Object>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public CompletableFuture<Map<Object, Object>> apply(Set<? extends Object> missingKeys,
+                                    Executor executor) {
+                                try {
+                                    Map<K, V> values = bulkLoader.apply((Set<K>) missingKeys);
+                                    Map<Object, Object> newCacheValues = new HashMap<>();
+                                    for (Object missingKey : missingKeys) {
+                                        if (values.containsKey(missingKey)) {
+                                            newCacheValues.put(missingKey,
+                                                    NullValueConverter.toCacheValue(values.get(missingKey)));
+                                        }
+                                    }
+                                    return CompletableFuture.completedFuture(newCacheValues);
+                                } catch (Throwable t) {
+                                    return CompletableFuture.failedFuture(t);
+                                }
+                            }
+                        });
+                return cacheValues.thenApply(new Function<Map<Object, Object>, Map<K, V>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Map<K, V> apply(Map<Object, Object> values) {
+                        Map<K, V> result = new LinkedHashMap<>();
+                        for (Map.Entry<Object, Object> entry : values.entrySet()) {
+                            Object value = entry.getValue();
+                            // A value concurrently computed by get may have failed.
+                            if (value instanceof CaffeineComputationThrowable) {
+                                Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+                                if (cause instanceof RuntimeException) {
+                                    throw (RuntimeException) cause;
+                                } else {
+                                    throw new CacheException(cause);
+                                }
+                            }
+                            result.put((K) entry.getKey(), (V) NullValueConverter.fromCacheValue(value));
+                        }
+                        return result;
+                    }
+                });
+            }
+        });
+    }
+
     @Override
     public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
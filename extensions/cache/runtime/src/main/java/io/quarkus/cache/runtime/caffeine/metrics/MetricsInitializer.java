@@ -1,10 +1,26 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
 public interface MetricsInitializer {
 
     boolean metricsEnabled();
 
     void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+
+    /**
+     * Records the metrics of the Caffeine tier of a multi-tier cache, e.g. a local cache kept in front of a remote one.
+     */
+    default void recordMetrics(AsyncCache<Object, Object> cache, String cacheName, String tier) {
+        recordMetrics(cache, cacheName);
+    }
+
+    /**
+     * Records the hits and misses of a tier of a multi-tier cache which is not backed by Caffeine, as counted by the
+     * given {@link StatsCounter}.
+     */
+    default void recordMetrics(StatsCounter statsCounter, String cacheName, String tier) {
+        // Do nothing by default.
+    }
 }
@@ -3,7 +3,9 @@
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
@@ -15,6 +17,8 @@ public class MicrometerMetricsInitializer implements MetricsInitializer {
 
     private static final Logger LOGGER = Logger.getLogger(MicrometerMetricsInitializer.class);
 
+    private static final String TIER_TAG = "tier";
+
     @Override
     public boolean metricsEnabled() {
         return true;
@@ -26,4 +30,24 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName, String tier) {
+        LOGGER.tracef("Initializing Micrometer metrics for tier [%s] of cache [%s]", tier, cacheName);
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName, TIER_TAG, tier);
+    }
+
+    @Override
+    public void recordMetrics(StatsCounter statsCounter, String cacheName, String tier) {
+        LOGGER.tracef("Initializing Micrometer metrics for tier [%s] of cache [%s]", tier, cacheName);
+        // Same meters as the ones registered by CaffeineCacheMetrics, so that the tiers can be compared.
+        FunctionCounter.builder("cache.gets", statsCounter, s -> s.snapshot().hitCount())
+                .tags("cache", cacheName, TIER_TAG, tier, "result", "hit")
+                .description("The number of times cache lookup methods have returned a cached value.")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.gets", statsCounter, s -> s.snapshot().missCount())
+                .tags("cache", cacheName, TIER_TAG, tier, "result", "miss")
+                .description("The number of times cache lookup methods have returned an uncached (newly loaded) value.")
+                .register(Metrics.globalRegistry);
+    }
 }
@@ -56,6 +56,7 @@
 import io.quarkus.micrometer.runtime.MicrometerCountedInterceptor;
 import io.quarkus.micrometer.runtime.MicrometerRecorder;
 import io.quarkus.micrometer.runtime.MicrometerTimedInterceptor;
+import io.quarkus.micrometer.runtime.TimedMethodTimers;
 import io.quarkus.micrometer.runtime.config.MicrometerConfig;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.metrics.MetricsFactory;
@@ -126,6 +127,7 @@ UnremovableBeanBuildItem registerAdditionalBeans(CombinedIndexBuildItem indexBui
                 .addBeanClass(COUNTED_BINDING.toString())
                 .addBeanClass(COUNTED_INTERCEPTOR.toString())
                 .addBeanClass(METER_TAG_SUPPORT.toString())
+                .addBeanClass(TimedMethodTimers.class)
                 .build());
 
         // @Timed is registered as an additional interceptor binding
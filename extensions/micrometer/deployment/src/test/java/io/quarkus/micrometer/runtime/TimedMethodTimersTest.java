@@ -0,0 +1,110 @@
+package io.quarkus.micrometer.runtime;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.aop.MeterTag;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests that the timers of {@code @Timed} methods are shared by the interceptor instances of the beans that are not
+ * singletons.
+ */
+public class TimedMethodTimersTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.micrometer.binder.mp-metrics.enabled", "false")
+            .overrideConfigKey("quarkus.micrometer.binder.vertx.enabled", "false")
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .withApplicationRoot((jar) -> jar.addClass(DependentTimedBean.class));
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    TimedMethodTimers timers;
+
+    @Inject
+    Instance<DependentTimedBean> beans;
+
+    @BeforeAll
+    static void addSimpleRegistry() {
+        Metrics.globalRegistry.add(new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testTimersAreSharedByBeanInstances() {
+        DependentTimedBean bean1 = beans.get();
+        DependentTimedBean bean2 = beans.get();
+        Assertions.assertNotSame(bean1, bean2);
+
+        bean1.call(false);
+        int methods = timers.size();
+        bean2.call(false);
+        bean2.call(false);
+        Assertions.assertThrows(NullPointerException.class, () -> bean1.call(true));
+        // the second instance uses the timers of the first one
+        Assertions.assertEquals(methods, timers.size());
+
+        Timer timer = registry.get("dependent.call")
+                .tag("method", "call")
+                .tag("class", DependentTimedBean.class.getName())
+                .tag("exception", "none")
+                .tag("extra", "tag").timer();
+        Assertions.assertEquals(3, timer.count());
+        Timer failed = registry.get("dependent.call")
+                .tag("method", "call")
+                .tag("class", DependentTimedBean.class.getName())
+                .tag("exception", "NullPointerException")
+                .tag("extra", "tag").timer();
+        Assertions.assertEquals(1, failed.count());
+        beans.destroy(bean1);
+        beans.destroy(bean2);
+    }
+
+    @Test
+    void testMeterTags() {
+        DependentTimedBean bean = beans.get();
+        bean.tagged("alpha");
+        bean.tagged("alpha");
+        beans.get().tagged("bravo");
+
+        Assertions.assertEquals(2, registry.get("dependent.tagged")
+                .tag("method", "tagged")
+                .tag("exception", "none")
+                .tag("name", "alpha").timer().count());
+        Assertions.assertEquals(1, registry.get("dependent.tagged")
+                .tag("method", "tagged")
+                .tag("exception", "none")
+                .tag("name", "bravo").timer().count());
+    }
+
+    @Dependent
+    public static class DependentTimedBean {
+
+        @Timed(value = "dependent.call", extraTags = { "extra", "tag" })
+        public void call(boolean fail) {
+            if (fail) {
+                throw new NullPointerException("Failed on purpose");
+            }
+        }
+
+        @Timed(value = "dependent.tagged")
+        public void tagged(@MeterTag(key = "name") String name) {
+        }
+    }
+}
@@ -37,6 +37,19 @@ Tags getTags(ArcInvocationContext context) {
                 .and(getMeterTags(context));
     }
 
+    /**
+     * @return {@code true} if the tags returned by {@link #getTags(ArcInvocationContext)} depend on the parameters of the
+     *         invocation
+     */
+    boolean hasMeterTags(Method method) {
+        for (Parameter parameter : method.getParameters()) {
+            if (parameter.isAnnotationPresent(MeterTag.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Tags getMeterTags(ArcInvocationContext context) {
         List<Tag> tags = new ArrayList<>();
         Method method = context.getMethod();
@@ -32,11 +32,11 @@ public class MicrometerTimedInterceptor {
     public static final String DEFAULT_METRIC_NAME = "method.timed";
 
     private final MeterRegistry meterRegistry;
-    private final MeterTagsSupport meterTagsSupport;
+    private final TimedMethodTimers timers;
 
-    public MicrometerTimedInterceptor(MeterRegistry meterRegistry, MeterTagsSupport meterTagsSupport) {
+    public MicrometerTimedInterceptor(MeterRegistry meterRegistry, TimedMethodTimers timers) {
         this.meterRegistry = meterRegistry;
-        this.meterTagsSupport = meterTagsSupport;
+        this.timers = timers;
     }
 
     @AroundInvoke
@@ -86,17 +86,19 @@ public void accept(Object o, Throwable throwable, Boolean cancelled) {
     }
 
     private List<Sample> getSamples(ArcInvocationContext context) {
-        List<Timed> timed = context.findIterceptorBindings(Timed.class);
+        TimedMethodTimers.TimedMethod timedMethod = timers.get(context);
+        List<Timed> timed = timedMethod.timed;
         if (timed.isEmpty()) {
             return Collections.emptyList();
         }
-        Tags tags = meterTagsSupport.getTags(context);
+        Tags tags = timedMethod.getTags(context);
         List<Sample> samples = new ArrayList<>(timed.size());
-        for (Timed t : timed) {
+        for (int i = 0; i < timed.size(); i++) {
+            Timed t = timed.get(i);
             if (t.longTask()) {
                 samples.add(new LongTimerSample(t, tags));
             } else {
-                samples.add(new TimerSample(t, tags));
+                samples.add(new TimerSample(t, tags, timedMethod, i));
             }
         }
         return samples;
@@ -108,21 +110,14 @@ private void stop(List<Sample> samples, String throwableClassName) {
         }
     }
 
-    private void record(Timed timed, Timer.Sample sample, String exceptionClass, Tags timerTags) {
-        final String metricName = timed.value().isEmpty() ? DEFAULT_METRIC_NAME : timed.value();
+    private void record(Timed timed, Timer.Sample sample, String exceptionClass, Tags commonTags,
+            TimedMethodTimers.TimedMethod timedMethod, int index) {
         try {
-            Timer.Builder builder = Timer.builder(metricName)
-                    .description(timed.description().isEmpty() ? null : timed.description())
-                    .tags(timerTags)
-                    .tag("exception", exceptionClass)
-                    .publishPercentileHistogram(timed.histogram())
-                    .publishPercentiles(timed.percentiles().length == 0 ? null : timed.percentiles());
-
-            sample.stop(builder.register(meterRegistry));
+            sample.stop(timedMethod.getTimer(index, commonTags, exceptionClass));
         } catch (Exception e) {
             // ignoring on purpose: possible meter registration error should not interrupt main code flow.
             log.warnf(e, "Unable to record observed timer value for %s with exceptionClass %s",
-                    metricName, exceptionClass);
+                    timed.value().isEmpty() ? DEFAULT_METRIC_NAME : timed.value(), exceptionClass);
         }
     }
 
@@ -177,15 +172,19 @@ String metricName() {
     final class TimerSample extends Sample {
 
         private final Timer.Sample sample;
+        private final TimedMethodTimers.TimedMethod timedMethod;
+        private final int index;
 
-        public TimerSample(Timed timed, Tags commonTags) {
+        public TimerSample(Timed timed, Tags commonTags, TimedMethodTimers.TimedMethod timedMethod, int index) {
             super(timed, commonTags);
             this.sample = Timer.start(meterRegistry);
+            this.timedMethod = timedMethod;
+            this.index = index;
         }
 
         @Override
         void stop(String exceptionClass) {
-            record(timed, sample, exceptionClass, Tags.concat(commonTags, timed.extraTags()));
+            record(timed, sample, exceptionClass, commonTags, timedMethod, index);
         }
 
     }
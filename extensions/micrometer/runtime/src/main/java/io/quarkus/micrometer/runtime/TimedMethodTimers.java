@@ -0,0 +1,164 @@
+package io.quarkus.micrometer.runtime;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.micrometer.runtime.binder.MeterCache;
+
+/**
+ * The timers of the methods annotated with {@link Timed @Timed}.
+ * <p>
+ * ArC creates an interceptor instance for each intercepted bean instance, so the timers are held by this bean and shared by
+ * all the {@link MicrometerTimedInterceptor} instances. They are looked up by intercepted method, then by exception tag
+ * (and by tags if the method has {@link io.micrometer.core.aop.MeterTag @MeterTag} parameters), so recording a
+ * measurement neither builds the tags of the timer nor hashes the {@code @Timed} annotation.
+ */
+@Singleton
+public class TimedMethodTimers {
+
+    /**
+     * The maximum number of timers (unique combinations of tags and exception) that are cached for each {@code @Timed}
+     * binding of a method.
+     */
+    static final int MAX_CACHED_TIMERS = 64;
+
+    private final MeterRegistry meterRegistry;
+    private final MeterTagsSupport meterTagsSupport;
+    private final ConcurrentHashMap<Method, TimedMethod> methods = new ConcurrentHashMap<>();
+
+    public TimedMethodTimers(MeterRegistry meterRegistry, MeterTagsSupport meterTagsSupport) {
+        this.meterRegistry = meterRegistry;
+        this.meterTagsSupport = meterTagsSupport;
+    }
+
+    TimedMethod get(ArcInvocationContext context) {
+        Method method = context.getMethod();
+        TimedMethod timedMethod = methods.get(method);
+        if (timedMethod == null) {
+            timedMethod = new TimedMethod(context.findIterceptorBindings(Timed.class),
+                    meterTagsSupport.hasMeterTags(method) ? null : meterTagsSupport.getTags(context));
+            TimedMethod previous = methods.putIfAbsent(method, timedMethod);
+            if (previous != null) {
+                timedMethod = previous;
+            }
+        }
+        return timedMethod;
+    }
+
+    /**
+     * @return the number of methods the timers are held for
+     */
+    int size() {
+        return methods.size();
+    }
+
+    private Timer register(Timed timed, Tags tags, String exceptionClass) {
+        return Timer.builder(timed.value().isEmpty() ? MicrometerTimedInterceptor.DEFAULT_METRIC_NAME : timed.value())
+                .description(timed.description().isEmpty() ? null : timed.description())
+                .tags(tags)
+                .tags(timed.extraTags())
+                .tag("exception", exceptionClass)
+                .publishPercentileHistogram(timed.histogram())
+                .publishPercentiles(timed.percentiles().length == 0 ? null : timed.percentiles())
+                .register(meterRegistry);
+    }
+
+    /**
+     * The {@code @Timed} bindings of a method and their timers.
+     */
+    final class TimedMethod {
+
+        final List<Timed> timed;
+        // null if the tags depend on the parameters of the invocation
+        private final Tags tags;
+        private final BindingTimers[] timers;
+
+        TimedMethod(List<Timed> timed, Tags tags) {
+            this.timed = timed;
+            this.tags = tags;
+            this.timers = new BindingTimers[timed.size()];
+            for (int i = 0; i < timers.length; i++) {
+                timers[i] = new BindingTimers(timed.get(i), tags);
+            }
+        }
+
+        Tags getTags(ArcInvocationContext context) {
+            return tags != null ? tags : meterTagsSupport.getTags(context);
+        }
+
+        /**
+         * @param index the index of the {@code @Timed} binding
+         * @param tags the tags returned by {@link #getTags(ArcInvocationContext)} for the invocation
+         */
+        Timer getTimer(int index, Tags tags, String exceptionClass) {
+            BindingTimers bindingTimers = timers[index];
+            if (this.tags != null) {
+                return bindingTimers.byException.get(exceptionClass);
+            }
+            return bindingTimers.byTags.get(new TimerKey(tags, exceptionClass));
+        }
+    }
+
+    private final class BindingTimers {
+
+        final MeterCache<String, Timer> byException;
+        final MeterCache<TimerKey, Timer> byTags;
+
+        BindingTimers(Timed timed, Tags tags) {
+            if (tags != null) {
+                byException = new MeterCache<>(MAX_CACHED_TIMERS, new Function<String, Timer>() {
+                    @Override
+                    public Timer apply(String exceptionClass) {
+                        return register(timed, tags, exceptionClass);
+                    }
+                });
+                byTags = null;
+            } else {
+                byException = null;
+                byTags = new MeterCache<>(MAX_CACHED_TIMERS, new Function<TimerKey, Timer>() {
+                    @Override
+                    public Timer apply(TimerKey key) {
+                        return register(timed, key.tags, key.exceptionClass);
+                    }
+                });
+            }
+        }
+    }
+
+    static final class TimerKey {
+
+        final Tags tags;
+        final String exceptionClass;
+
+        TimerKey(Tags tags, String exceptionClass) {
+            this.tags = tags;
+            this.exceptionClass = exceptionClass;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TimerKey that = (TimerKey) o;
+            return tags.equals(that.tags) && exceptionClass.equals(that.exceptionClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tags.hashCode() + exceptionClass.hashCode();
+        }
+    }
+}
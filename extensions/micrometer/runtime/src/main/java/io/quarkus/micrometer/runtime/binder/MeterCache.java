@@ -0,0 +1,67 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Meter;
+
+/**
+ * A bounded cache of meters, so a measurement can be recorded without building
+ * the tags of the meter and registering it with the registry every time.
+ *
+ * Lookups are lock-free. Once the cache holds {@code maxSize} meters, meters
+ * for other keys overflow: they are no longer cached, and are resolved by the
+ * factory (i.e. registered with the registry) every time they are used.
+ * The memory used by the cache is bounded even if the cardinality of the keys is not.
+ *
+ * @param <K> the key, which must implement {@code equals} and {@code hashCode}
+ * @param <M> the meter
+ */
+public class MeterCache<K, M extends Meter> {
+
+    private final ConcurrentHashMap<K, M> meters = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxSize;
+    private final Function<K, M> factory;
+
+    /**
+     * @param maxSize the maximum number of cached meters
+     * @param factory the function creating (registering) the meter for a key
+     */
+    public MeterCache(int maxSize, Function<K, M> factory) {
+        this.maxSize = maxSize;
+        this.factory = factory;
+    }
+
+    /**
+     * @param key the key
+     * @return the meter for the given key
+     */
+    public M get(K key) {
+        M meter = meters.get(key);
+        if (meter != null) {
+            return meter;
+        }
+        meter = factory.apply(key);
+        if (size.incrementAndGet() > maxSize) {
+            // Overflow, the meter is not cached
+            size.decrementAndGet();
+            return meter;
+        }
+        M existing = meters.putIfAbsent(key, meter);
+        if (existing != null) {
+            // Another thread cached the meter first
+            size.decrementAndGet();
+            return existing;
+        }
+        return meter;
+    }
+
+    /**
+     * @return the number of cached meters
+     */
+    public int size() {
+        return size.get();
+    }
+}
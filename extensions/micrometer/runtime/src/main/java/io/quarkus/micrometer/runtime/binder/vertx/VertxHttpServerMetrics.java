@@ -3,7 +3,9 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.jboss.logging.Logger;
 
@@ -18,6 +20,7 @@
 import io.quarkus.micrometer.runtime.HttpServerMetricsTagsContributor;
 import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
 import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.quarkus.micrometer.runtime.binder.MeterCache;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.ServerWebSocket;
@@ -37,12 +40,18 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
         implements HttpServerMetrics<HttpRequestMetric, LongTaskTimer.Sample, LongTaskTimer.Sample> {
     static final Logger log = Logger.getLogger(VertxHttpServerMetrics.class);
 
+    /**
+     * The maximum number of request timers (unique combinations of uri, method and status) that are cached.
+     */
+    static final int MAX_CACHED_REQUEST_TIMERS = 1024;
+
     HttpBinderConfiguration config;
 
     final String nameWebsocketConnections;
     final String nameHttpServerPush;
     final String nameHttpServerRequests;
     final LongAdder activeRequests;
+    final MeterCache<RequestTimerKey, Timer> requestTimers;
 
     private final List<HttpServerMetricsTagsContributor> httpServerMetricsTagsContributors;
 
@@ -60,6 +69,18 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
                 .register(registry);
 
         httpServerMetricsTagsContributors = resolveHttpServerMetricsTagsContributors();
+        requestTimers = new MeterCache<>(MAX_CACHED_REQUEST_TIMERS, new Function<RequestTimerKey, Timer>() {
+            @Override
+            public Timer apply(RequestTimerKey key) {
+                return Timer.builder(nameHttpServerRequests)
+                        .tags(Tags.of(
+                                VertxMetricsTags.method(key.method),
+                                HttpCommonTags.uri(key.path, key.statusCode),
+                                HttpCommonTags.outcome(key.statusCode),
+                                HttpCommonTags.status(key.statusCode)))
+                        .register(registry);
+            }
+        });
     }
 
     private List<HttpServerMetricsTagsContributor> resolveHttpServerMetricsTagsContributors() {
@@ -178,12 +199,16 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
                 config.getServerIgnorePatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-            Tags allTags = Tags.of(
-                    VertxMetricsTags.method(requestMetric.request().method()),
-                    HttpCommonTags.uri(path, response.statusCode()),
-                    VertxMetricsTags.outcome(response),
-                    HttpCommonTags.status(response.statusCode()));
-            if (!httpServerMetricsTagsContributors.isEmpty()) {
+            if (httpServerMetricsTagsContributors.isEmpty()) {
+                // The tags only depend on the request path, method and status, the timer can be cached
+                sample.stop(requestTimers.get(
+                        new RequestTimerKey(path, requestMetric.request().method(), response.statusCode())));
+            } else {
+                Tags allTags = Tags.of(
+                        VertxMetricsTags.method(requestMetric.request().method()),
+                        HttpCommonTags.uri(path, response.statusCode()),
+                        VertxMetricsTags.outcome(response),
+                        HttpCommonTags.status(response.statusCode()));
                 HttpServerMetricsTagsContributor.Context context = new DefaultContext(requestMetric.request());
                 for (int i = 0; i < httpServerMetricsTagsContributors.size(); i++) {
                     try {
@@ -193,10 +218,10 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
                         log.debug("Unable to obtain additional tags", e);
                     }
                 }
-            }
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests).tags(allTags);
+                Timer.Builder builder = Timer.builder(nameHttpServerRequests).tags(allTags);
 
-            sample.stop(builder.register(registry));
+                sample.stop(builder.register(registry));
+            }
         }
         requestMetric.requestEnded();
     }
@@ -237,6 +262,35 @@ public void disconnected(LongTaskTimer.Sample websocketMetric) {
         }
     }
 
+    static final class RequestTimerKey {
+        final String path;
+        final HttpMethod method;
+        final int statusCode;
+
+        RequestTimerKey(String path, HttpMethod method, int statusCode) {
+            this.path = path;
+            this.method = method;
+            this.statusCode = statusCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RequestTimerKey that = (RequestTimerKey) o;
+            return statusCode == that.statusCode && path.equals(that.path) && Objects.equals(method, that.method);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * path.hashCode() + Objects.hashCode(method)) + statusCode;
+        }
+    }
+
     private static class DefaultContext implements HttpServerMetricsTagsContributor.Context {
         private final HttpServerRequest request;
 
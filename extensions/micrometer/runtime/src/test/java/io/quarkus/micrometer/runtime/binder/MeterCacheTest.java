@@ -0,0 +1,51 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MeterCacheTest {
+
+    final MeterRegistry registry = new SimpleMeterRegistry();
+    final AtomicInteger registrations = new AtomicInteger();
+    final MeterCache<String, Timer> cache = new MeterCache<>(2, new Function<String, Timer>() {
+        @Override
+        public Timer apply(String uri) {
+            registrations.incrementAndGet();
+            return Timer.builder("test.timer").tag("uri", uri).register(registry);
+        }
+    });
+
+    @Test
+    public void testMetersAreCached() {
+        Timer timer = cache.get("/a");
+        Assertions.assertSame(timer, cache.get("/a"));
+        Assertions.assertEquals(1, registrations.get());
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertSame(registry.get("test.timer").tag("uri", "/a").timer(), timer);
+    }
+
+    @Test
+    public void testOverflow() {
+        cache.get("/a");
+        cache.get("/b");
+        Timer overflow = cache.get("/c");
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(3, registrations.get());
+
+        // Meters of keys that overflow are resolved every time, but they are still the registered meters
+        Assertions.assertSame(overflow, cache.get("/c"));
+        Assertions.assertEquals(4, registrations.get());
+        Assertions.assertEquals(2, cache.size());
+
+        cache.get("/a");
+        cache.get("/b");
+        Assertions.assertEquals(4, registrations.get());
+    }
+}
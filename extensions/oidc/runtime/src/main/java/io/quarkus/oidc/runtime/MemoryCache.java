@@ -1,27 +1,54 @@
 package io.quarkus.oidc.runtime;
 
 import java.time.Duration;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * A size-bounded in-memory cache.
+ * <p>
+ * Lookups of valid entries do not take any lock, they only mark the entry they find as recently used. When the cache is
+ * full, an entry is evicted with the CLOCK algorithm, an approximation of the least recently used eviction: the entries
+ * are visited in a circular order, the marked ones are unmarked and skipped, and the first unmarked one is evicted. Large
+ * caches are split into segments, each guarded by its own lock for the updates and evicting its own entries, to limit
+ * the contention.
+ * Expired entries are removed when they are accessed, when they are visited during an eviction, or by the optional
+ * clean-up timer.
+ */
 public class MemoryCache<T> {
+    /**
+     * The minimum number of entries per segment, small caches use a single segment.
+     */
+    static final int MIN_SEGMENT_SIZE = 64;
+    static final int MAX_SEGMENTS = 16;
+
     private volatile Long timerId = null;
 
-    private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
-    private AtomicInteger size = new AtomicInteger();
-    private final Duration cacheTimeToLive;
+    private final Segment<T>[] segments;
+    private final long cacheTimeToLive;
     private final int cacheSize;
 
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
     public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
-        this.cacheTimeToLive = cacheTimeToLive;
+        this.cacheTimeToLive = cacheTimeToLive.toMillis();
         this.cacheSize = cacheSize;
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, cacheSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // Spread the remainder so that the capacity of the segments adds up to the cache size
+            segments[i] = new Segment<>(cacheSize / segmentCount + (i < cacheSize % segmentCount ? 1 : 0));
+        }
         init(vertx, cleanUpTimerInterval);
     }
 
@@ -39,65 +66,133 @@ public void handle(Long event) {
 
     public void add(String key, T result) {
         if (cacheSize > 0) {
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
+            Segment<T> segment = segmentFor(key);
+            CacheEntry<T> entry = new CacheEntry<T>(key, result);
+            synchronized (segment) {
+                CacheEntry<T> previous = segment.entries.put(key, entry);
+                // The new entry takes the slot of the entry it replaces
+                entry.slot = previous != null ? previous.slot : nextSlot(segment);
+                segment.slots[entry.slot] = entry;
             }
-            cacheMap.put(key, new CacheEntry<T>(result));
         }
     }
 
     public T remove(String key) {
-        CacheEntry<T> entry = removeCacheEntry(key);
-        return entry == null ? null : entry.result;
+        Segment<T> segment = segmentFor(key);
+        CacheEntry<T> entry;
+        synchronized (segment) {
+            entry = segment.entries.remove(key);
+            if (entry != null) {
+                segment.release(entry.slot);
+            }
+        }
+        return entry == null || isEntryExpired(entry, now()) ? null : entry.result;
     }
 
     public T get(String key) {
-        CacheEntry<T> entry = cacheMap.get(key);
-        return entry == null ? null : entry.result;
+        CacheEntry<T> entry = getValidEntry(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.result;
     }
 
     public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
+        return getValidEntry(key) != null;
     }
 
-    private void removeInvalidEntries() {
+    private CacheEntry<T> getValidEntry(String key) {
+        Segment<T> segment = segmentFor(key);
+        CacheEntry<T> entry = segment.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isEntryExpired(entry, now())) {
+            synchronized (segment) {
+                removeEntry(segment, entry);
+            }
+            return null;
+        }
+        if (!entry.recentlyUsed) {
+            // Only write if needed, so that the hot entries are not written on every lookup
+            entry.recentlyUsed = true;
+        }
+        return entry;
+    }
+
+    /**
+     * Finds a slot for a new entry, evicting an entry if the segment is full.
+     * Must be called while holding the segment lock, after the new entry has been added to the map.
+     */
+    private int nextSlot(Segment<T> segment) {
+        if (segment.freeCount > 0) {
+            // Freed by a removal
+            return segment.free[--segment.freeCount];
+        }
+        if (segment.used < segment.capacity) {
+            if (segment.used == segment.slots.length) {
+                int length = Math.min(segment.capacity, Math.max(MIN_SEGMENT_SIZE, segment.slots.length * 2));
+                segment.slots = Arrays.copyOf(segment.slots, length);
+                segment.free = Arrays.copyOf(segment.free, length);
+            }
+            return segment.used++;
+        }
         long now = now();
-        for (Iterator<Map.Entry<String, CacheEntry<T>>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<String, CacheEntry<T>> next = it.next();
-            if (next != null) {
-                if (isEntryExpired(next.getValue(), now)) {
-                    try {
-                        it.remove();
-                        size.decrementAndGet();
-                    } catch (IllegalStateException ex) {
-                        // continue
-                    }
-                }
+        // All the slots are used, and the search terminates within two rounds as every visited entry is unmarked
+        while (true) {
+            int slot = segment.hand;
+            segment.hand = slot + 1 == segment.capacity ? 0 : slot + 1;
+            CacheEntry<T> candidate = segment.slots[slot];
+            if (isEntryExpired(candidate, now)) {
+                segment.entries.remove(candidate.key, candidate);
+                return slot;
+            }
+            if (candidate.recentlyUsed) {
+                candidate.recentlyUsed = false;
+            } else {
+                segment.entries.remove(candidate.key, candidate);
+                evictions.increment();
+                return slot;
             }
         }
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
+    /**
+     * Must be called while holding the segment lock.
+     */
+    private void removeEntry(Segment<T> segment, CacheEntry<T> entry) {
+        // The entry may have been replaced or evicted in the meantime
+        if (segment.entries.remove(entry.key, entry)) {
+            segment.release(entry.slot);
+        }
+    }
+
+    private void removeInvalidEntries() {
+        long now = now();
+        for (Segment<T> segment : segments) {
+            synchronized (segment) {
+                for (int i = 0; i < segment.used; i++) {
+                    CacheEntry<T> entry = segment.slots[i];
+                    if (entry != null && isEntryExpired(entry, now)) {
+                        removeEntry(segment, entry);
+                    }
+                }
             }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
+        }
     }
 
-    private CacheEntry<T> removeCacheEntry(String token) {
-        CacheEntry<T> entry = cacheMap.remove(token);
-        if (entry != null) {
-            size.decrementAndGet();
+    private Segment<T> segmentFor(String key) {
+        if (segments.length == 1) {
+            return segments[0];
         }
-        return entry;
+        int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
     }
 
     private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
+        return entry.createdTime + cacheTimeToLive < now;
     }
 
     private static long now() {
@@ -105,21 +200,90 @@ private static long now() {
     }
 
     private static class CacheEntry<T> {
+        final String key;
         volatile T result;
         long createdTime = System.currentTimeMillis();
+        // Set by the lookups, cleared when the eviction visits the entry
+        volatile boolean recentlyUsed;
+        // Guarded by the segment lock
+        int slot;
 
-        public CacheEntry(T result) {
+        public CacheEntry(String key, T result) {
+            this.key = key;
             this.result = result;
         }
     }
 
+    private static class Segment<T> {
+        final int capacity;
+        final Map<String, CacheEntry<T>> entries = new ConcurrentHashMap<>();
+        // The circular order in which the eviction visits the entries, grown up to the capacity
+        // Guarded by the segment lock, like the other fields
+        CacheEntry<T>[] slots;
+        // The number of slots which have been used so far
+        int used;
+        // The slots freed by the removals, which are used first
+        int[] free;
+        int freeCount;
+        // The next slot visited by the eviction
+        int hand;
+
+        @SuppressWarnings("unchecked")
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.slots = new CacheEntry[Math.min(capacity, MIN_SEGMENT_SIZE)];
+            this.free = new int[slots.length];
+        }
+
+        void release(int slot) {
+            slots[slot] = null;
+            free[freeCount++] = slot;
+        }
+
+        void clear() {
+            entries.clear();
+            Arrays.fill(slots, null);
+            used = 0;
+            freeCount = 0;
+            hand = 0;
+        }
+    }
+
     public int getCacheSize() {
-        return cacheMap.size();
+        int size = 0;
+        for (Segment<T> segment : segments) {
+            size += segment.entries.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return the number of lookups which have found a valid entry
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which have not found a valid entry
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of valid entries which have been evicted to make room for new entries
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
     }
 
     public void clearCache() {
-        cacheMap.clear();
-        size.set(0);
+        for (Segment<T> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
     }
 
     public void stopTimer(Vertx vertx) {
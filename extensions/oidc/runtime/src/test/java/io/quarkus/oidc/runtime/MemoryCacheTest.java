@@ -80,15 +80,95 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
-
+        // The least recently used entry is evicted
+        assertEquals("1", cache.get("1").name);
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals(2, cache.getCacheSize());
 
-        assertNull(cache.get("1"));
+        assertEquals("1", cache.get("1").name);
         assertNull(cache.get("2"));
         assertEquals("3", cache.get("3").name);
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testExpiredEntriesAreNotReturned() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // timer interval
+                Optional.empty(),
+                // entry is valid for 100 milliseconds
+                Duration.ofMillis(100),
+                // max cache size
+                2);
+        cache.add("1", new Bean("1"));
+        assertTrue(cache.containsKey("1"));
+
+        await().atMost(Duration.ofSeconds(5)).until(new Callable<Boolean>() {
+
+            @Override
+            public Boolean call() throws Exception {
+                return !cache.containsKey("1");
+            }
+
+        });
+        assertNull(cache.get("1"));
+        assertEquals(0, cache.getCacheSize());
+    }
+
+    @Test
+    public void testSegmentedCache() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // timer interval
+                Optional.empty(),
+                // entry is valid for 1 minute
+                Duration.ofMinutes(1),
+                // max cache size
+                1000);
+        for (int i = 0; i < 5000; i++) {
+            cache.add(String.valueOf(i), new Bean(String.valueOf(i)));
+        }
+        assertEquals(1000, cache.getCacheSize());
+        assertEquals(4000, cache.getEvictionCount());
+        assertEquals("4999", cache.get("4999").name);
+    }
+
+    @Test
+    public void testRecentlyUsedEntriesAreKept() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // timer interval
+                Optional.empty(),
+                // entry is valid for 1 minute
+                Duration.ofMinutes(1),
+                // max cache size
+                100);
+        for (int i = 0; i < 100; i++) {
+            cache.add(String.valueOf(i), new Bean(String.valueOf(i)));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(String.valueOf(i), cache.get(String.valueOf(i)).name);
+        }
+        for (int i = 100; i < 150; i++) {
+            cache.add(String.valueOf(i), new Bean(String.valueOf(i)));
+        }
+        assertEquals(100, cache.getCacheSize());
+        assertEquals(50, cache.getEvictionCount());
+        // The entries which were used are not evicted
+        for (int i = 0; i < 10; i++) {
+            assertEquals(String.valueOf(i), cache.get(String.valueOf(i)).name);
+        }
+        assertNull(cache.get("10"));
+        assertEquals("149", cache.get("149").name);
+
+        // A removed entry makes room for a new one
+        assertEquals("149", cache.remove("149").name);
+        cache.add("150", new Bean("150"));
+        assertEquals(100, cache.getCacheSize());
+        assertEquals(50, cache.getEvictionCount());
     }
 
     static class Bean {
@@ -38,6 +38,15 @@ public static void setEntityToPersistenceUnit(Map<String, String> map) {
     protected abstract PanacheQueryType createPanacheQuery(EntityManager em, String query, String originalQuery, String orderBy,
             Object paramsArrayOrMap);
 
+    /**
+     * Creates a query sorted with the given {@link Sort}. Implementations supporting keyset pagination override this method
+     * to keep track of the sort columns.
+     */
+    protected PanacheQueryType createSortedPanacheQuery(EntityManager em, String query, String originalQuery, Sort sort,
+            Object paramsArrayOrMap) {
+        return createPanacheQuery(em, query, originalQuery, PanacheJpaUtil.toOrderBy(sort), paramsArrayOrMap);
+    }
+
     public abstract List<?> list(PanacheQueryType query);
 
     public abstract Stream<?> stream(PanacheQueryType query);
@@ -209,7 +218,7 @@ public PanacheQueryType find(Class<?> entityClass, String panacheQuery, Sort sor
         }
 
         String translatedHqlQuery = PanacheJpaUtil.createFindQuery(entityClass, panacheQuery, paramCount(params));
-        return createPanacheQuery(em, translatedHqlQuery, panacheQuery, PanacheJpaUtil.toOrderBy(sort), params);
+        return createSortedPanacheQuery(em, translatedHqlQuery, panacheQuery, sort, params);
     }
 
     public PanacheQueryType find(Class<?> entityClass, String panacheQuery, Map<String, Object> params) {
@@ -230,7 +239,7 @@ public PanacheQueryType find(Class<?> entityClass, String panacheQuery, Sort sor
         }
 
         String translatedHqlQuery = PanacheJpaUtil.createFindQuery(entityClass, panacheQuery, paramCount(params));
-        return createPanacheQuery(em, translatedHqlQuery, panacheQuery, PanacheJpaUtil.toOrderBy(sort), params);
+        return createSortedPanacheQuery(em, translatedHqlQuery, panacheQuery, sort, params);
     }
 
     public PanacheQueryType find(Class<?> entityClass, String panacheQuery, Parameters params) {
@@ -298,7 +307,7 @@ public PanacheQueryType findAll(Class<?> entityClass) {
     public PanacheQueryType findAll(Class<?> entityClass, Sort sort) {
         String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
         EntityManager em = getEntityManager(entityClass);
-        return createPanacheQuery(em, query, null, PanacheJpaUtil.toOrderBy(sort), null);
+        return createSortedPanacheQuery(em, query, null, sort, null);
     }
 
     public List<?> listAll(Class<?> entityClass) {
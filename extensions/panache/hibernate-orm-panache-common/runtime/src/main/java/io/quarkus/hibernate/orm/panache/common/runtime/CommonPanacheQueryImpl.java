@@ -2,13 +2,18 @@
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
@@ -16,11 +21,14 @@
 import jakarta.persistence.Query;
 
 import org.hibernate.Filter;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
@@ -48,6 +56,11 @@ public void close() {
     private String originalQuery;
     protected String countQuery;
     private String orderBy;
+    private Sort sort;
+    /**
+     * the values of the sort columns of the last row already read, when using keyset pagination
+     */
+    private Object[] keyset;
     private EntityManager em;
 
     private Page page;
@@ -69,11 +82,19 @@ public CommonPanacheQueryImpl(EntityManager em, String query, String originalQue
         this.paramsArrayOrMap = paramsArrayOrMap;
     }
 
+    public CommonPanacheQueryImpl(EntityManager em, String query, String originalQuery, Sort sort,
+            Object paramsArrayOrMap) {
+        this(em, query, originalQuery, PanacheJpaUtil.toOrderBy(sort), paramsArrayOrMap);
+        this.sort = sort;
+    }
+
     private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String newQueryString, String countQuery) {
         this.em = previousQuery.em;
         this.query = newQueryString;
         this.countQuery = countQuery;
         this.orderBy = previousQuery.orderBy;
+        this.sort = previousQuery.sort;
+        this.keyset = previousQuery.keyset;
         this.paramsArrayOrMap = previousQuery.paramsArrayOrMap;
         this.page = previousQuery.page;
         this.count = previousQuery.count;
@@ -231,6 +252,24 @@ public void range(int startIndex, int lastIndex) {
         this.page = null;
     }
 
+    public void afterKey(Object... lastKey) {
+        if (lastKey == null || lastKey.length == 0) {
+            this.keyset = null;
+            return;
+        }
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Keyset pagination is not supported for named queries: " + query);
+        }
+        for (Object value : lastKey) {
+            if (value == null) {
+                throw new PanacheQueryException("Keyset pagination does not support null key values");
+            }
+        }
+        // validates the sort against the key
+        PanacheJpaUtil.toKeysetPredicate(sort, new String[lastKey.length]);
+        this.keyset = lastKey.clone();
+    }
+
     public void withLock(LockModeType lockModeType) {
         this.lockModeType = lockModeType;
     }
@@ -289,6 +328,69 @@ public <T extends Entity> Stream<T> stream() {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> stream(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("The fetch size must be greater than 0");
+        }
+        org.hibernate.query.Query<T> jpaQuery = createQuery().unwrap(org.hibernate.query.Query.class);
+        jpaQuery.setFetchSize(fetchSize);
+        ScrollableResults<T> results;
+        try (NonThrowingCloseable c = applyFilters()) {
+            results = jpaQuery.scroll(ScrollMode.FORWARD_ONLY);
+        }
+        Session session = em.unwrap(Session.class);
+        Iterator<T> iterator = new Iterator<T>() {
+            private final List<T> chunk = new ArrayList<>(fetchSize);
+            private boolean entities = true;
+            private Boolean hasNext;
+
+            @Override
+            public boolean hasNext() {
+                if (hasNext == null) {
+                    if (chunk.size() == fetchSize) {
+                        evictChunk();
+                    }
+                    hasNext = results.next();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                hasNext = null;
+                T result = results.get();
+                chunk.add(result);
+                return result;
+            }
+
+            // detach the entities of the previous chunk so that they can be garbage collected
+            private void evictChunk() {
+                if (session.isJoinedToTransaction()) {
+                    // persist the changes made to the entities before they are detached,
+                    // there is nothing to flush (and flushing is not allowed) outside a transaction
+                    session.flush();
+                }
+                for (int i = 0; entities && i < chunk.size(); i++) {
+                    T result = chunk.get(i);
+                    try {
+                        if (session.contains(result)) {
+                            session.detach(result);
+                        }
+                    } catch (IllegalArgumentException e) {
+                        // not an entity, e.g. a projection: the results are not managed by the session
+                        entities = false;
+                    }
+                }
+                chunk.clear();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), false).onClose(results::close);
+    }
+
     public <T extends Entity> T firstResult() {
         Query jpaQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
@@ -331,7 +433,8 @@ private Query createQuery() {
             // range is 0 based, so we add 1
             jpaQuery.setMaxResults(range.getLastIndex() - range.getStartIndex() + 1);
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            // with keyset pagination the key locates the page, only its size matters
+            jpaQuery.setFirstResult(keyset != null ? 0 : page.index * page.size);
             jpaQuery.setMaxResults(page.size);
         } else {
             //no-op
@@ -346,7 +449,7 @@ private Query createQuery(int maxResults) {
         if (range != null) {
             jpaQuery.setFirstResult(range.getStartIndex());
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            jpaQuery.setFirstResult(keyset != null ? 0 : page.index * page.size);
         } else {
             //no-op
         }
@@ -362,8 +465,13 @@ private Query createBaseQuery() {
             String namedQuery = query.substring(1);
             jpaQuery = em.createNamedQuery(namedQuery);
         } else {
+            String selectQuery = query;
+            if (keyset != null) {
+                selectQuery = PanacheJpaUtil.addPredicate(query,
+                        PanacheJpaUtil.toKeysetPredicate(sort, keysetParameters()));
+            }
             try {
-                jpaQuery = em.createQuery(orderBy != null ? query + orderBy : query);
+                jpaQuery = em.createQuery(orderBy != null ? selectQuery + orderBy : selectQuery);
             } catch (IllegalArgumentException x) {
                 throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
             }
@@ -374,6 +482,16 @@ private Query createBaseQuery() {
         } else {
             AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) paramsArrayOrMap);
         }
+        if (keyset != null) {
+            String[] parameters = keysetParameters();
+            for (int i = 0; i < keyset.length; i++) {
+                if (paramsArrayOrMap instanceof Map) {
+                    jpaQuery.setParameter(parameters[i].substring(1), keyset[i]);
+                } else {
+                    jpaQuery.setParameter(Integer.parseInt(parameters[i].substring(1)), keyset[i]);
+                }
+            }
+        }
 
         if (this.lockModeType != null) {
             jpaQuery.setLockMode(lockModeType);
@@ -387,6 +505,24 @@ private Query createBaseQuery() {
         return jpaQuery;
     }
 
+    /**
+     * The parameters of the keyset predicate follow the query parameters, and must use the same style.
+     */
+    private String[] keysetParameters() {
+        String[] parameters = new String[keyset.length];
+        if (paramsArrayOrMap instanceof Map) {
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = ":panacheKey" + i;
+            }
+        } else {
+            int offset = paramsArrayOrMap == null ? 0 : ((Object[]) paramsArrayOrMap).length;
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = "?" + (offset + i + 1);
+            }
+        }
+        return parameters;
+    }
+
     private NonThrowingCloseable applyFilters() {
         if (filters == null)
             return NO_FILTERS;
@@ -0,0 +1,11 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.keyset;
+
+import jakarta.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class KeysetEntity extends PanacheEntity {
+    public String category;
+    public int score;
+}
@@ -0,0 +1,121 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.keyset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.control.ActivateRequestContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class KeysetPaginationTest {
+
+    private static final int COUNT = 20;
+    private static final int PAGE_SIZE = 3;
+
+    // the sort columns are not unique until the identifier is added
+    private static final Sort SORT = Sort.by("category").and("score", Sort.Direction.Descending).and("id");
+    private static final Comparator<KeysetEntity> ORDER = Comparator.<KeysetEntity, String> comparing(e -> e.category)
+            .thenComparing(Comparator.<KeysetEntity> comparingInt(e -> e.score).reversed())
+            .thenComparing(e -> e.id);
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(KeysetEntity.class));
+
+    @BeforeEach
+    void createEntities() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            KeysetEntity.deleteAll();
+            for (int i = 0; i < COUNT; i++) {
+                KeysetEntity entity = new KeysetEntity();
+                // several entities share the same category and score
+                entity.category = "c" + (i % 3);
+                entity.score = i % 4;
+                entity.persist();
+            }
+        });
+    }
+
+    @Test
+    @ActivateRequestContext
+    void testFindAll() {
+        List<KeysetEntity> paged = pageThrough(KeysetEntity.findAll(SORT));
+        assertEquals(COUNT, paged.size());
+        assertEquals(ids(expected(e -> true)), ids(paged));
+    }
+
+    @Test
+    @ActivateRequestContext
+    void testQueryWithWhereClause() {
+        // the keyset predicate must not be combined with the second operand of the OR only
+        List<KeysetEntity> paged = pageThrough(
+                KeysetEntity.find("category = ?1 or category = ?2", SORT, "c0", "c2"));
+        assertEquals(ids(expected(e -> !e.category.equals("c1"))), ids(paged));
+        for (KeysetEntity entity : paged) {
+            assertNotEquals("c1", entity.category);
+        }
+    }
+
+    @Test
+    @ActivateRequestContext
+    void testNamedParameters() {
+        List<KeysetEntity> paged = pageThrough(KeysetEntity.find("score >= :min and category <> :category", SORT,
+                Parameters.with("min", 1).and("category", "c1")));
+        List<KeysetEntity> expected = expected(e -> e.score >= 1 && !e.category.equals("c1"));
+        assertTrue(expected.size() > PAGE_SIZE);
+        assertEquals(ids(expected), ids(paged));
+    }
+
+    @Test
+    @ActivateRequestContext
+    void testTiesOnTheLeadingColumns() {
+        KeysetEntity first = KeysetEntity.<KeysetEntity> find("category = ?1 and score = ?2", SORT, "c0", 3).firstResult();
+        // the entities with the same category and score but a greater identifier come first
+        List<KeysetEntity> after = KeysetEntity.<KeysetEntity> findAll(SORT).page(Page.ofSize(PAGE_SIZE))
+                .afterKey(first.category, first.score, first.id).list();
+        List<KeysetEntity> expected = expected(e -> ORDER.compare(e, first) > 0);
+        assertEquals(ids(expected.subList(0, PAGE_SIZE)), ids(after));
+        assertEquals("c0", after.get(0).category);
+        assertEquals(3, after.get(0).score);
+        assertTrue(after.get(0).id > first.id);
+    }
+
+    private static List<KeysetEntity> pageThrough(PanacheQuery<KeysetEntity> query) {
+        query.page(Page.ofSize(PAGE_SIZE));
+        List<KeysetEntity> all = new ArrayList<>();
+        List<KeysetEntity> page = query.list();
+        while (!page.isEmpty()) {
+            assertTrue(page.size() <= PAGE_SIZE);
+            all.addAll(page);
+            KeysetEntity last = page.get(page.size() - 1);
+            page = query.afterKey(last.category, last.score, last.id).list();
+        }
+        return all;
+    }
+
+    private static List<KeysetEntity> expected(Predicate<KeysetEntity> filter) {
+        return KeysetEntity.<KeysetEntity> listAll().stream().filter(filter).sorted(ORDER).collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(List<KeysetEntity> entities) {
+        return entities.stream().map(e -> e.id).collect(Collectors.toList());
+    }
+}
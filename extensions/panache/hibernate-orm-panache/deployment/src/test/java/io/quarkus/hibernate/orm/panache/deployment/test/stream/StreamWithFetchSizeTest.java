@@ -0,0 +1,86 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamWithFetchSizeTest {
+
+    private static final int COUNT = 25;
+    private static final int FETCH_SIZE = 10;
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(StreamedEntity.class));
+
+    @BeforeEach
+    void createEntities() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            StreamedEntity.deleteAll();
+            for (int i = 0; i < COUNT; i++) {
+                StreamedEntity entity = new StreamedEntity();
+                entity.name = "entity" + i;
+                entity.persist();
+            }
+        });
+    }
+
+    @Test
+    @ActivateRequestContext
+    void testStreamWithoutTransaction() {
+        StreamedEntity loadedBefore = StreamedEntity.find("name", "entity0").firstResult();
+        List<StreamedEntity> streamed = new ArrayList<>();
+        try (Stream<StreamedEntity> stream = StreamedEntity.<StreamedEntity> find("name <> ?1", Sort.by("id"), "entity0")
+                .stream(FETCH_SIZE)) {
+            stream.forEach(streamed::add);
+        }
+        assertEquals(COUNT - 1, streamed.size());
+        assertEquals("entity" + (COUNT - 1), streamed.get(COUNT - 2).name);
+        // the entities of the previous chunks are detached, not the entities loaded before
+        assertFalse(streamed.get(FETCH_SIZE).isPersistent());
+        assertTrue(loadedBefore.isPersistent());
+    }
+
+    @Test
+    @Transactional
+    void testStreamInTransaction() {
+        StreamedEntity loadedBefore = StreamedEntity.find("name", "entity0").firstResult();
+        List<StreamedEntity> streamed = new ArrayList<>();
+        try (Stream<StreamedEntity> stream = StreamedEntity.<StreamedEntity> find("name <> ?1", Sort.by("id"), "entity0")
+                .stream(FETCH_SIZE)) {
+            stream.forEach(entity -> {
+                entity.name = entity.name + "-updated";
+                streamed.add(entity);
+            });
+        }
+        assertEquals(COUNT - 1, streamed.size());
+        assertTrue(loadedBefore.isPersistent());
+        // the changes made to the detached entities were flushed before they were detached
+        assertEquals(COUNT - 1, StreamedEntity.count("name like ?1", "%-updated"));
+    }
+
+    @Test
+    @ActivateRequestContext
+    void testProjectionStream() {
+        try (Stream<?> names = StreamedEntity.find("select name from StreamedEntity order by id").stream(FETCH_SIZE)) {
+            assertEquals(COUNT, names.count());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.stream;
+
+import jakarta.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class StreamedEntity extends PanacheEntity {
+    public String name;
+}
@@ -167,6 +167,23 @@
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switch the query to keyset pagination: only the entities located after the given key in the sort order are returned.
+     * Unlike a page index, which makes the database read and skip all the preceding rows, the key is turned into a
+     * <code>WHERE</code> predicate on the sort columns, so deep pages are as fast as the first one.
+     * <p>
+     * The query must be sorted, with a {@link io.quarkus.panache.common.Sort} whose columns identify the entities uniquely
+     * (for example by adding the identifier as the last column), and the key contains the values of these columns for the
+     * last entity of the previous page. If a page is set, its size limits the number of results but its index is ignored.
+     * The {@link #count()} of the query is not affected by the key.
+     *
+     * @param lastKey the values of the sort columns for the last entity of the previous page, in the sort order
+     * @return this query, modified
+     * @throws PanacheQueryException if the query is not sorted, uses null precedences, or if the number of values does not
+     *         match the number of sort columns
+     */
+    public <T extends Entity> PanacheQuery<T> afterKey(Object... lastKey);
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -262,6 +279,21 @@
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream}, suited to the processing of large results.
+     * <p>
+     * The results are read with a database cursor, fetching <code>fetchSize</code> rows at a time, and the session is
+     * flushed and cleared every <code>fetchSize</code> results, so that the entities which have been processed can be
+     * garbage collected. As a consequence, the entities returned by the stream, and any other entity previously loaded
+     * in the session, are detached once the next batch is read.
+     * The stream must be closed once consumed.
+     *
+     * @param fetchSize the number of rows fetched at a time, and the number of results after which the session is cleared
+     * @return the current page of results as a {@link Stream}.
+     * @see #stream()
+     */
+    public <T extends Entity> Stream<T> stream(int fetchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
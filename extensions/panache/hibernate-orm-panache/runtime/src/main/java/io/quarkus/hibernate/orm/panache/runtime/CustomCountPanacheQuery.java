@@ -13,7 +13,7 @@
 
     public CustomCountPanacheQuery(EntityManager em, Query jpaQuery, String customCountQuery,
             Object paramsArrayOrMap) {
-        super(new CommonPanacheQueryImpl<>(em, castQuery(jpaQuery).getQueryString(), null, null, paramsArrayOrMap) {
+        super(new CommonPanacheQueryImpl<>(em, castQuery(jpaQuery).getQueryString(), null, (String) null, paramsArrayOrMap) {
             {
                 this.countQuery = customCountQuery;
             }
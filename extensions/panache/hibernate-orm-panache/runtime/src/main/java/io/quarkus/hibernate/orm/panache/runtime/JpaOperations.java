@@ -6,6 +6,7 @@
 import jakarta.persistence.EntityManager;
 
 import io.quarkus.hibernate.orm.panache.common.runtime.AbstractJpaOperations;
+import io.quarkus.panache.common.Sort;
 
 public class JpaOperations extends AbstractJpaOperations<PanacheQueryImpl<?>> {
     /**
@@ -19,6 +20,12 @@ protected PanacheQueryImpl<?> createPanacheQuery(EntityManager em, String query,
         return new PanacheQueryImpl<>(em, query, originalQuery, orderBy, paramsArrayOrMap);
     }
 
+    @Override
+    protected PanacheQueryImpl<?> createSortedPanacheQuery(EntityManager em, String query, String originalQuery, Sort sort,
+            Object paramsArrayOrMap) {
+        return new PanacheQueryImpl<>(em, query, originalQuery, sort, paramsArrayOrMap);
+    }
+
     @Override
     public List<?> list(PanacheQueryImpl<?> query) {
         return query.list();
@@ -13,6 +13,7 @@
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
@@ -22,6 +23,10 @@
         this.delegate = new CommonPanacheQueryImpl<>(em, query, originalQuery, orderBy, paramsArrayOrMap);
     }
 
+    PanacheQueryImpl(EntityManager em, String query, String originalQuery, Sort sort, Object paramsArrayOrMap) {
+        this.delegate = new CommonPanacheQueryImpl<>(em, query, originalQuery, sort, paramsArrayOrMap);
+    }
+
     protected PanacheQueryImpl(CommonPanacheQueryImpl<Entity> delegate) {
         this.delegate = delegate;
     }
@@ -102,6 +107,13 @@ public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex) {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> afterKey(Object... lastKey) {
+        delegate.afterKey(lastKey);
+        return (PanacheQuery<T>) this;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> withLock(LockModeType lockModeType) {
@@ -154,6 +166,11 @@ public <T extends Entity> Stream<T> stream() {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Stream<T> stream(int fetchSize) {
+        return delegate.stream(fetchSize);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         return delegate.firstResult();
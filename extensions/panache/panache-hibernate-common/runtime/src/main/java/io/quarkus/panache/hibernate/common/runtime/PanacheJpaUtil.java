@@ -1,10 +1,12 @@
 package io.quarkus.panache.hibernate.common.runtime;
 
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.QueryStringCache.EntityQueryKey;
 
 public class PanacheJpaUtil {
 
@@ -17,7 +19,37 @@ public class PanacheJpaUtil {
     static final Pattern FROM_PATTERN = Pattern.compile("^\\s*FROM\\s+.*",
             Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
+    // caches of the generated queries, keyed by the Panache query
+    static final QueryStringCache COUNT_QUERIES = new QueryStringCache();
+    static final QueryStringCache ENTITY_FIND_QUERIES = new QueryStringCache();
+    static final QueryStringCache ENTITY_COUNT_QUERIES = new QueryStringCache();
+
+    private static final Function<String, String> COUNT_QUERY_GENERATOR = new Function<String, String>() {
+        @Override
+        public String apply(String query) {
+            return generateCountQuery(query);
+        }
+    };
+
+    private static final Function<EntityQueryKey, String> FIND_QUERY_GENERATOR = new Function<EntityQueryKey, String>() {
+        @Override
+        public String apply(EntityQueryKey key) {
+            return generateFindQuery(key.entityName, key.query, key.singleParam ? 1 : 0);
+        }
+    };
+
+    private static final Function<EntityQueryKey, String> ENTITY_COUNT_QUERY_GENERATOR = new Function<EntityQueryKey, String>() {
+        @Override
+        public String apply(EntityQueryKey key) {
+            return generateCountQuery(key.entityName, key.query, key.singleParam ? 1 : 0);
+        }
+    };
+
     public static String getCountQuery(String query) {
+        return COUNT_QUERIES.get(query, COUNT_QUERY_GENERATOR);
+    }
+
+    private static String generateCountQuery(String query) {
         // try to generate a good count query from the existing query
         Matcher selectMatcher = SELECT_PATTERN.matcher(query);
         String countQuery;
@@ -60,10 +92,17 @@ public static String createFindQuery(Class<?> entityClass, String query, int par
         if (query == null) {
             return "FROM " + getEntityName(entityClass);
         }
+        return ENTITY_FIND_QUERIES.get(new EntityQueryKey(entityClass, query, paramCount), FIND_QUERY_GENERATOR);
+    }
+
+    private static String generateFindQuery(String entityName, String query, int paramCount) {
+        if (query == null) {
+            return "FROM " + entityName;
+        }
 
         String trimmed = query.replace('\n', ' ').replace('\r', ' ').trim();
         if (trimmed.isEmpty()) {
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + entityName;
         }
 
         String trimmedLc = trimmed.toLowerCase();
@@ -71,12 +110,12 @@ public static String createFindQuery(Class<?> entityClass, String query, int par
             return query;
         }
         if (trimmedLc.startsWith("order by ")) {
-            return "FROM " + getEntityName(entityClass) + " " + query;
+            return "FROM " + entityName + " " + query;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "FROM " + entityName + " WHERE " + query;
     }
 
     public static boolean isNamedQuery(String query) {
@@ -87,12 +126,19 @@ public static boolean isNamedQuery(String query) {
     }
 
     public static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
-        if (query == null)
+        if (query == null) {
             return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+        }
+        return ENTITY_COUNT_QUERIES.get(new EntityQueryKey(entityClass, query, paramCount), ENTITY_COUNT_QUERY_GENERATOR);
+    }
+
+    private static String generateCountQuery(String entityName, String query, int paramCount) {
+        if (query == null)
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmed = query.trim();
         if (trimmed.isEmpty())
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
 
         String trimmedLc = trimmed.toLowerCase();
         if (trimmedLc.startsWith("from ")) {
@@ -100,12 +146,12 @@ public static String createCountQuery(Class<?> entityClass, String query, int pa
         }
         if (trimmedLc.startsWith("order by ")) {
             // ignore it
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            return "SELECT COUNT(*) FROM " + entityName;
         }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
             query += " = ?1";
         }
-        return "SELECT COUNT(*) FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "SELECT COUNT(*) FROM " + entityName + " WHERE " + query;
     }
 
     public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
@@ -192,6 +238,92 @@ public static String toOrderBy(Sort sort) {
         return sb.toString();
     }
 
+    /**
+     * Creates the predicate selecting the rows located after a key in the given sort order, e.g.
+     * <code>(`a` > ?1) OR (`a` = ?1 AND `b` < ?2)</code> for a sort on <code>a</code> ascending and <code>b</code>
+     * descending.
+     *
+     * @param sort the sort, must not use null precedences as null values cannot be compared
+     * @param parameters the parameter references to use for the values of the key, one per sort column
+     */
+    public static String toKeysetPredicate(Sort sort, String[] parameters) {
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new PanacheQueryException("Keyset pagination requires a query sorted with a Sort");
+        }
+        if (sort.getColumns().size() != parameters.length) {
+            throw new PanacheQueryException("Keyset pagination requires one key value per sort column, expected "
+                    + sort.getColumns().size() + " values but got " + parameters.length);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parameters.length; i++) {
+            if (i > 0) {
+                sb.append(" OR ");
+            }
+            sb.append('(');
+            for (int j = 0; j <= i; j++) {
+                Sort.Column column = sort.getColumns().get(j);
+                if (column.getNullPrecedence() != null) {
+                    throw new PanacheQueryException("Keyset pagination is not supported with null precedences");
+                }
+                if (j > 0) {
+                    sb.append(" AND ");
+                }
+                sb.append('`').append(unquoteColumnName(column)).append('`');
+                if (j < i) {
+                    sb.append(" = ");
+                } else {
+                    sb.append(column.getDirection() == Sort.Direction.Ascending ? " > " : " < ");
+                }
+                sb.append(parameters[j]);
+            }
+            sb.append(')');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Adds a predicate to the <code>WHERE</code> clause of an HQL query, or adds a <code>WHERE</code> clause if there is none.
+     *
+     * @throws PanacheQueryException if the query has a <code>GROUP BY</code>, <code>HAVING</code> or <code>ORDER BY</code>
+     *         clause
+     */
+    public static String addPredicate(String query, String predicate) {
+        int where = -1;
+        int depth = 0;
+        boolean quoted = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (quoted) {
+                continue;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && (i == 0 || Character.isWhitespace(query.charAt(i - 1)))) {
+                if (isKeyword(query, i, "where")) {
+                    where = i;
+                } else if (isKeyword(query, i, "group") || isKeyword(query, i, "having") || isKeyword(query, i, "order")) {
+                    throw new PanacheQueryException(
+                            "Keyset pagination is not supported for queries with a GROUP BY, HAVING or ORDER BY clause: "
+                                    + query);
+                }
+            }
+        }
+        if (where == -1) {
+            return query + " WHERE " + predicate;
+        }
+        // 5 is the length of "where"
+        return query.substring(0, where) + "WHERE (" + query.substring(where + 5).trim() + ") AND (" + predicate + ")";
+    }
+
+    private static boolean isKeyword(String query, int index, String keyword) {
+        int end = index + keyword.length();
+        return query.regionMatches(true, index, keyword, 0, keyword.length())
+                && (end == query.length() || Character.isWhitespace(query.charAt(end)) || query.charAt(end) == '(');
+    }
+
     private static String unquoteColumnName(Sort.Column column) {
         String columnName = column.getName();
         String unquotedColumnName;
@@ -0,0 +1,126 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of the HQL queries generated from Panache queries.
+ * <p>
+ * Applications use a limited set of query strings, so the generated queries are cached to avoid parsing the same strings on
+ * every call, and to hand the exact same HQL string to Hibernate. Once the cache is full, the least recently used quarter
+ * of the queries is evicted, so that applications building query strings dynamically neither make it grow without limit
+ * nor stop the queries they use the most from being cached.
+ * <p>
+ * The recency is approximate: a hit only records the number of insertions done so far, which does not require any
+ * locking nor any write to shared state other than the entry itself.
+ */
+final class QueryStringCache {
+
+    static final int MAX_SIZE = 2048;
+    static final int EVICTION_SIZE = MAX_SIZE / 4;
+
+    private final ConcurrentHashMap<Object, Entry> queries = new ConcurrentHashMap<>();
+    // incremented on each insertion, only written while holding the lock of this cache
+    private volatile long insertions;
+
+    <K> String get(K key, Function<K, String> generator) {
+        Entry entry = queries.get(key);
+        if (entry != null) {
+            long now = insertions;
+            if (entry.lastAccess != now) {
+                entry.lastAccess = now;
+            }
+            return entry.query;
+        }
+        String query = generator.apply(key);
+        synchronized (this) {
+            if (queries.size() >= MAX_SIZE) {
+                evict();
+            }
+            long now = insertions + 1;
+            insertions = now;
+            queries.putIfAbsent(key, new Entry(query, now));
+        }
+        return query;
+    }
+
+    private void evict() {
+        // the access times may change concurrently, so they are sorted from a snapshot
+        long[] accesses = new long[queries.size()];
+        int count = 0;
+        for (Entry entry : queries.values()) {
+            if (count == accesses.length) {
+                break;
+            }
+            accesses[count++] = entry.lastAccess;
+        }
+        if (count == 0) {
+            return;
+        }
+        Arrays.sort(accesses, 0, count);
+        long threshold = accesses[Math.min(EVICTION_SIZE, count) - 1];
+        Iterator<Entry> entries = queries.values().iterator();
+        while (entries.hasNext()) {
+            if (entries.next().lastAccess <= threshold) {
+                entries.remove();
+            }
+        }
+    }
+
+    int size() {
+        return queries.size();
+    }
+
+    void clear() {
+        queries.clear();
+    }
+
+    private static final class Entry {
+        final String query;
+        volatile long lastAccess;
+
+        Entry(String query, long lastAccess) {
+            this.query = query;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * The key of a query generated for an entity.
+     * The generated query only depends on the entity name, and on whether there is a single parameter or not.
+     * The entity class is not retained, so that the cache does not keep a reference to its class loader.
+     */
+    static final class EntityQueryKey {
+        final String entityName;
+        final String query;
+        final boolean singleParam;
+
+        EntityQueryKey(Class<?> entityClass, String query, int paramCount) {
+            this.entityName = PanacheJpaUtil.getEntityName(entityClass);
+            this.query = query;
+            this.singleParam = paramCount == 1;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            EntityQueryKey that = (EntityQueryKey) o;
+            return singleParam == that.singleParam && entityName.equals(that.entityName) && query.equals(that.query);
+        }
+
+        @Override
+        public int hashCode() {
+            // computed by hand, Objects.hash() would allocate a varargs array and box the boolean
+            int result = entityName.hashCode();
+            result = 31 * result + query.hashCode();
+            return 31 * result + (singleParam ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public class KeysetPredicateTest {
+
+    @Test
+    public void testKeysetPredicate() {
+        Assertions.assertEquals("(`name` > ?2)",
+                PanacheJpaUtil.toKeysetPredicate(Sort.by("name"), new String[] { "?2" }));
+        Assertions.assertEquals("(`name` > :k0) OR (`name` = :k0 AND `id` < :k1)",
+                PanacheJpaUtil.toKeysetPredicate(Sort.by("name").and("id", Sort.Direction.Descending),
+                        new String[] { ":k0", ":k1" }));
+    }
+
+    @Test
+    public void testInvalidKeysets() {
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.toKeysetPredicate(null, new String[] { "?1" }));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.toKeysetPredicate(Sort.by("name", "id"), new String[] { "?1" }));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.toKeysetPredicate(Sort.by("name", Sort.NullPrecedence.NULLS_FIRST),
+                        new String[] { "?1" }));
+    }
+
+    @Test
+    public void testAddPredicate() {
+        Assertions.assertEquals("FROM Bar WHERE id > ?1", PanacheJpaUtil.addPredicate("FROM Bar", "id > ?1"));
+        Assertions.assertEquals("FROM Bar WHERE (name = ?1 or name = ?2) AND (id > ?3)",
+                PanacheJpaUtil.addPredicate("FROM Bar WHERE name = ?1 or name = ?2", "id > ?3"));
+        Assertions.assertEquals("FROM Bar b WHERE (b.id in (select id from Foo where name = 'a where b')) AND (id > ?1)",
+                PanacheJpaUtil.addPredicate("FROM Bar b where b.id in (select id from Foo where name = 'a where b')",
+                        "id > ?1"));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.addPredicate("select name from Bar group by name", "id > ?1"));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.addPredicate("FROM Bar order by name", "id > ?1"));
+    }
+}
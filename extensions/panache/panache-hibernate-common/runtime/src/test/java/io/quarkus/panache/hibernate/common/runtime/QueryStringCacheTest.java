@@ -0,0 +1,86 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public class QueryStringCacheTest {
+
+    @Test
+    public void testGeneratedQueriesAreCached() {
+        String find = PanacheJpaUtil.createFindQuery(Bar.class, "name = ?1", 1);
+        Assertions.assertEquals("FROM " + Bar.class.getName() + " WHERE name = ?1", find);
+        Assertions.assertSame(find, PanacheJpaUtil.createFindQuery(Bar.class, "name = ?1", 1));
+
+        String count = PanacheJpaUtil.createCountQuery(Bar.class, "name = ?1", 1);
+        Assertions.assertEquals("SELECT COUNT(*) FROM " + Bar.class.getName() + " WHERE name = ?1", count);
+        Assertions.assertSame(count, PanacheJpaUtil.createCountQuery(Bar.class, "name = ?1", 1));
+
+        String selectCount = PanacheJpaUtil.getCountQuery("select foo from bar order by foo");
+        Assertions.assertEquals("SELECT COUNT(*) from bar", selectCount);
+        Assertions.assertSame(selectCount, PanacheJpaUtil.getCountQuery("select foo from bar order by foo"));
+    }
+
+    @Test
+    public void testSingleParameterShortcut() {
+        Assertions.assertEquals("FROM " + Bar.class.getName() + " WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(Bar.class, "name", 1));
+        Assertions.assertEquals("FROM " + Bar.class.getName() + " WHERE name",
+                PanacheJpaUtil.createFindQuery(Bar.class, "name", 2));
+        Assertions.assertEquals("SELECT COUNT(*) FROM " + Bar.class.getName() + " WHERE name = ?1",
+                PanacheJpaUtil.createCountQuery(Bar.class, "name", 1));
+        Assertions.assertEquals("FROM " + Foo.class.getName() + " WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(Foo.class, "name", 1));
+    }
+
+    @Test
+    public void testInvalidQueriesAreNotCached() {
+        String query = "select distinct foo, bar from bar";
+        Assertions.assertThrows(PanacheQueryException.class, () -> PanacheJpaUtil.getCountQuery(query));
+        Assertions.assertThrows(PanacheQueryException.class, () -> PanacheJpaUtil.getCountQuery(query));
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        QueryStringCache cache = new QueryStringCache();
+        Function<String, String> generator = q -> "SELECT COUNT(*) " + q;
+        String hot = cache.get("from foo", generator);
+        for (int i = 0; i < QueryStringCache.MAX_SIZE * 2; i++) {
+            String query = "from bar where id = " + i;
+            Assertions.assertEquals("SELECT COUNT(*) " + query, cache.get(query, generator));
+            Assertions.assertTrue(cache.size() <= QueryStringCache.MAX_SIZE);
+            // the query used all along is not evicted
+            Assertions.assertSame(hot, cache.get("from foo", generator));
+        }
+        // the queries are still cached once the cache got full
+        String last = "from bar where id = " + (QueryStringCache.MAX_SIZE * 2 - 1);
+        Assertions.assertSame(cache.get(last, generator), cache.get(last, generator));
+        // the least recently used ones were evicted
+        AtomicInteger generated = new AtomicInteger();
+        cache.get("from bar where id = 0", q -> {
+            generated.incrementAndGet();
+            return "SELECT COUNT(*) " + q;
+        });
+        Assertions.assertEquals(1, generated.get());
+    }
+
+    @Test
+    public void testEntityQueryKey() {
+        QueryStringCache.EntityQueryKey key = new QueryStringCache.EntityQueryKey(Bar.class, "name", 1);
+        Assertions.assertEquals(key, new QueryStringCache.EntityQueryKey(Bar.class, "name", 1));
+        Assertions.assertEquals(key.hashCode(), new QueryStringCache.EntityQueryKey(Bar.class, "name", 1).hashCode());
+        Assertions.assertNotEquals(key, new QueryStringCache.EntityQueryKey(Bar.class, "name", 2));
+        Assertions.assertNotEquals(key.hashCode(), new QueryStringCache.EntityQueryKey(Bar.class, "name", 2).hashCode());
+        Assertions.assertNotEquals(key, new QueryStringCache.EntityQueryKey(Foo.class, "name", 1));
+    }
+
+    static class Foo {
+    }
+
+    static class Bar {
+    }
+}
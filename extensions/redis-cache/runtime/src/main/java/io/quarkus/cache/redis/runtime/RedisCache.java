@@ -1,5 +1,8 @@
 package io.quarkus.cache.redis.runtime;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -39,6 +42,18 @@ default <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
         return getAsync(key, type, valueLoader);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    default <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Class<V> type = (Class<V>) getDefaultValueType();
+        if (type == null) {
+            throw new UnsupportedOperationException("Cannot use `getAll` method without a default type configured. " +
+                    "Consider using the `getAll` method accepting the type or configure the default type for the cache " +
+                    getName());
+        }
+        return getAll(keys, type, bulkLoader);
+    }
+
     /**
      * Allows retrieving a value from the Redis cache.
      *
@@ -51,6 +66,19 @@ default <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
      */
     <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader);
 
+    /**
+     * Allows retrieving several values from the Redis cache with a single {@code MGET} command. The values of the missing
+     * keys are computed with a single {@code bulkLoader} call and stored using a single pipeline of {@code SET} commands.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param bulkLoader the values loader called with the keys which have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values, in the iteration order of the keys.
+     */
+    <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> bulkLoader);
+
     /**
      * Allows retrieving a value from the Redis cache.
      *
@@ -8,8 +8,13 @@
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
+import io.quarkus.cache.CacheManagerInfo.Context;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -27,11 +32,21 @@ public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig, RuntimeVa
         this.redisCacheConfigRV = redisCacheConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdown) {
+        return getCacheManagerSupplier(Context.Metrics.NONE, new NoOpMetricsInitializer(), shutdown);
+    }
+
+    public CacheManagerInfo getCacheManagerSupplierWithMicrometerMetrics(ShutdownContext shutdown) {
+        return getCacheManagerSupplier(Context.Metrics.MICROMETER, new MicrometerMetricsInitializer(), shutdown);
+    }
+
+    private CacheManagerInfo getCacheManagerSupplier(Context.Metrics metrics, MetricsInitializer metricsInitializer,
+            ShutdownContext shutdown) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
-                return context.cacheEnabled() && "redis".equals(context.cacheType()); // TODO: fix constant
+                return context.cacheEnabled() && "redis".equals(context.cacheType()) // TODO: fix constant
+                        && context.metrics() == metrics;
             }
 
             @Override
@@ -47,16 +62,32 @@ public CacheManager get() {
                         } else {
                             // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
                             Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                            List<RedisCacheImpl> nearCaches = new ArrayList<>();
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
-                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s]",
+                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s], [nearCache=%s]",
                                             cacheInfo.name, cacheInfo.expireAfterAccess, cacheInfo.prefix,
-                                            cacheInfo.valueType);
+                                            cacheInfo.valueType, cacheInfo.nearCache);
                                 }
 
-                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName);
+                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName,
+                                        metricsInitializer);
                                 caches.put(cacheInfo.name, cache);
+                                if (cacheInfo.nearCache) {
+                                    nearCaches.add(cache);
+                                }
+                            }
+                            if (!nearCaches.isEmpty()) {
+                                // Stop the subscriptions of the near caches, they would be retried otherwise
+                                shutdown.addShutdownTask(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        for (RedisCacheImpl cache : nearCaches) {
+                                            cache.close();
+                                        }
+                                    }
+                                });
                             }
                             return new CacheManagerImpl(caches);
                         }
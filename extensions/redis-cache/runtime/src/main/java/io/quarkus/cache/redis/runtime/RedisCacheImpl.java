@@ -3,21 +3,34 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
@@ -61,10 +74,20 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    /**
+     * The local tier, {@code null} if the near cache is disabled
+     */
+    private final RedisNearCache nearCache;
+    private final StatsCounter redisStatsCounter;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
+        this(cacheInfo, redisClientName, new NoOpMetricsInitializer());
+    }
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName, MetricsInitializer metricsInitializer) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
-                BlockingOperationControl::isBlockingAllowed);
+                BlockingOperationControl::isBlockingAllowed, metricsInitializer);
     }
 
     private static Redis determineRedisClient(Optional<String> redisClientName) {
@@ -77,6 +100,11 @@ private static Redis determineRedisClient(Optional<String> redisClientName) {
     }
 
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier) {
+        this(cacheInfo, vertx, redis, blockingAllowedSupplier, new NoOpMetricsInitializer());
+    }
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier,
+            MetricsInitializer metricsInitializer) {
         this.vertx = vertx;
         this.cacheInfo = cacheInfo;
         this.blockingAllowedSupplier = blockingAllowedSupplier;
@@ -100,6 +128,19 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+
+        if (cacheInfo.nearCache) {
+            this.nearCache = new RedisNearCache(cacheInfo, getName(), metricsInitializer);
+            this.nearCache.subscribe(vertx, redis, getKeyPattern());
+        } else {
+            this.nearCache = null;
+        }
+        if (nearCache != null && metricsInitializer.metricsEnabled() && cacheInfo.nearCacheMetricsEnabled) {
+            this.redisStatsCounter = new ConcurrentStatsCounter();
+            metricsInitializer.recordMetrics(redisStatsCounter, getName(), RedisNearCache.REDIS_TIER);
+        } else {
+            this.redisStatsCounter = StatsCounter.disabledStatsCounter();
+        }
     }
 
     private Class<?> loadClass(String type) throws ClassNotFoundException {
@@ -124,6 +165,20 @@ public Class<?> getDefaultValueType() {
         return classOfValue;
     }
 
+    // For testing purposes only.
+    RedisNearCache getNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * Closes the subscription connection of the near cache, if enabled.
+     */
+    void close() {
+        if (nearCache != null) {
+            nearCache.close();
+        }
+    }
+
     private <K> String encodeKey(K key) {
         return new String(marshaller.encode(key), StandardCharsets.UTF_8);
     }
@@ -153,7 +208,13 @@ public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
         // Without:
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V nearValue = getFromNearCache(actualKey);
+        if (nearValue != null) {
+            return Uni.createFrom().item(nearValue);
+        }
+        long nearCacheMark = markNearCache();
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
@@ -194,7 +255,7 @@ public Uni<?> apply(V value) {
                         }));
             }
         })
-
+                .onItem().invoke(new PutInNearCache<>(actualKey, nearCacheMark))
                 .onFailure(ConnectException.class).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
                     @Override
                     public Uni<? extends V> apply(Throwable e) {
@@ -206,7 +267,13 @@ public Uni<? extends V> apply(Throwable e) {
 
     @Override
     public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V nearValue = getFromNearCache(actualKey);
+        if (nearValue != null) {
+            return Uni.createFrom().item(nearValue);
+        }
+        long nearCacheMark = markNearCache();
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
@@ -232,12 +299,114 @@ public Uni<V> apply(RedisConnection connection) {
                         });
             }
         })
+                .onItem().invoke(new PutInNearCache<>(actualKey, nearCacheMark))
                 .onFailure(ConnectException.class).recoverWithUni(e -> {
                     log.warn("Unable to connect to Redis, recomputing cached value", e);
                     return valueLoader.apply(key);
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> bulkLoader) {
+        // values = deserialize(MGET K1 ... Kn)
+        // For the missing keys: computation.apply(missing keys), then a pipeline of SET Ki Vi PX ttl
+        Set<K> distinctKeys = new LinkedHashSet<>(keys);
+        Map<K, V> cached = new HashMap<>();
+        Map<K, String> actualKeys = new LinkedHashMap<>();
+        for (K key : distinctKeys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            String actualKey = computeActualKey(encodeKey(key));
+            V nearValue = getFromNearCache(actualKey);
+            if (nearValue != null) {
+                cached.put(key, nearValue);
+            } else {
+                actualKeys.put(key, actualKey);
+            }
+        }
+        if (actualKeys.isEmpty()) {
+            return Uni.createFrom().item(inKeysOrder(distinctKeys, cached, Collections.emptyMap()));
+        }
+        long nearCacheMark = markNearCache();
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        Request mget = Request.cmd(Command.MGET);
+        for (String actualKey : actualKeys.values()) {
+            mget.arg(marshaller.encode(actualKey));
+        }
+        return redis.send(mget)
+                .chain(new Function<Response, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(Response response) {
+                        Set<K> missingKeys = new LinkedHashSet<>();
+                        List<Request> writes = new ArrayList<>();
+                        int index = 0;
+                        for (Map.Entry<K, String> entry : actualKeys.entrySet()) {
+                            Response r = response.get(index++);
+                            recordRedisLookup(r);
+                            V value = marshaller.decode(clazz, r);
+                            if (value == null) {
+                                missingKeys.add(entry.getKey());
+                            } else {
+                                cached.put(entry.getKey(), value);
+                                if (nearCache != null) {
+                                    nearCache.put(entry.getValue(), value, nearCacheMark);
+                                }
+                                if (cacheInfo.expireAfterAccess.isPresent()) {
+                                    // MGET does not have a GETEX counterpart
+                                    writes.add(Request.cmd(Command.PEXPIRE).arg(marshaller.encode(entry.getValue()))
+                                            .arg(cacheInfo.expireAfterAccess.get().toMillis()));
+                                }
+                            }
+                        }
+                        if (missingKeys.isEmpty()) {
+                            return batch(writes).replaceWith(inKeysOrder(distinctKeys, cached, Collections.emptyMap()));
+                        }
+                        return computeValue(missingKeys, bulkLoader, isWorkerThread)
+                                .chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                                    @Override
+                                    public Uni<Map<K, V>> apply(Map<K, V> loaded) {
+                                        Map<K, V> values = loaded != null ? loaded : Collections.emptyMap();
+                                        for (K missingKey : missingKeys) {
+                                            V value = values.get(missingKey);
+                                            if (value != null) {
+                                                writes.add(setRequest(marshaller.encode(actualKeys.get(missingKey)),
+                                                        marshaller.encode(value)));
+                                            }
+                                        }
+                                        return batch(writes).replaceWith(inKeysOrder(distinctKeys, cached, values));
+                                    }
+                                });
+                    }
+                })
+                .onFailure(ConnectException.class).recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached values", e);
+                        return computeValue(distinctKeys, bulkLoader, isWorkerThread)
+                                .map(new Function<Map<K, V>, Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> apply(Map<K, V> loaded) {
+                                        return inKeysOrder(distinctKeys, Collections.emptyMap(),
+                                                loaded != null ? loaded : Collections.emptyMap());
+                                    }
+                                });
+                    }
+                });
+    }
+
+    private static <K, V> Map<K, V> inKeysOrder(Set<K> keys, Map<K, V> cached, Map<K, V> loaded) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = cached.get(key);
+            if (value == null) {
+                value = loaded.get(key);
+            }
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -245,14 +414,15 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         byte[] encodedValue = marshaller.encode(supplier.get());
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
                 return set(connection, encodedKey, encodedValue);
             }
-        });
+        }).onItem().invoke(new InvalidateInNearCache(actualKey));
     }
 
     private void enforceDefaultType() {
@@ -266,33 +436,48 @@ private void enforceDefaultType() {
     @Override
     public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
         enforceDefaultType();
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V nearValue = getFromNearCache(actualKey);
+        if (nearValue != null) {
+            return Uni.createFrom().item(nearValue);
+        }
+        long nearCacheMark = markNearCache();
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return (Uni<V>) doGet(redisConnection, encodedKey, classOfValue, marshaller);
             }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        }).onItem().invoke(new PutInNearCache<>(actualKey, nearCacheMark))
+                .onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
         enforceDefaultType();
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V nearValue = getFromNearCache(actualKey);
+        if (nearValue != null) {
+            return Uni.createFrom().item(nearValue);
+        }
+        long nearCacheMark = markNearCache();
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return (Uni<V>) doGet(redisConnection, encodedKey, classOfValue, marshaller);
             }
-        });
+        }).onItem().invoke(new PutInNearCache<>(actualKey, nearCacheMark));
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
-                .replaceWithVoid();
+                .replaceWithVoid()
+                .onItem().invoke(new InvalidateInNearCache(actualKey));
     }
 
     @Override
@@ -314,6 +499,9 @@ public Uni<?> apply(List<String> listOfKeys) {
                             if (predicate.test(userKey)) {
                                 hasAtLEastOneMatch = true;
                                 req.arg(marshaller.encode(key));
+                                if (nearCache != null) {
+                                    nearCache.invalidate(key);
+                                }
                             }
                         }
                         if (hasAtLEastOneMatch) {
@@ -382,6 +570,7 @@ private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Class<X> cl
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
+                            recordRedisLookup(r);
                             return marshaller.decode(clazz, r);
                         }
                     });
@@ -390,12 +579,49 @@ public X apply(Response r) {
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
+                            recordRedisLookup(r);
                             return marshaller.decode(clazz, r);
                         }
                     });
         }
     }
 
+    private void recordRedisLookup(Response response) {
+        if (response == null) {
+            redisStatsCounter.recordMisses(1);
+        } else {
+            redisStatsCounter.recordHits(1);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V getFromNearCache(String actualKey) {
+        if (nearCache == null) {
+            return null;
+        }
+        return (V) nearCache.get(actualKey);
+    }
+
+    private long markNearCache() {
+        return nearCache != null ? nearCache.mark() : 0L;
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
+        Request request = Request.cmd(Command.SET).arg(key).arg(value);
+        if (cacheInfo.expireAfterWrite.isPresent()) {
+            request = request.arg("PX").arg(cacheInfo.expireAfterWrite.get().toMillis());
+        }
+        return request;
+    }
+
+    private Uni<Void> batch(List<Request> requests) {
+        if (requests.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        // A single pipeline, the responses are only received once all the requests are written
+        return redis.batch(requests).replaceWithVoid();
+    }
+
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
@@ -453,6 +679,38 @@ public Uni<V> get() {
         }
     }
 
+    private class PutInNearCache<V> implements Consumer<V> {
+        private final String actualKey;
+        private final long mark;
+
+        public PutInNearCache(String actualKey, long mark) {
+            this.actualKey = actualKey;
+            this.mark = mark;
+        }
+
+        @Override
+        public void accept(V value) {
+            if (nearCache != null) {
+                nearCache.put(actualKey, value, mark);
+            }
+        }
+    }
+
+    private class InvalidateInNearCache implements Consumer<Void> {
+        private final String actualKey;
+
+        public InvalidateInNearCache(String actualKey) {
+            this.actualKey = actualKey;
+        }
+
+        @Override
+        public void accept(Void ignored) {
+            if (nearCache != null) {
+                nearCache.invalidate(actualKey);
+            }
+        }
+    }
+
     private static class AlwaysTruePredicate implements Predicate<Object> {
 
         public static AlwaysTruePredicate INSTANCE = new AlwaysTruePredicate();
@@ -42,4 +42,24 @@ public class RedisCacheInfo {
      * Locking</a> for details.
      */
     public boolean useOptimisticLocking = false;
+
+    /**
+     * Whether a local tier is kept in front of Redis
+     */
+    public boolean nearCache = false;
+
+    /**
+     * The maximum number of entries of the local tier
+     */
+    public long nearCacheMaximumSize = 10_000;
+
+    /**
+     * The time to live of the entries of the local tier
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * Whether the hits and misses of the local and Redis tiers are recorded
+     */
+    public boolean nearCacheMetricsEnabled = false;
 }
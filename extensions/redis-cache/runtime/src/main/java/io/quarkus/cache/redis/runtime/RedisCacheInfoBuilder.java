@@ -66,6 +66,33 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesBuild
                     cacheInfo.useOptimisticLocking = defaultRuntimeConfig.useOptimisticLocking.get();
                 }
 
+                RedisNearCacheConfig defaultNearCacheConfig = defaultRuntimeConfig.nearCache;
+                RedisNearCacheConfig namedNearCacheConfig = namedRuntimeConfig != null ? namedRuntimeConfig.nearCache : null;
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.enabled.isPresent()) {
+                    cacheInfo.nearCache = namedNearCacheConfig.enabled.get();
+                } else if (defaultNearCacheConfig.enabled.isPresent()) {
+                    cacheInfo.nearCache = defaultNearCacheConfig.enabled.get();
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.maximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedNearCacheConfig.maximumSize.get();
+                } else if (defaultNearCacheConfig.maximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultNearCacheConfig.maximumSize.get();
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.expireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedNearCacheConfig.expireAfterWrite;
+                } else if (defaultNearCacheConfig.expireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultNearCacheConfig.expireAfterWrite;
+                }
+
+                if (namedNearCacheConfig != null && namedNearCacheConfig.metricsEnabled.isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = namedNearCacheConfig.metricsEnabled.get();
+                } else if (defaultNearCacheConfig.metricsEnabled.isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = defaultNearCacheConfig.metricsEnabled.get();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
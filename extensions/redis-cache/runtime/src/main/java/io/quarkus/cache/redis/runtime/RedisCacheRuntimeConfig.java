@@ -47,4 +47,10 @@ public class RedisCacheRuntimeConfig {
     @ConfigItem
     public Optional<Boolean> useOptimisticLocking;
 
+    /**
+     * The local tier kept in front of Redis.
+     */
+    @ConfigItem
+    public RedisNearCacheConfig nearCache;
+
 }
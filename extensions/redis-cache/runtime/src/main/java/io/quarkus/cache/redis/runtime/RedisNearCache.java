@@ -0,0 +1,341 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * The local tier of a {@link RedisCacheImpl}: a bounded Caffeine cache holding the decoded values, keyed by their Redis
+ * key.
+ * <p>
+ * The entries are invalidated when Redis publishes a keyspace notification for their key. The local tier is bypassed
+ * until the subscription is confirmed, and again while the subscription connection is lost, so that a value which may
+ * have been changed in Redis is never served. The local tier is cleared each time it is enabled. It is not enabled if the
+ * Redis server is not configured to publish the required notifications.
+ */
+final class RedisNearCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCache.class);
+
+    static final String NEAR_TIER = "near";
+    static final String REDIS_TIER = "redis";
+
+    private static final String KEYSPACE_CHANNEL_PREFIX = "__keyspace@";
+    private static final String KEYSPACE_CHANNEL_SEPARATOR = "__:";
+    private static final String PMESSAGE = "pmessage";
+    // Only changes the time to live of the key, the value remains the same
+    private static final String EXPIRE_EVENT = "expire";
+    private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+    private static final String REQUIRED_KEYSPACE_EVENTS = "Kg$x";
+    private static final long MIN_RECONNECT_DELAY = 1000;
+    private static final long MAX_RECONNECT_DELAY = 30_000;
+
+    private final String cacheName;
+    private final Cache<Object, Object> cache;
+    private final boolean expireAfterWrite;
+    /**
+     * Incremented on each invalidation, see {@link #put(String, Object, long)}.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicReference<RedisConnection> connection = new AtomicReference<>();
+    private volatile boolean active;
+    private volatile boolean closed;
+    private volatile long reconnectDelay = MIN_RECONNECT_DELAY;
+    private Vertx vertx;
+    private Redis redis;
+    private String keyPattern;
+
+    RedisNearCache(RedisCacheInfo cacheInfo, String cacheName, MetricsInitializer metricsInitializer) {
+        this.cacheName = cacheName;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheInfo.nearCacheMaximumSize);
+        this.expireAfterWrite = cacheInfo.nearCacheExpireAfterWrite.isPresent();
+        if (expireAfterWrite) {
+            builder.expireAfterWrite(cacheInfo.nearCacheExpireAfterWrite.get());
+        }
+        boolean recordMetrics = metricsInitializer.metricsEnabled() && cacheInfo.nearCacheMetricsEnabled;
+        if (recordMetrics) {
+            builder.recordStats();
+        }
+        AsyncCache<Object, Object> asyncCache = builder.buildAsync();
+        if (recordMetrics) {
+            metricsInitializer.recordMetrics(asyncCache, cacheName, NEAR_TIER);
+        }
+        this.cache = asyncCache.synchronous();
+    }
+
+    /**
+     * Subscribes to the keyspace notifications of the keys matching the given pattern, using a dedicated connection.
+     * <p>
+     * If the connection cannot be established or is lost, the local tier is bypassed and cleared, and the subscription is
+     * retried with an exponential backoff until {@link #close()} is called.
+     */
+    void subscribe(Vertx vertx, Redis redis, String keyPattern) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.keyPattern = keyPattern;
+        connect();
+    }
+
+    /**
+     * Closes the subscription connection, the local tier is bypassed from now on.
+     */
+    void close() {
+        RedisConnection current;
+        synchronized (this) {
+            closed = true;
+            deactivate();
+            current = connection.getAndSet(null);
+        }
+        if (current != null) {
+            current.closeAndForget();
+        }
+    }
+
+    private void connect() {
+        if (closed) {
+            return;
+        }
+        redis.connect().subscribe().with(new Consumer<RedisConnection>() {
+            @Override
+            public void accept(RedisConnection connection) {
+                RedisNearCache.this.connection.set(connection);
+                if (closed) {
+                    close();
+                    return;
+                }
+                connection.handler(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response message) {
+                        onMessage(message);
+                    }
+                });
+                connection.exceptionHandler(new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        connectionLost(connection, failure);
+                    }
+                });
+                connection.endHandler(new Runnable() {
+                    @Override
+                    public void run() {
+                        connectionLost(connection, null);
+                    }
+                });
+                connection.send(Request.cmd(Command.PSUBSCRIBE)
+                        .arg(KEYSPACE_CHANNEL_PREFIX + "*" + KEYSPACE_CHANNEL_SEPARATOR + keyPattern))
+                        .subscribe().with(new Consumer<Response>() {
+                            @Override
+                            public void accept(Response response) {
+                                checkKeyspaceEvents(connection);
+                            }
+                        }, new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable failure) {
+                                connectionLost(connection, failure);
+                            }
+                        });
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                if (closed) {
+                    return;
+                }
+                if (reconnectDelay == MIN_RECONNECT_DELAY) {
+                    log.warnf(failure, "Unable to connect to Redis to receive the keyspace notifications of cache [%s], "
+                            + "its near cache is disabled until the subscription succeeds", cacheName);
+                } else {
+                    log.debugf(failure, "Unable to connect to Redis to receive the keyspace notifications of cache [%s]",
+                            cacheName);
+                }
+                scheduleReconnect();
+            }
+        });
+    }
+
+    /**
+     * PSUBSCRIBE succeeds even if Redis does not publish the notifications, the local tier would never be invalidated.
+     */
+    private void checkKeyspaceEvents(RedisConnection subscribed) {
+        redis.send(Request.cmd(Command.CONFIG).arg("GET").arg(NOTIFY_KEYSPACE_EVENTS)).subscribe().with(
+                new Consumer<Response>() {
+                    @Override
+                    public void accept(Response response) {
+                        Response value = response != null ? response.get(NOTIFY_KEYSPACE_EVENTS) : null;
+                        String flags = value != null ? value.toString() : "";
+                        if (hasRequiredKeyspaceEvents(flags)) {
+                            activate(subscribed);
+                        } else {
+                            log.warnf("The %s of the Redis server is set to [%s], it must include %s: the near cache of "
+                                    + "cache [%s] is disabled", NOTIFY_KEYSPACE_EVENTS, flags, REQUIRED_KEYSPACE_EVENTS,
+                                    cacheName);
+                            disable(subscribed);
+                        }
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        // The CONFIG command may be disabled on a managed Redis server
+                        if (expireAfterWrite) {
+                            log.warnf(failure, "Unable to check the %s of the Redis server, the entries of the near cache "
+                                    + "of cache [%s] may be stale until they expire", NOTIFY_KEYSPACE_EVENTS, cacheName);
+                            activate(subscribed);
+                        } else {
+                            log.warnf(failure, "Unable to check the %s of the Redis server, the near cache of cache [%s] "
+                                    + "is disabled unless its expire-after-write is configured", NOTIFY_KEYSPACE_EVENTS,
+                                    cacheName);
+                            disable(subscribed);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * @return {@code true} if the given {@code notify-keyspace-events} flags include {@code Kg$x}, {@code A} being an
+     *         alias for all the event classes
+     */
+    static boolean hasRequiredKeyspaceEvents(String flags) {
+        if (flags.indexOf('K') < 0) {
+            return false;
+        }
+        return flags.indexOf('A') >= 0
+                || (flags.indexOf('g') >= 0 && flags.indexOf('$') >= 0 && flags.indexOf('x') >= 0);
+    }
+
+    private void disable(RedisConnection subscribed) {
+        synchronized (this) {
+            if (!connection.compareAndSet(subscribed, null)) {
+                return;
+            }
+        }
+        // Not restored, the end handler is a no-op
+        subscribed.closeAndForget();
+    }
+
+    private void connectionLost(RedisConnection lost, Throwable failure) {
+        synchronized (this) {
+            // The exception and end handlers may both be called for the same connection
+            if (!connection.compareAndSet(lost, null)) {
+                return;
+            }
+            deactivate();
+        }
+        lost.closeAndForget();
+        if (closed) {
+            return;
+        }
+        if (failure != null) {
+            log.warnf(failure, "The keyspace notifications of cache [%s] cannot be received, "
+                    + "its near cache is disabled until the subscription is restored", cacheName);
+        } else {
+            log.warnf("The keyspace notifications connection of cache [%s] was closed, "
+                    + "its near cache is disabled until the subscription is restored", cacheName);
+        }
+        scheduleReconnect();
+    }
+
+    private void scheduleReconnect() {
+        long delay = reconnectDelay;
+        reconnectDelay = Math.min(delay * 2, MAX_RECONNECT_DELAY);
+        log.debugf("Subscribing to the keyspace notifications of cache [%s] in %s ms", cacheName, delay);
+        vertx.setTimer(delay, new Consumer<Long>() {
+            @Override
+            public void accept(Long timerId) {
+                connect();
+            }
+        });
+    }
+
+    /**
+     * @return the locally cached value of the given key, or {@code null}
+     */
+    Object get(String redisKey) {
+        if (!active) {
+            return null;
+        }
+        return cache.getIfPresent(redisKey);
+    }
+
+    /**
+     * Must be called before a value is read from Redis, and its result passed to {@link #put(String, Object, long)}.
+     */
+    long mark() {
+        return invalidations.get();
+    }
+
+    /**
+     * Stores a value read from Redis, unless an invalidation happened since the given {@link #mark()}, as the value may
+     * be stale in that case.
+     */
+    void put(String redisKey, Object value, long mark) {
+        if (!active || value == null) {
+            return;
+        }
+        cache.put(redisKey, value);
+        // Checked after the put, so that an invalidation concurrent with the put is not missed
+        if (invalidations.get() != mark) {
+            cache.invalidate(redisKey);
+        }
+    }
+
+    void invalidate(String redisKey) {
+        invalidations.incrementAndGet();
+        cache.invalidate(redisKey);
+    }
+
+    void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    private void onMessage(Response message) {
+        // [pmessage, pattern, __keyspace@<db>__:<key>, <event>]
+        if (message.size() != 4 || !PMESSAGE.equals(message.get(0).toString())) {
+            return;
+        }
+        if (EXPIRE_EVENT.equals(message.get(3).toString())) {
+            return;
+        }
+        String channel = message.get(2).toString();
+        int separator = channel.indexOf(KEYSPACE_CHANNEL_SEPARATOR, KEYSPACE_CHANNEL_PREFIX.length());
+        if (separator < 0) {
+            return;
+        }
+        invalidate(channel.substring(separator + KEYSPACE_CHANNEL_SEPARATOR.length()));
+    }
+
+    private synchronized void activate(RedisConnection subscribed) {
+        if (connection.get() != subscribed) {
+            // Lost or closed in the meantime
+            return;
+        }
+        reconnectDelay = MIN_RECONNECT_DELAY;
+        // Void the marks taken while the local tier was bypassed
+        invalidateAll();
+        active = true;
+        log.debugf("Near cache of cache [%s] enabled", cacheName);
+    }
+
+    private void deactivate() {
+        active = false;
+        invalidateAll();
+    }
+}
@@ -0,0 +1,42 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class RedisNearCacheConfig {
+
+    /**
+     * Whether a local in-memory tier should be kept in front of Redis.
+     * The local entries are invalidated using Redis keyspace notifications, so the Redis server must be configured with
+     * {@code notify-keyspace-events} including at least {@code Kg$x} (and {@code e} if entries can be evicted).
+     * Default is {@code false}.
+     */
+    @ConfigItem
+    public Optional<Boolean> enabled;
+
+    /**
+     * The maximum number of entries the local tier may contain.
+     * Default is {@code 10000}.
+     */
+    @ConfigItem
+    public Optional<Long> maximumSize;
+
+    /**
+     * Specifies that each entry should be automatically removed from the local tier once a fixed duration has elapsed
+     * after the entry's creation. It bounds the staleness of the local entries if a keyspace notification is lost.
+     */
+    @ConfigItem
+    public Optional<Duration> expireAfterWrite;
+
+    /**
+     * Whether the hits and misses of the local and Redis tiers should be recorded, if the application depends on a
+     * quarkus-micrometer-registry-* extension.
+     * Default is {@code false}.
+     */
+    @ConfigItem
+    public Optional<Boolean> metricsEnabled;
+}
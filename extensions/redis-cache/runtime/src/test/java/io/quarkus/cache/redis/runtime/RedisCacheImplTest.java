@@ -6,7 +6,11 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -533,6 +537,110 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    public void testGetAll() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "bulk";
+        info.valueType = String.class.getName();
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        assertThat(cache.get("a", s -> "cached-a").await().indefinitely()).isEqualTo("cached-a");
+
+        List<Set<String>> loaderInvocations = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(List.of("c", "a", "b"), keys -> {
+            loaderInvocations.add(keys);
+            Map<String, String> result = new HashMap<>();
+            for (String key : keys) {
+                if (!key.equals("b")) {
+                    result.put(key, "loaded-" + key);
+                }
+            }
+            return result;
+        }).await().indefinitely();
+        assertThat(values).containsExactly(Map.entry("c", "loaded-c"), Map.entry("a", "cached-a"));
+        assertThat(loaderInvocations).containsExactly(Set.of("c", "b"));
+        assertThatTheKeyDoesExist("cache:bulk:c");
+        assertThatTheKeyDoesNotExist("cache:bulk:b");
+        var ttl = redis.send(Request.cmd(Command.PTTL).arg("cache:bulk:c")).await().indefinitely();
+        assertThat(ttl.toLong()).isPositive();
+
+        assertThat(cache.<String, String> getAll(List.of("a", "c"), keys -> {
+            throw new IllegalStateException("Should not be called");
+        }).await().indefinitely()).containsExactly(Map.entry("a", "cached-a"), Map.entry("c", "loaded-c"));
+    }
+
+    @Test
+    public void testNearCache() {
+        redis.send(Request.cmd(Command.CONFIG).arg("SET").arg("notify-keyspace-events").arg("Kg$x"))
+                .await().indefinitely();
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class.getName();
+        info.nearCache = true;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        RedisNearCache nearCache = cache.getNearCache();
+        await().until(nearCache::isActive);
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        // The keyspace notification of the SET may be received after the first read, read until the value is kept
+        await().untilAsserted(() -> {
+            assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+            assertThat(nearCache.get("cache:near:" + k)).isEqualTo("hello");
+        });
+
+        // Updated by another client
+        redis.send(Request.cmd(Command.SET).arg("cache:near:" + k).arg("world")).await().indefinitely();
+        await().untilAsserted(() -> assertThat(nearCache.get("cache:near:" + k)).isNull());
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("world");
+
+        cache.invalidate(k).await().indefinitely();
+        assertThat(nearCache.get("cache:near:" + k)).isNull();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isNull();
+    }
+
+    @Test
+    public void testNearCacheSubscriptionIsRestored() {
+        redis.send(Request.cmd(Command.CONFIG).arg("SET").arg("notify-keyspace-events").arg("Kg$x"))
+                .await().indefinitely();
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class.getName();
+        info.nearCache = true;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        try {
+            RedisNearCache nearCache = cache.getNearCache();
+            await().until(nearCache::isActive);
+            assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+            await().untilAsserted(() -> {
+                assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+                assertThat(nearCache.get("cache:near:" + k)).isEqualTo("hello");
+            });
+
+            // The local tier is cleared when the subscription connection is lost
+            redis.send(Request.cmd(Command.CLIENT).arg("KILL").arg("TYPE").arg("pubsub")).await().indefinitely();
+            await().untilAsserted(() -> assertThat(nearCache.get("cache:near:" + k)).isNull());
+
+            // Then the subscription is restored
+            await().until(nearCache::isActive);
+            await().untilAsserted(() -> {
+                assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+                assertThat(nearCache.get("cache:near:" + k)).isEqualTo("hello");
+            });
+            redis.send(Request.cmd(Command.SET).arg("cache:near:" + k).arg("world")).await().indefinitely();
+            await().untilAsserted(() -> assertThat(nearCache.get("cache:near:" + k)).isNull());
+            assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("world");
+
+            // The local tier is bypassed once closed
+            cache.close();
+            assertThat(nearCache.isActive()).isFalse();
+            assertThat(nearCache.get("cache:near:" + k)).isNull();
+        } finally {
+            cache.close();
+        }
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
@@ -0,0 +1,260 @@
+package io.quarkus.cache.redis.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.impl.types.BulkType;
+import io.vertx.redis.client.impl.types.MultiType;
+import io.vertx.redis.client.impl.types.SimpleStringType;
+
+/**
+ * Tests the subscription of the near cache against an in-memory Redis client, see {@link RedisCacheImplTest} for the tests
+ * against a Redis server.
+ */
+class RedisNearCacheTest {
+
+    private static final String KEY = "cache:near:foo";
+
+    private Vertx vertx;
+
+    @BeforeEach
+    void init() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void cleanup() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void testRemoteWriteInvalidatesTheLocalEntry() {
+        FakeRedis redis = new FakeRedis("Kg$x");
+        RedisNearCache nearCache = subscribe(redis, Optional.empty());
+        await().until(nearCache::isActive);
+
+        nearCache.put(KEY, "bar", nearCache.mark());
+        assertThat(nearCache.get(KEY)).isEqualTo("bar");
+        // Another client writes the key
+        redis.connections.get(0).publish(KEY, "set");
+        assertThat(nearCache.get(KEY)).isNull();
+
+        // The expiration of the key does not change its value
+        nearCache.put(KEY, "baz", nearCache.mark());
+        redis.connections.get(0).publish(KEY, "expire");
+        assertThat(nearCache.get(KEY)).isEqualTo("baz");
+        nearCache.close();
+    }
+
+    @Test
+    void testMissingKeyspaceEventsDisableTheNearCache() {
+        FakeRedis redis = new FakeRedis("Ex");
+        RedisNearCache nearCache = subscribe(redis, Optional.empty());
+        await().until(() -> redis.connections.get(0).closed);
+
+        assertThat(nearCache.isActive()).isFalse();
+        nearCache.put(KEY, "bar", nearCache.mark());
+        assertThat(nearCache.get(KEY)).isNull();
+        assertThat(redis.connections).hasSize(1);
+    }
+
+    @Test
+    void testUnavailableConfigCommand() {
+        FakeRedis redis = new FakeRedis(null);
+        RedisNearCache nearCache = subscribe(redis, Optional.empty());
+        await().until(() -> redis.connections.get(0).closed);
+        assertThat(nearCache.isActive()).isFalse();
+
+        // Enabled if the staleness of the local entries is bounded
+        RedisNearCache expiringNearCache = subscribe(new FakeRedis(null), Optional.of(Duration.ofMinutes(1)));
+        await().until(expiringNearCache::isActive);
+        expiringNearCache.close();
+    }
+
+    @Test
+    void testSubscriptionIsRestored() {
+        FakeRedis redis = new FakeRedis("KA");
+        RedisNearCache nearCache = subscribe(redis, Optional.empty());
+        await().until(nearCache::isActive);
+        nearCache.put(KEY, "bar", nearCache.mark());
+
+        redis.connections.get(0).end();
+        assertThat(nearCache.isActive()).isFalse();
+        assertThat(nearCache.get(KEY)).isNull();
+
+        await().until(nearCache::isActive);
+        assertThat(redis.connections).hasSize(2);
+        // The entries cached before the connection was lost are gone
+        assertThat(nearCache.get(KEY)).isNull();
+        nearCache.put(KEY, "baz", nearCache.mark());
+        redis.connections.get(1).publish(KEY, "del");
+        assertThat(nearCache.get(KEY)).isNull();
+
+        nearCache.close();
+        assertThat(redis.connections.get(1).closed).isTrue();
+        assertThat(nearCache.isActive()).isFalse();
+    }
+
+    @Test
+    void testRequiredKeyspaceEvents() {
+        assertThat(RedisNearCache.hasRequiredKeyspaceEvents("Kg$x")).isTrue();
+        assertThat(RedisNearCache.hasRequiredKeyspaceEvents("xKE$g")).isTrue();
+        assertThat(RedisNearCache.hasRequiredKeyspaceEvents("AK")).isTrue();
+        assertThat(RedisNearCache.hasRequiredKeyspaceEvents("")).isFalse();
+        assertThat(RedisNearCache.hasRequiredKeyspaceEvents("EA")).isFalse();
+        assertThat(RedisNearCache.hasRequiredKeyspaceEvents("Kg$")).isFalse();
+    }
+
+    private RedisNearCache subscribe(FakeRedis redis, Optional<Duration> expireAfterWrite) {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.nearCache = true;
+        info.nearCacheExpireAfterWrite = expireAfterWrite;
+        RedisNearCache nearCache = new RedisNearCache(info, info.name, new NoOpMetricsInitializer());
+        nearCache.subscribe(vertx, io.vertx.mutiny.redis.client.Redis.newInstance(redis), "cache:near:*");
+        return nearCache;
+    }
+
+    private static Response bulk(String value) {
+        return BulkType.create(Buffer.buffer(value), false);
+    }
+
+    static final class FakeRedis implements Redis {
+
+        // Null if the CONFIG command is not available
+        private final String keyspaceEvents;
+        final List<FakeConnection> connections = new CopyOnWriteArrayList<>();
+
+        FakeRedis(String keyspaceEvents) {
+            this.keyspaceEvents = keyspaceEvents;
+        }
+
+        @Override
+        public Future<RedisConnection> connect() {
+            FakeConnection connection = new FakeConnection();
+            connections.add(connection);
+            return Future.succeededFuture(connection);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public Future<Response> send(Request command) {
+            if (command.command() != Command.CONFIG) {
+                return Future.failedFuture(new UnsupportedOperationException(command.toString()));
+            }
+            if (keyspaceEvents == null) {
+                return Future.failedFuture("ERR unknown command 'CONFIG'");
+            }
+            MultiType response = MultiType.create(2, false);
+            response.add(bulk("notify-keyspace-events"));
+            response.add(bulk(keyspaceEvents));
+            return Future.succeededFuture(response);
+        }
+
+        @Override
+        public Future<List<Response>> batch(List<Request> commands) {
+            return Future.failedFuture(new UnsupportedOperationException());
+        }
+    }
+
+    static final class FakeConnection implements RedisConnection {
+
+        private volatile Handler<Response> handler;
+        private volatile Handler<Void> endHandler;
+        volatile boolean closed;
+
+        void publish(String key, String event) {
+            MultiType message = MultiType.create(4, false);
+            message.add(bulk("pmessage"));
+            message.add(bulk("__keyspace@*__:cache:near:*"));
+            message.add(bulk("__keyspace@0__:" + key));
+            message.add(bulk(event));
+            handler.handle(message);
+        }
+
+        void end() {
+            closed = true;
+            endHandler.handle(null);
+        }
+
+        @Override
+        public RedisConnection exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public RedisConnection handler(Handler<Response> handler) {
+            this.handler = handler;
+            return this;
+        }
+
+        @Override
+        public RedisConnection pause() {
+            return this;
+        }
+
+        @Override
+        public RedisConnection resume() {
+            return this;
+        }
+
+        @Override
+        public RedisConnection fetch(long amount) {
+            return this;
+        }
+
+        @Override
+        public RedisConnection endHandler(Handler<Void> endHandler) {
+            this.endHandler = endHandler;
+            return this;
+        }
+
+        @Override
+        public Future<Response> send(Request command) {
+            if (command.command() != Command.PSUBSCRIBE) {
+                return Future.failedFuture(new UnsupportedOperationException(command.toString()));
+            }
+            return Future.succeededFuture(SimpleStringType.create("OK"));
+        }
+
+        @Override
+        public Future<List<Response>> batch(List<Request> commands) {
+            return Future.failedFuture(new UnsupportedOperationException());
+        }
+
+        @Override
+        public Future<Void> close() {
+            if (!closed) {
+                end();
+            }
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public boolean pendingQueueFull() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.quarkus.redis.datasource.codecs;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A {@link Codec} reading from and writing to Vert.x {@link Buffer buffers}.
+ * <p>
+ * When the codec of a type implements this interface, the Redis data source decodes the bulk responses directly from the
+ * buffer received from Redis, instead of copying it to a byte array first.
+ */
+public interface BufferCodec extends Codec {
+
+    /**
+     * Encodes the given object.
+     * The type of the given object matches the type used to call the {@link #canHandle(java.lang.reflect.Type)} method.
+     *
+     * @param item the item
+     * @return the encoded content
+     */
+    Buffer encodeToBuffer(Object item);
+
+    /**
+     * Decodes the given buffer to an object.
+     * The codec must return an instance of the type used to call the {@link #canHandle(java.lang.reflect.Type)} method.
+     * The buffer must not be modified, nor retained after this method returns.
+     *
+     * @param item the buffer
+     * @return the object
+     */
+    Object decode(Buffer item);
+
+    @Override
+    default byte[] encode(Object item) {
+        Buffer buffer = encodeToBuffer(item);
+        return buffer == null ? null : buffer.getBytes();
+    }
+
+    @Override
+    default Object decode(byte[] item) {
+        return decode(Buffer.buffer(item));
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.redis.datasource.codecs;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -11,6 +12,7 @@
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.jackson.DatabindCodec;
@@ -43,7 +45,7 @@ public static Codec getDefaultCodecFor(Type type) {
         return new JsonCodec(type);
     }
 
-    public static class JsonCodec implements Codec {
+    public static class JsonCodec implements BufferCodec {
         private final TypeReference<?> type;
         private final Class<?> clazz;
         private final ObjectMapper mapper;
@@ -74,6 +76,11 @@ public byte[] encode(Object item) {
             return Json.encodeToBuffer(item).getBytes();
         }
 
+        @Override
+        public Buffer encodeToBuffer(Object item) {
+            return Json.encodeToBuffer(item);
+        }
+
         @Override
         public Object decode(byte[] payload) {
             try {
@@ -86,9 +93,21 @@ public Object decode(byte[] payload) {
                 throw new RuntimeException(e);
             }
         }
+
+        @Override
+        public Object decode(Buffer payload) {
+            if (clazz != null) {
+                return Json.decodeValue(payload, clazz);
+            }
+            try {
+                return mapper.readValue((InputStream) new ByteBufInputStream(payload.getByteBuf()), type);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
     }
 
-    public static class StringCodec implements Codec {
+    public static class StringCodec implements BufferCodec {
 
         public static StringCodec INSTANCE = new StringCodec();
 
@@ -110,9 +129,19 @@ public byte[] encode(Object item) {
         public String decode(byte[] item) {
             return new String(item, StandardCharsets.UTF_8);
         }
+
+        @Override
+        public Buffer encodeToBuffer(Object item) {
+            return Buffer.buffer((String) item, "UTF-8");
+        }
+
+        @Override
+        public String decode(Buffer item) {
+            return item.toString(StandardCharsets.UTF_8);
+        }
     }
 
-    public static class DoubleCodec implements Codec {
+    public static class DoubleCodec implements BufferCodec {
 
         public static DoubleCodec INSTANCE = new DoubleCodec();
 
@@ -140,9 +169,25 @@ public Double decode(byte[] item) {
             }
             return Double.parseDouble(new String(item, StandardCharsets.UTF_8));
         }
+
+        @Override
+        public Buffer encodeToBuffer(Object item) {
+            if (item == null) {
+                return null;
+            }
+            return Buffer.buffer(Double.toString((double) item), "UTF-8");
+        }
+
+        @Override
+        public Double decode(Buffer item) {
+            if (item == null) {
+                return 0.0;
+            }
+            return Double.parseDouble(item.toString(StandardCharsets.UTF_8));
+        }
     }
 
-    public static class IntegerCodec implements Codec {
+    public static class IntegerCodec implements BufferCodec {
 
         public static IntegerCodec INSTANCE = new IntegerCodec();
 
@@ -170,6 +215,22 @@ public Integer decode(byte[] item) {
             }
             return Integer.parseInt(new String(item, StandardCharsets.UTF_8));
         }
+
+        @Override
+        public Buffer encodeToBuffer(Object item) {
+            if (item == null) {
+                return null;
+            }
+            return Buffer.buffer(Integer.toString((int) item), "UTF-8");
+        }
+
+        @Override
+        public Integer decode(Buffer item) {
+            if (item == null) {
+                return 0;
+            }
+            return Integer.parseInt(item.toString(StandardCharsets.UTF_8));
+        }
     }
 
     public static class ByteArrayCodec implements Codec {
@@ -0,0 +1,119 @@
+package io.quarkus.redis.datasource.codecs;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A codec decorating another codec and compressing the encoded content when it exceeds a given size.
+ * <p>
+ * The compression uses the JDK {@link Deflater}. The encoded content is prefixed with a single byte indicating whether the
+ * remaining bytes are compressed or not, so values stored before the threshold is reached, or changed, can still be
+ * decoded. Values written by this codec are not readable by the decorated codec directly.
+ */
+public class CompressingCodec implements Codec {
+
+    /**
+     * The default threshold, in bytes, above which the encoded content is compressed.
+     */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    static final byte RAW = 0;
+    static final byte DEFLATED = 1;
+
+    private final Codec delegate;
+    private final int threshold;
+
+    public CompressingCodec(Codec delegate) {
+        this(delegate, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param delegate the decorated codec
+     * @param threshold the size, in bytes, of the encoded content above which the content is compressed
+     */
+    public CompressingCodec(Codec delegate, int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("`threshold` must be positive");
+        }
+        this.delegate = delegate;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public boolean canHandle(Type clazz) {
+        return delegate.canHandle(clazz);
+    }
+
+    @Override
+    public byte[] encode(Object item) {
+        byte[] encoded = delegate.encode(item);
+        if (encoded == null) {
+            return null;
+        }
+        if (encoded.length <= threshold) {
+            return withHeader(RAW, encoded, encoded.length);
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(encoded);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length / 2 + 1);
+            out.write(DEFLATED);
+            byte[] chunk = new byte[Math.min(encoded.length, 8192)];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(chunk);
+                out.write(chunk, 0, count);
+            }
+            if (out.size() >= encoded.length + 1) {
+                // Not worth it
+                return withHeader(RAW, encoded, encoded.length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public Object decode(byte[] item) {
+        if (item == null || item.length == 0) {
+            return delegate.decode(item);
+        }
+        if (item[0] == RAW) {
+            byte[] content = new byte[item.length - 1];
+            System.arraycopy(item, 1, content, 0, content.length);
+            return delegate.decode(content);
+        }
+        if (item[0] != DEFLATED) {
+            throw new IllegalArgumentException("Unable to decode the payload, unknown compression marker: " + item[0]);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(item, 1, item.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(item.length * 2);
+            byte[] chunk = new byte[8192];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(chunk);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Unable to decode the payload, truncated compressed content");
+                }
+                out.write(chunk, 0, count);
+            }
+            return delegate.decode(out.toByteArray());
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Unable to decode the payload, invalid compressed content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] withHeader(byte marker, byte[] content, int length) {
+        byte[] result = new byte[length + 1];
+        result[0] = marker;
+        System.arraycopy(content, 0, result, 1, length);
+        return result;
+    }
+}
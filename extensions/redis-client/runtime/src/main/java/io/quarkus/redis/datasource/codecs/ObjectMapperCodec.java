@@ -0,0 +1,81 @@
+package io.quarkus.redis.datasource.codecs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A codec serializing a given type using a Jackson {@link ObjectMapper}.
+ * <p>
+ * It allows using a compact binary format, such as Smile or CBOR, by passing an {@link ObjectMapper} created with the
+ * corresponding {@code JsonFactory}, e.g. {@code new ObjectMapper(new SmileFactory())}. The codec must then be exposed as
+ * a CDI bean:
+ *
+ * <pre>
+ * &#64;Produces
+ * &#64;Singleton
+ * Codec personCodec() {
+ *     return new ObjectMapperCodec(Person.class, new ObjectMapper(new SmileFactory()));
+ * }
+ * </pre>
+ */
+public class ObjectMapperCodec implements BufferCodec {
+
+    private final Type type;
+    private final JavaType javaType;
+    private final ObjectMapper mapper;
+
+    /**
+     * @param type the type handled by this codec
+     * @param mapper the mapper, must not be modified once passed to this codec
+     */
+    public ObjectMapperCodec(Type type, ObjectMapper mapper) {
+        this.type = type;
+        this.javaType = mapper.constructType(type);
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean canHandle(Type clazz) {
+        return type.equals(clazz);
+    }
+
+    @Override
+    public byte[] encode(Object item) {
+        try {
+            return mapper.writerFor(javaType).writeValueAsBytes(item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Buffer encodeToBuffer(Object item) {
+        return Buffer.buffer(encode(item));
+    }
+
+    @Override
+    public Object decode(byte[] item) {
+        try {
+            return mapper.readValue(item, javaType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Object decode(Buffer item) {
+        try {
+            return mapper.readValue((InputStream) new ByteBufInputStream(item.getByteBuf()), javaType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.quarkus.redis.runtime.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * An implementation of the {@link Redis} interface coalescing the read commands sent from the same event loop during the
+ * same event loop task into a single pipelined write.
+ * <p>
+ * Only the commands known to be read-only and non-blocking are coalesced. As the Vert.x Redis client fails the whole
+ * batch when one of the commands fails, the commands of a failed batch are re-sent individually, which is safe as they do
+ * not have side effects. The other commands, the commands sent from a worker thread and the commands sent on a
+ * {@link RedisConnection} are not coalesced.
+ */
+public class AutoBatchingRedis implements Redis {
+
+    /**
+     * The commands that can be coalesced, i.e. read-only commands never blocking the connection.
+     */
+    static final Set<Command> BATCHABLE_COMMANDS = Set.of(
+            Command.GET, Command.MGET, Command.GETRANGE, Command.STRLEN, Command.GETBIT, Command.BITCOUNT,
+            Command.EXISTS, Command.TYPE, Command.TTL, Command.PTTL,
+            Command.HGET, Command.HMGET, Command.HGETALL, Command.HEXISTS, Command.HLEN, Command.HKEYS, Command.HVALS,
+            Command.HSTRLEN,
+            Command.LINDEX, Command.LLEN, Command.LRANGE, Command.LPOS,
+            Command.SCARD, Command.SISMEMBER, Command.SMISMEMBER, Command.SMEMBERS,
+            Command.ZCARD, Command.ZCOUNT, Command.ZSCORE, Command.ZMSCORE, Command.ZRANK, Command.ZREVRANK, Command.ZRANGE,
+            Command.PFCOUNT, Command.GEOPOS, Command.GEODIST, Command.XLEN, Command.XRANGE, Command.JSON_GET);
+
+    private final Redis redis;
+    private final int maxBatchSize;
+
+    /**
+     * @param redis the underlying client
+     * @param maxBatchSize the maximum number of commands written in a single batch
+     */
+    public AutoBatchingRedis(Redis redis, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("The maximum batch size must be greater than 0");
+        }
+        this.redis = redis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public Future<RedisConnection> connect() {
+        return redis.connect();
+    }
+
+    @Override
+    public void close() {
+        redis.close();
+    }
+
+    @Override
+    public Redis send(Request command, Handler<AsyncResult<@Nullable Response>> onSend) {
+        send(command).onComplete(onSend);
+        return this;
+    }
+
+    @Override
+    public Future<@Nullable Response> send(Request command) {
+        ContextInternal context = (ContextInternal) Vertx.currentContext();
+        if (context == null || !context.isEventLoopContext() || !BATCHABLE_COMMANDS.contains(command.command())) {
+            return redis.send(command);
+        }
+        Promise<Response> promise = context.promise();
+        batchFor(context).add(command, promise);
+        return promise.future();
+    }
+
+    @Override
+    public Redis batch(List<Request> commands, Handler<AsyncResult<List<@Nullable Response>>> onSend) {
+        batch(commands).onComplete(onSend);
+        return this;
+    }
+
+    @Override
+    public Future<List<@Nullable Response>> batch(List<Request> commands) {
+        return redis.batch(commands);
+    }
+
+    private Batch batchFor(ContextInternal context) {
+        // The batch is attached to the event loop context, so only accessed from the event loop thread
+        ContextInternal root = context.unwrap();
+        Batch batch = root.get(this);
+        if (batch == null) {
+            batch = new Batch(root);
+            root.put(this, batch);
+        }
+        return batch;
+    }
+
+    private final class Batch implements Handler<Void> {
+
+        private final ContextInternal context;
+        private List<Request> requests = new ArrayList<>();
+        private List<Promise<Response>> promises = new ArrayList<>();
+        private boolean scheduled;
+
+        private Batch(ContextInternal context) {
+            this.context = context;
+        }
+
+        void add(Request request, Promise<Response> promise) {
+            requests.add(request);
+            promises.add(promise);
+            if (requests.size() >= maxBatchSize) {
+                flush();
+            } else if (!scheduled) {
+                scheduled = true;
+                // Flush once the current event loop task completes
+                context.runOnContext(this);
+            }
+        }
+
+        @Override
+        public void handle(Void ignored) {
+            scheduled = false;
+            flush();
+        }
+
+        private void flush() {
+            if (requests.isEmpty()) {
+                return;
+            }
+            List<Request> sent = requests;
+            List<Promise<Response>> pending = promises;
+            requests = new ArrayList<>();
+            promises = new ArrayList<>();
+
+            if (sent.size() == 1) {
+                redis.send(sent.get(0)).onComplete(pending.get(0));
+                return;
+            }
+            redis.batch(sent).onComplete(ar -> {
+                if (ar.succeeded()) {
+                    List<Response> responses = ar.result();
+                    for (int i = 0; i < pending.size(); i++) {
+                        pending.get(i).complete(responses.get(i));
+                    }
+                } else {
+                    // The batch does not report the individual outcomes, retry the (side-effect free) commands one by one
+                    for (int i = 0; i < pending.size(); i++) {
+                        redis.send(sent.get(i)).onComplete(pending.get(i));
+                    }
+                }
+            });
+        }
+    }
+}
@@ -12,6 +12,8 @@
 import java.util.List;
 import java.util.Set;
 
+import org.jboss.logging.Logger;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableInstance;
@@ -37,6 +39,8 @@ public class VertxRedisClientFactory {
 
     public static final String DEFAULT_CLIENT = "<default>";
 
+    private static final Logger LOGGER = Logger.getLogger(VertxRedisClientFactory.class);
+
     private VertxRedisClientFactory() {
         // Avoid direct instantiation.
     }
@@ -94,7 +98,18 @@ public static Redis create(String name, Vertx vertx, RedisClientConfig config) {
 
         customize(name, options);
 
-        return Redis.createClient(vertx, options);
+        Redis redis = Redis.createClient(vertx, options);
+        if (config.autoBatching()) {
+            if (options.getType() == RedisClientType.CLUSTER) {
+                // The commands of a pipeline must target the same hash slot in a cluster, otherwise it fails with CROSSSLOT
+                LOGGER.warnf(
+                        "Auto-batching is not supported by the cluster client type, it is disabled for the Redis client %s",
+                        name);
+            } else {
+                return new AutoBatchingRedis(redis, config.autoBatchingMaxSize());
+            }
+        }
+        return redis;
     }
 
     private static void customize(String name, RedisOptions options) {
@@ -137,6 +137,25 @@ public interface RedisClientConfig {
     @WithDefault("true")
     boolean protocolNegotiation();
 
+    /**
+     * Whether the read commands (such as {@code GET} or {@code HGET}) sent from the same event loop, during the same
+     * event loop task, are coalesced and written to Redis as a single pipeline.
+     * <p>
+     * This reduces the number of writes and flushes when many concurrent requests each send a single command. It does not
+     * apply to the commands sent on a dedicated connection, such as in transactions.
+     * <p>
+     * Auto-batching is not supported when the client type is {@code cluster}: the commands of a pipeline would target
+     * different hash slots, which Redis rejects with a {@code CROSSSLOT} error. It is ignored for such clients.
+     */
+    @WithDefault("false")
+    boolean autoBatching();
+
+    /**
+     * The maximum number of commands coalesced in a single pipeline when {@code auto-batching} is enabled.
+     */
+    @WithDefault("64")
+    int autoBatchingMaxSize();
+
     /**
      * TCP config.
      */
@@ -168,6 +187,8 @@ default String toDebugString() {
                 ", reconnectAttempts=" + reconnectAttempts() +
                 ", reconnectInterval=" + reconnectInterval() +
                 ", protocolNegotiation=" + protocolNegotiation() +
+                ", autoBatching=" + autoBatching() +
+                ", autoBatchingMaxSize=" + autoBatchingMaxSize() +
                 ", tcp=" + tcp() +
                 ", tls=" + tls() +
                 '}';
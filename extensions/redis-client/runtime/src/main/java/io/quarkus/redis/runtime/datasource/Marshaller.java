@@ -18,8 +18,10 @@
 
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import io.quarkus.redis.datasource.codecs.BufferCodec;
 import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.codecs.Codecs;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.mutiny.redis.client.Response;
 import io.vertx.redis.client.ResponseType;
 
@@ -31,8 +33,19 @@ public class Marshaller {
 
     Map<Type, Codec> codecs = new ConcurrentHashMap<>();
 
+    /**
+     * The codecs of the types passed to the constructor, resolved once, as they are used for (almost) every call.
+     */
+    private final Type[] hintTypes;
+    private final Codec[] hintCodecs;
+
     public Marshaller(Type... hints) {
         addAll(hints);
+        this.hintTypes = hints.clone();
+        this.hintCodecs = new Codec[hints.length];
+        for (int i = 0; i < hints.length; i++) {
+            hintCodecs[i] = codecs.get(hints[i]);
+        }
     }
 
     public void addAll(Type... hints) {
@@ -70,6 +83,11 @@ public final <T> List<byte[]> encode(T... objects) {
     }
 
     Codec codec(Type clazz) {
+        for (int i = 0; i < hintTypes.length; i++) {
+            if (hintTypes[i] == clazz) {
+                return hintCodecs[i];
+            }
+        }
         Codec codec = codecs.get(clazz);
         if (codec == null) {
             codec = Codecs.getDefaultCodecFor(clazz);
@@ -85,9 +103,22 @@ public final <T> T decode(Type clazz, Response r) {
         if (r.type() == ResponseType.SIMPLE) {
             return decode(clazz, r.toString().getBytes());
         }
+        Codec codec = codec(clazz);
+        if (codec instanceof BufferCodec && r.type() == ResponseType.BULK) {
+            // Avoid copying the content of the response
+            return decode((BufferCodec) codec, r.getDelegate().toBuffer());
+        }
         return decode(clazz, r.toBytes());
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> T decode(BufferCodec codec, Buffer buffer) {
+        if (buffer == null) {
+            return null;
+        }
+        return (T) codec.decode(buffer);
+    }
+
     @SuppressWarnings("unchecked")
     public final <T> T decode(Type clazz, byte[] r) {
         if (r == null) {
@@ -0,0 +1,80 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.redis.datasource.codecs.BufferCodec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.datasource.codecs.CompressingCodec;
+import io.quarkus.redis.datasource.codecs.ObjectMapperCodec;
+import io.quarkus.redis.runtime.datasource.Marshaller;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.impl.types.BulkType;
+
+public class CodecsTest {
+
+    @Test
+    void testDefaultCodecsAreBufferCodecs() {
+        assertThat(Codecs.getDefaultCodecFor(String.class)).isInstanceOf(BufferCodec.class);
+        assertThat(Codecs.getDefaultCodecFor(Integer.class)).isInstanceOf(BufferCodec.class);
+        assertThat(Codecs.getDefaultCodecFor(Double.class)).isInstanceOf(BufferCodec.class);
+        assertThat(Codecs.getDefaultCodecFor(Person.class)).isInstanceOf(BufferCodec.class);
+    }
+
+    @Test
+    void testDecodingBulkResponses() {
+        Marshaller marshaller = new Marshaller(String.class, Person.class, Integer.class);
+        assertThat(marshaller.<String> decode(String.class, bulk("hello"))).isEqualTo("hello");
+        assertThat(marshaller.<Integer> decode(Integer.class, bulk("42"))).isEqualTo(42);
+        assertThat(marshaller.<Double> decode(Double.class, bulk("4.2"))).isEqualTo(4.2);
+        assertThat(marshaller.<Person> decode(Person.class, bulk("{\"firstname\":\"luke\",\"lastname\":\"skywalker\"}")))
+                .isEqualTo(Person.person1);
+        assertThat(marshaller.<List<Person>> decode(new TypeReference<List<Person>>() {
+        }.getType(), bulk("[{\"firstname\":\"luke\",\"lastname\":\"skywalker\"}]")))
+                .containsExactly(Person.person1);
+        assertThat(marshaller.<byte[]> decode(byte[].class, bulk("bytes")))
+                .isEqualTo("bytes".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testObjectMapperCodec() {
+        ObjectMapperCodec codec = new ObjectMapperCodec(Person.class, new ObjectMapper());
+        assertThat(codec.canHandle(Person.class)).isTrue();
+        assertThat(codec.canHandle(Place.class)).isFalse();
+
+        byte[] encoded = codec.encode(Person.person2);
+        assertThat(codec.decode(encoded)).isEqualTo(Person.person2);
+        assertThat(codec.decode(Buffer.buffer(encoded))).isEqualTo(Person.person2);
+    }
+
+    @Test
+    void testCompressingCodec() {
+        CompressingCodec codec = new CompressingCodec(Codecs.getDefaultCodecFor(String.class), 16);
+
+        byte[] small = codec.encode("small");
+        assertThat(small).hasSize("small".length() + 1);
+        assertThat(codec.decode(small)).isEqualTo("small");
+
+        String value = "a".repeat(10_000);
+        byte[] large = codec.encode(value);
+        assertThat(large.length).isLessThan(value.length() / 10);
+        assertThat(codec.decode(large)).isEqualTo(value);
+
+        CompressingCodec json = new CompressingCodec(Codecs.getDefaultCodecFor(Map.class), 0);
+        Map<String, String> map = Map.of("key", "value".repeat(100));
+        assertThat(json.decode(json.encode(map))).isEqualTo(map);
+    }
+
+    private static Response bulk(String content) {
+        return Response.newInstance(BulkType.create(Buffer.buffer(content), false));
+    }
+}
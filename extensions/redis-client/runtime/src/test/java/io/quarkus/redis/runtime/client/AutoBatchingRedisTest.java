@@ -0,0 +1,212 @@
+package io.quarkus.redis.runtime.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetSocket;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisOptions;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+class AutoBatchingRedisTest {
+
+    private Vertx vertx;
+    private RespServer server;
+    private Redis redis;
+
+    @BeforeEach
+    void init() throws Exception {
+        vertx = Vertx.vertx();
+        server = new RespServer();
+        int port = vertx.createNetServer().connectHandler(server::connected).listen(0)
+                .map(NetServer::actualPort)
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        redis = new AutoBatchingRedis(Redis.createClient(vertx, new RedisOptions()
+                .setConnectionString("redis://localhost:" + port)
+                .setProtocolNegotiation(false)), 64);
+    }
+
+    @AfterEach
+    void cleanup() throws Exception {
+        redis.close();
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testCommandsAreCoalesced() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            server.data.put("key-" + i, "value-" + i);
+        }
+
+        List<Response> responses = onEventLoop(() -> {
+            List<Future<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(redis.send(Request.cmd(Command.GET).arg("key-" + i)));
+            }
+            return CompositeFuture.all(new ArrayList<>(futures)).map(cf -> cf.<Response> list());
+        });
+
+        assertThat(responses).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(responses.get(i).toString()).isEqualTo("value-" + i);
+        }
+        assertThat(server.commands).hasValue(100);
+        // 100 commands with a max batch size of 64, so 2 writes (the reads may be split by the network stack)
+        assertThat(server.reads.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void testFailuresAreReportedIndividually() throws Exception {
+        server.data.put("a", "1");
+        server.data.put("b", "2");
+
+        List<String> outcomes = onEventLoop(() -> {
+            List<Future<String>> futures = new ArrayList<>();
+            for (String key : List.of("a", "wrong", "b")) {
+                futures.add(redis.send(Request.cmd(Command.GET).arg(key))
+                        .map(Response::toString)
+                        .otherwise(Throwable::getMessage));
+            }
+            return CompositeFuture.all(new ArrayList<>(futures)).map(cf -> cf.<String> list());
+        });
+
+        assertThat(outcomes).containsExactly("1", "WRONGTYPE not a string", "2");
+    }
+
+    @Test
+    void testWritesAreNotCoalesced() throws Exception {
+        List<Response> responses = onEventLoop(() -> CompositeFuture.all(
+                redis.send(Request.cmd(Command.SET).arg("k").arg("v")),
+                redis.send(Request.cmd(Command.SET).arg("l").arg("w"))).map(cf -> cf.<Response> list()));
+
+        assertThat(responses).extracting(Response::toString).containsExactly("OK", "OK");
+        assertThat(server.data).containsEntry("k", "v").containsEntry("l", "w");
+    }
+
+    private <T> T onEventLoop(Supplier<Future<T>> action) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        vertx.getOrCreateContext().runOnContext(x -> action.get().onComplete(ar -> {
+            if (ar.succeeded()) {
+                result.complete(ar.result());
+            } else {
+                result.completeExceptionally(ar.cause());
+            }
+        }));
+        return result.get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * A minimal RESP2 server supporting {@code PING}, {@code GET} and {@code SET}, counting the commands (except the
+     * {@code PING} sent when connecting) and the socket reads containing them.
+     */
+    private static class RespServer {
+
+        final Map<String, String> data = new ConcurrentHashMap<>();
+        final AtomicInteger commands = new AtomicInteger();
+        final AtomicInteger reads = new AtomicInteger();
+
+        void connected(NetSocket socket) {
+            Buffer[] pending = { Buffer.buffer() };
+            socket.handler(chunk -> {
+                pending[0].appendBuffer(chunk);
+                Buffer replies = Buffer.buffer();
+                int position = 0;
+                int executed = 0;
+                while (true) {
+                    List<String> command = new ArrayList<>();
+                    int end = parse(pending[0], position, command);
+                    if (end < 0) {
+                        break;
+                    }
+                    position = end;
+                    if (!command.get(0).equalsIgnoreCase("PING")) {
+                        executed++;
+                    }
+                    replies.appendString(execute(command));
+                }
+                if (executed > 0) {
+                    commands.addAndGet(executed);
+                    reads.incrementAndGet();
+                }
+                pending[0] = pending[0].getBuffer(position, pending[0].length());
+                socket.write(replies);
+            });
+        }
+
+        private String execute(List<String> command) {
+            switch (command.get(0).toUpperCase()) {
+                case "PING":
+                    return "+PONG\r\n";
+                case "GET":
+                    if (command.get(1).equals("wrong")) {
+                        return "-WRONGTYPE not a string\r\n";
+                    }
+                    String value = data.get(command.get(1));
+                    return value == null ? "$-1\r\n" : "$" + value.length() + "\r\n" + value + "\r\n";
+                case "SET":
+                    data.put(command.get(1), command.get(2));
+                    return "+OK\r\n";
+                default:
+                    return "-ERR unknown command\r\n";
+            }
+        }
+
+        /**
+         * Parses an array of bulk strings starting at the given position.
+         *
+         * @return the position after the command, or -1 if the command is incomplete
+         */
+        private static int parse(Buffer buffer, int position, List<String> command) {
+            int[] cursor = { position };
+            String header = line(buffer, cursor);
+            if (header == null) {
+                return -1;
+            }
+            int count = Integer.parseInt(header.substring(1));
+            for (int i = 0; i < count; i++) {
+                String length = line(buffer, cursor);
+                if (length == null) {
+                    return -1;
+                }
+                int size = Integer.parseInt(length.substring(1));
+                if (cursor[0] + size + 2 > buffer.length()) {
+                    return -1;
+                }
+                command.add(buffer.getString(cursor[0], cursor[0] + size, StandardCharsets.UTF_8.name()));
+                cursor[0] += size + 2;
+            }
+            return cursor[0];
+        }
+
+        private static String line(Buffer buffer, int[] cursor) {
+            for (int i = cursor[0]; i < buffer.length() - 1; i++) {
+                if (buffer.getByte(i) == '\r' && buffer.getByte(i + 1) == '\n') {
+                    String line = buffer.getString(cursor[0], i);
+                    cursor[0] = i + 2;
+                    return line;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -55,6 +55,15 @@ public interface ResteasyReactiveConfig {
     @Experimental("This flag has a high probability of going away in the future")
     boolean defaultProduces();
 
+    /**
+     * When enabled, path parameters are captured as offsets into the request path while the request is matched,
+     * and are only decoded when an endpoint actually reads them.
+     * <p>
+     * This avoids allocating the parameter values on endpoints that do not use all of their path parameters.
+     */
+    @WithDefault("false")
+    boolean lazyPathParams();
+
     /**
      * Whether annotations such `@IfBuildTimeProfile`, `@IfBuildTimeProperty` and friends will be taken
      * into account when used on JAX-RS classes.
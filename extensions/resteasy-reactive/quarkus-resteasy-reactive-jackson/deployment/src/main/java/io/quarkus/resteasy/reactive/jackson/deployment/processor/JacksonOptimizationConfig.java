@@ -0,0 +1,22 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "quarkus.resteasy-reactive.jackson.optimization")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface JacksonOptimizationConfig {
+
+    /**
+     * If enabled, Quarkus generates at build time the Jackson serializers and deserializers of the plain Java beans
+     * returned and accepted by the REST endpoints, which then access the properties without going through reflection.
+     * <p>
+     * The generated code is only used when the {@code ObjectMapper} would map the type exactly the same way, any
+     * customization of the type (Jackson annotations, mixins, naming strategy...) makes Jackson fall back to its default
+     * serializers.
+     */
+    @WithDefault("false")
+    boolean enableReflectionFreeSerializers();
+}
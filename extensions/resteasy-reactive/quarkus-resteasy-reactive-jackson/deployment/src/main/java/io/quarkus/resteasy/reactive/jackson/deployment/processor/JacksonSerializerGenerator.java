@@ -0,0 +1,541 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.Switch;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedDeserializer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializer;
+
+/**
+ * Generates the {@link GeneratedSerializer} and {@link GeneratedDeserializer} implementations of plain Java beans.
+ * <p>
+ * Only the properties Jackson discovers with its default configuration are handled (public getters, setters and fields),
+ * so the types using Jackson annotations are not supported.
+ */
+class JacksonSerializerGenerator {
+
+    static final String SERIALIZER_SUFFIX = "$quarkusjacksonserializer";
+    static final String DESERIALIZER_SUFFIX = "$quarkusjacksondeserializer";
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName RECORD = DotName.createSimple("java.lang.Record");
+    private static final String[] UNSUPPORTED_ANNOTATION_PREFIXES = { "com.fasterxml.jackson.", "java.beans.", "kotlin.",
+            "io.quarkus.resteasy.reactive.jackson." };
+    private static final int BRIDGE = 0x0040;
+
+    private static final MethodDescriptor SERIALIZER_CONSTRUCTOR = MethodDescriptor.ofConstructor(GeneratedSerializer.class,
+            Class.class, String[].class);
+    private static final MethodDescriptor DESERIALIZER_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            GeneratedDeserializer.class, Class.class, String[].class);
+    private static final MethodDescriptor WRITE_STRING = MethodDescriptor.ofMethod(JsonGenerator.class, "writeString",
+            void.class, String.class);
+    private static final MethodDescriptor WRITE_BOOLEAN = MethodDescriptor.ofMethod(JsonGenerator.class, "writeBoolean",
+            void.class, boolean.class);
+    private static final MethodDescriptor STRING_VALUE_OF_CHAR = MethodDescriptor.ofMethod(String.class, "valueOf",
+            String.class, char.class);
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final Map<DotName, Map<String, Property>> properties = new HashMap<>();
+
+    JacksonSerializerGenerator(IndexView index, ClassOutput classOutput) {
+        this.index = index;
+        this.classOutput = classOutput;
+    }
+
+    /**
+     * @return the name of the generated serializer, or {@code null} if the type is not supported
+     */
+    String generateSerializer(DotName type) {
+        List<Property> readable = new ArrayList<>();
+        for (Property property : properties(type).values()) {
+            if (property.isReadable()) {
+                readable.add(property);
+            }
+        }
+        if (readable.isEmpty()) {
+            return null;
+        }
+
+        String className = type.toString() + SERIALIZER_SUFFIX;
+        try (ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(className)
+                .superClass(GeneratedSerializer.class).build()) {
+            MethodCreator constructor = creator.getMethodCreator(MethodDescriptor.INIT, void.class);
+            constructor.invokeSpecialMethod(SERIALIZER_CONSTRUCTOR, constructor.getThis(),
+                    constructor.loadClass(type.toString()), propertyNames(constructor, readable));
+            constructor.returnValue(null);
+
+            MethodCreator writeProperty = creator.getMethodCreator("writeProperty", void.class, int.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class);
+            writeProperty.setModifiers(Modifier.PROTECTED);
+            writeProperty.addException(IOException.class);
+            ResultHandle bean = writeProperty.checkCast(writeProperty.getMethodParam(1), type.toString());
+            // the protected method must be invoked through the generated class
+            MethodDescriptor writeValue = MethodDescriptor.ofMethod(className, "writeValue", void.class, int.class,
+                    Object.class, Object.class, JsonGenerator.class, SerializerProvider.class);
+            // binary search on the index of the property to write
+            writePropertyValues(writeProperty, type, bean, readable, writeValue, 0, readable.size());
+            writeProperty.returnValue(null);
+        }
+        return className;
+    }
+
+    /**
+     * @return the name of the generated deserializer, or {@code null} if the type is not supported
+     */
+    String generateDeserializer(DotName type) {
+        Map<String, Property> beanProperties = properties(type);
+        if (beanProperties.isEmpty()) {
+            return null;
+        }
+        ClassInfo classInfo = index.getClassByName(type);
+        if (classInfo.isRecord()) {
+            return null;
+        }
+        MethodInfo noArgsConstructor = classInfo.method(MethodDescriptor.INIT);
+        if (noArgsConstructor == null || !Modifier.isPublic(noArgsConstructor.flags())) {
+            return null;
+        }
+        List<Property> writable = new ArrayList<>();
+        for (Property property : beanProperties.values()) {
+            if (property.overloadedSetter || (property.isReadable() && !property.isWritable())) {
+                // Jackson would pick one of the setters, or set the property in a way we can't
+                return null;
+            }
+            if (property.isWritable()) {
+                writable.add(property);
+            }
+        }
+        if (writable.isEmpty()) {
+            return null;
+        }
+
+        String className = type.toString() + DESERIALIZER_SUFFIX;
+        try (ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(className)
+                .superClass(GeneratedDeserializer.class).build()) {
+            MethodCreator constructor = creator.getMethodCreator(MethodDescriptor.INIT, void.class);
+            constructor.invokeSpecialMethod(DESERIALIZER_CONSTRUCTOR, constructor.getThis(),
+                    constructor.loadClass(type.toString()), propertyNames(constructor, writable));
+            constructor.returnValue(null);
+
+            MethodCreator newInstance = creator.getMethodCreator("newInstance", Object.class);
+            newInstance.setModifiers(Modifier.PROTECTED);
+            newInstance.returnValue(newInstance.newInstance(MethodDescriptor.ofConstructor(type.toString())));
+
+            MethodCreator readProperty = creator.getMethodCreator("readProperty", boolean.class, Object.class,
+                    String.class, JsonParser.class, DeserializationContext.class);
+            readProperty.setModifiers(Modifier.PROTECTED);
+            readProperty.addException(IOException.class);
+            ResultHandle bean = readProperty.checkCast(readProperty.getMethodParam(0), type.toString());
+            ResultHandle parser = readProperty.getMethodParam(2);
+            ResultHandle context = readProperty.getMethodParam(3);
+            // the protected method must be invoked through the generated class
+            MethodDescriptor readValue = MethodDescriptor.ofMethod(className, "readValue", Object.class, int.class,
+                    JsonParser.class, DeserializationContext.class);
+            Switch.StringSwitch nameSwitch = readProperty.stringSwitch(readProperty.getMethodParam(1));
+            for (int i = 0; i < writable.size(); i++) {
+                Property property = writable.get(i);
+                int propertyIndex = i;
+                nameSwitch.caseOf(property.name, bc -> {
+                    ResultHandle value = bc.invokeVirtualMethod(readValue, bc.getThis(), bc.load(propertyIndex), parser,
+                            context);
+                    setPropertyValue(bc, type, bean, property, value);
+                    bc.returnValue(bc.load(true));
+                });
+            }
+            readProperty.returnValue(readProperty.load(false));
+        }
+        return className;
+    }
+
+    /**
+     * Collects the types of the properties of the given type, which may in turn be handled by generated code.
+     */
+    void collectPropertyTypes(DotName type, boolean serialization, Set<DotName> result) {
+        for (Property property : properties(type).values()) {
+            if (serialization && property.isReadable()) {
+                collectTypeNames(property.readType(), result);
+            } else if (!serialization && property.isWritable()) {
+                collectTypeNames(property.writeType(), result);
+            }
+        }
+    }
+
+    /**
+     * Collects the names of the given type and of its type arguments, so that for instance the element type of a list
+     * is found.
+     */
+    static void collectTypeNames(Type type, Set<DotName> result) {
+        switch (type.kind()) {
+            case CLASS:
+                result.add(type.name());
+                break;
+            case PARAMETERIZED_TYPE:
+                result.add(type.name());
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    collectTypeNames(argument, result);
+                }
+                break;
+            case ARRAY:
+                collectTypeNames(type.asArrayType().constituent(), result);
+                break;
+            case WILDCARD_TYPE:
+                collectTypeNames(type.asWildcardType().extendsBound(), result);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private Map<String, Property> properties(DotName type) {
+        Map<String, Property> result = properties.get(type);
+        if (result == null) {
+            result = collectProperties(type);
+            properties.put(type, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return the properties of the given type in declaration order, or an empty map if the type is not a plain Java bean
+     */
+    private Map<String, Property> collectProperties(DotName type) {
+        ClassInfo classInfo = index.getClassByName(type);
+        if (classInfo == null || !isSupportedClass(classInfo)) {
+            return Map.of();
+        }
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        ClassInfo current = classInfo;
+        while (true) {
+            if (hasUnsupportedAnnotation(current)) {
+                return Map.of();
+            }
+            hierarchy.add(0, current);
+            DotName superName = current.superName();
+            if (superName == null || superName.equals(OBJECT) || superName.equals(RECORD)) {
+                break;
+            }
+            current = index.getClassByName(superName);
+            if (current == null) {
+                return Map.of();
+            }
+        }
+
+        Map<String, Property> result = new LinkedHashMap<>();
+        for (ClassInfo clazz : hierarchy) {
+            for (FieldInfo field : clazz.unsortedFields()) {
+                int flags = field.flags();
+                if (Modifier.isStatic(flags) || !Modifier.isPublic(flags) || Modifier.isTransient(flags)) {
+                    continue;
+                }
+                if (hasTypeVariable(field.type())) {
+                    return Map.of();
+                }
+                result.computeIfAbsent(field.name(), Property::new).field = field;
+            }
+            for (MethodInfo method : clazz.unsortedMethods()) {
+                int flags = method.flags();
+                if (Modifier.isStatic(flags) || !Modifier.isPublic(flags) || method.isSynthetic() || (flags & BRIDGE) != 0
+                        || method.isConstructor() || method.isStaticInitializer()) {
+                    continue;
+                }
+                String getterName = getterName(clazz, method);
+                if (getterName != null) {
+                    if (hasTypeVariable(method.returnType())) {
+                        return Map.of();
+                    }
+                    result.computeIfAbsent(getterName, Property::new).getter = method;
+                    continue;
+                }
+                String setterName = setterName(method);
+                if (setterName != null) {
+                    if (hasTypeVariable(method.parameterType(0))) {
+                        return Map.of();
+                    }
+                    Property property = result.computeIfAbsent(setterName, Property::new);
+                    if (property.setter != null
+                            && !property.setter.parameterType(0).name().equals(method.parameterType(0).name())) {
+                        property.overloadedSetter = true;
+                    }
+                    property.setter = method;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSupportedClass(ClassInfo classInfo) {
+        int flags = classInfo.flags();
+        return Modifier.isPublic(flags) && !Modifier.isAbstract(flags) && !Modifier.isInterface(flags)
+                && !classInfo.isEnum() && !classInfo.isAnnotation() && classInfo.typeParameters().isEmpty()
+                && (classInfo.nestingType() == ClassInfo.NestingType.TOP_LEVEL
+                        || classInfo.nestingType() == ClassInfo.NestingType.INNER);
+    }
+
+    private static boolean hasUnsupportedAnnotation(ClassInfo classInfo) {
+        for (AnnotationInstance annotation : classInfo.annotations()) {
+            String name = annotation.name().toString();
+            for (String prefix : UNSUPPORTED_ANNOTATION_PREFIXES) {
+                if (name.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasTypeVariable(Type type) {
+        switch (type.kind()) {
+            case TYPE_VARIABLE:
+            case UNRESOLVED_TYPE_VARIABLE:
+            case TYPE_VARIABLE_REFERENCE:
+                return true;
+            case PARAMETERIZED_TYPE:
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    if (hasTypeVariable(argument)) {
+                        return true;
+                    }
+                }
+                return false;
+            case ARRAY:
+                return hasTypeVariable(type.asArrayType().constituent());
+            case WILDCARD_TYPE:
+                Type superBound = type.asWildcardType().superBound();
+                return hasTypeVariable(type.asWildcardType().extendsBound())
+                        || (superBound != null && hasTypeVariable(superBound));
+            default:
+                return false;
+        }
+    }
+
+    private static String getterName(ClassInfo clazz, MethodInfo method) {
+        if (method.parametersCount() != 0 || method.returnType().kind() == Type.Kind.VOID) {
+            return null;
+        }
+        String name = method.name();
+        if (clazz.isRecord() && clazz.recordComponent(name) != null) {
+            return name;
+        }
+        if (name.startsWith("get") && name.length() > 3) {
+            return legacyManglePropertyName(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2 && method.returnType().kind() == Type.Kind.PRIMITIVE
+                && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+            return legacyManglePropertyName(name.substring(2));
+        }
+        return null;
+    }
+
+    private static String setterName(MethodInfo method) {
+        String name = method.name();
+        if (method.parametersCount() == 1 && name.startsWith("set") && name.length() > 3) {
+            return legacyManglePropertyName(name.substring(3));
+        }
+        return null;
+    }
+
+    /**
+     * Same as Jackson's {@code BeanUtil.legacyManglePropertyName()}, the leading upper case characters are lower cased.
+     */
+    private static String legacyManglePropertyName(String basename) {
+        StringBuilder sb = null;
+        for (int i = 0; i < basename.length(); i++) {
+            char upper = basename.charAt(i);
+            char lower = Character.toLowerCase(upper);
+            if (upper == lower) {
+                break;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(basename);
+            }
+            sb.setCharAt(i, lower);
+        }
+        return sb == null ? basename : sb.toString();
+    }
+
+    private static ResultHandle propertyNames(BytecodeCreator bc, List<Property> properties) {
+        ResultHandle names = bc.newArray(String.class, properties.size());
+        for (int i = 0; i < properties.size(); i++) {
+            bc.writeArrayValue(names, i, bc.load(properties.get(i).name));
+        }
+        return names;
+    }
+
+    private static void writePropertyValues(BytecodeCreator bc, DotName type, ResultHandle bean, List<Property> properties,
+            MethodDescriptor writeValue, int from, int to) {
+        if (to - from == 1) {
+            writePropertyValue(bc, type, bean, properties.get(from), writeValue);
+            bc.returnValue(null);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        BranchResult branch = bc.ifIntegerLessThan(bc.getMethodParam(0), bc.load(middle));
+        writePropertyValues(branch.trueBranch(), type, bean, properties, writeValue, from, middle);
+        writePropertyValues(branch.falseBranch(), type, bean, properties, writeValue, middle, to);
+    }
+
+    private static void writePropertyValue(BytecodeCreator bc, DotName type, ResultHandle bean, Property property,
+            MethodDescriptor writeValue) {
+        ResultHandle value;
+        if (property.getter != null) {
+            MethodDescriptor getter = MethodDescriptor.of(property.getter);
+            value = bc.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(type.toString(), getter.getName(), getter.getReturnType()), bean);
+        } else {
+            value = bc.readInstanceField(FieldDescriptor.of(type.toString(), property.field.name(),
+                    DescriptorUtils.typeToString(property.field.type())), bean);
+        }
+        ResultHandle generator = bc.getMethodParam(2);
+        String descriptor = DescriptorUtils.typeToString(property.readType());
+        switch (descriptor) {
+            case "Ljava/lang/String;":
+                bc.invokeVirtualMethod(WRITE_STRING, generator, value);
+                break;
+            case "Z":
+                bc.invokeVirtualMethod(WRITE_BOOLEAN, generator, value);
+                break;
+            case "C":
+                bc.invokeVirtualMethod(WRITE_STRING, generator, bc.invokeStaticMethod(STRING_VALUE_OF_CHAR, value));
+                break;
+            case "B":
+                // bytes are written as ints by Jackson
+                descriptor = "I";
+                // fall through
+            case "S":
+            case "I":
+            case "J":
+            case "F":
+            case "D":
+                bc.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(JsonGenerator.class.getName(), "writeNumber", "V", descriptor),
+                        generator, value);
+                break;
+            default:
+                // written by the serializer Jackson resolved for the property
+                bc.invokeVirtualMethod(writeValue, bc.getThis(), bc.getMethodParam(0), bean, value, generator,
+                        bc.getMethodParam(3));
+                break;
+        }
+    }
+
+    private static void setPropertyValue(BytecodeCreator bc, DotName type, ResultHandle bean, Property property,
+            ResultHandle value) {
+        Type propertyType = property.writeType();
+        ResultHandle converted;
+        if (propertyType.kind() == Type.Kind.PRIMITIVE) {
+            converted = unbox(bc, value, propertyType.asPrimitiveType().primitive());
+        } else {
+            converted = bc.checkCast(value, DescriptorUtils.typeToString(propertyType));
+        }
+        if (property.setter != null) {
+            MethodDescriptor setter = MethodDescriptor.of(property.setter);
+            bc.invokeVirtualMethod(MethodDescriptor.ofMethod(type.toString(), setter.getName(), setter.getReturnType(),
+                    setter.getParameterTypes()), bean, converted);
+        } else {
+            bc.writeInstanceField(FieldDescriptor.of(type.toString(), property.field.name(),
+                    DescriptorUtils.typeToString(property.field.type())), bean, converted);
+        }
+    }
+
+    private static ResultHandle unbox(BytecodeCreator bc, ResultHandle value, PrimitiveType.Primitive primitive) {
+        Class<?> wrapper;
+        Class<?> primitiveClass;
+        switch (primitive) {
+            case BOOLEAN:
+                wrapper = Boolean.class;
+                primitiveClass = boolean.class;
+                break;
+            case BYTE:
+                wrapper = Byte.class;
+                primitiveClass = byte.class;
+                break;
+            case SHORT:
+                wrapper = Short.class;
+                primitiveClass = short.class;
+                break;
+            case INT:
+                wrapper = Integer.class;
+                primitiveClass = int.class;
+                break;
+            case LONG:
+                wrapper = Long.class;
+                primitiveClass = long.class;
+                break;
+            case FLOAT:
+                wrapper = Float.class;
+                primitiveClass = float.class;
+                break;
+            case DOUBLE:
+                wrapper = Double.class;
+                primitiveClass = double.class;
+                break;
+            case CHAR:
+                wrapper = Character.class;
+                primitiveClass = char.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown primitive type " + primitive);
+        }
+        return bc.invokeVirtualMethod(MethodDescriptor.ofMethod(wrapper, primitiveClass.getName() + "Value", primitiveClass),
+                bc.checkCast(value, wrapper));
+    }
+
+    private static final class Property {
+
+        final String name;
+        MethodInfo getter;
+        MethodInfo setter;
+        FieldInfo field;
+        boolean overloadedSetter;
+
+        Property(String name) {
+            this.name = name;
+        }
+
+        boolean isReadable() {
+            return getter != null || field != null;
+        }
+
+        boolean isWritable() {
+            return setter != null || (field != null && !Modifier.isFinal(field.flags()));
+        }
+
+        Type readType() {
+            return getter != null ? getter.returnType() : field.type();
+        }
+
+        Type writeType() {
+            return setter != null ? setter.parameterType(0) : field.type();
+        }
+    }
+}
@@ -4,8 +4,10 @@
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_NDJSON;
 import static org.jboss.resteasy.reactive.common.util.RestMediaType.APPLICATION_STREAM_JSON;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -29,6 +31,8 @@
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.model.MethodParameter;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
 import org.jboss.resteasy.reactive.server.util.MethodId;
@@ -44,6 +48,7 @@
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
@@ -51,6 +56,7 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
@@ -70,6 +76,7 @@
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.BasicServerJacksonMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.FullyFeaturedServerJacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.FullyFeaturedServerJacksonMessageBodyWriter;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializersCustomizer;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ServerJacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyWriter;
@@ -323,6 +330,83 @@ void handleJsonAnnotations(Optional<ResourceScanningResultBuildItem> resourceSca
         }
     }
 
+    @BuildStep
+    void reflectionFreeSerializersBean(JacksonOptimizationConfig optimization,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (optimization.enableReflectionFreeSerializers()) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(GeneratedSerializersCustomizer.class));
+        }
+    }
+
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    void generateReflectionFreeSerializers(JacksonOptimizationConfig optimization,
+            ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            CombinedIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClassProducer,
+            ResteasyReactiveServerJacksonRecorder recorder, ShutdownContextBuildItem shutdown) {
+        if (!optimization.enableReflectionFreeSerializers()) {
+            return;
+        }
+        // the reactive and collection types wrapping the beans are not in the index and thus simply skipped
+        Set<DotName> serializedTypes = new HashSet<>();
+        Set<DotName> deserializedTypes = new HashSet<>();
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            MethodInfo methodInfo = entry.getMethodInfo();
+            JacksonSerializerGenerator.collectTypeNames(methodInfo.returnType(), serializedTypes);
+            MethodParameter[] parameters = entry.getResourceMethod().getParameters();
+            for (int i = 0; i < parameters.length && i < methodInfo.parametersCount(); i++) {
+                if (parameters[i].parameterType == ParameterType.BODY) {
+                    JacksonSerializerGenerator.collectTypeNames(methodInfo.parameterType(i), deserializedTypes);
+                }
+            }
+        }
+
+        JacksonSerializerGenerator generator = new JacksonSerializerGenerator(index.getIndex(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, true));
+        List<String> generatedClassNames = new ArrayList<>();
+        Set<DotName> processed = new HashSet<>();
+        Deque<DotName> toProcess = new ArrayDeque<>(serializedTypes);
+        while (!toProcess.isEmpty()) {
+            DotName type = toProcess.poll();
+            if (!processed.add(type)) {
+                continue;
+            }
+            String serializer = generator.generateSerializer(type);
+            if (serializer != null) {
+                recorder.recordGeneratedSerializer(type.toString(), serializer);
+                generatedClassNames.add(serializer);
+                // the beans nested in the ones we can handle are most likely serialized as well
+                Set<DotName> propertyTypes = new HashSet<>();
+                generator.collectPropertyTypes(type, true, propertyTypes);
+                toProcess.addAll(propertyTypes);
+            }
+        }
+        processed.clear();
+        toProcess.addAll(deserializedTypes);
+        while (!toProcess.isEmpty()) {
+            DotName type = toProcess.poll();
+            if (!processed.add(type)) {
+                continue;
+            }
+            String deserializer = generator.generateDeserializer(type);
+            if (deserializer != null) {
+                recorder.recordGeneratedDeserializer(type.toString(), deserializer);
+                generatedClassNames.add(deserializer);
+                Set<DotName> propertyTypes = new HashSet<>();
+                generator.collectPropertyTypes(type, false, propertyTypes);
+                toProcess.addAll(propertyTypes);
+            }
+        }
+
+        if (!generatedClassNames.isEmpty()) {
+            reflectiveClassProducer.produce(ReflectiveClassBuildItem.builder(generatedClassNames.toArray(EMPTY_STRING_ARRAY))
+                    .build());
+            recorder.configureShutdown(shutdown);
+        }
+    }
+
     @Record(ExecutionTime.STATIC_INIT)
     @BuildStep
     public void resolveRolesAllowedConfigExpressions(BuildProducer<RolesAllowedConfigExpResolverBuildItem> resolverProducer,
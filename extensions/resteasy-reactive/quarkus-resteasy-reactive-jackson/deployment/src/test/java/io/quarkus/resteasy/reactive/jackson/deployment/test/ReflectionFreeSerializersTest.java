@@ -0,0 +1,308 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.startsWith;
+
+import java.io.IOException;
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.smallrye.mutiny.Uni;
+
+public class ReflectionFreeSerializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.optimization.enable-reflection-free-serializers", "true")
+            .withApplicationRoot((jar) -> jar.addClasses(Order.class, Line.class, Annotated.class, Wrapper.class,
+                    Public.class, OrderMixin.class, LineMixin.class, UpperCaseSerializer.class, OrderResource.class));
+
+    @Test
+    public void testSerialization() {
+        RestAssured.get("/orders")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body(equalTo("{\"id\":42,\"customer\":\"Alice\",\"paid\":true,"
+                        + "\"lines\":[{\"product\":\"Cheese\",\"quantity\":2},{\"product\":\"Bread\",\"quantity\":1}],"
+                        + "\"note\":null}"));
+        RestAssured.get("/orders/annotated")
+                .then()
+                .statusCode(200)
+                .body(equalTo("{\"renamed\":\"value\"}"));
+    }
+
+    @Test
+    public void testDeserialization() {
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{\"id\":7,\"customer\":\"Bob\",\"lines\":[{\"product\":\"Wine\",\"quantity\":3}],\"note\":\"fast\"}")
+                .post("/orders")
+                .then()
+                .statusCode(200)
+                .body(equalTo("Bob:7:Wine:3:fast"));
+    }
+
+    @Test
+    public void testGeneratedSerializersAreUsed() {
+        RestAssured.get("/orders/serializers")
+                .then()
+                .statusCode(200)
+                .body(startsWith(Order.class.getName() + "$quarkusjackson"));
+    }
+
+    @Test
+    public void testUnwrapped() {
+        RestAssured.get("/orders/unwrapped")
+                .then()
+                .statusCode(200)
+                .body(equalTo("{\"label\":\"gift\",\"product\":\"Cheese\",\"quantity\":2}"));
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{\"label\":\"gift\",\"product\":\"Wine\",\"quantity\":3}")
+                .post("/orders/unwrapped")
+                .then()
+                .statusCode(200)
+                .body(equalTo("gift:Wine:3"));
+    }
+
+    @Test
+    public void testUpdate() {
+        RestAssured.get("/orders/update")
+                .then()
+                .statusCode(200)
+                .body(equalTo("Cheese:5"));
+    }
+
+    @Test
+    public void testActiveView() {
+        RestAssured.get("/orders/view")
+                .then()
+                .statusCode(200)
+                .body(equalTo("{}|null:0"));
+    }
+
+    @Test
+    public void testPropertySerializersAndFormats() {
+        RestAssured.get("/orders/formats")
+                .then()
+                .statusCode(200)
+                .body(equalTo("{\"id\":42,\"customer\":\"Alice\",\"paid\":false,"
+                        + "\"lines\":{\"product\":\"CHEESE\",\"quantity\":\"2\"},\"note\":null}"));
+    }
+
+    @Path("/orders")
+    public static class OrderResource {
+
+        @Inject
+        ObjectMapper objectMapper;
+
+        @GET
+        public Uni<Order> get() {
+            Order order = new Order();
+            order.setId(42);
+            order.setCustomer("Alice");
+            order.setPaid(true);
+            order.setLines(List.of(new Line("Cheese", 2), new Line("Bread", 1)));
+            return Uni.createFrom().item(order);
+        }
+
+        @GET
+        @Path("/annotated")
+        public Annotated annotated() {
+            return new Annotated();
+        }
+
+        @POST
+        public String post(Order order) {
+            Line line = order.getLines().get(0);
+            return order.getCustomer() + ":" + order.getId() + ":" + line.getProduct() + ":" + line.getQuantity() + ":"
+                    + order.note;
+        }
+
+        @GET
+        @Path("/unwrapped")
+        public Wrapper unwrapped() {
+            Wrapper wrapper = new Wrapper();
+            wrapper.label = "gift";
+            wrapper.line = new Line("Cheese", 2);
+            return wrapper;
+        }
+
+        @POST
+        @Path("/unwrapped")
+        public String unwrapped(Wrapper wrapper) {
+            return wrapper.label + ":" + wrapper.line.getProduct() + ":" + wrapper.line.getQuantity();
+        }
+
+        @GET
+        @Path("/update")
+        public String update() throws IOException {
+            Line line = objectMapper.readerForUpdating(new Line("Cheese", 2)).readValue("{\"quantity\":5}");
+            return line.getProduct() + ":" + line.getQuantity();
+        }
+
+        @GET
+        @Path("/view")
+        public String view() throws IOException {
+            ObjectMapper mapper = objectMapper.copy().disable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+            Line line = mapper.readerWithView(Public.class).forType(Line.class)
+                    .readValue("{\"product\":\"Wine\",\"quantity\":3}");
+            return mapper.writerWithView(Public.class).writeValueAsString(new Line("Cheese", 2)) + "|"
+                    + line.getProduct() + ":" + line.getQuantity();
+        }
+
+        @GET
+        @Path("/formats")
+        public String formats() throws IOException {
+            ObjectMapper mapper = objectMapper.copy()
+                    .addMixIn(Order.class, OrderMixin.class)
+                    .addMixIn(Line.class, LineMixin.class);
+            mapper.configOverride(int.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING));
+            Order order = new Order();
+            order.setId(42);
+            order.setCustomer("Alice");
+            order.setLines(List.of(new Line("Cheese", 2)));
+            return mapper.writeValueAsString(order);
+        }
+
+        @GET
+        @Path("/serializers")
+        public String serializers() throws JsonMappingException {
+            return objectMapper.getSerializerProviderInstance().findValueSerializer(Order.class).getClass().getName() + ","
+                    + objectMapper.getSerializerProviderInstance().findValueSerializer(Line.class).getClass().getName();
+        }
+    }
+
+    public static class Order {
+
+        private long id;
+        private String customer;
+        private boolean paid;
+        private List<Line> lines;
+        public String note;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(String customer) {
+            this.customer = customer;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public void setPaid(boolean paid) {
+            this.paid = paid;
+        }
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<Line> lines) {
+            this.lines = lines;
+        }
+    }
+
+    public static class Line {
+
+        private String product;
+        private int quantity;
+
+        public Line() {
+        }
+
+        public Line(String product, int quantity) {
+            this.product = product;
+            this.quantity = quantity;
+        }
+
+        public String getProduct() {
+            return product;
+        }
+
+        public void setProduct(String product) {
+            this.product = product;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+
+    public static class Wrapper {
+
+        public String label;
+        @JsonUnwrapped
+        public Line line;
+    }
+
+    public static class Public {
+    }
+
+    public abstract static class OrderMixin {
+
+        @JsonFormat(with = JsonFormat.Feature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)
+        public abstract List<Line> getLines();
+    }
+
+    public abstract static class LineMixin {
+
+        @JsonSerialize(using = UpperCaseSerializer.class)
+        public abstract String getProduct();
+    }
+
+    public static class UpperCaseSerializer extends StdSerializer<String> {
+
+        public UpperCaseSerializer() {
+            super(String.class);
+        }
+
+        @Override
+        public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(value.toUpperCase());
+        }
+    }
+
+    public static class Annotated {
+
+        @JsonProperty("renamed")
+        public String value = "value";
+    }
+}
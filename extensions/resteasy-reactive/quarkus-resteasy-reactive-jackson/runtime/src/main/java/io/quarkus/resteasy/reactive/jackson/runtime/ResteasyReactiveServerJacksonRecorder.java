@@ -24,6 +24,8 @@ public class ResteasyReactiveServerJacksonRecorder {
     private static final Map<String, Class<?>> jsonViewMap = new HashMap<>();
     private static final Map<String, Class<?>> customSerializationMap = new HashMap<>();
     private static final Map<String, Class<?>> customDeserializationMap = new HashMap<>();
+    private static final Map<String, Class<?>> generatedSerializerMap = new HashMap<>();
+    private static final Map<String, Class<?>> generatedDeserializerMap = new HashMap<>();
 
     /* STATIC INIT */
     public RuntimeValue<Map<String, Supplier<String[]>>> createConfigExpToAllowedRoles() {
@@ -76,6 +78,14 @@ public void recordCustomDeserialization(String target, String className) {
         customDeserializationMap.put(target, loadClass(className));
     }
 
+    public void recordGeneratedSerializer(String target, String className) {
+        generatedSerializerMap.put(target, loadClass(className));
+    }
+
+    public void recordGeneratedDeserializer(String target, String className) {
+        generatedDeserializerMap.put(target, loadClass(className));
+    }
+
     public void configureShutdown(ShutdownContext shutdownContext) {
         shutdownContext.addShutdownTask(new Runnable() {
             @Override
@@ -83,6 +93,8 @@ public void run() {
                 jsonViewMap.clear();
                 customSerializationMap.clear();
                 customDeserializationMap.clear();
+                generatedSerializerMap.clear();
+                generatedDeserializerMap.clear();
             }
         });
     }
@@ -116,6 +128,14 @@ public static Class<? extends BiFunction<ObjectMapper, Type, ObjectReader>> cust
         return (Class<? extends BiFunction<ObjectMapper, Type, ObjectReader>>) customDeserializationMap.get(clazz.getName());
     }
 
+    public static Class<?> generatedSerializerForClass(Class<?> clazz) {
+        return generatedSerializerMap.get(clazz.getName());
+    }
+
+    public static Class<?> generatedDeserializerForClass(Class<?> clazz) {
+        return generatedDeserializerMap.get(clazz.getName());
+    }
+
     private Class<?> loadClass(String className) {
         try {
             return Thread.currentThread().getContextClassLoader().loadClass(className);
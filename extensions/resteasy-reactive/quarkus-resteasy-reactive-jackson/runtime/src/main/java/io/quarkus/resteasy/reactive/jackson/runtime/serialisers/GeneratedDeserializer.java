@@ -0,0 +1,187 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.impl.FieldProperty;
+import com.fasterxml.jackson.databind.deser.impl.MethodProperty;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * Base class of the deserializers that are generated at build time for the types accepted as body by the REST endpoints.
+ * <p>
+ * The generated subclasses create the bean with its no-args constructor and invoke the setters (or write the public
+ * fields) directly, the values themselves are read by the properties of the deserializer Jackson built for the type.
+ * <p>
+ * Whatever the generated code does not handle (active views, unwrapping, the input that is not a JSON object) is delegated
+ * to the deserializer Jackson built for the type.
+ */
+public abstract class GeneratedDeserializer<T> extends StdDeserializer<T>
+        implements ResolvableDeserializer, ContextualDeserializer {
+
+    private final String[] propertyNames;
+    private final SettableBeanProperty[] properties;
+    private BeanDeserializer fallback;
+
+    protected GeneratedDeserializer(Class<T> type, String[] propertyNames) {
+        super(type);
+        this.propertyNames = propertyNames;
+        this.properties = new SettableBeanProperty[propertyNames.length];
+    }
+
+    protected abstract T newInstance();
+
+    /**
+     * Reads the value of the given property into the bean, the parser is positioned on the value.
+     *
+     * @return {@code false} if the property is unknown
+     */
+    protected abstract boolean readProperty(T bean, String name, JsonParser p, DeserializationContext ctxt)
+            throws IOException;
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        fallback.resolve(ctxt);
+        for (int i = 0; i < propertyNames.length; i++) {
+            properties[i] = fallback.findProperty(propertyNames[i]);
+        }
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        JsonDeserializer<?> contextual = fallback.createContextual(ctxt, property);
+        // Jackson returns the same deserializer unless the property changes how the type is read
+        return contextual == fallback ? this : contextual;
+    }
+
+    @Override
+    public JsonDeserializer<T> unwrappingDeserializer(NameTransformer unwrapper) {
+        @SuppressWarnings("unchecked")
+        JsonDeserializer<T> unwrapping = (JsonDeserializer<T>) fallback.unwrappingDeserializer(unwrapper);
+        return unwrapping;
+    }
+
+    @Override
+    public final T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (ctxt.getActiveView() != null
+                || (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT)) {
+            // let Jackson deal with the views and the coercions it supports, like unwrapping single value arrays
+            @SuppressWarnings("unchecked")
+            T result = (T) fallback.deserialize(p, ctxt);
+            return result;
+        }
+        return readProperties(newInstance(), p, ctxt);
+    }
+
+    /**
+     * Reads the properties into an existing bean, e.g. for {@code ObjectMapper.readerForUpdating(Object)}.
+     */
+    @Override
+    public final T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue) throws IOException {
+        JsonToken token = p.currentToken();
+        if (ctxt.getActiveView() != null || (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME)) {
+            @SuppressWarnings("unchecked")
+            T result = (T) fallback.deserialize(p, ctxt, intoValue);
+            return result;
+        }
+        return readProperties(intoValue, p, ctxt);
+    }
+
+    private T readProperties(T bean, JsonParser p, DeserializationContext ctxt) throws IOException {
+        p.setCurrentValue(bean);
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+        while (token == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            boolean known;
+            try {
+                known = readProperty(bean, name, p, ctxt);
+            } catch (Exception e) {
+                throw wrapWithPath(e, bean, name, ctxt);
+            }
+            if (!known) {
+                ctxt.handleUnknownProperty(p, this, bean, name);
+            }
+            token = p.nextToken();
+        }
+        return bean;
+    }
+
+    /**
+     * Adds the failing property to the path of the exception, the same way {@link BeanDeserializer} does.
+     */
+    private static IOException wrapWithPath(Exception e, Object bean, String name, DeserializationContext ctxt)
+            throws IOException {
+        boolean wrap = ctxt.isEnabled(DeserializationFeature.WRAP_EXCEPTIONS);
+        if (e instanceof IOException) {
+            if (!wrap || !(e instanceof JacksonException)) {
+                throw (IOException) e;
+            }
+        } else if (!wrap && e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        return JsonMappingException.wrapWithPath(e, bean, name);
+    }
+
+    protected final Object readValue(int index, JsonParser p, DeserializationContext ctxt) throws IOException {
+        return properties[index].deserialize(p, ctxt);
+    }
+
+    /**
+     * Checks that the deserializer Jackson built by introspecting the type creates the bean with its default constructor
+     * and sets exactly the properties this deserializer sets, without any customization. The given deserializer is
+     * then used to handle the input that is not a JSON object.
+     *
+     * @return {@code false} if this deserializer must not be used
+     */
+    boolean adaptTo(BeanDeserializer deserializer) {
+        if (!deserializer.getValueInstantiator().canCreateUsingDefault()
+                || deserializer.getValueInstantiator().canCreateFromObjectWith()
+                || deserializer.getObjectIdReader() != null) {
+            return false;
+        }
+        Set<String> expected = new HashSet<>(Arrays.asList(propertyNames));
+        Iterator<SettableBeanProperty> jacksonProperties = deserializer.properties();
+        int count = 0;
+        while (jacksonProperties.hasNext()) {
+            SettableBeanProperty property = jacksonProperties.next();
+            if ((property.getClass() != MethodProperty.class && property.getClass() != FieldProperty.class)
+                    || !expected.contains(property.getName()) || property.hasValueDeserializer()
+                    || property.hasValueTypeDeserializer() || property.getObjectIdInfo() != null) {
+                return false;
+            }
+            count++;
+        }
+        if (count != expected.size()) {
+            return false;
+        }
+        fallback = deserializer;
+        return true;
+    }
+}
@@ -0,0 +1,240 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * Base class of the serializers that are generated at build time for the types returned by the REST endpoints.
+ * <p>
+ * The generated subclasses read the properties by invoking the getters (or reading the public fields) directly, the
+ * properties are written in the order Jackson itself uses for the type. The strings and primitives are written by the
+ * generated code, the other values by the serializers Jackson resolves for each property, so that the per-property
+ * configuration (formats, declared types...) is honored.
+ * <p>
+ * Whatever the generated code does not handle (active views, unwrapping, customized primitive properties) is delegated to
+ * the serializer Jackson built for the type.
+ */
+public abstract class GeneratedSerializer<T> extends StdSerializer<T> implements ResolvableSerializer, ContextualSerializer {
+
+    private final String[] propertyNames;
+    private final SerializedString[] serializedNames;
+    private int[] order;
+    private BeanSerializer fallback;
+    private BeanPropertyWriter[] writers;
+    private JsonSerializer<Object>[] serializers;
+    private PropertySerializerMap[] dynamicSerializers;
+    private boolean delegate;
+
+    @SuppressWarnings("unchecked")
+    protected GeneratedSerializer(Class<T> type, String[] propertyNames) {
+        super(type);
+        this.propertyNames = propertyNames;
+        this.serializedNames = new SerializedString[propertyNames.length];
+        this.order = new int[propertyNames.length];
+        this.serializers = new JsonSerializer[propertyNames.length];
+        this.dynamicSerializers = new PropertySerializerMap[propertyNames.length];
+        for (int i = 0; i < propertyNames.length; i++) {
+            serializedNames[i] = new SerializedString(propertyNames[i]);
+            order[i] = i;
+            dynamicSerializers[i] = PropertySerializerMap.emptyForProperties();
+        }
+    }
+
+    /**
+     * Writes the value of the property at the given index, its name has already been written.
+     */
+    protected abstract void writeProperty(int index, T value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException;
+
+    /**
+     * Writes a value that is neither a string nor a primitive with the serializer Jackson resolves for the property at the
+     * given index, the same way {@link BeanPropertyWriter} does.
+     */
+    protected final void writeValue(int index, Object bean, Object value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        JsonSerializer<Object> serializer = serializers[index];
+        if (serializer == null) {
+            serializer = dynamicSerializer(index, value.getClass(), provider);
+        }
+        if (value == bean && provider.isEnabled(SerializationFeature.FAIL_ON_SELF_REFERENCES)) {
+            provider.reportBadDefinition(writers[index].getType(), "Direct self-reference leading to cycle");
+        }
+        serializer.serialize(value, gen, provider);
+    }
+
+    private JsonSerializer<Object> dynamicSerializer(int index, Class<?> type, SerializerProvider provider)
+            throws JsonMappingException {
+        PropertySerializerMap map = dynamicSerializers[index];
+        JsonSerializer<Object> serializer = map.serializerFor(type);
+        if (serializer != null) {
+            return serializer;
+        }
+        BeanPropertyWriter writer = writers[index];
+        JavaType declaredType = writer.getType();
+        PropertySerializerMap.SerializerAndMapResult result;
+        if (declaredType.hasGenericTypes()) {
+            // keep the type parameters, e.g. for the type information of the elements of a collection
+            result = map.findAndAddPrimarySerializer(provider.constructSpecializedType(declaredType, type), provider,
+                    writer);
+        } else {
+            result = map.findAndAddPrimarySerializer(type, provider, writer);
+        }
+        dynamicSerializers[index] = result.map;
+        return result.serializer;
+    }
+
+    @Override
+    public final void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (delegate || provider.getActiveView() != null) {
+            fallback.serialize(value, gen, provider);
+            return;
+        }
+        gen.writeStartObject(value);
+        writeProperties(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public final void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+        if (delegate || provider.getActiveView() != null) {
+            fallback.serializeWithType(value, gen, provider, typeSer);
+            return;
+        }
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        writeProperties(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private void writeProperties(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        for (int index : order) {
+            gen.writeFieldName(serializedNames[index]);
+            writeProperty(index, value, gen, provider);
+        }
+    }
+
+    @Override
+    public JsonSerializer<T> unwrappingSerializer(NameTransformer unwrapper) {
+        @SuppressWarnings("unchecked")
+        JsonSerializer<T> unwrapping = (JsonSerializer<T>) fallback.unwrappingSerializer(unwrapper);
+        return unwrapping;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        JsonSerializer<?> contextual = fallback.createContextual(provider, property);
+        // Jackson returns the same serializer unless the property changes how the type is written
+        return contextual == fallback ? this : contextual;
+    }
+
+    @Override
+    public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint) throws JsonMappingException {
+        fallback.acceptJsonFormatVisitor(visitor, typeHint);
+    }
+
+    /**
+     * Resolves the serializers of the properties, and checks that Jackson would write the strings and primitives the way
+     * the generated code does.
+     */
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        fallback.resolve(provider);
+        Iterator<PropertyWriter> properties = fallback.properties();
+        for (int index : order) {
+            BeanPropertyWriter writer = writers[index];
+            // unwrapping properties get a different writer
+            if (properties.next() != writer || !ClassUtil.isJacksonStdImpl(provider.findNullValueSerializer(writer))) {
+                delegate = true;
+                return;
+            }
+            JavaType type = writer.getType();
+            if (type.isPrimitive() || type.hasRawClass(String.class)) {
+                JsonFormat.Value format = writer.findPropertyFormat(provider.getConfig(), type.getRawClass());
+                if (!ClassUtil.isJacksonStdImpl(writer.getSerializer())
+                        || !JsonFormat.Value.empty().equals(format.withLenient(null))) {
+                    delegate = true;
+                    return;
+                }
+            } else {
+                serializers[index] = writer.getSerializer();
+            }
+        }
+    }
+
+    /**
+     * Adopts the property order of the serializer Jackson built by introspecting the type.
+     *
+     * @return {@code false} if the given serializer does not write exactly the same properties without any customization,
+     *         in which case this serializer must not be used
+     */
+    boolean adaptTo(BeanSerializer serializer) {
+        if (serializer.usesObjectId()) {
+            return false;
+        }
+        int[] jacksonOrder = new int[propertyNames.length];
+        BeanPropertyWriter[] jacksonWriters = new BeanPropertyWriter[propertyNames.length];
+        int count = 0;
+        Iterator<PropertyWriter> properties = serializer.properties();
+        while (properties.hasNext()) {
+            PropertyWriter property = properties.next();
+            if (property.getClass() != BeanPropertyWriter.class) {
+                return false;
+            }
+            BeanPropertyWriter writer = (BeanPropertyWriter) property;
+            if (writer.willSuppressNulls() || writer.hasSerializer() || writer.hasNullSerializer()
+                    || writer.getTypeSerializer() != null || writer.getViews() != null) {
+                return false;
+            }
+            int index = indexOf(writer.getName());
+            if (index < 0 || jacksonWriters[index] != null) {
+                return false;
+            }
+            jacksonWriters[index] = writer;
+            jacksonOrder[count++] = index;
+        }
+        if (count != propertyNames.length) {
+            return false;
+        }
+        order = jacksonOrder;
+        writers = jacksonWriters;
+        fallback = serializer;
+        return true;
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (propertyNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BasicDeserializerFactory;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.DeserializerFactory;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BasicSerializerFactory;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+
+/**
+ * Replaces the bean serializers and deserializers Jackson builds for the types that got a generated counterpart at build
+ * time.
+ * <p>
+ * The replacement only happens when the serializer (or deserializer) Jackson built is a plain bean one handling exactly
+ * the properties the generated code handles, so any configuration that changes how the type is mapped (naming strategy,
+ * mixins, inclusion rules, custom serializers...) makes Jackson's own implementation be used.
+ */
+@Singleton
+public class GeneratedSerializersCustomizer implements ObjectMapperCustomizer {
+
+    private static final Logger log = Logger.getLogger(GeneratedSerializersCustomizer.class);
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        if (hasModifiers(objectMapper)) {
+            // other modifiers may expect to be handed the serializers built by Jackson
+            log.debug("Serializer or deserializer modifiers are registered, generated Jackson serializers will not be used");
+            return;
+        }
+        SimpleModule module = new SimpleModule("quarkus-resteasy-reactive-generated-serializers");
+        module.setSerializerModifier(new GeneratedSerializerModifier());
+        module.setDeserializerModifier(new GeneratedDeserializerModifier());
+        objectMapper.registerModule(module);
+    }
+
+    @Override
+    public int priority() {
+        // make sure we see all the other customizations
+        return MINIMUM_PRIORITY;
+    }
+
+    private static boolean hasModifiers(ObjectMapper objectMapper) {
+        if (objectMapper.getSerializerFactory() instanceof BasicSerializerFactory
+                && ((BasicSerializerFactory) objectMapper.getSerializerFactory()).getFactoryConfig()
+                        .hasSerializerModifiers()) {
+            return true;
+        }
+        DeserializerFactory deserializerFactory = objectMapper.getDeserializationContext().getFactory();
+        return deserializerFactory instanceof BasicDeserializerFactory
+                && ((BasicDeserializerFactory) deserializerFactory).getFactoryConfig().hasDeserializerModifiers();
+    }
+
+    private static Object newInstance(Class<?> clazz) {
+        try {
+            return clazz.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create an instance of generated class '" + clazz.getName() + "'", e);
+        }
+    }
+
+    private static class GeneratedSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                JsonSerializer<?> serializer) {
+            if (serializer.getClass() != BeanSerializer.class) {
+                return serializer;
+            }
+            Class<?> generatedClass = ResteasyReactiveServerJacksonRecorder
+                    .generatedSerializerForClass(beanDesc.getBeanClass());
+            if (generatedClass == null || beanDesc.findAnyGetter() != null
+                    || config.getAnnotationIntrospector().findFilterId(beanDesc.getClassInfo()) != null) {
+                return serializer;
+            }
+            GeneratedSerializer<?> generated = (GeneratedSerializer<?>) newInstance(generatedClass);
+            if (!generated.adaptTo((BeanSerializer) serializer)) {
+                log.debugf("Not using the generated serializer for %s as it is customized", beanDesc.getBeanClass());
+                return serializer;
+            }
+            return generated;
+        }
+    }
+
+    private static class GeneratedDeserializerModifier extends BeanDeserializerModifier {
+
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                JsonDeserializer<?> deserializer) {
+            if (deserializer.getClass() != BeanDeserializer.class) {
+                return deserializer;
+            }
+            Class<?> generatedClass = ResteasyReactiveServerJacksonRecorder
+                    .generatedDeserializerForClass(beanDesc.getBeanClass());
+            if (generatedClass == null || config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                    || beanDesc.findAnySetterAccessor() != null
+                    || !beanDesc.getIgnoredPropertyNames().isEmpty()) {
+                return deserializer;
+            }
+            GeneratedDeserializer<?> generated = (GeneratedDeserializer<?>) newInstance(generatedClass);
+            if (!generated.adaptTo((BeanDeserializer) deserializer)) {
+                log.debugf("Not using the generated deserializer for %s as it is customized", beanDesc.getBeanClass());
+                return deserializer;
+            }
+            return generated;
+        }
+    }
+}
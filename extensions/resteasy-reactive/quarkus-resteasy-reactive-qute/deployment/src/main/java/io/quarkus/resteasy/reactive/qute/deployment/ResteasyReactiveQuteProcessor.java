@@ -7,6 +7,10 @@
 import java.util.List;
 import java.util.Map;
 
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
@@ -17,16 +21,21 @@
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
 import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateOutput;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateOutputMessageBodyWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -42,6 +51,17 @@ CustomContainerResponseFilterBuildItem registerProviders() {
         return new CustomContainerResponseFilterBuildItem(TemplateResponseFilter.class.getName());
     }
 
+    @BuildStep
+    void registerTemplateOutputWriter(BuildProducer<AdditionalBeanBuildItem> additionalBean,
+            BuildProducer<MessageBodyWriterBuildItem> additionalWriters) {
+        // make it a bean so that it gets instantiated with the Quarkus CDI
+        additionalBean.produce(AdditionalBeanBuildItem.builder()
+                .addBeanClass(TemplateOutputMessageBodyWriter.class.getName())
+                .setUnremovable().build());
+        additionalWriters.produce(new MessageBodyWriterBuildItem(TemplateOutputMessageBodyWriter.class.getName(),
+                TemplateOutput.class.getName(), List.of(MediaType.WILDCARD), RuntimeType.SERVER, true, Priorities.USER));
+    }
+
     @BuildStep
     ReflectiveHierarchyIgnoreWarningBuildItem ignoreReflectiveWarning() {
         return new ReflectiveHierarchyIgnoreWarningBuildItem(
@@ -60,7 +80,7 @@ public MethodScannerBuildItem configureHandler() {
             public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
                     Map<String, Object> methodContext) {
                 if (method.returnType().name().equals(TEMPLATE_INSTANCE) || isAsyncTemplateInstance(method.returnType())) {
-                    // TemplateResponseUniHandler creates a Uni, so we also need to introduce another Uni handler
+                    // TemplateResponseUniHandler creates a Uni of the rendered TemplateOutput, so we also need to introduce another Uni handler
                     // so RR actually gets the result
                     // the reason why we use AFTER_METHOD_INVOKE_SECOND_ROUND is to be able to properly support Uni<TemplateInstance>
                     return Collections.singletonList(
@@ -0,0 +1,115 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NameBinding;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TemplateEntityFilterTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, Filtered.class, EntityFilter.class, Intercepted.class,
+                            EntityInterceptor.class)
+                    .addAsResource(new StringAsset("{#for i in total}{i}: {name}\n{/for}"), "templates/items.txt")
+                    .addAsResource(new StringAsset("quarkus.resteasy-reactive.output-buffer-size=16"),
+                            "application.properties"));
+
+    @Test
+    public void testResponseFilterGetsString() {
+        when().get("/items/filtered").then().statusCode(200)
+                .header("X-Entity-Length", "24")
+                .body(is("1: Qute\n2: Qute\n3: Qute\n"));
+    }
+
+    @Test
+    public void testWriterInterceptorGetsString() {
+        when().get("/items/intercepted").then().statusCode(200)
+                .header("X-Entity-Length", "24")
+                .body(is("1: Qute\n2: Qute\n3: Qute\n"));
+    }
+
+    @Path("items")
+    public static class TestResource {
+
+        @Inject
+        Template items;
+
+        @Filtered
+        @GET
+        @Path("filtered")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance filtered() {
+            return items.data("total", 3).data("name", "Qute");
+        }
+
+        @Intercepted
+        @GET
+        @Path("intercepted")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance intercepted() {
+            return items.data("total", 3).data("name", "Qute");
+        }
+    }
+
+    @NameBinding
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Filtered {
+    }
+
+    @NameBinding
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Intercepted {
+    }
+
+    @Filtered
+    @Provider
+    public static class EntityFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            String entity = (String) responseContext.getEntity();
+            responseContext.getHeaders().add("X-Entity-Length", entity.length());
+        }
+    }
+
+    @Intercepted
+    @Provider
+    public static class EntityInterceptor implements WriterInterceptor {
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            String entity = (String) context.getEntity();
+            context.getHeaders().add("X-Entity-Length", entity.length());
+            context.proceed();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+public class TemplateOutputTest {
+
+    private static final int LINES = 2000;
+    private static final int LARGE_LINES = 1_000_000;
+
+    @TestHTTPResource("report/large")
+    URL url;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, RequestBean.class)
+                    .addAsResource(new StringAsset("{#for i in total}{i}: čeština {name}\n{/for}"), "templates/report.txt")
+                    .addAsResource(new StringAsset("quarkus.resteasy-reactive.output-buffer-size=256"),
+                            "application.properties"));
+
+    @Test
+    public void testLargeOutputIsWrittenInChunks() {
+        String expected = expected();
+        when().get("/report").then().statusCode(200)
+                .header("Content-Length", String.valueOf(expected.getBytes(StandardCharsets.UTF_8).length))
+                .body(is(expected));
+        when().get("/report/response").then().statusCode(200).body(is(expected));
+    }
+
+    @Test
+    public void testSmallOutput() {
+        when().get("/report/small").then().statusCode(200).body(is("1: čeština Qute\n"));
+    }
+
+    @Test
+    public void testClientDisconnectsWhileTheOutputIsWritten() throws Exception {
+        RequestBean.DESTROYED.set(new CountDownLatch(1));
+        try (Socket socket = new Socket(url.getHost(), url.getPort())) {
+            socket.getOutputStream().write(("GET " + url.getPath() + " HTTP/1.1\r\nHost: localhost\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            // Read the beginning of the response only, the server has to wait for the connection to be drained
+            InputStream in = socket.getInputStream();
+            in.readNBytes(1024);
+        }
+        // The request completes once the closed connection is detected
+        assertTrue(RequestBean.DESTROYED.get().await(10, TimeUnit.SECONDS));
+        when().get("/report/small").then().statusCode(200).body(is("1: čeština Qute\n"));
+    }
+
+    private static String expected() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 1; i <= LINES; i++) {
+            builder.append(i).append(": čeština Qute\n");
+        }
+        return builder.toString();
+    }
+
+    @Path("report")
+    public static class TestResource {
+
+        @Inject
+        Template report;
+
+        @Inject
+        RequestBean requestBean;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance get() {
+            return report.data("total", LINES).data("name", "Qute");
+        }
+
+        @GET
+        @Path("response")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Response response() {
+            return Response.ok(get()).build();
+        }
+
+        @GET
+        @Path("large")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance large() {
+            requestBean.ping();
+            return report.data("total", LARGE_LINES).data("name", "Qute");
+        }
+
+        @GET
+        @Path("small")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance small() {
+            return report.data("total", Collections.singletonList(1)).data("name", "Qute");
+        }
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        static final AtomicReference<CountDownLatch> DESTROYED = new AtomicReference<>(new CountDownLatch(1));
+
+        void ping() {
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.get().countDown();
+        }
+    }
+}
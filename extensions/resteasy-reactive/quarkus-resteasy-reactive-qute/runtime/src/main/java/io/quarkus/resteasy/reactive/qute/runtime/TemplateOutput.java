@@ -0,0 +1,74 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+
+/**
+ * The output of a rendered template, encoded in UTF-8 into buffers of a fixed size as the template is rendered.
+ * <p>
+ * Unlike rendering the template into a {@code String}, the output is encoded only once and never copied, and it can be written
+ * to the response chunk by chunk.
+ * <p>
+ * It is only used as the response entity if no response filter and no writer interceptor applies to the resource method,
+ * the template is rendered into a {@code String} otherwise. {@link #toString()} returns the rendered text.
+ */
+public final class TemplateOutput implements Consumer<String> {
+
+    private final int chunkSize;
+    private final List<ByteBuf> chunks = new ArrayList<>();
+    private ByteBuf current;
+    private long length;
+
+    TemplateOutput(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void accept(String part) {
+        int partLength = ByteBufUtil.utf8Bytes(part);
+        if (current != null && current.readableBytes() + partLength > chunkSize) {
+            chunks.add(current);
+            current = null;
+        }
+        if (current == null) {
+            // A part larger than the chunk size is not split, it gets its own chunk
+            current = VertxByteBufAllocator.DEFAULT.heapBuffer(Math.max(chunkSize, partLength));
+        }
+        // The exact length is reserved, writeUtf8() would make room for the worst case and grow the chunk
+        ByteBufUtil.reserveAndWriteUtf8(current, part, partLength);
+        length += partLength;
+    }
+
+    /**
+     * @return the chunks of the output, in order
+     */
+    List<ByteBuf> chunks() {
+        if (current != null) {
+            chunks.add(current);
+            current = null;
+        }
+        return chunks;
+    }
+
+    /**
+     * @return the length of the output in bytes
+     */
+    long length() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder((int) Math.min(Integer.MAX_VALUE, length));
+        for (ByteBuf chunk : chunks()) {
+            builder.append(chunk.toString(StandardCharsets.UTF_8));
+        }
+        return builder.toString();
+    }
+}
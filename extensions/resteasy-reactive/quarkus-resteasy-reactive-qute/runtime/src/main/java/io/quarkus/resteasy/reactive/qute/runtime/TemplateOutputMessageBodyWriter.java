@@ -0,0 +1,153 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Writes the {@link TemplateOutput} of a template to the response, one chunk at a time, waiting for the response to be drained
+ * when its write queue is full.
+ */
+public class TemplateOutputMessageBodyWriter implements ServerMessageBodyWriter<TemplateOutput> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return TemplateOutput.class.equals(type);
+    }
+
+    @Override
+    public void writeResponse(TemplateOutput output, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        ServerHttpResponse response = context.serverResponse();
+        List<ByteBuf> chunks = output.chunks();
+        if (!(response instanceof VertxResteasyReactiveRequestContext)) {
+            response.end(toBytes(chunks, output.length()));
+            return;
+        }
+        VertxResteasyReactiveRequestContext vertxContext = (VertxResteasyReactiveRequestContext) response;
+        if (chunks.size() <= 1) {
+            vertxContext.end(chunks.isEmpty() ? Buffer.buffer() : Buffer.buffer(chunks.get(0)));
+            return;
+        }
+        // The length is known, there is no need for a chunked response
+        response.setResponseHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(output.length()));
+        ResteasyReactiveRequestContext ctx = (ResteasyReactiveRequestContext) context;
+        ctx.suspend();
+        new ChunkWriter(ctx, vertxContext.vertxServerResponse(), response, chunks).start();
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateOutput.class.equals(type);
+    }
+
+    @Override
+    public void writeTo(TemplateOutput output, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        for (ByteBuf chunk : output.chunks()) {
+            chunk.getBytes(chunk.readerIndex(), entityStream, chunk.readableBytes());
+        }
+    }
+
+    private static byte[] toBytes(List<ByteBuf> chunks, long length) {
+        byte[] bytes = new byte[Math.toIntExact(length)];
+        int position = 0;
+        for (ByteBuf chunk : chunks) {
+            int chunkLength = chunk.readableBytes();
+            chunk.getBytes(chunk.readerIndex(), bytes, position, chunkLength);
+            position += chunkLength;
+        }
+        return bytes;
+    }
+
+    private static class ChunkWriter implements Runnable, Handler<AsyncResult<Void>> {
+
+        private final ResteasyReactiveRequestContext context;
+        private final HttpServerResponse vertxResponse;
+        private final ServerHttpResponse response;
+        private final List<ByteBuf> chunks;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private int index;
+
+        ChunkWriter(ResteasyReactiveRequestContext context, HttpServerResponse vertxResponse, ServerHttpResponse response,
+                List<ByteBuf> chunks) {
+            this.context = context;
+            this.vertxResponse = vertxResponse;
+            this.response = response;
+            this.chunks = chunks;
+        }
+
+        void start() {
+            run();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (index < chunks.size() - 1) {
+                    if (completed.get()) {
+                        return;
+                    }
+                    // The pending writes fail when the connection is closed, even if the drain handler is never called
+                    vertxResponse.write(Buffer.buffer(chunks.get(index++))).onFailure(new Handler<Throwable>() {
+                        @Override
+                        public void handle(Throwable failure) {
+                            complete(failure);
+                        }
+                    });
+                    if (response.isWriteQueueFull()) {
+                        // Continue once the data written so far has been flushed
+                        response.addDrainHandler(this);
+                        return;
+                    }
+                }
+                if (completed.get()) {
+                    return;
+                }
+                vertxResponse.end(Buffer.buffer(chunks.get(index++))).onComplete(this);
+            } catch (Exception e) {
+                // Writing to a closed response throws
+                complete(e);
+            }
+        }
+
+        @Override
+        public void handle(AsyncResult<Void> ended) {
+            complete(ended.cause());
+        }
+
+        private void complete(Throwable failure) {
+            // Several pending writes may fail, and concurrently with a blocking writer
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            if (failure == null) {
+                context.resume();
+            } else {
+                context.resume(failure);
+            }
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.setSelectedVariant;
-import static io.quarkus.resteasy.reactive.qute.runtime.Util.toUni;
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.toEntity;
 
 import jakarta.inject.Inject;
 import jakarta.ws.rs.container.ContainerResponseContext;
@@ -9,6 +9,7 @@
 
 import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
 import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
 
 import io.quarkus.qute.Engine;
@@ -40,7 +41,8 @@ public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext,
             mediaType = selectedMediaType;
         }
 
-        Uni<String> uni = toUni(instance, engine);
+        Uni<?> uni = toEntity(instance, engine,
+                (ResteasyReactiveRequestContext) requestContext.getServerRequestContext());
         return uni.chain(r -> {
             if (mediaType != null) {
                 responseContext.setEntity(r, null, mediaType);
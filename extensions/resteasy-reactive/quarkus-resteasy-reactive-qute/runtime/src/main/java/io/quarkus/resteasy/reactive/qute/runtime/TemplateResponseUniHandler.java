@@ -1,7 +1,7 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.*;
-import static io.quarkus.resteasy.reactive.qute.runtime.Util.toUni;
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.toEntity;
 
 import jakarta.ws.rs.core.MediaType;
 
@@ -36,11 +36,11 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
     }
 
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
+    private Uni<?> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
         MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
         requestContext.setResponseContentType(mediaType);
-        return toUni(result, engine);
+        return toEntity(result, engine, requestContext);
     }
 
 }
@@ -4,10 +4,15 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletionStage;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Request;
 
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.handlers.ResourceResponseFilterHandler;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateException;
@@ -17,11 +22,67 @@
 
 final class Util {
 
+    // See CustomFilterGenerator
+    private static final String GENERATED_TEMPLATE_RESPONSE_FILTER = TemplateResponseFilter.class.getName()
+            + "$GeneratedServerResponseFilter$filter";
+
     private Util() {
     }
 
+    /**
+     * Renders the template into a {@link TemplateOutput} if the entity cannot be observed, see
+     * {@link #isEntityObservable(ResteasyReactiveRequestContext)}, or into a {@code String} otherwise.
+     */
+    static Uni<?> toEntity(TemplateInstance instance, Engine engine, ResteasyReactiveRequestContext context) {
+        if (isEntityObservable(context)) {
+            return toUni(instance, engine);
+        }
+        return toOutput(instance, engine, context.getDeployment().getResteasyReactiveConfig().getOutputBufferSize());
+    }
+
+    /**
+     * The response filters other than {@link TemplateResponseFilter} and the writer interceptors may expect the rendered
+     * template to be a {@code String}.
+     */
+    static boolean isEntityObservable(ResteasyReactiveRequestContext context) {
+        if (context.getWriterInterceptors() != null) {
+            return true;
+        }
+        for (ServerRestHandler handler : context.getHandlers()) {
+            if (handler instanceof ResourceResponseFilterHandler && !GENERATED_TEMPLATE_RESPONSE_FILTER
+                    .equals(((ResourceResponseFilterHandler) handler).getFilter().getClass().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     static Uni<String> toUni(TemplateInstance instance, Engine engine) {
-        Uni<String> uni = instance.createUni();
+        return withTimeout(instance.createUni(), instance, engine);
+    }
+
+    /**
+     * Renders the template into a {@link TemplateOutput} made of buffers of the given size.
+     */
+    static Uni<TemplateOutput> toOutput(TemplateInstance instance, Engine engine, int bufferSize) {
+        Uni<TemplateOutput> uni = Uni.createFrom().deferred(() -> {
+            TemplateOutput output = new TemplateOutput(bufferSize);
+            CompletionStage<Void> rendered;
+            try {
+                rendered = instance.consume(output);
+            } catch (UnsupportedOperationException e) {
+                // A custom template instance may only support the rendering as a whole
+                return instance.createUni().map(r -> {
+                    output.accept(r);
+                    return output;
+                });
+            }
+            return Uni.createFrom().completionStage(rendered).replaceWith(output);
+        });
+        return withTimeout(uni, instance, engine);
+    }
+
+    private static <T> Uni<T> withTimeout(Uni<T> uni, TemplateInstance instance, Engine engine) {
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
             long timeout = instance.getTimeout();
@@ -1428,7 +1428,8 @@ private org.jboss.resteasy.reactive.common.ResteasyReactiveConfig createRestReac
                 getEffectivePropertyValue("min-chunk-size", config.outputBufferSize(), Integer.class, mpConfig),
                 getEffectivePropertyValue("output-buffer-size", config.outputBufferSize(), Integer.class, mpConfig),
                 getEffectivePropertyValue("single-default-produces", config.singleDefaultProduces(), Boolean.class, mpConfig),
-                getEffectivePropertyValue("default-produces", config.defaultProduces(), Boolean.class, mpConfig));
+                getEffectivePropertyValue("default-produces", config.defaultProduces(), Boolean.class, mpConfig),
+                config.lazyPathParams());
     }
 
     private <T> T getEffectivePropertyValue(String legacyPropertyName, T newPropertyValue, Class<T> propertyType,
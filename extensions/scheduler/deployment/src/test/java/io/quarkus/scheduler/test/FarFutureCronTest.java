@@ -0,0 +1,69 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class FarFutureCronTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testFarFutureCron() throws InterruptedException {
+        Trigger farFuture = scheduler.getScheduledJob("farFuture");
+        assertEquals(ZonedDateTime.of(2099, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault()).toInstant(),
+                farFuture.getNextFireTime());
+        // A trigger that will never fire again is not checked anymore
+        assertNull(scheduler.getScheduledJob("past").getNextFireTime());
+
+        // The other jobs are checked as usual
+        assertTrue(Jobs.LATCH.await(3, TimeUnit.SECONDS));
+        assertFalse(Jobs.FAR_FUTURE_EXECUTED.get());
+        assertFalse(Jobs.PAST_EXECUTED.get());
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(3);
+        static final AtomicBoolean FAR_FUTURE_EXECUTED = new AtomicBoolean();
+        static final AtomicBoolean PAST_EXECUTED = new AtomicBoolean();
+
+        @Scheduled(cron = "0 0 0 1 1 ? 2099", identity = "farFuture")
+        void farFuture() {
+            FAR_FUTURE_EXECUTED.set(true);
+        }
+
+        @Scheduled(cron = "0 0 0 1 1 ? 2020", identity = "past")
+        void past() {
+            PAST_EXECUTED.set(true);
+        }
+
+        @Scheduled(every = "0.1s")
+        void everyHundredMillis() {
+            LATCH.countDown();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PausedResumedJobTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class));
+
+    private static final String PAUSED = "paused";
+    private static final String RUNNING = "running";
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testPauseAndResumeSingleJob() throws InterruptedException {
+        assertTrue(Jobs.PAUSED_LATCH.await(3, TimeUnit.SECONDS));
+        scheduler.pause(PAUSED);
+        assertTrue(scheduler.isPaused(PAUSED));
+        assertFalse(scheduler.isPaused(RUNNING));
+
+        // Wait for an execution in progress, if any, to complete
+        Thread.sleep(200);
+        int executions = Jobs.PAUSED_COUNTER.get();
+        int runningExecutions = Jobs.RUNNING_COUNTER.get();
+        Thread.sleep(1000);
+        assertEquals(executions, Jobs.PAUSED_COUNTER.get());
+        // The other jobs are not affected
+        assertTrue(Jobs.RUNNING_COUNTER.get() > runningExecutions);
+
+        // The job is scheduled again once resumed
+        Jobs.PAUSED_LATCH = new CountDownLatch(3);
+        scheduler.resume(PAUSED);
+        assertFalse(scheduler.isPaused(PAUSED));
+        assertTrue(Jobs.PAUSED_LATCH.await(3, TimeUnit.SECONDS));
+    }
+
+    static class Jobs {
+
+        static volatile CountDownLatch PAUSED_LATCH = new CountDownLatch(3);
+        static final AtomicInteger PAUSED_COUNTER = new AtomicInteger();
+        static final AtomicInteger RUNNING_COUNTER = new AtomicInteger();
+
+        @Scheduled(every = "0.1s", identity = PAUSED)
+        void paused() {
+            PAUSED_COUNTER.incrementAndGet();
+            PAUSED_LATCH.countDown();
+        }
+
+        @Scheduled(every = "0.1s", identity = RUNNING)
+        void running() {
+            RUNNING_COUNTER.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class UnscheduledJobTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root
+                    .addAsResource(new StringAsset("quarkus.scheduler.start-mode=forced"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testUnscheduledJobNeverFires() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch fired = new CountDownLatch(1);
+        scheduler.newJob("fast")
+                .setInterval("0.1s")
+                .setTask(ec -> {
+                    executions.incrementAndGet();
+                    fired.countDown();
+                })
+                .schedule();
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+
+        assertNotNull(scheduler.unscheduleJob("fast"));
+        assertNull(scheduler.getScheduledJob("fast"));
+        // Let an execution that started before the job was unscheduled complete
+        Thread.sleep(200);
+        int count = executions.get();
+        // The pending check of the trigger is cancelled, the job would have fired several times otherwise
+        Thread.sleep(500);
+        assertEquals(count, executions.get());
+    }
+
+    @Test
+    public void testUnscheduledDelayedJob() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        scheduler.newJob("delayed")
+                .setInterval("0.1s")
+                .setDelayed("0.3s")
+                .setTask(ec -> executions.incrementAndGet())
+                .schedule();
+        assertNotNull(scheduler.getScheduledJob("delayed"));
+
+        // Unscheduled before the first check of the trigger
+        assertNotNull(scheduler.unscheduleJob("delayed"));
+        assertNull(scheduler.getScheduledJob("delayed"));
+        Thread.sleep(700);
+        assertEquals(0, executions.get());
+
+        // The identity can be used again, the new job is not affected by the cancelled check
+        CountDownLatch fired = new CountDownLatch(1);
+        scheduler.newJob("delayed")
+                .setInterval("0.1s")
+                .setTask(ec -> fired.countDown())
+                .schedule();
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertNotNull(scheduler.unscheduleJob("delayed"));
+        assertEquals(0, executions.get());
+    }
+}
@@ -2,7 +2,6 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -15,7 +14,8 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -80,12 +80,10 @@ public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOG = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    private static final long CHECK_PERIOD = 1000L;
-
-    private final ScheduledExecutorService scheduledExecutor;
+    private final JBossScheduledThreadPoolExecutor scheduledExecutor;
     private final Vertx vertx;
     private volatile boolean running;
+    private volatile boolean started;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final boolean enabled;
     private final CronParser cronParser;
@@ -137,13 +135,16 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
             return;
         }
 
-        // This executor is used to check all registered triggers every second
+        // This executor is used to check the registered triggers when they are due;
+        // its queue is a priority queue ordered by the time of the next check
         this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, new Runnable() {
             @Override
             public void run() {
                 // noop
             }
         });
+        // Remove the checks of unscheduled jobs from the queue immediately
+        this.scheduledExecutor.setRemoveOnCancelPolicy(true);
 
         if (startMode == StartMode.HALTED) {
             running = false;
@@ -191,6 +192,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    task.cancel();
                     return task.trigger;
                 }
             }
@@ -203,12 +205,11 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        started = true;
+        // Each task schedules the next check of its trigger
+        for (ScheduledTask task : scheduledTasks.values()) {
+            task.schedule();
+        }
     }
 
     @PreDestroy
@@ -222,18 +223,6 @@ void stop() {
         }
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOG.trace("Skip all triggers - scheduler paused");
-            return;
-        }
-        ZonedDateTime now = ZonedDateTime.now();
-        LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
-        }
-    }
-
     @Override
     public void pause() {
         if (!enabled) {
@@ -255,6 +244,7 @@ public void pause(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(false);
+            task.pause();
             Events.fire(scheduledJobPausedEvent, new ScheduledJobPaused(task.trigger));
         }
     }
@@ -279,6 +269,10 @@ public void resume() {
             LOG.warn("Scheduler is disabled and cannot be resumed");
         } else {
             running = true;
+            // The checks of all triggers were stopped when the scheduler was paused
+            for (ScheduledTask task : scheduledTasks.values()) {
+                task.schedule();
+            }
             Events.fire(schedulerResumedEvent, SchedulerResumed.INSTANCE);
         }
     }
@@ -294,6 +288,7 @@ public void resume(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(true);
+            task.schedule();
             Events.fire(scheduledJobResumedEvent, new ScheduledJobResumed(task.trigger));
         }
     }
@@ -385,11 +380,14 @@ public static Scheduled.SkipPredicate initSkipPredicate(Class<? extends SkipPred
         return Arc.container().select(predicateClass, Any.Literal.INSTANCE).get();
     }
 
-    static class ScheduledTask {
+    class ScheduledTask implements Runnable {
 
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // the pending check of the trigger, guarded by this
+        private ScheduledFuture<?> check;
+        private boolean cancelled;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -397,6 +395,76 @@ static class ScheduledTask {
             this.isProgrammatic = isProgrammatic;
         }
 
+        /**
+         * Schedules the next check of the trigger, unless it's already scheduled.
+         */
+        synchronized void schedule() {
+            if (check == null && !cancelled && started) {
+                scheduleCheck(ZonedDateTime.now());
+            }
+        }
+
+        /**
+         * Cancels the pending check of the trigger, if any. The task can be scheduled again.
+         */
+        synchronized void pause() {
+            if (check != null) {
+                check.cancel(false);
+                check = null;
+            }
+        }
+
+        /**
+         * Cancels the pending check of the trigger, if any. The task is never scheduled again.
+         */
+        synchronized void cancel() {
+            pause();
+            cancelled = true;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                check = null;
+                if (cancelled) {
+                    return;
+                }
+            }
+            if (!running || !trigger.isRunning()) {
+                // The check is scheduled again when the scheduler or the job is resumed
+                LOG.tracef("Skip %s - paused", trigger);
+                return;
+            }
+            ZonedDateTime now = ZonedDateTime.now();
+            LOG.tracef("Check %s at %s", trigger, now);
+            try {
+                execute(now, vertx);
+            } catch (Throwable t) {
+                LOG.errorf(t, "Unable to execute %s", trigger);
+            }
+            synchronized (this) {
+                if (check == null && !cancelled) {
+                    scheduleCheck(now);
+                }
+            }
+        }
+
+        private void scheduleCheck(ZonedDateTime now) {
+            ZonedDateTime next = trigger.nextCheck(now);
+            if (next == null) {
+                // The trigger will never fire again
+                return;
+            }
+            // A trigger that is due but did not fire yet is checked again after one millisecond
+            long delay = Math.max(1, ChronoUnit.MILLIS.between(ZonedDateTime.now(), next));
+            try {
+                check = scheduledExecutor.schedule(this, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // The scheduler was stopped
+                LOG.debugf("Unable to schedule the check of %s", trigger);
+            }
+        }
+
         void execute(ZonedDateTime now, Vertx vertx) {
             if (!trigger.isRunning()) {
                 return;
@@ -471,6 +539,12 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @param now The current date-time in the default time zone
+         * @return the date-time the trigger should be evaluated next, or {@code null} if it will never fire again
+         */
+        abstract ZonedDateTime nextCheck(ZonedDateTime now);
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -514,19 +588,26 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now;
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                // Keep the cadence unless the trigger missed a whole interval, e.g. because it was paused
+                lastFireTime = diff < 2 * interval ? scheduledFireTime : now;
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
             return null;
         }
 
+        @Override
+        ZonedDateTime nextCheck(ZonedDateTime now) {
+            ZonedDateTime last = lastFireTime;
+            return last != null ? last.plus(Duration.ofMillis(interval)) : start;
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -594,6 +675,17 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             return null;
         }
 
+        @Override
+        ZonedDateTime nextCheck(ZonedDateTime now) {
+            if (now.isBefore(start)) {
+                return start;
+            }
+            ZonedDateTime last = timeZone == null ? lastFireTime : lastFireTime.withZoneSameInstant(timeZone);
+            Optional<ZonedDateTime> nextExecution = executionTime.nextExecution(last);
+            // Cron executions are evaluated with a precision of one second
+            return nextExecution.isPresent() ? nextExecution.get().truncatedTo(ChronoUnit.SECONDS) : null;
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -712,6 +804,7 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                scheduledTask.schedule();
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,55 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The static resources processed during the build, see {@code quarkus.http.static-resources.precompress}.
+ * <p>
+ * All paths are relative from the {@code META-INF/resources} directory and start with a {@code /}.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> etags;
+    private final Set<String> gzipped;
+    private final Set<String> brotli;
+    private final Set<String> fingerprinted;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, String> etags, Set<String> gzipped, Set<String> brotli,
+            Set<String> fingerprinted) {
+        this.etags = etags;
+        this.gzipped = gzipped;
+        this.brotli = brotli;
+        this.fingerprinted = fingerprinted;
+    }
+
+    /**
+     * @return the strong entity tags of the resources, computed from their content
+     */
+    public Map<String, String> getEtags() {
+        return etags;
+    }
+
+    /**
+     * @return the resources with a gzip variant, i.e. a {@code .gz} resource
+     */
+    public Set<String> getGzipped() {
+        return gzipped;
+    }
+
+    /**
+     * @return the resources with a brotli variant, i.e. a {@code .br} resource
+     */
+    public Set<String> getBrotli() {
+        return brotli;
+    }
+
+    /**
+     * @return the resources whose path changes whenever their content changes
+     */
+    public Set<String> getFingerprinted() {
+        return fingerprinted;
+    }
+}
@@ -2,41 +2,69 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import io.netty.handler.codec.compression.Brotli;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOGGER = Logger.getLogger(StaticResourcesProcessor.class);
+
+    static final String GZIP_SUFFIX = ".gz";
+    static final String BROTLI_SUFFIX = ".br";
+
     @BuildStep
     void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildItem applicationArchivesBuildItem,
             List<AdditionalStaticResourceBuildItem> additionalStaticResources,
@@ -54,18 +82,102 @@ void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildI
         }
     }
 
+    /**
+     * Compresses the static resources with gzip and brotli, so that they are not compressed again for every request,
+     * and computes their entity tags.
+     */
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(HttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources, ExecutorService buildExecutor,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) {
+        if (!httpBuildTimeConfig.staticResources.precompress || staticResources.isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = httpBuildTimeConfig.compressMediaTypes.isPresent()
+                ? Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get())
+                : Set.of();
+        boolean brotliAvailable = Brotli.isAvailable();
+        if (!brotliAvailable) {
+            LOGGER.debug("Brotli is not available on this platform, static resources are only precompressed with gzip");
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        List<CompletableFuture<PrecompressedResource>> futures = new ArrayList<>();
+        for (StaticResourcesBuildItem.Entry entry : staticResources.get().getEntries()) {
+            if (entry.isDirectory()) {
+                continue;
+            }
+            String path = entry.getPath();
+            futures.add(CompletableFuture.supplyAsync(new Supplier<PrecompressedResource>() {
+                @Override
+                public PrecompressedResource get() {
+                    try {
+                        return precompress(classLoader, path, compressMediaTypes, brotliAvailable);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to precompress the static resource " + path, e);
+                    }
+                }
+            }, buildExecutor));
+        }
+
+        Map<String, String> etags = new HashMap<>();
+        Set<String> gzipped = new HashSet<>();
+        Set<String> brotli = new HashSet<>();
+        Set<String> fingerprinted = new HashSet<>();
+        for (CompletableFuture<PrecompressedResource> future : futures) {
+            PrecompressedResource resource;
+            try {
+                resource = future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+            if (resource == null) {
+                // Not available on the build classpath, e.g. added by an extension at runtime
+                continue;
+            }
+            etags.put(resource.path, resource.etag);
+            if (resource.gzip != null) {
+                gzipped.add(resource.path);
+                generatedResources.produce(new GeneratedResourceBuildItem(
+                        StaticResourcesRecorder.META_INF_RESOURCES + resource.path + GZIP_SUFFIX, resource.gzip));
+            }
+            if (resource.brotli != null) {
+                brotli.add(resource.path);
+                generatedResources.produce(new GeneratedResourceBuildItem(
+                        StaticResourcesRecorder.META_INF_RESOURCES + resource.path + BROTLI_SUFFIX, resource.brotli));
+            }
+            if (httpBuildTimeConfig.staticResources.fingerprintedPattern.matcher(resource.path).matches()) {
+                fingerprinted.add(resource.path);
+            }
+        }
+        LOGGER.debugf("Precompressed %s static resources with gzip and %s with brotli", gzipped.size(), brotli.size());
+        precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(etags, gzipped, brotli, fingerprinted));
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
-            CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
+            CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer, ShutdownContextBuildItem shutdown,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            if (precompressedStaticResources.isPresent()) {
+                PrecompressedStaticResourcesBuildItem precompressed = precompressedStaticResources.get();
+                defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                        precompressed.getEtags(), precompressed.getGzipped(), precompressed.getBrotli(),
+                        precompressed.getFingerprinted(), shutdown)));
+            } else {
+                defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(), shutdown)));
+            }
         }
     }
 
     @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
     public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResources,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
             BuildProducer<NativeImageResourceBuildItem> producer) {
         if (staticResources.isPresent()) {
             Set<StaticResourcesBuildItem.Entry> entries = staticResources.get().getEntries();
@@ -78,6 +190,14 @@ public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResourc
                 String metaInfResourcesPath = StaticResourcesRecorder.META_INF_RESOURCES + entry.getPath();
                 metaInfResources.add(metaInfResourcesPath);
             }
+            if (precompressedStaticResources.isPresent()) {
+                for (String path : precompressedStaticResources.get().getGzipped()) {
+                    metaInfResources.add(StaticResourcesRecorder.META_INF_RESOURCES + path + GZIP_SUFFIX);
+                }
+                for (String path : precompressedStaticResources.get().getBrotli()) {
+                    metaInfResources.add(StaticResourcesRecorder.META_INF_RESOURCES + path + BROTLI_SUFFIX);
+                }
+            }
             producer.produce(new NativeImageResourceBuildItem(metaInfResources));
         }
     }
@@ -133,4 +253,68 @@ public FileVisitResult visitFile(Path p, BasicFileAttributes attrs)
             throw new UncheckedIOException(e);
         }
     }
+
+    private static PrecompressedResource precompress(ClassLoader classLoader, String path, Set<String> compressMediaTypes,
+            boolean brotliAvailable) throws IOException {
+        byte[] content;
+        try (InputStream in = classLoader.getResourceAsStream(StaticResourcesRecorder.META_INF_RESOURCES + path)) {
+            if (in == null) {
+                return null;
+            }
+            content = in.readAllBytes();
+        }
+        byte[] gzip = null;
+        byte[] brotli = null;
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null && compressMediaTypes.contains(contentType)) {
+            // A variant is only worth serving if it is smaller than the resource
+            gzip = gzip(content);
+            if (gzip.length >= content.length) {
+                gzip = null;
+            }
+            if (brotliAvailable) {
+                brotli = Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+                if (brotli.length >= content.length) {
+                    brotli = null;
+                }
+            }
+        }
+        return new PrecompressedResource(path, etag(content), gzip, brotli);
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class PrecompressedResource {
+
+        final String path;
+        final String etag;
+        final byte[] gzip;
+        final byte[] brotli;
+
+        PrecompressedResource(String path, String etag, byte[] gzip, byte[] brotli) {
+            this.path = path;
+            this.etag = etag;
+            this.gzip = gzip;
+            this.brotli = brotli;
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package io.quarkus.vertx.http;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesMemoryCacheTest extends AbstractStaticResourcesTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.static-resources.memory-cache-enabled=true\n"
+                            + "quarkus.http.static-resources.memory-cache-max-size=300\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/.hidden-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg"));
+
+    @Test
+    public void shouldSendCachingHeaders() {
+        String lastModified = RestAssured.when().get("/image.svg")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", "image/svg+xml")
+                .header("Content-Length", Integer::parseInt, Matchers.greaterThan(0))
+                .header("Cache-Control", "public, immutable, max-age=86400")
+                .header("Last-Modified", Matchers.notNullValue())
+                .extract().header("Last-Modified");
+        RestAssured.given().header("If-Modified-Since", lastModified)
+                .when().get("/image.svg")
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void shouldServeRange() {
+        RestAssured.given().header("Range", "bytes=0-3")
+                .when().get("/image.svg")
+                .then()
+                .statusCode(206)
+                .header("Content-Length", "4");
+    }
+}
@@ -0,0 +1,124 @@
+package io.quarkus.vertx.http;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesPrecompressTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.static-resources.precompress=true\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/app.0123abcd.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg"));
+
+    @Test
+    public void shouldServeGzipVariant() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", "text/html;charset=UTF-8")
+                .header("Content-Length", Integer::parseInt, Matchers.greaterThan(0))
+                .header("Transfer-Encoding", Matchers.nullValue())
+                .header("Vary", "accept-encoding")
+                .header("ETag", Matchers.endsWith("-gzip\""))
+                .header("Cache-Control", "public, max-age=86400")
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServeRootPageVariant() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("ETag", Matchers.endsWith("-gzip\""))
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServeIdentity() {
+        RestAssured.given().header("Accept-Encoding", "identity")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.not("gzip"))
+                .header("ETag", Matchers.not(Matchers.endsWith("-gzip\"")))
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldNotCompressOnTheFlyWithoutMatchingVariant() {
+        // The identity entity tag must not be sent with a response compressed on the fly
+        RestAssured.given().header("Accept-Encoding", "deflate")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.not("deflate"))
+                .header("Vary", "accept-encoding")
+                .header("ETag", Matchers.not(Matchers.endsWith("-gzip\"")))
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldReturnNotModified() {
+        String etag = RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .extract().header("ETag");
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag)
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(304)
+                .header("ETag", etag);
+        // Another variant
+        RestAssured.given().header("Accept-Encoding", "identity").header("If-None-Match", etag)
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void shouldServeFingerprintedResourceAsImmutable() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/app.0123abcd.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Cache-Control", "public, max-age=31536000, immutable");
+    }
+
+    @Test
+    public void shouldNotCompressSVG() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/image.svg")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue())
+                .header("ETag", Matchers.notNullValue())
+                .body(Matchers.containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServeVariantWithoutBodyForHead() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().head("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Length", Integer::parseInt, Matchers.greaterThan(0));
+    }
+}
@@ -98,4 +98,9 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem
     public OptionalInt compressionLevel;
+
+    /**
+     * The build time configuration of the static resources.
+     */
+    public StaticResourcesBuildTimeConfig staticResources;
 }
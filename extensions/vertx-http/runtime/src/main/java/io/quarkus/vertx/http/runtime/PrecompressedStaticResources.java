@@ -0,0 +1,377 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.ShutdownContext;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The static resources processed during the build. Each resource has a strong entity tag, and may have gzip and brotli
+ * variants that are sent as is, according to the {@code Accept-Encoding} header of the request.
+ * <p>
+ * The variants are held in memory up to a total of {@link StaticResourcesConfig#precompressedMemoryMaxSize}, the other
+ * variants are sent from a file with {@link HttpServerResponse#sendFile(String)}.
+ */
+final class PrecompressedStaticResources {
+
+    private static final Logger LOG = Logger.getLogger(PrecompressedStaticResources.class);
+
+    static final String GZIP = "gzip";
+    static final String BROTLI = "br";
+    static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final Map<String, Resource> resources;
+    // Null if caching is disabled
+    private final String cacheControl;
+
+    PrecompressedStaticResources(Map<String, Resource> resources, String cacheControl) {
+        this.resources = resources;
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * Loads the variants of the resources. The variants that cannot be held in memory and are not available as a file are
+     * extracted to a temporary directory, which is deleted on shutdown.
+     *
+     * @param classLoader the class loader of the application
+     * @param etags the entity tags of the resources
+     * @param gzipped the resources with a gzip variant
+     * @param brotli the resources with a brotli variant
+     * @param fingerprinted the resources whose path changes whenever their content changes
+     * @param config the static resources configuration
+     * @param shutdown the shutdown context
+     */
+    static PrecompressedStaticResources load(ClassLoader classLoader, Map<String, String> etags, Set<String> gzipped,
+            Set<String> brotli, Set<String> fingerprinted, StaticResourcesConfig config, ShutdownContext shutdown) {
+        VariantLoader loader = new VariantLoader(classLoader, config.precompressedMemoryMaxSize.asLongValue(), shutdown);
+        Map<String, Resource> resources = new HashMap<>();
+        // Sorted, so that the same variants are held in memory every time the application starts
+        for (Map.Entry<String, String> e : new TreeMap<>(etags).entrySet()) {
+            String path = e.getKey();
+            resources.put(path, new Resource(contentType(path), e.getValue(),
+                    gzipped.contains(path) ? loader.load(path + ".gz") : null,
+                    brotli.contains(path) ? loader.load(path + ".br") : null,
+                    fingerprinted.contains(path)));
+        }
+        LOG.debugf("Loaded the precompressed variants of %s static resources, %s bytes are held in memory",
+                resources.size(), loader.size);
+        return new PrecompressedStaticResources(resources,
+                config.cachingEnabled ? "public, max-age=" + config.maxAge.toSeconds() : null);
+    }
+
+    Resource get(String path) {
+        return resources.get(path);
+    }
+
+    /**
+     * @param path the path of the resource
+     * @return {@code true} if the resource was processed during the build, and is served with an entity tag
+     */
+    boolean contains(String path) {
+        return resources.containsKey(path);
+    }
+
+    /**
+     * Sends the response if the variant of the resource matching the request was precompressed, or if the client already
+     * has the resource. Otherwise, only adds the entity tag and caching headers, and the resource should be sent by the
+     * {@code StaticHandler}, as is: the entity tag identifies the uncompressed resource, so it must not be compressed on
+     * the fly.
+     *
+     * @param ctx the routing context
+     * @param path the path of the resource
+     * @return {@code true} if the response was sent
+     */
+    boolean handle(RoutingContext ctx, String path) {
+        Resource resource = resources.get(path);
+        if (resource == null) {
+            return false;
+        }
+        HttpMethod method = ctx.request().method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+        String encoding = resource.hasVariants()
+                ? selectEncoding(ctx.request().getHeader(HttpHeaders.ACCEPT_ENCODING), resource.brotli != null,
+                        resource.gzip != null)
+                : null;
+        String etag = resource.etag(encoding);
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.ETAG, etag);
+        if (resource.hasVariants()) {
+            headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        String cacheControl = cacheControl(resource);
+        if (cacheControl != null) {
+            // The StaticHandler only adds its own header if absent
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (matches(ctx.request().getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            // The client already has this variant
+            response.setStatusCode(304).end();
+            return true;
+        }
+        if (encoding == null) {
+            return false;
+        }
+        Variant variant = BROTLI.equals(encoding) ? resource.brotli : resource.gzip;
+        // Setting the Content-Encoding header also prevents the response from being compressed again
+        headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+        if (resource.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, resource.contentType);
+        }
+        if (method == HttpMethod.HEAD) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, String.valueOf(variant.length));
+            response.end();
+        } else if (variant.content != null) {
+            response.end(variant.content);
+        } else {
+            Future<Void> sent = response.sendFile(variant.file);
+            sent.onFailure(new Handler<Throwable>() {
+                @Override
+                public void handle(Throwable t) {
+                    ctx.fail(t);
+                }
+            });
+        }
+        return true;
+    }
+
+    private String cacheControl(Resource resource) {
+        if (cacheControl == null) {
+            return null;
+        }
+        return resource.fingerprinted ? IMMUTABLE_CACHE_CONTROL : cacheControl;
+    }
+
+    /**
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header, may be {@code null}
+     * @param brotli whether a brotli variant exists
+     * @param gzip whether a gzip variant exists
+     * @return the encoding of the variant to send, or {@code null} if the resource should be sent as is
+     */
+    static String selectEncoding(String acceptEncoding, boolean brotli, boolean gzip) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        float brotliQuality = -1;
+        float gzipQuality = -1;
+        float anyQuality = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String coding = element;
+            float quality = 1;
+            int semicolon = element.indexOf(';');
+            if (semicolon != -1) {
+                coding = element.substring(0, semicolon);
+                quality = quality(element.substring(semicolon + 1));
+            }
+            coding = coding.trim();
+            if (BROTLI.equalsIgnoreCase(coding)) {
+                brotliQuality = quality;
+            } else if (GZIP.equalsIgnoreCase(coding) || "x-gzip".equalsIgnoreCase(coding)) {
+                gzipQuality = quality;
+            } else if ("*".equals(coding)) {
+                anyQuality = quality;
+            }
+        }
+        // Codings that are not listed are only acceptable through "*"
+        if (brotliQuality < 0) {
+            brotliQuality = Math.max(anyQuality, 0);
+        }
+        if (gzipQuality < 0) {
+            gzipQuality = Math.max(anyQuality, 0);
+        }
+        if (!brotli) {
+            brotliQuality = 0;
+        }
+        if (!gzip) {
+            gzipQuality = 0;
+        }
+        if (brotliQuality > 0 && brotliQuality >= gzipQuality) {
+            // Brotli is preferred because the variant is smaller
+            return BROTLI;
+        }
+        return gzipQuality > 0 ? GZIP : null;
+    }
+
+    private static float quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            parameter = parameter.trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                    && parameter.charAt(1) == '=') {
+                try {
+                    return Float.parseFloat(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * @param ifNoneMatch the value of the {@code If-None-Match} header, may be {@code null}
+     * @param etag the entity tag of the variant
+     * @return {@code true} if the entity tag matches, using the weak comparison
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String element : ifNoneMatch.split(",")) {
+            String tag = element.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String contentType(String path) {
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null && contentType.startsWith("text")) {
+            // Same as the StaticHandler
+            return contentType + ";charset=UTF-8";
+        }
+        return contentType;
+    }
+
+    /**
+     * Loads the variants in memory until the maximum size is reached.
+     */
+    private static final class VariantLoader {
+
+        private final ClassLoader classLoader;
+        private final long maxSize;
+        private final ShutdownContext shutdown;
+        private long size;
+        // Created when the first variant is extracted
+        private Path directory;
+
+        VariantLoader(ClassLoader classLoader, long maxSize, ShutdownContext shutdown) {
+            this.classLoader = classLoader;
+            this.maxSize = maxSize;
+            this.shutdown = shutdown;
+        }
+
+        /**
+         * @return the variant, or {@code null} if it cannot be read, in which case the resource is sent as is
+         */
+        Variant load(String path) {
+            URL url = classLoader.getResource(StaticResourcesRecorder.META_INF_RESOURCES + path);
+            if (url == null) {
+                return null;
+            }
+            try {
+                URLConnection connection = url.openConnection();
+                Path file = "file".equals(url.getProtocol()) ? Path.of(url.toURI()) : null;
+                int limit = (int) Math.min(maxSize - size, Integer.MAX_VALUE - 8);
+                // -1 if unknown
+                long length = connection.getContentLengthLong();
+                if (file != null && length > limit) {
+                    return new Variant(null, file.toString(), Files.size(file));
+                }
+                try (InputStream in = connection.getInputStream()) {
+                    byte[] head = null;
+                    if (length <= limit) {
+                        head = in.readNBytes(limit + 1);
+                        if (head.length <= limit) {
+                            size += head.length;
+                            return new Variant(Buffer.buffer(head), null, head.length);
+                        }
+                    }
+                    if (file == null) {
+                        if (directory == null) {
+                            directory = Files.createTempDirectory("quarkus-precompressed-resources");
+                            shutdown.addShutdownTask(new StaticResourcesCache.DeleteDirectory(directory));
+                        }
+                        file = directory.resolve(path.substring(1));
+                        Files.createDirectories(file.getParent());
+                        try (OutputStream out = Files.newOutputStream(file)) {
+                            if (head != null) {
+                                out.write(head);
+                            }
+                            in.transferTo(out);
+                        }
+                    }
+                }
+                return new Variant(null, file.toString(), Files.size(file));
+            } catch (IOException | URISyntaxException e) {
+                LOG.debugf(e, "Unable to read the precompressed static resource %s", path);
+                return null;
+            }
+        }
+    }
+
+    static final class Variant {
+
+        // Null if the variant is sent from a file
+        final Buffer content;
+        final String file;
+        final long length;
+
+        Variant(Buffer content, String file, long length) {
+            this.content = content;
+            this.file = file;
+            this.length = length;
+        }
+    }
+
+    static final class Resource {
+
+        final String contentType;
+        final String etag;
+        final Variant gzip;
+        final Variant brotli;
+        final boolean fingerprinted;
+
+        Resource(String contentType, String etag, Variant gzip, Variant brotli, boolean fingerprinted) {
+            this.contentType = contentType;
+            this.etag = etag;
+            this.gzip = gzip;
+            this.brotli = brotli;
+            this.fingerprinted = fingerprinted;
+        }
+
+        boolean hasVariants() {
+            return gzip != null || brotli != null;
+        }
+
+        /**
+         * Each variant has a distinct strong entity tag.
+         */
+        String etag(String encoding) {
+            if (encoding == null) {
+                return '"' + etag + '"';
+            }
+            return '"' + etag + '-' + encoding + '"';
+        }
+    }
+}
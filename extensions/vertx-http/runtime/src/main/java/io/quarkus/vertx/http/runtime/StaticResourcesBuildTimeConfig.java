@@ -0,0 +1,35 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.regex.Pattern;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class StaticResourcesBuildTimeConfig {
+
+    /**
+     * If enabled then the static resources from {@code META-INF/resources} whose media type is configured via
+     * {@code quarkus.http.compress-media-types} are compressed with gzip and brotli during the build. A request is served
+     * the variant that matches its {@code Accept-Encoding} header, and the response is not compressed again at runtime.
+     * <p>
+     * All static resources are also served with a strong {@code ETag} computed from their content.
+     * <p>
+     * The brotli variants are only produced if the brotli native library is available for the build platform.
+     * This has no effect in dev mode.
+     */
+    @ConfigItem
+    public boolean precompress;
+
+    /**
+     * The static resources whose path matches this regular expression are considered fingerprinted, i.e. their path
+     * changes whenever their content changes. If {@link #precompress} is enabled then they are served with a long-lived
+     * {@code Cache-Control: public, max-age=31536000, immutable} header.
+     * <p>
+     * The matched input is the path of the resource relative from the {@code META-INF/resources} directory, starting with
+     * a {@code /}. By default, the file names that contain a hexadecimal hash of at least 8 characters before the extension
+     * are matched, such as {@code /app.3f2a9c1b.js} or {@code /main-5d8c1a2e0b.css}.
+     */
+    @ConfigItem(defaultValue = ".*[.-][0-9a-fA-F]{8,}\\.[^/]+")
+    public Pattern fingerprintedPattern;
+}
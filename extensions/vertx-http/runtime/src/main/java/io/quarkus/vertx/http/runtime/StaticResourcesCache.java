@@ -0,0 +1,277 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.quarkus.runtime.ShutdownContext;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The static resources of the application loaded at startup, see {@link StaticResourcesConfig#memoryCacheEnabled}.
+ * <p>
+ * The small resources are held in direct buffers, so that they are written to the socket without any copy. The other
+ * resources are sent from a file with {@link HttpServerResponse#sendFile(String)}. The response headers are computed
+ * once for each resource.
+ */
+final class StaticResourcesCache {
+
+    private static final Logger LOG = Logger.getLogger(StaticResourcesCache.class);
+
+    private static final CharSequence BYTES = HttpHeaders.createOptimized("bytes");
+
+    private final Map<String, Entry> entries;
+    // Null if caching is disabled
+    private final CharSequence cacheControl;
+    private final boolean rangeSupport;
+
+    StaticResourcesCache(Map<String, Entry> entries, CharSequence cacheControl, boolean rangeSupport) {
+        this.entries = entries;
+        this.cacheControl = cacheControl;
+        this.rangeSupport = rangeSupport;
+    }
+
+    /**
+     * Loads the resources. The resources that cannot be held in memory and are not available as a file are extracted to a
+     * temporary directory, which is deleted on shutdown.
+     *
+     * @param classLoader the class loader of the application
+     * @param knownPaths the paths of the static resources
+     * @param config the static resources configuration
+     * @param shutdown the shutdown context
+     */
+    static StaticResourcesCache load(ClassLoader classLoader, Set<String> knownPaths, StaticResourcesConfig config,
+            ShutdownContext shutdown) {
+        long maxSize = config.memoryCacheMaxSize.asLongValue();
+        int maxFileSize = (int) Math.min(config.memoryCacheMaxFileSize.asLongValue(), Integer.MAX_VALUE - 8);
+        long size = 0;
+        Path directory = null;
+        Map<String, Entry> entries = new HashMap<>();
+        // Sorted, so that the same resources are held in memory every time the application starts
+        for (String path : new TreeSet<>(knownPaths)) {
+            if (!config.includeHidden && path.contains("/.")) {
+                // The StaticHandler does not serve hidden files
+                continue;
+            }
+            URL url = classLoader.getResource(StaticResourcesRecorder.META_INF_RESOURCES + path);
+            if (url == null) {
+                continue;
+            }
+            try {
+                URLConnection connection = url.openConnection();
+                if (connection instanceof JarURLConnection && ((JarURLConnection) connection).getJarEntry().isDirectory()) {
+                    continue;
+                }
+                Path file = null;
+                if ("file".equals(url.getProtocol())) {
+                    file = Path.of(url.toURI());
+                    if (Files.isDirectory(file)) {
+                        continue;
+                    }
+                }
+                CharSequence contentType = contentType(path);
+                long lastModified = connection.getLastModified();
+                try (InputStream in = connection.getInputStream()) {
+                    int limit = (int) Math.min(maxFileSize, maxSize - size);
+                    byte[] head = in.readNBytes(limit + 1);
+                    if (head.length <= limit) {
+                        ByteBuffer content = ByteBuffer.allocateDirect(head.length);
+                        content.put(head).flip();
+                        entries.put(path, new Entry(Buffer.buffer(Unpooled.wrappedBuffer(content)), null,
+                                head.length, contentType, lastModified));
+                        size += head.length;
+                        continue;
+                    }
+                    if (file == null) {
+                        if (directory == null) {
+                            directory = Files.createTempDirectory("quarkus-static-resources");
+                            shutdown.addShutdownTask(new DeleteDirectory(directory));
+                        }
+                        file = directory.resolve(path.substring(1));
+                        Files.createDirectories(file.getParent());
+                        try (OutputStream out = Files.newOutputStream(file)) {
+                            out.write(head);
+                            in.transferTo(out);
+                        }
+                    }
+                }
+                entries.put(path, new Entry(null, file.toString(), Files.size(file), contentType, lastModified));
+            } catch (IOException | URISyntaxException e) {
+                LOG.debugf(e, "Unable to cache the static resource %s, it will be read from the class path", path);
+            }
+        }
+        LOG.debugf("Loaded %s static resources, %s bytes are held in memory", entries.size(), size);
+        return new StaticResourcesCache(entries,
+                config.cachingEnabled ? HttpHeaders.createOptimized("public, immutable, max-age=" + config.maxAge.toSeconds())
+                        : null,
+                config.enableRangeSupport);
+    }
+
+    /**
+     * Sends the resource if it is cached.
+     *
+     * @param ctx the routing context
+     * @param path the path of the resource
+     * @return {@code true} if the response was sent
+     */
+    boolean handle(RoutingContext ctx, String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        HttpMethod method = request.method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+        MultiMap requestHeaders = request.headers();
+        if (rangeSupport && requestHeaders.contains(HttpHeaderNames.RANGE)) {
+            // Range requests are served by the StaticHandler
+            return false;
+        }
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        if (cacheControl != null) {
+            if (!headers.contains(HttpHeaders.CACHE_CONTROL)) {
+                headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+            }
+            if (entry.lastModified != null) {
+                headers.set(HttpHeaders.LAST_MODIFIED, entry.lastModified);
+                if (!requestHeaders.contains(HttpHeaders.IF_NONE_MATCH)
+                        && notModifiedSince(requestHeaders.get(HttpHeaders.IF_MODIFIED_SINCE), entry.lastModifiedSeconds)) {
+                    response.setStatusCode(304).end();
+                    return true;
+                }
+            }
+        }
+        if (entry.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, entry.contentType);
+        }
+        if (rangeSupport) {
+            headers.set(HttpHeaders.ACCEPT_RANGES, BYTES);
+        }
+        if (method == HttpMethod.HEAD) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, entry.contentLength);
+            response.end();
+        } else if (entry.content != null) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, entry.contentLength);
+            response.end(entry.content);
+        } else {
+            Future<Void> sent = response.sendFile(entry.file);
+            sent.onFailure(new Handler<Throwable>() {
+                @Override
+                public void handle(Throwable t) {
+                    ctx.fail(t);
+                }
+            });
+        }
+        return true;
+    }
+
+    Entry get(String path) {
+        return entries.get(path);
+    }
+
+    private static boolean notModifiedSince(String ifModifiedSince, long lastModifiedSeconds) {
+        if (ifModifiedSince == null) {
+            return false;
+        }
+        try {
+            return ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toEpochSecond() >= lastModifiedSeconds;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static CharSequence contentType(String path) {
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType == null) {
+            return null;
+        }
+        if (contentType.startsWith("text")) {
+            // Same as the StaticHandler
+            contentType = contentType + ";charset=UTF-8";
+        }
+        return HttpHeaders.createOptimized(contentType);
+    }
+
+    static final class Entry {
+
+        // Null if the resource is sent from a file
+        final Buffer content;
+        final String file;
+        final CharSequence contentLength;
+        final CharSequence contentType;
+        final CharSequence lastModified;
+        final long lastModifiedSeconds;
+
+        Entry(Buffer content, String file, long contentLength, CharSequence contentType, long lastModified) {
+            this.content = content;
+            this.file = file;
+            this.contentLength = HttpHeaders.createOptimized(String.valueOf(contentLength));
+            this.contentType = contentType;
+            if (lastModified > 0) {
+                this.lastModifiedSeconds = lastModified / 1000;
+                this.lastModified = HttpHeaders.createOptimized(DateTimeFormatter.RFC_1123_DATE_TIME
+                        .format(ZonedDateTime.ofInstant(Instant.ofEpochSecond(lastModifiedSeconds), ZoneOffset.UTC)));
+            } else {
+                this.lastModifiedSeconds = 0;
+                this.lastModified = null;
+            }
+        }
+    }
+
+    static final class DeleteDirectory implements Runnable {
+
+        private final Path directory;
+
+        DeleteDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        public void run() {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                Iterator<Path> it = paths.sorted(Comparator.reverseOrder()).iterator();
+                while (it.hasNext()) {
+                    Files.deleteIfExists(it.next());
+                }
+            } catch (IOException e) {
+                LOG.debugf(e, "Unable to delete %s", directory);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public class StaticResourcesConfig {
@@ -50,4 +51,39 @@ public class StaticResourcesConfig {
     @ConfigItem(defaultValue = "10000")
     public int maxCacheSize;
 
+    /**
+     * If enabled then the static resources packaged in the application are loaded when the application starts, and
+     * are then served without reading them from the class path again.
+     * <p>
+     * The resources not larger than {@link #memoryCacheMaxFileSize} are held in memory, up to a total of
+     * {@link #memoryCacheMaxSize}. The other resources are extracted to a temporary directory and sent with
+     * {@code sendfile}, so that the content is copied by the kernel if possible, i.e. unless the connection uses TLS or
+     * HTTP compression is enabled.
+     * <p>
+     * This has no effect in dev mode.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean memoryCacheEnabled;
+
+    /**
+     * The maximum total size of the static resources held in memory, see {@link #memoryCacheEnabled}.
+     */
+    @ConfigItem(defaultValue = "10M")
+    public MemorySize memoryCacheMaxSize;
+
+    /**
+     * The maximum size of a static resource held in memory, see {@link #memoryCacheEnabled}. The larger resources are
+     * sent from an extracted file.
+     */
+    @ConfigItem(defaultValue = "256K")
+    public MemorySize memoryCacheMaxFileSize;
+
+    /**
+     * The maximum total size of the precompressed variants of the static resources held in memory, see
+     * {@code quarkus.http.static-resources.precompress}. The other variants are sent from a file with {@code sendfile},
+     * and are extracted to a temporary directory if they are not already files.
+     */
+    @ConfigItem(defaultValue = "10M")
+    public MemorySize precompressedMemoryMaxSize;
+
 }
@@ -3,10 +3,13 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpHeaders;
@@ -38,7 +41,21 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    public Consumer<Route> start(Set<String> knownPaths, ShutdownContext shutdown) {
+        return start(knownPaths, Map.of(), Set.of(), Set.of(), Set.of(), shutdown);
+    }
+
+    /**
+     * @param knownPaths the paths of the static resources
+     * @param etags the entity tags of the static resources processed during the build
+     * @param gzipped the static resources with a gzip variant
+     * @param brotli the static resources with a brotli variant
+     * @param fingerprinted the static resources whose path changes whenever their content changes
+     * @param shutdown the shutdown context
+     * @return the route customizer
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> etags, Set<String> gzipped,
+            Set<String> brotli, Set<String> fingerprinted, ShutdownContext shutdown) {
         if (httpBuildTimeConfig.enableCompression && httpBuildTimeConfig.compressMediaTypes.isPresent()) {
             this.compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
         }
@@ -85,6 +102,13 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage.charAt(0) == '/')
                     ? config.indexPage.substring(1)
                     : config.indexPage;
+            final PrecompressedStaticResources precompressed = etags.isEmpty() ? null
+                    : PrecompressedStaticResources.load(currentCl, etags, gzipped, brotli, fingerprinted, config,
+                            shutdown);
+            // Resources may change in dev mode
+            final StaticResourcesCache cache = config.memoryCacheEnabled && LaunchMode.current() != LaunchMode.DEVELOPMENT
+                    ? StaticResourcesCache.load(currentCl, knownPaths, config, shutdown)
+                    : null;
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -94,7 +118,18 @@ public void handle(RoutingContext ctx) {
                                     ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
-                        compressIfNeeded(ctx, rel);
+                        String path = rel.endsWith("/") ? rel.concat(indexPage) : rel;
+                        if (precompressed != null && precompressed.contains(path)) {
+                            if (precompressed.handle(ctx, path)) {
+                                return;
+                            }
+                            // The resource is sent as is, its entity tag would not match a compressed response
+                        } else {
+                            compressIfNeeded(ctx, rel);
+                        }
+                        if (cache != null && cache.handle(ctx, path)) {
+                            return;
+                        }
                         staticHandler.handle(ctx);
                     } else {
                         // make sure we don't lose the correct TCCL to Vert.x...
@@ -0,0 +1,155 @@
+package io.quarkus.vertx.http.runtime;
+
+import static io.quarkus.vertx.http.runtime.PrecompressedStaticResources.BROTLI;
+import static io.quarkus.vertx.http.runtime.PrecompressedStaticResources.GZIP;
+import static io.quarkus.vertx.http.runtime.PrecompressedStaticResources.matches;
+import static io.quarkus.vertx.http.runtime.PrecompressedStaticResources.selectEncoding;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.configuration.MemorySize;
+
+public class PrecompressedStaticResourcesTest {
+
+    @TempDir
+    Path tmp;
+
+    final List<Runnable> shutdownTasks = new ArrayList<>();
+    final ShutdownContext shutdown = new ShutdownContext() {
+        @Override
+        public void addShutdownTask(Runnable runnable) {
+            shutdownTasks.add(runnable);
+        }
+
+        @Override
+        public void addLastShutdownTask(Runnable runnable) {
+            shutdownTasks.add(runnable);
+        }
+    };
+
+    @AfterEach
+    public void shutdown() {
+        shutdownTasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testVariantsAreExtractedOnceTheMaxSizeIsReached() throws IOException {
+        Path jar = tmp.resolve("resources.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            addEntry(out, "/a.js.gz", 30);
+            addEntry(out, "/b.js.gz", 30);
+            addEntry(out, "/b.js.br", 20);
+        }
+        try (URLClassLoader cl = new URLClassLoader(new URL[] { jar.toUri().toURL() }, null)) {
+            PrecompressedStaticResources resources = PrecompressedStaticResources.load(cl,
+                    Map.of("/a.js", "a", "/b.js", "b", "/c.js", "c"), Set.of("/a.js", "/b.js", "/c.js"), Set.of("/b.js"),
+                    Set.of(), config(40), shutdown);
+
+            PrecompressedStaticResources.Variant a = resources.get("/a.js").gzip;
+            Assertions.assertEquals(30, a.content.length());
+            Assertions.assertNull(a.file);
+            Assertions.assertNull(resources.get("/a.js").brotli);
+
+            // Larger than the remaining size
+            PrecompressedStaticResources.Variant b = resources.get("/b.js").gzip;
+            Assertions.assertNull(b.content);
+            Assertions.assertEquals(30, b.length);
+            Path file = Path.of(b.file);
+            Assertions.assertEquals(30, Files.size(file));
+            Assertions.assertEquals(20, Files.size(Path.of(resources.get("/b.js").brotli.file)));
+
+            // The variant is missing, the resource is sent as is
+            Assertions.assertTrue(resources.contains("/c.js"));
+            Assertions.assertFalse(resources.get("/c.js").hasVariants());
+
+            shutdown();
+            shutdownTasks.clear();
+            Assertions.assertFalse(Files.exists(file));
+        }
+    }
+
+    @Test
+    public void testVariantsAreSentFromTheClassPathFiles() throws IOException {
+        Path root = tmp.resolve("classes");
+        Path variant = root.resolve(StaticResourcesRecorder.META_INF_RESOURCES + "/a.css.gz");
+        Files.createDirectories(variant.getParent());
+        Files.write(variant, new byte[50]);
+        try (URLClassLoader cl = new URLClassLoader(new URL[] { root.toUri().toURL() }, null)) {
+            PrecompressedStaticResources resources = PrecompressedStaticResources.load(cl, Map.of("/a.css", "a"),
+                    Set.of("/a.css"), Set.of(), Set.of(), config(10), shutdown);
+
+            PrecompressedStaticResources.Variant a = resources.get("/a.css").gzip;
+            Assertions.assertNull(a.content);
+            Assertions.assertEquals(variant, Path.of(a.file));
+            Assertions.assertEquals(50, a.length);
+            Assertions.assertTrue(shutdownTasks.isEmpty());
+        }
+    }
+
+    @Test
+    public void testSelectEncoding() {
+        Assertions.assertNull(selectEncoding(null, true, true));
+        Assertions.assertNull(selectEncoding("", true, true));
+        Assertions.assertNull(selectEncoding("identity", true, true));
+        Assertions.assertNull(selectEncoding("deflate", true, true));
+        Assertions.assertEquals(BROTLI, selectEncoding("gzip, deflate, br", true, true));
+        Assertions.assertEquals(GZIP, selectEncoding("gzip, deflate, br", false, true));
+        Assertions.assertEquals(BROTLI, selectEncoding("br", true, false));
+        Assertions.assertNull(selectEncoding("gzip", true, false));
+        Assertions.assertEquals(GZIP, selectEncoding("X-GZIP", false, true));
+    }
+
+    @Test
+    public void testSelectEncodingQuality() {
+        Assertions.assertEquals(GZIP, selectEncoding("br;q=0.5, gzip", true, true));
+        Assertions.assertEquals(BROTLI, selectEncoding("br;q=0.8, gzip;q=0.8", true, true));
+        Assertions.assertEquals(GZIP, selectEncoding("br;q=0, gzip;q=0.1", true, true));
+        Assertions.assertNull(selectEncoding("br; q=0, gzip;Q=0", true, true));
+        Assertions.assertNull(selectEncoding("gzip;q=foo", false, true));
+        Assertions.assertEquals(BROTLI, selectEncoding("*", true, true));
+        Assertions.assertEquals(GZIP, selectEncoding("br;q=0, *;q=0.5", true, true));
+        Assertions.assertNull(selectEncoding("*;q=0", true, true));
+    }
+
+    @Test
+    public void testMatches() {
+        Assertions.assertFalse(matches(null, "\"abc\""));
+        Assertions.assertTrue(matches("\"abc\"", "\"abc\""));
+        Assertions.assertTrue(matches("\"xyz\", \"abc\"", "\"abc\""));
+        Assertions.assertTrue(matches("W/\"abc\"", "\"abc\""));
+        Assertions.assertTrue(matches("*", "\"abc\""));
+        Assertions.assertFalse(matches("\"abc-gzip\"", "\"abc\""));
+    }
+
+    private static void addEntry(JarOutputStream out, String path, int size) throws IOException {
+        out.putNextEntry(new JarEntry(StaticResourcesRecorder.META_INF_RESOURCES + path));
+        out.write(new byte[size]);
+        out.closeEntry();
+    }
+
+    private static StaticResourcesConfig config(long precompressedMemoryMaxSize) {
+        StaticResourcesConfig config = new StaticResourcesConfig();
+        config.cachingEnabled = true;
+        config.maxAge = Duration.ofHours(24);
+        config.precompressedMemoryMaxSize = new MemorySize(BigInteger.valueOf(precompressedMemoryMaxSize));
+        return config;
+    }
+}
@@ -0,0 +1,112 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.configuration.MemorySize;
+
+public class StaticResourcesCacheTest {
+
+    @TempDir
+    Path tmp;
+
+    final List<Runnable> shutdownTasks = new ArrayList<>();
+    final ShutdownContext shutdown = new ShutdownContext() {
+        @Override
+        public void addShutdownTask(Runnable runnable) {
+            shutdownTasks.add(runnable);
+        }
+
+        @Override
+        public void addLastShutdownTask(Runnable runnable) {
+            shutdownTasks.add(runnable);
+        }
+    };
+
+    @AfterEach
+    public void shutdown() {
+        shutdownTasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testSmallResourcesAreHeldInMemory() throws IOException {
+        try (URLClassLoader cl = classLoader(createJar("/a.css", 10, "/b.js", 20, "/c.png", 50, "/.hidden.js", 10))) {
+            StaticResourcesCache cache = StaticResourcesCache.load(cl, Set.of("/a.css", "/b.js", "/c.png", "/.hidden.js"),
+                    config(40, 100), shutdown);
+
+            StaticResourcesCache.Entry a = cache.get("/a.css");
+            Assertions.assertEquals(10, a.content.length());
+            Assertions.assertEquals("text/css;charset=UTF-8", a.contentType.toString());
+            Assertions.assertEquals("10", a.contentLength.toString());
+            Assertions.assertNotNull(a.lastModified);
+            Assertions.assertEquals(20, cache.get("/b.js").content.length());
+            Assertions.assertNull(cache.get("/.hidden.js"));
+
+            // Larger than the max file size
+            StaticResourcesCache.Entry c = cache.get("/c.png");
+            Assertions.assertNull(c.content);
+            Assertions.assertEquals(50, Files.size(Path.of(c.file)));
+            Assertions.assertEquals("image/png", c.contentType.toString());
+        }
+    }
+
+    @Test
+    public void testResourcesAreExtractedOnceTheCacheIsFull() throws IOException {
+        try (URLClassLoader cl = classLoader(createJar("/a.js", 30, "/b.js", 30))) {
+            StaticResourcesCache cache = StaticResourcesCache.load(cl, Set.of("/a.js", "/b.js"), config(100, 50),
+                    shutdown);
+
+            Assertions.assertNotNull(cache.get("/a.js").content);
+            Path file = Path.of(cache.get("/b.js").file);
+            Assertions.assertEquals(30, Files.size(file));
+
+            shutdown();
+            shutdownTasks.clear();
+            Assertions.assertFalse(Files.exists(file));
+        }
+    }
+
+    private Path createJar(Object... entries) throws IOException {
+        Path jar = tmp.resolve("resources.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (int i = 0; i < entries.length; i += 2) {
+                out.putNextEntry(new JarEntry(StaticResourcesRecorder.META_INF_RESOURCES + entries[i]));
+                out.write(new byte[(Integer) entries[i + 1]]);
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static URLClassLoader classLoader(Path jar) throws IOException {
+        return new URLClassLoader(new URL[] { jar.toUri().toURL() }, null);
+    }
+
+    private static StaticResourcesConfig config(long maxFileSize, long maxSize) {
+        StaticResourcesConfig config = new StaticResourcesConfig();
+        config.includeHidden = false;
+        config.cachingEnabled = true;
+        config.enableRangeSupport = true;
+        config.maxAge = Duration.ofHours(24);
+        config.memoryCacheEnabled = true;
+        config.memoryCacheMaxFileSize = new MemorySize(BigInteger.valueOf(maxFileSize));
+        config.memoryCacheMaxSize = new MemorySize(BigInteger.valueOf(maxSize));
+        return config;
+    }
+}
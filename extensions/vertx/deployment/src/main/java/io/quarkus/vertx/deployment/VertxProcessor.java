@@ -18,6 +18,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.ArcConfig;
 import io.quarkus.arc.deployment.AutoAddScopeBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem.BeanConfiguratorBuildItem;
@@ -108,9 +109,10 @@ VertxBuildItem build(CoreVertxBuildItem vertx, VertxEventBusConsumerRecorder rec
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
     void currentContextFactory(BuildProducer<CurrentContextFactoryBuildItem> currentContextFactory,
-            VertxBuildConfig buildConfig, VertxEventBusConsumerRecorder recorder) {
+            VertxBuildConfig buildConfig, ArcConfig arcConfig, VertxEventBusConsumerRecorder recorder) {
         if (buildConfig.customizeArcContext()) {
-            currentContextFactory.produce(new CurrentContextFactoryBuildItem(recorder.currentContextFactory()));
+            currentContextFactory.produce(new CurrentContextFactoryBuildItem(
+                    recorder.currentContextFactory(arcConfig.sharedThreadLocalContexts)));
         }
     }
 
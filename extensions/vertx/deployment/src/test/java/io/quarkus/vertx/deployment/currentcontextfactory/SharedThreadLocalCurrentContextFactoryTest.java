@@ -0,0 +1,35 @@
+package io.quarkus.vertx.deployment.currentcontextfactory;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.SharedThreadLocalCurrentContextFactory;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SharedThreadLocalCurrentContextFactoryTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.vertx.customize-arc-context", "false")
+            .overrideConfigKey("quarkus.arc.shared-thread-local-contexts", "true");
+
+    @Test
+    public void testSharedFactoryUsed() {
+        assertTrue(Arc.container().getCurrentContextFactory() instanceof SharedThreadLocalCurrentContextFactory);
+        ManagedContext requestContext = Arc.container().requestContext();
+        assertFalse(requestContext.isActive());
+        requestContext.activate();
+        try {
+            assertTrue(requestContext.isActive());
+        } finally {
+            requestContext.terminate();
+        }
+        assertFalse(requestContext.isActive());
+    }
+
+}
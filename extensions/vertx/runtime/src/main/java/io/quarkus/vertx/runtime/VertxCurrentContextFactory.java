@@ -16,14 +16,33 @@ public class VertxCurrentContextFactory implements CurrentContextFactory {
 
     public static final String LOCAL_KEY = "io.quarkus.vertx.cdi-current-context";
 
+    private final CurrentContextFactory fallbackFactory;
+
+    public VertxCurrentContextFactory() {
+        this(null);
+    }
+
+    /**
+     * @param fallbackFactory the factory used to create the current context if there is no duplicated context, or
+     *        {@code null} if a {@link FastThreadLocal} should be used
+     */
+    public VertxCurrentContextFactory(CurrentContextFactory fallbackFactory) {
+        this.fallbackFactory = fallbackFactory;
+    }
+
     @Override
     public <T extends InjectableContext.ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
-        return new VertxCurrentContext<>();
+        return new VertxCurrentContext<>(
+                fallbackFactory != null ? fallbackFactory.create(scope) : new FastThreadLocalCurrentContext<>());
     }
 
     private static final class VertxCurrentContext<T extends ContextState> implements CurrentContext<T> {
 
-        private final FastThreadLocal<T> fallback = new FastThreadLocal<>();
+        private final CurrentContext<T> fallback;
+
+        VertxCurrentContext(CurrentContext<T> fallback) {
+            this.fallback = fallback;
+        }
 
         @Override
         public T get() {
@@ -63,4 +82,25 @@ public void remove() {
         }
 
     }
+
+    private static final class FastThreadLocalCurrentContext<T extends ContextState> implements CurrentContext<T> {
+
+        private final FastThreadLocal<T> currentContext = new FastThreadLocal<>();
+
+        @Override
+        public T get() {
+            return currentContext.get();
+        }
+
+        @Override
+        public void set(T state) {
+            currentContext.set(state);
+        }
+
+        @Override
+        public void remove() {
+            currentContext.remove();
+        }
+
+    }
 }
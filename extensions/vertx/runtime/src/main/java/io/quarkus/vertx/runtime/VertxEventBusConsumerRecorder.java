@@ -24,6 +24,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.impl.SharedThreadLocalCurrentContextFactory;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
@@ -81,8 +82,9 @@ public void run() {
         }
     }
 
-    public RuntimeValue<CurrentContextFactory> currentContextFactory() {
-        return new RuntimeValue<>(new VertxCurrentContextFactory());
+    public RuntimeValue<CurrentContextFactory> currentContextFactory(boolean sharedThreadLocalContexts) {
+        return new RuntimeValue<>(new VertxCurrentContextFactory(
+                sharedThreadLocalContexts ? new SharedThreadLocalCurrentContextFactory() : null));
     }
 
     public static Vertx getVertx() {
@@ -5,12 +5,15 @@
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 
+import java.lang.annotation.Annotation;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -29,6 +32,8 @@
 import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.impl.PrecomputedResolution;
+import io.quarkus.arc.processor.InjectionPointInfo.TypeAndQualifiers;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.AssignableResultHandle;
 import io.quarkus.gizmo.BytecodeCreator;
@@ -53,6 +58,12 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
     static final String ADD_OBSERVERS = "addObservers";
     static final String ADD_REMOVED_BEANS = "addRemovedBeans";
     static final String ADD_BEANS = "addBeans";
+    static final String ADD_PRECOMPUTED_RESOLUTIONS = "addPrecomputedResolutions";
+
+    // Raw types of the built-in beans, see ArcContainerImpl#addBuiltInBeans()
+    private static final Set<DotName> BUILTIN_BEAN_TYPES = Set.of(DotNames.OBJECT, DotNames.BEAN_MANAGER,
+            DotNames.BEAN_CONTAINER, DotNames.EVENT, DotNames.INSTANCE, DotNames.INJECTABLE_INSTANCE, DotNames.PROVIDER,
+            DotNames.INJECTION_POINT);
 
     private final AnnotationLiteralProcessor annotationLiterals;
     private final boolean detectUnusedFalsePositives;
@@ -98,6 +109,12 @@ Collection<Resource> generate(String name, BeanDeployment beanDeployment, Map<Be
         processObservers(componentsProvider, getComponents, beanDeployment, beanIdToBeanHandle, observersHandle,
                 observerToGeneratedName);
 
+        // Break precomputed resolutions processing into multiple addPrecomputedResolutions() methods
+        ResultHandle precomputedResolutionsHandle = getComponents
+                .newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
+        processPrecomputedResolutions(componentsProvider, getComponents, beanDeployment, beanIdToBeanHandle,
+                precomputedResolutionsHandle);
+
         // Custom contexts
         ResultHandle contextsHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
         for (Entry<ScopeInfo, Function<MethodCreator, ResultHandle>> entry : beanDeployment.getCustomContexts().entrySet()) {
@@ -186,9 +203,10 @@ Collection<Resource> generate(String name, BeanDeployment beanDeployment, Map<Be
 
         ResultHandle componentsHandle = getComponents.newInstance(
                 MethodDescriptor.ofConstructor(Components.class, Collection.class, Collection.class, Collection.class,
-                        Set.class, Map.class, Supplier.class, Map.class, Set.class, Map.class),
+                        Set.class, Map.class, Supplier.class, Map.class, Set.class, Map.class, Collection.class),
                 beansHandle, observersHandle, contextsHandle, interceptorBindings, transitiveBindingsHandle,
-                removedBeansSupplier, qualifiersNonbindingMembers, qualifiers, contextInstances);
+                removedBeansSupplier, qualifiersNonbindingMembers, qualifiers, contextInstances,
+                precomputedResolutionsHandle);
         getComponents.returnValue(componentsHandle);
 
         // Finally write the bytecode
@@ -313,6 +331,63 @@ private void processRemovedBeans(ClassCreator componentsProvider, BytecodeCreato
         }
     }
 
+    private void processPrecomputedResolutions(ClassCreator componentsProvider, MethodCreator getComponents,
+            BeanDeployment beanDeployment, ResultHandle beanIdToBeanHandle, ResultHandle precomputedResolutionsHandle) {
+        try (PrecomputedResolutionAdder adder = new PrecomputedResolutionAdder(componentsProvider, getComponents,
+                beanDeployment, beanIdToBeanHandle, precomputedResolutionsHandle)) {
+            for (Entry<TypeAndQualifiers, List<BeanInfo>> entry : collectProgrammaticLookups(beanDeployment).entrySet()) {
+                adder.addComponent(entry);
+            }
+        }
+    }
+
+    /**
+     * Resolves the required types and qualifiers of the {@code Instance<T>} injection points at build time, so that
+     * the container does not need to match all the beans the first time such an instance is used.
+     * <p>
+     * The required types that could be matched by the built-in beans registered by the container at runtime are skipped.
+     */
+    private Map<TypeAndQualifiers, List<BeanInfo>> collectProgrammaticLookups(BeanDeployment beanDeployment) {
+        Map<TypeAndQualifiers, List<BeanInfo>> lookups = new LinkedHashMap<>();
+        for (InjectionPointInfo injectionPoint : beanDeployment.getInjectionPoints()) {
+            if (!injectionPoint.isProgrammaticLookup()
+                    || injectionPoint.getType().kind() != org.jboss.jandex.Type.Kind.PARAMETERIZED_TYPE) {
+                continue;
+            }
+            org.jboss.jandex.Type requiredType = injectionPoint.getType().asParameterizedType().arguments().get(0);
+            if (!isPrecomputable(requiredType) || BUILTIN_BEAN_TYPES.contains(requiredType.name())) {
+                continue;
+            }
+            Set<AnnotationInstance> qualifiers = injectionPoint.hasDefaultedQualifier()
+                    ? Set.of(BuiltinQualifier.DEFAULT.getInstance())
+                    : injectionPoint.getRequiredQualifiers();
+            TypeAndQualifiers key = new TypeAndQualifiers(requiredType, qualifiers);
+            if (!lookups.containsKey(key)) {
+                List<BeanInfo> matching = new ArrayList<>(
+                        beanDeployment.getBeanResolver().resolveBeans(requiredType, qualifiers));
+                matching.sort(Comparator.comparing(BeanInfo::getIdentifier));
+                lookups.put(key, matching);
+            }
+        }
+        return lookups;
+    }
+
+    private static boolean isPrecomputable(org.jboss.jandex.Type type) {
+        if (type.kind() == org.jboss.jandex.Type.Kind.CLASS) {
+            return true;
+        }
+        if (type.kind() == org.jboss.jandex.Type.Kind.PARAMETERIZED_TYPE) {
+            for (org.jboss.jandex.Type argument : type.asParameterizedType().arguments()) {
+                if (!isPrecomputable(argument)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // type variables and wildcards are resolved at runtime
+        return false;
+    }
+
     /**
      * Returns a dependency map for bean instantiation. Say the following beans exist:
      *
@@ -772,7 +847,71 @@ void addComponentInternal(BeanInfo bean) {
 
     }
 
-    static abstract class ComponentAdder<T extends InjectionTargetInfo> implements AutoCloseable {
+    class PrecomputedResolutionAdder extends ComponentAdder<Entry<TypeAndQualifiers, List<BeanInfo>>> {
+
+        private final BeanDeployment beanDeployment;
+        private final ResultHandle beanIdToBeanHandle;
+        private final ResultHandle precomputedResolutionsHandle;
+
+        PrecomputedResolutionAdder(ClassCreator componentsProvider, MethodCreator getComponentsMethod,
+                BeanDeployment beanDeployment, ResultHandle beanIdToBeanHandle, ResultHandle precomputedResolutionsHandle) {
+            super(getComponentsMethod, componentsProvider);
+            this.beanDeployment = beanDeployment;
+            this.beanIdToBeanHandle = beanIdToBeanHandle;
+            this.precomputedResolutionsHandle = precomputedResolutionsHandle;
+        }
+
+        @Override
+        MethodCreator newAddMethod() {
+            return componentsProvider
+                    .getMethodCreator(ADD_PRECOMPUTED_RESOLUTIONS + group++, void.class, Map.class, List.class)
+                    .setModifiers(ACC_PRIVATE);
+        }
+
+        @Override
+        void invokeAddMethod() {
+            targetMethod.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(componentsProvider.getClassName(),
+                            addMethod.getMethodDescriptor().getName(), void.class, Map.class, List.class),
+                    targetMethod.getThis(), beanIdToBeanHandle, precomputedResolutionsHandle);
+        }
+
+        @Override
+        void addComponentInternal(Entry<TypeAndQualifiers, List<BeanInfo>> lookup) {
+            ResultHandle beanIdToBeanHandle = addMethod.getMethodParam(0);
+            ResultHandle precomputedResolutionsHandle = addMethod.getMethodParam(1);
+            TypeAndQualifiers typeAndQualifiers = lookup.getKey();
+
+            ResultHandle requiredTypeHandle = Types.getTypeHandle(addMethod, typeAndQualifiers.type);
+            ResultHandle qualifiersHandle = addMethod.newArray(Annotation.class, typeAndQualifiers.qualifiers.size());
+            int index = 0;
+            for (AnnotationInstance qualifierAnnotation : typeAndQualifiers.qualifiers) {
+                BuiltinQualifier qualifier = BuiltinQualifier.of(qualifierAnnotation);
+                ResultHandle qualifierHandle;
+                if (qualifier != null) {
+                    qualifierHandle = qualifier.getLiteralInstance(addMethod);
+                } else {
+                    qualifierHandle = annotationLiterals.create(addMethod,
+                            beanDeployment.getQualifier(qualifierAnnotation.name()), qualifierAnnotation);
+                }
+                addMethod.writeArrayValue(qualifiersHandle, index++, qualifierHandle);
+            }
+            ResultHandle matchingBeansHandle = addMethod.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
+            for (BeanInfo bean : lookup.getValue()) {
+                addMethod.invokeInterfaceMethod(MethodDescriptors.LIST_ADD, matchingBeansHandle,
+                        addMethod.invokeInterfaceMethod(MethodDescriptors.MAP_GET, beanIdToBeanHandle,
+                                addMethod.load(bean.getIdentifier())));
+            }
+            // resolutions.add(new PrecomputedResolution(requiredType, qualifiers, matchingBeans))
+            addMethod.invokeInterfaceMethod(MethodDescriptors.LIST_ADD, precomputedResolutionsHandle,
+                    addMethod.newInstance(MethodDescriptor.ofConstructor(PrecomputedResolution.class,
+                            java.lang.reflect.Type.class, Annotation[].class, List.class),
+                            requiredTypeHandle, qualifiersHandle, matchingBeansHandle));
+        }
+
+    }
+
+    static abstract class ComponentAdder<T> implements AutoCloseable {
 
         private static final int GROUP_LIMIT = 30;
         protected int group;
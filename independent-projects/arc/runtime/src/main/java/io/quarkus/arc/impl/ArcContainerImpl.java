@@ -88,9 +88,9 @@ public class ArcContainerImpl implements ArcContainer {
     private final List<InjectableDecorator<?>> decorators;
     private final List<InjectableObserverMethod<?>> observers;
     private final Contexts contexts;
-    private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
-    private final ComputingCache<String, InjectableBean<?>> beansById;
-    private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    private final FreezableComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    private final FreezableComputingCache<String, InjectableBean<?>> beansById;
+    private final FreezableComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
     private final ArrayList<ResourceReferenceProvider> resourceProviders;
 
@@ -120,6 +120,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
         Set<String> qualifiers = new HashSet<>();
         Supplier<ContextInstances> applicationContextInstances = null;
         Supplier<ContextInstances> requestContextInstances = null;
+        Collection<PrecomputedResolution> precomputedResolutions = null;
         this.currentContextFactory = currentContextFactory == null ? new ThreadLocalCurrentContextFactory()
                 : currentContextFactory;
 
@@ -128,6 +129,11 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
             components.add(componentsProvider.getComponents());
         }
 
+        if (components.size() == 1) {
+            // the resolution can only be precomputed if all the beans were known at build time
+            precomputedResolutions = components.get(0).getPrecomputedResolutions();
+        }
+
         for (Components c : components) {
             for (InjectableBean<?> bean : c.getBeans()) {
                 if (bean instanceof InjectableInterceptor) {
@@ -159,9 +165,21 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
         interceptors.sort(Comparator.comparingInt(InjectableInterceptor::getPriority));
         decorators.sort(Comparator.comparingInt(InjectableDecorator::getPriority));
 
-        resolved = new ComputingCache<>(this::resolve);
-        beansById = new ComputingCache<>(this::findById);
-        beansByName = new ComputingCache<>(this::resolve);
+        resolved = new FreezableComputingCache<>(this::resolve);
+        beansById = new FreezableComputingCache<>(this::findById);
+        beansByName = new FreezableComputingCache<>(this::resolve);
+        if (precomputedResolutions != null) {
+            for (PrecomputedResolution resolution : precomputedResolutions) {
+                // no need to match the beans again, only the ambiguity needs to be resolved
+                resolved.computeIfAbsent(new Resolvable(resolution.getRequiredType(), resolution.getQualifiers()),
+                        new Supplier<Set<InjectableBean<?>>>() {
+                            @Override
+                            public Set<InjectableBean<?>> get() {
+                                return resolve(resolution.getMatchingBeans());
+                            }
+                        });
+            }
+        }
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -264,6 +282,35 @@ static void precomputeBeanRawTypes(Map<String, List<InjectableBean<?>>> map, Inj
         }
     }
 
+    /**
+     * Publishes the results of the type-safe resolution, the beans looked up by identifier and the beans looked up by name
+     * computed so far in immutable tables, so that the subsequent lookups of the same beans are lock-free. It is meant to
+     * be called once the application is warmed up, e.g. after the startup event is fired, and can be called again later.
+     */
+    public void freezeResolutionCaches() {
+        resolved.freeze();
+        beansById.freeze();
+        beansByName.freeze();
+        LOGGER.debugf("Resolution caches frozen [resolved=%s, beansById=%s, beansByName=%s]", resolved.isFrozen(),
+                beansById.isFrozen(), beansByName.isFrozen());
+    }
+
+    /**
+     * @return the number of type-safe resolution lookups served by the frozen resolution cache
+     * @see #freezeResolutionCaches()
+     */
+    public long getResolutionCacheHitCount() {
+        return resolved.getHitCount();
+    }
+
+    /**
+     * @return the number of type-safe resolution lookups that were not served by the frozen resolution cache
+     * @see #freezeResolutionCaches()
+     */
+    public long getResolutionCacheMissCount() {
+        return resolved.getMissCount();
+    }
+
     public void init() {
         // Fire an event with qualifier @Initialized(ApplicationScoped.class)
         Set<Annotation> qualifiers = Set.of(Initialized.Literal.APPLICATION, Any.Literal.INSTANCE);
@@ -466,6 +513,8 @@ public synchronized void shutdown() {
 
             // Clear caches
             Reflections.clearCaches();
+            LOGGER.debugf("Resolution cache statistics [hits=%s, misses=%s]", resolved.getHitCount(),
+                    resolved.getMissCount());
             resolved.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
@@ -1051,7 +1100,12 @@ private static final class Resolvable {
         public int hashCode() {
             final int prime = 31;
             int result = 1;
-            result = prime * result + Arrays.hashCode(qualifiers);
+            // the order of qualifiers is not significant
+            int qualifiersHash = 0;
+            for (Annotation qualifier : qualifiers) {
+                qualifiersHash += qualifier.hashCode();
+            }
+            result = prime * result + qualifiersHash;
             result = prime * result + (requiredType == null ? 0 : requiredType.hashCode());
             return result;
         }
@@ -1075,7 +1129,24 @@ public boolean equals(Object obj) {
             } else if (!requiredType.equals(other.requiredType)) {
                 return false;
             }
-            return Arrays.equals(qualifiers, other.qualifiers);
+            return qualifiers.length == other.qualifiers.length && containsAll(qualifiers, other.qualifiers)
+                    && containsAll(other.qualifiers, qualifiers);
+        }
+
+        private static boolean containsAll(Annotation[] qualifiers, Annotation[] requiredQualifiers) {
+            for (Annotation required : requiredQualifiers) {
+                boolean found = false;
+                for (Annotation qualifier : qualifiers) {
+                    if (qualifier.equals(required)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+            return true;
         }
 
     }
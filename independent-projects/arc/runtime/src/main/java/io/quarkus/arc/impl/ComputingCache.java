@@ -105,6 +105,16 @@ public void forEachEntry(BiConsumer<? super K, ? super V> action) {
         }
     }
 
+    public void forEachExistingEntry(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        for (Map.Entry<K, LazyValue<V>> entry : map.entrySet()) {
+            V value = entry.getValue().getIfPresent();
+            if (value != null) {
+                action.accept(entry.getKey(), value);
+            }
+        }
+    }
+
     public boolean isEmpty() {
         return map.isEmpty();
     }
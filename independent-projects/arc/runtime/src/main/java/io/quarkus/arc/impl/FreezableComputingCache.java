@@ -0,0 +1,152 @@
+package io.quarkus.arc.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Computing cache for read-mostly data, such as the results of type-safe resolution.
+ * <p>
+ * Once the cache is warmed up, {@link #freeze()} copies all the computed values into an immutable open-addressing table
+ * that is published through a volatile field. The lookups served by the table neither go through the
+ * {@link java.util.concurrent.ConcurrentHashMap} nor through the {@link LazyValue} of the underlying cache. Values that
+ * are not part of the table are still computed and stored by the underlying cache, and are included in the table next
+ * time the cache is frozen.
+ * <p>
+ * The values must not depend on the time they are computed: the table is only discarded by {@link #remove(Object)} and
+ * {@link #clear()}.
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class FreezableComputingCache<K, V> extends ComputingCache<K, V> {
+
+    private volatile Table table;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public FreezableComputingCache(Function<K, V> computingFunction) {
+        super(computingFunction);
+    }
+
+    @Override
+    public V getValue(K key) {
+        Table current = table;
+        if (current != null) {
+            V value = current.get(key);
+            if (value != null) {
+                hits.increment();
+                return value;
+            }
+        }
+        misses.increment();
+        return super.getValue(key);
+    }
+
+    @Override
+    public V getValueIfPresent(K key) {
+        Table current = table;
+        if (current != null) {
+            V value = current.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return super.getValueIfPresent(key);
+    }
+
+    @Override
+    public synchronized V remove(K key) {
+        // Mutually exclusive with freeze(), so that the removed value cannot be published by a concurrent freeze
+        table = null;
+        return super.remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        table = null;
+        super.clear();
+    }
+
+    /**
+     * Publishes all the values computed so far in an immutable table. This method can be called again later to include
+     * the values computed in the meantime.
+     * <p>
+     * This method is mutually exclusive with {@link #remove(Object)} and {@link #clear()}, whereas the lookups are not
+     * blocked.
+     */
+    public synchronized void freeze() {
+        List<Object> keys = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        forEachExistingEntry((k, v) -> {
+            keys.add(k);
+            values.add(v);
+        });
+        table = keys.isEmpty() ? null : new Table(keys, values);
+    }
+
+    public boolean isFrozen() {
+        return table != null;
+    }
+
+    /**
+     * @return the number of {@link #getValue(Object)} invocations served by the frozen table
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of {@link #getValue(Object)} invocations that were not served by the frozen table
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Open-addressing hash table with linear probing, its load factor is at most 0.5.
+     */
+    private final class Table {
+
+        private final Object[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        Table(List<Object> keys, List<Object> values) {
+            int capacity = Integer.highestOneBit(keys.size()) << 2;
+            this.keys = new Object[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            for (int i = 0; i < keys.size(); i++) {
+                Object key = keys.get(i);
+                int index = index(key);
+                while (this.keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                this.keys[index] = key;
+                this.values[index] = values.get(i);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        V get(Object key) {
+            int index = index(key);
+            Object candidate;
+            while ((candidate = keys[index]) != null) {
+                if (candidate == key || candidate.equals(key)) {
+                    return (V) values[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private int index(Object key) {
+            int hash = key.hashCode();
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * The beans matching a required type and required qualifiers, as computed at build time for the programmatic lookups
+ * known in advance, e.g. the {@code Instance<T>} injection points.
+ * <p>
+ * Only the type-safe resolution is precomputed, the ambiguity is still resolved at runtime.
+ */
+public final class PrecomputedResolution {
+
+    private final Type requiredType;
+    private final Annotation[] qualifiers;
+    private final List<InjectableBean<?>> matchingBeans;
+
+    public PrecomputedResolution(Type requiredType, Annotation[] qualifiers, List<InjectableBean<?>> matchingBeans) {
+        this.requiredType = requiredType;
+        this.qualifiers = qualifiers;
+        this.matchingBeans = matchingBeans;
+    }
+
+    public Type getRequiredType() {
+        return requiredType;
+    }
+
+    public Annotation[] getQualifiers() {
+        return qualifiers;
+    }
+
+    public List<InjectableBean<?>> getMatchingBeans() {
+        return matchingBeans;
+    }
+
+}
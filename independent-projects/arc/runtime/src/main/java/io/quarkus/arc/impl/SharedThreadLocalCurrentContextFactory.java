@@ -0,0 +1,109 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+
+/**
+ * This implementation stores the states of all the {@link CurrentContext} instances it creates in a single
+ * {@link ThreadLocal} variable, instead of one {@link ThreadLocal} per scope.
+ * <p>
+ * A thread that activates several contexts, e.g. the request and the session context, only holds one entry in its
+ * {@code ThreadLocalMap}, and the entry is removed as soon as there is no active state left. This keeps the footprint
+ * low when a large number of short-lived threads, such as virtual threads, activate the contexts.
+ *
+ * @see ThreadLocalCurrentContextFactory
+ */
+public final class SharedThreadLocalCurrentContextFactory implements CurrentContextFactory {
+
+    private final ThreadLocal<States> states = new ThreadLocal<>();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    @Override
+    public <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+        return new SharedThreadLocalCurrentContext<>(nextIndex.getAndIncrement());
+    }
+
+    private final class SharedThreadLocalCurrentContext<T extends ContextState> implements CurrentContext<T> {
+
+        private final int index;
+
+        SharedThreadLocalCurrentContext(int index) {
+            this.index = index;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get() {
+            States current = states.get();
+            return current != null ? (T) current.get(index) : null;
+        }
+
+        @Override
+        public void set(T state) {
+            if (state == null) {
+                remove();
+                return;
+            }
+            States current = states.get();
+            if (current == null) {
+                current = new States(index);
+                states.set(current);
+            }
+            current.set(index, state);
+        }
+
+        @Override
+        public void remove() {
+            States current = states.get();
+            if (current != null && current.remove(index)) {
+                states.remove();
+            }
+        }
+
+    }
+
+    /**
+     * The states of a single thread, indexed by the current context.
+     */
+    private static final class States {
+
+        private ContextState[] values;
+        private int size;
+
+        States(int index) {
+            this.values = new ContextState[Math.max(2, index + 1)];
+        }
+
+        ContextState get(int index) {
+            return index < values.length ? values[index] : null;
+        }
+
+        void set(int index, ContextState state) {
+            if (index >= values.length) {
+                values = Arrays.copyOf(values, index + 1);
+            }
+            if (values[index] == null) {
+                size++;
+            }
+            values[index] = state;
+        }
+
+        /**
+         * @return {@code true} if no state is left
+         */
+        boolean remove(int index) {
+            if (index < values.length && values[index] != null) {
+                values[index] = null;
+                size--;
+            }
+            return size == 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Test;
+
+public class FreezableComputingCacheTest {
+
+    @Test
+    public void testFreeze() {
+        AtomicInteger computations = new AtomicInteger();
+        FreezableComputingCache<Integer, String> cache = new FreezableComputingCache<>(key -> {
+            computations.incrementAndGet();
+            return "v" + key;
+        });
+        for (int i = 0; i < 100; i++) {
+            assertEquals("v" + i, cache.getValue(i));
+        }
+        assertFalse(cache.isFrozen());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(100, cache.getMissCount());
+
+        cache.freeze();
+        assertTrue(cache.isFrozen());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("v" + i, cache.getValue(i));
+        }
+        assertEquals(100, cache.getHitCount());
+        assertEquals(100, computations.get());
+
+        // values computed after the cache was frozen are still cached
+        assertEquals("v100", cache.getValue(100));
+        assertEquals("v100", cache.getValue(100));
+        assertEquals(101, computations.get());
+        assertEquals(102, cache.getMissCount());
+
+        cache.freeze();
+        assertEquals("v100", cache.getValue(100));
+        assertEquals(101, cache.getHitCount());
+        assertEquals("v100", cache.getValueIfPresent(100));
+        assertNull(cache.getValueIfPresent(101));
+    }
+
+    @Test
+    public void testCollidingKeys() {
+        FreezableComputingCache<Key, Integer> cache = new FreezableComputingCache<>(key -> key.value);
+        for (int i = 0; i < 10; i++) {
+            cache.getValue(new Key(i));
+        }
+        cache.freeze();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, cache.getValue(new Key(i)));
+        }
+        assertEquals(10, cache.getHitCount());
+        assertEquals(10, cache.getValue(new Key(10)));
+        assertEquals(11, cache.getMissCount());
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        FreezableComputingCache<String, String> cache = new FreezableComputingCache<>(String::toUpperCase);
+        cache.getValue("foo");
+        cache.getValue("bar");
+        cache.freeze();
+        assertEquals("FOO", cache.remove("foo"));
+        assertFalse(cache.isFrozen());
+        assertNull(cache.getValueIfPresent("foo"));
+        assertEquals("BAR", cache.getValueIfPresent("bar"));
+
+        cache.freeze();
+        cache.clear();
+        assertFalse(cache.isFrozen());
+        assertTrue(cache.isEmpty());
+
+        cache.freeze();
+        assertFalse(cache.isFrozen());
+    }
+
+    @Test
+    public void testRemoveDuringFreeze() throws Exception {
+        CountDownLatch iterated = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FreezableComputingCache<String, String> cache = new FreezableComputingCache<>(String::toUpperCase) {
+            @Override
+            public void forEachExistingEntry(BiConsumer<? super String, ? super String> action) {
+                super.forEachExistingEntry(action);
+                iterated.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        cache.getValue("foo");
+        cache.getValue("bar");
+
+        Thread freeze = new Thread(cache::freeze);
+        freeze.start();
+        assertTrue(iterated.await(10, TimeUnit.SECONDS));
+        // The entries are collected, remove one of them before the table is published
+        Thread remove = new Thread(() -> cache.remove("foo"));
+        remove.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (remove.getState() != Thread.State.BLOCKED && remove.getState() != Thread.State.TERMINATED
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        freeze.join(10_000);
+        remove.join(10_000);
+
+        assertNull(cache.getValueIfPresent("foo"));
+        assertEquals("BAR", cache.getValueIfPresent("bar"));
+    }
+
+    static final class Key {
+
+        final int value;
+
+        Key(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key && ((Key) obj).value == value;
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+
+public class SharedThreadLocalCurrentContextFactoryTest {
+
+    @Test
+    public void testStates() throws InterruptedException {
+        SharedThreadLocalCurrentContextFactory factory = new SharedThreadLocalCurrentContextFactory();
+        CurrentContext<ContextState> request = factory.create(RequestScoped.class);
+        CurrentContext<ContextState> session = factory.create(SessionScoped.class);
+        ContextState requestState = new SimpleState();
+        ContextState sessionState = new SimpleState();
+
+        assertNull(request.get());
+        request.set(requestState);
+        session.set(sessionState);
+        assertSame(requestState, request.get());
+        assertSame(sessionState, session.get());
+
+        // the states are not visible from other threads
+        AtomicReference<ContextState> other = new AtomicReference<>(requestState);
+        Thread thread = new Thread(() -> other.set(request.get()));
+        thread.start();
+        thread.join();
+        assertNull(other.get());
+
+        request.remove();
+        assertNull(request.get());
+        assertSame(sessionState, session.get());
+        session.set(null);
+        assertNull(session.get());
+
+        // a context created later is still able to store its state
+        CurrentContext<ContextState> custom = factory.create(RequestScoped.class);
+        custom.set(requestState);
+        assertSame(requestState, custom.get());
+        assertNull(request.get());
+        custom.remove();
+        assertNull(custom.get());
+    }
+
+    static final class SimpleState implements ContextState {
+
+        @Override
+        public Map<InjectableBean<?>, Object> getContextualInstances() {
+            return Map.of();
+        }
+
+    }
+
+}
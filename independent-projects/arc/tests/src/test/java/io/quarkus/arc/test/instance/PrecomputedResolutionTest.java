@@ -0,0 +1,183 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.arc.impl.PrecomputedResolution;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class PrecomputedResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Service.class, AlphaService.class, BravoService.class,
+            Producers.class, Client.class, Bravo.class);
+
+    @Test
+    public void testPrecomputedResolutions() {
+        List<PrecomputedResolution> resolutions = precomputedResolutions();
+        assertBeans(find(resolutions, Service.class, Default.Literal.INSTANCE), AlphaService.class);
+        assertBeans(find(resolutions, Service.class, Any.Literal.INSTANCE), AlphaService.class, BravoService.class);
+        assertBeans(find(resolutions, Service.class, Bravo.Literal.INSTANCE), BravoService.class);
+        PrecomputedResolution strings = null;
+        for (PrecomputedResolution resolution : resolutions) {
+            if (resolution.getRequiredType().getTypeName().equals("java.util.List<java.lang.String>")) {
+                strings = resolution;
+            }
+        }
+        assertNotNull(strings);
+        assertEquals(1, strings.getMatchingBeans().size());
+        // raw types of the built-in beans are never precomputed
+        for (PrecomputedResolution resolution : resolutions) {
+            assertFalse(resolution.getRequiredType().equals(Object.class));
+        }
+    }
+
+    @Test
+    public void testLookup() {
+        List<PrecomputedResolution> resolutions = precomputedResolutions();
+        Client client = Arc.container().instance(Client.class).get();
+        // the injected instances resolve the beans that were matched at build time
+        assertEquals("alpha", client.service.get().ping());
+        assertResolved(find(resolutions, Service.class, Default.Literal.INSTANCE), client.service);
+        assertEquals(List.of("alpha", "bravo"),
+                client.allServices.stream().map(Service::ping).sorted().collect(Collectors.toList()));
+        assertResolved(find(resolutions, Service.class, Any.Literal.INSTANCE), client.allServices);
+        assertEquals("bravo", client.bravo.get().ping());
+        assertResolved(find(resolutions, Service.class, Bravo.Literal.INSTANCE), client.bravo);
+        assertEquals(List.of("foo"), client.strings.get());
+        assertEquals("alpha", Arc.container().instance(Service.class).get().ping());
+
+        // Instance#select() is resolved at runtime
+        InjectableInstance<Service> selected = client.allServices.select(Bravo.Literal.INSTANCE);
+        assertTrue(selected.isResolvable());
+        assertResolved(find(resolutions, Service.class, Bravo.Literal.INSTANCE), selected);
+    }
+
+    private static List<PrecomputedResolution> precomputedResolutions() {
+        List<PrecomputedResolution> resolutions = new ArrayList<>();
+        for (ComponentsProvider provider : ServiceLoader.load(ComponentsProvider.class)) {
+            resolutions.addAll(provider.getComponents().getPrecomputedResolutions());
+        }
+        return resolutions;
+    }
+
+    private static PrecomputedResolution find(List<PrecomputedResolution> resolutions, Class<?> type,
+            Annotation qualifier) {
+        for (PrecomputedResolution resolution : resolutions) {
+            if (resolution.getRequiredType().equals(type) && resolution.getQualifiers().length == 1
+                    && resolution.getQualifiers()[0].equals(qualifier)) {
+                return resolution;
+            }
+        }
+        throw new AssertionError("No precomputed resolution found for " + type + " and " + qualifier);
+    }
+
+    private static void assertResolved(PrecomputedResolution resolution, InjectableInstance<Service> instance) {
+        assertEquals(
+                resolution.getMatchingBeans().stream().map(InjectableBean::getIdentifier).collect(Collectors.toSet()),
+                instance.handlesStream().map(handle -> ((InjectableBean<?>) handle.getBean()).getIdentifier())
+                        .collect(Collectors.toSet()));
+    }
+
+    private static void assertBeans(PrecomputedResolution resolution, Class<?>... beanClasses) {
+        assertEquals(Set.of(beanClasses),
+                resolution.getMatchingBeans().stream().map(InjectableBean::getBeanClass).collect(Collectors.toSet()));
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Singleton
+    static class AlphaService implements Service {
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @Bravo
+    @Singleton
+    static class BravoService implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Singleton
+    static class Producers {
+
+        @Produces
+        List<String> strings() {
+            return List.of("foo");
+        }
+
+    }
+
+    @Singleton
+    static class Client {
+
+        @Inject
+        InjectableInstance<Service> service;
+
+        @Inject
+        @Any
+        InjectableInstance<Service> allServices;
+
+        @Inject
+        @Bravo
+        InjectableInstance<Service> bravo;
+
+        @Inject
+        Instance<List<String>> strings;
+
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Bravo {
+
+        @SuppressWarnings("all")
+        final class Literal extends AnnotationLiteral<Bravo> implements Bravo {
+
+            static final Literal INSTANCE = new Literal();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warms up a {@link RunnerClassLoader} before the main class of the application is invoked.
+ * <p>
+ * All the jars of the application are opened in parallel on a small pool of threads, instead of being opened one by one
+ * the first time a class or resource is loaded from them. If a class load order file was recorded during a training run
+ * (see {@link #RECORD_CLASS_LOAD_ORDER_PROPERTY}), the listed classes are then loaded, but not initialized, on the
+ * same pool.
+ */
+final class ClassLoaderWarmup {
+
+    static final String CLASS_LOAD_ORDER_TXT = "quarkus/class-load-order.txt";
+
+    /**
+     * If set to {@code true}, the class loader is warmed up before the main class is invoked.
+     */
+    static final String PREFETCH_PROPERTY = "quarkus.launch.prefetch";
+    /**
+     * The number of threads used to warm up the class loader, defaults to the number of available processors with a
+     * maximum of 4.
+     */
+    static final String PREFETCH_THREADS_PROPERTY = "quarkus.launch.prefetch-threads";
+    /**
+     * If set to {@code true}, the classes loaded by the application are written to {@value #CLASS_LOAD_ORDER_TXT} when
+     * the application stops.
+     */
+    static final String RECORD_CLASS_LOAD_ORDER_PROPERTY = "quarkus.launch.record-class-load-order";
+
+    private ClassLoaderWarmup() {
+    }
+
+    /**
+     * Starts recording the classes defined by the class loader. They are written to {@value #CLASS_LOAD_ORDER_TXT} by a
+     * shutdown hook, as the application usually stops with {@code System.exit()} and its main method never returns.
+     */
+    static void recordClassLoadOrder(RunnerClassLoader classLoader, Path appRoot) {
+        classLoader.recordClassLoadOrder();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                writeClassLoadOrder(classLoader, appRoot);
+            } catch (IOException e) {
+                System.err.println("Failed to write the class load order to " + appRoot.resolve(CLASS_LOAD_ORDER_TXT)
+                        + ": " + e);
+            }
+        }, "quarkus-class-load-order-writer"));
+    }
+
+    static void writeClassLoadOrder(RunnerClassLoader classLoader, Path appRoot) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(appRoot.resolve(CLASS_LOAD_ORDER_TXT),
+                StandardCharsets.UTF_8)) {
+            for (String className : classLoader.getClassLoadOrder()) {
+                writer.write(className);
+                writer.newLine();
+            }
+        }
+    }
+
+    static void warmup(RunnerClassLoader classLoader, Path appRoot) throws IOException {
+        long start = System.nanoTime();
+        Set<ClassLoadingResource> resources = classLoader.getClassLoadingResources();
+        List<String> classNames = readClassLoadOrder(appRoot.resolve(CLASS_LOAD_ORDER_TXT));
+        int threads = Math.max(1, Integer.getInteger(PREFETCH_THREADS_PROPERTY,
+                Math.min(4, Runtime.getRuntime().availableProcessors())));
+        AtomicLong busyNanos = new AtomicLong();
+        AtomicInteger loaded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "quarkus-class-loader-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            // jars first, the classes are then loaded from the jars that are already open
+            List<Runnable> prefetches = new ArrayList<>(resources.size());
+            for (ClassLoadingResource resource : resources) {
+                prefetches.add(resource::prefetch);
+            }
+            runAll(executor, prefetches, busyNanos);
+
+            // the classes are claimed in the recorded order, so that the ones needed first are loaded first
+            AtomicInteger next = new AtomicInteger();
+            List<Runnable> loaders = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                loaders.add(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < classNames.size()) {
+                        try {
+                            Class.forName(classNames.get(index), false, classLoader);
+                            loaded.incrementAndGet();
+                        } catch (Throwable ignored) {
+                            // the class load order may be stale, the class will be loaded on demand if needed
+                        }
+                    }
+                });
+            }
+            runAll(executor, loaders, busyNanos);
+        } finally {
+            executor.shutdown();
+        }
+        Timing.classLoaderWarmedUp(resources.size(), loaded.get(), System.nanoTime() - start, busyNanos.get());
+    }
+
+    private static void runAll(ExecutorService executor, List<Runnable> tasks, AtomicLong busyNanos) {
+        CountDownLatch latch = new CountDownLatch(tasks.size());
+        for (Runnable task : tasks) {
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    task.run();
+                } catch (Throwable ignored) {
+                    // the jar will be opened again on demand, and the error reported then
+                } finally {
+                    busyNanos.addAndGet(System.nanoTime() - start);
+                    latch.countDown();
+                }
+            });
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<String> readClassLoadOrder(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        List<String> classNames = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    classNames.add(line);
+                }
+            }
+        }
+        return classNames;
+    }
+
+}
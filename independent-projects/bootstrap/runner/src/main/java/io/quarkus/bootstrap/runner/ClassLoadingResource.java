@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 
 public interface ClassLoadingResource {
@@ -13,6 +14,16 @@ public interface ClassLoadingResource {
 
     byte[] getResourceData(String resource);
 
+    /**
+     * This is an optional way to obtain the data of a class file without copying it, e.g. from a memory mapped file.
+     *
+     * @return a buffer containing the class file, or {@code null} if not available, in which case
+     *         {@link #getResourceData(String)} should be used
+     */
+    default ByteBuffer getClassData(String resource) {
+        return null;
+    }
+
     URL getResourceURL(String resource);
 
     ManifestInfo getManifestInfo();
@@ -36,4 +47,13 @@ public interface ClassLoadingResource {
     default void resetInternalCaches() {
         //no-op
     }
+
+    /**
+     * This is an optional hint to eagerly acquire the underlying resources, e.g. open a jar file, so that
+     * they do not need to be acquired the first time a class or resource is loaded.
+     * It can be called from any thread.
+     */
+    default void prefetch() {
+        //no-op
+    }
 }
@@ -177,6 +177,13 @@ private void ensureJarFileIsOpen() {
         }
     }
 
+    @Override
+    public void prefetch() {
+        if (this.zipFile == null) {
+            ensureJarFileIsOpen();
+        }
+    }
+
     @Override
     public void close() {
         writeLock.lock();
@@ -0,0 +1,214 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * A single file that contains the uncompressed class files of all the jars of a fast-jar application, used with the
+ * mapped-jar package type.
+ * <p>
+ * The file is memory mapped at startup, so that classes can be defined directly from slices of the mapping instead of
+ * being located, inflated and copied out of the jars. Only the class files are stored, other resources are still read
+ * from the jars.
+ * <p>
+ * The layout is the class data of all the jars, followed by the index and a trailer. The index lists, for each jar of the
+ * class path (in the same order as {@link SerializedApplication}), the name, offset and length of each class file.
+ * Multi-release jars are not mapped, as the class files to use depend on the runtime version. The
+ * trailer is the offset of the index, followed by the magic number.
+ * <p>
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+public final class MappedApplicationArchive {
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final ByteBuffer mapping;
+    private final List<Map<String, Long>> entriesByJar;
+
+    private MappedApplicationArchive(ByteBuffer mapping, List<Map<String, Long>> entriesByJar) {
+        this.mapping = mapping;
+        this.entriesByJar = entriesByJar;
+    }
+
+    /**
+     * Writes the class files of the given jars.
+     *
+     * @param archive the archive file
+     * @param classPath the jars, in the order they are listed in the {@link SerializedApplication}
+     */
+    public static void write(Path archive, List<Path> classPath) throws IOException {
+        write(archive, classPath, Integer.MAX_VALUE);
+    }
+
+    static void write(Path archive, List<Path> classPath, long maxSize) throws IOException {
+        long position = 0;
+        List<List<IndexEntry>> index = new ArrayList<>(classPath.size());
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(archive), 65536))) {
+            for (Path jar : classPath) {
+                List<IndexEntry> jarIndex = new ArrayList<>();
+                try (JarFile zip = new JarFile(jar.toFile())) {
+                    if (isMultiRelease(zip)) {
+                        // the versioned class files are selected at runtime, so such jars are not mapped
+                        index.add(null);
+                        continue;
+                    }
+                    Enumeration<JarEntry> entries = zip.entries();
+                    while (entries.hasMoreElements()) {
+                        JarEntry entry = entries.nextElement();
+                        if (entry.isDirectory() || !entry.getName().endsWith(CLASS_SUFFIX)) {
+                            continue;
+                        }
+                        long length;
+                        try (InputStream in = zip.getInputStream(entry)) {
+                            length = in.transferTo(out);
+                        }
+                        jarIndex.add(new IndexEntry(entry.getName(), position, length));
+                        position += length;
+                    }
+                }
+                index.add(jarIndex);
+            }
+            long indexOffset = position;
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(index.size());
+            for (List<IndexEntry> jarIndex : index) {
+                if (jarIndex == null) {
+                    out.writeInt(-1);
+                    continue;
+                }
+                out.writeInt(jarIndex.size());
+                for (IndexEntry entry : jarIndex) {
+                    byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+                    out.writeShort(name.length);
+                    out.write(name);
+                    out.writeInt((int) entry.offset);
+                    out.writeInt((int) entry.length);
+                }
+            }
+            out.writeLong(indexOffset);
+            out.writeInt(MAGIC);
+        }
+        // the whole file is mapped, including the index, and the offsets are stored as ints
+        long size = Files.size(archive);
+        if (size > maxSize) {
+            Files.delete(archive);
+            throw new IOException("The class files of the application are too large to be mapped: " + size + " bytes");
+        }
+    }
+
+    /**
+     * Maps the given archive in memory and reads its index.
+     */
+    public static MappedApplicationArchive open(Path archive) throws IOException {
+        MappedByteBuffer mapping;
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            // the mapping remains valid after the channel is closed
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int limit = mapping.capacity();
+        if (limit < TRAILER_SIZE || mapping.getInt(limit - Integer.BYTES) != MAGIC) {
+            throw new RuntimeException("Wrong magic number");
+        }
+        ByteBuffer index = mapping.duplicate();
+        index.position((int) mapping.getLong(limit - TRAILER_SIZE));
+        if (index.getInt() != MAGIC) {
+            throw new RuntimeException("Wrong magic number");
+        }
+        if (index.getInt() != VERSION) {
+            throw new RuntimeException("Wrong mapped archive version");
+        }
+        int numJars = index.getInt();
+        List<Map<String, Long>> entriesByJar = new ArrayList<>(numJars);
+        byte[] nameBuffer = new byte[256];
+        for (int i = 0; i < numJars; i++) {
+            int numEntries = index.getInt();
+            if (numEntries < 0) {
+                entriesByJar.add(null);
+                continue;
+            }
+            Map<String, Long> entries = new HashMap<>((int) (numEntries / 0.75f) + 1);
+            for (int j = 0; j < numEntries; j++) {
+                int nameLength = index.getShort() & 0xFFFF;
+                if (nameLength > nameBuffer.length) {
+                    nameBuffer = new byte[nameLength];
+                }
+                index.get(nameBuffer, 0, nameLength);
+                String name = new String(nameBuffer, 0, nameLength, StandardCharsets.UTF_8);
+                // the offset and the length are packed in a single long
+                long offset = index.getInt();
+                long length = index.getInt();
+                entries.put(name, (offset << 32) | length);
+            }
+            entriesByJar.add(entries);
+        }
+        return new MappedApplicationArchive(mapping, entriesByJar);
+    }
+
+    /**
+     * @param jarIndex the index of the jar in the class path
+     * @return {@code true} if the class files of the given jar are stored in this archive
+     */
+    boolean isMapped(int jarIndex) {
+        return entriesByJar.get(jarIndex) != null;
+    }
+
+    /**
+     * @param jarIndex the index of the mapped jar in the class path
+     * @param name the name of the class file, e.g. {@code org/acme/Foo.class}
+     * @return a read-only slice of the mapping that contains the class file, or {@code null} if the jar does not contain
+     *         such class file
+     */
+    ByteBuffer getClassData(int jarIndex, String name) {
+        Long entry = entriesByJar.get(jarIndex).get(name);
+        if (entry == null) {
+            return null;
+        }
+        int offset = (int) (entry >>> 32);
+        int length = (int) (long) entry;
+        return mapping.slice(offset, length);
+    }
+
+    private static boolean isMultiRelease(JarFile zip) throws IOException {
+        Manifest manifest = zip.getManifest();
+        return manifest != null
+                && "true".equalsIgnoreCase(manifest.getMainAttributes().getValue(Attributes.Name.MULTI_RELEASE));
+    }
+
+    private static final class IndexEntry {
+
+        final String name;
+        final long offset;
+        final long length;
+
+        IndexEntry(String name, long offset, long length) {
+            this.name = name;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+}
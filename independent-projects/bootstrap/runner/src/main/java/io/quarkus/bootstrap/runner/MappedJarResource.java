@@ -0,0 +1,38 @@
+package io.quarkus.bootstrap.runner;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * A jar resource whose class files are served from a {@link MappedApplicationArchive}. The jar itself is only opened
+ * to read the other resources.
+ */
+public class MappedJarResource extends JarResource {
+
+    private final MappedApplicationArchive archive;
+    private final int jarIndex;
+
+    public MappedJarResource(ManifestInfo manifestInfo, Path jarPath, MappedApplicationArchive archive, int jarIndex) {
+        super(manifestInfo, jarPath);
+        this.archive = archive;
+        this.jarIndex = jarIndex;
+    }
+
+    @Override
+    public ByteBuffer getClassData(String resource) {
+        return archive.getClassData(jarIndex, resource);
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        ByteBuffer buffer = archive.getClassData(jarIndex, resource);
+        if (buffer == null) {
+            // all the class files of the jar are stored in the archive, no need to open the jar
+            return resource.endsWith(".class") ? null : super.getResourceData(resource);
+        }
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return data;
+    }
+
+}
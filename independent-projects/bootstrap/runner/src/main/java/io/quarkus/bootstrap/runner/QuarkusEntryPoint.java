@@ -20,6 +20,7 @@
 public class QuarkusEntryPoint {
 
     public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
+    public static final String QUARKUS_APPLICATION_ARCHIVE = "quarkus/quarkus-application.classes";
     public static final String LIB_DEPLOYMENT_DEPLOYMENT_CLASS_PATH_DAT = "lib/deployment/deployment-class-path.dat";
 
     public static void main(String... args) throws Throwable {
@@ -48,12 +49,20 @@ private static void doRun(Object args) throws IOException, ClassNotFoundExceptio
             doReaugment(appRoot);
         } else {
             SerializedApplication app;
+            // only present with the mapped-jar package type
+            Path archive = appRoot.resolve(QUARKUS_APPLICATION_ARCHIVE);
+            MappedApplicationArchive mappedArchive = Files.exists(archive) ? MappedApplicationArchive.open(archive) : null;
             // the magic number here is close to the smallest possible dat file
             try (InputStream in = new BufferedInputStream(Files.newInputStream(appRoot.resolve(QUARKUS_APPLICATION_DAT)),
                     24_576)) {
-                app = SerializedApplication.read(in, appRoot);
+                app = SerializedApplication.read(in, appRoot, mappedArchive);
             }
             final RunnerClassLoader appRunnerClassLoader = app.getRunnerClassLoader();
+            if (Boolean.getBoolean(ClassLoaderWarmup.RECORD_CLASS_LOAD_ORDER_PROPERTY)) {
+                ClassLoaderWarmup.recordClassLoadOrder(appRunnerClassLoader, appRoot);
+            } else if (Boolean.getBoolean(ClassLoaderWarmup.PREFETCH_PROPERTY)) {
+                ClassLoaderWarmup.warmup(appRunnerClassLoader, appRoot);
+            }
             try {
                 Thread.currentThread().setContextClassLoader(appRunnerClassLoader);
                 QuarkusForkJoinWorkerThread.setQuarkusAppClassloader(appRunnerClassLoader);
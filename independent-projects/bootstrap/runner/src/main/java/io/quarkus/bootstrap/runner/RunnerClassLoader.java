@@ -1,12 +1,16 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.crac.Context;
 import org.crac.Resource;
@@ -46,6 +50,9 @@ public final class RunnerClassLoader extends ClassLoader {
 
     private final CracResource resource;
 
+    //Only set when the class load order is recorded, see QuarkusEntryPoint
+    private volatile Queue<String> classLoadOrder;
+
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
@@ -96,13 +103,23 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
             String classResource = name.replace('.', '/') + ".class";
             for (ClassLoadingResource resource : resources) {
                 accessingResource(resource);
-                byte[] data = resource.getResourceData(classResource);
-                if (data == null) {
-                    continue;
+                ByteBuffer buffer = resource.getClassData(classResource);
+                byte[] data = null;
+                if (buffer == null) {
+                    data = resource.getResourceData(classResource);
+                    if (data == null) {
+                        continue;
+                    }
                 }
                 definePackage(packageName, resources);
                 try {
-                    return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    Class<?> defined = buffer != null ? defineClass(name, buffer, resource.getProtectionDomain())
+                            : defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    Queue<String> classLoadOrder = this.classLoadOrder;
+                    if (classLoadOrder != null) {
+                        classLoadOrder.add(name);
+                    }
+                    return defined;
                 } catch (LinkageError e) {
                     loaded = findLoadedClass(name);
                     if (loaded != null) {
@@ -280,6 +297,35 @@ protected Class<?> findClass(String moduleName, String name) {
         }
     }
 
+    /**
+     * Starts recording the names of the classes defined by this ClassLoader, in the order they are defined.
+     */
+    void recordClassLoadOrder() {
+        classLoadOrder = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * @return the names of the classes defined since {@link #recordClassLoadOrder()} was called, or an empty list
+     */
+    List<String> getClassLoadOrder() {
+        Queue<String> classLoadOrder = this.classLoadOrder;
+        return classLoadOrder == null ? List.of() : new ArrayList<>(classLoadOrder);
+    }
+
+    /**
+     * @return all the distinct resources this ClassLoader loads classes and resources from
+     */
+    Set<ClassLoadingResource> getClassLoadingResources() {
+        Set<ClassLoadingResource> result = new LinkedHashSet<>();
+        for (ClassLoadingResource[] resources : resourceDirectoryMap.values()) {
+            Collections.addAll(result, resources);
+        }
+        for (ClassLoadingResource[] resources : directlyIndexedResourcesIndexMap.values()) {
+            Collections.addAll(result, resources);
+        }
+        return result;
+    }
+
     public void close() {
         for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
             for (ClassLoadingResource i : entry.getValue()) {
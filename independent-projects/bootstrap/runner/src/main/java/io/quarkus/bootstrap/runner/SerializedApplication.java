@@ -103,6 +103,15 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
     }
 
     public static SerializedApplication read(InputStream inputStream, Path appRoot) throws IOException {
+        return read(inputStream, appRoot, null);
+    }
+
+    /**
+     * @param mappedArchive the archive containing the class files of the class path, or {@code null} if the class files
+     *        should be read from the jars
+     */
+    public static SerializedApplication read(InputStream inputStream, Path appRoot, MappedApplicationArchive mappedArchive)
+            throws IOException {
         try (DataInputStream in = new DataInputStream(inputStream)) {
             if (in.readInt() != MAGIC) {
                 throw new RuntimeException("Wrong magic number");
@@ -123,7 +132,9 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                JarResource resource = mappedArchive != null && mappedArchive.isMapped(pathCount)
+                        ? new MappedJarResource(info, appRoot.resolve(path), mappedArchive, pathCount)
+                        : new JarResource(info, appRoot.resolve(path));
                 allClassLoadingResources[pathCount] = resource;
                 int numDirs = in.readUnsignedShort();
                 for (int i = 0; i < numDirs; ++i) {
@@ -24,6 +24,8 @@ public class Timing {
 
     private volatile String httpServerInfo = "";
 
+    private volatile String classLoaderWarmupInfo;
+
     private static final String UNSET_VALUE = "<<unset>>";
 
     private static final Timing main = new Timing();
@@ -70,6 +72,23 @@ public static void setHttpServer(String info, boolean auxiliary) {
         t.httpServerInfo = info;
     }
 
+    /**
+     * Called by {@link QuarkusEntryPoint} once the jars of the application have been opened and the classes recorded
+     * during a training run have been loaded, before the main class is invoked.
+     *
+     * @param jars the number of prefetched jars
+     * @param classes the number of preloaded classes
+     * @param elapsedNanos the wall-clock time spent warming up the class loader
+     * @param cpuNanos the sum of the time spent by the warmup threads, i.e. roughly the time the same work would have
+     *        taken on the critical path of the startup
+     */
+    public static void classLoaderWarmedUp(int jars, int classes, long elapsedNanos, long cpuNanos) {
+        main.classLoaderWarmupInfo = String.format(
+                "Class loader warmed up in %ss: prefetched %s jars and preloaded %s classes, saving approximately %ss",
+                convertToBigDecimalSeconds(elapsedNanos), jars, classes,
+                convertToBigDecimalSeconds(Math.max(0, cpuNanos - elapsedNanos)));
+    }
+
     /**
      * This method is replaced in native mode
      */
@@ -113,6 +132,10 @@ public static void printStartupTime(String name, String version, String quarkusV
         logger.infof("Profile%s %s activated. %s", profiles.size() > 1 ? "s" : "", String.join(",", profiles),
                 liveCoding ? "Live Coding activated." : "");
         logger.infof("Installed features: [%s]", features);
+        if (t.classLoaderWarmupInfo != null) {
+            logger.debug(t.classLoaderWarmupInfo);
+            t.classLoaderWarmupInfo = null;
+        }
         t.bootStartTime = -1;
     }
 
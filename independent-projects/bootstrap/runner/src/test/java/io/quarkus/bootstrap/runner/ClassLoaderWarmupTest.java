@@ -0,0 +1,114 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ClassLoaderWarmup}
+ */
+public class ClassLoaderWarmupTest {
+
+    @Test
+    public void testWarmup() throws Exception {
+        final Path appRoot = Files.createTempDirectory("warmup");
+        Files.createDirectories(appRoot.resolve("quarkus"));
+        final Path jarPath = Files.createDirectories(appRoot.resolve("lib")).resolve("warmup.jar");
+        ShrinkWrap.create(JavaArchive.class).addClasses(Alpha.class, Bravo.class)
+                .as(ZipExporter.class).exportTo(jarPath.toFile(), true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, Alpha.class.getName(), appRoot, List.of(jarPath), List.of(), List.of());
+
+        // training run
+        RunnerClassLoader classLoader = read(out, appRoot);
+        classLoader.recordClassLoadOrder();
+        classLoader.loadClass(Bravo.class.getName());
+        classLoader.loadClass(Alpha.class.getName());
+        ClassLoaderWarmup.writeClassLoadOrder(classLoader, appRoot);
+        classLoader.close();
+        Assertions.assertEquals(List.of(Bravo.class.getName(), Alpha.class.getName()),
+                Files.readAllLines(appRoot.resolve(ClassLoaderWarmup.CLASS_LOAD_ORDER_TXT)));
+
+        // the recorded classes are defined during the warmup
+        classLoader = read(out, appRoot);
+        classLoader.recordClassLoadOrder();
+        ClassLoaderWarmup.warmup(classLoader, appRoot);
+        Assertions.assertEquals(2, classLoader.getClassLoadOrder().size());
+        Assertions.assertTrue(classLoader.getClassLoadOrder().contains(Alpha.class.getName()));
+        Class<?> alpha = classLoader.loadClass(Alpha.class.getName());
+        Assertions.assertSame(classLoader, alpha.getClassLoader());
+        Assertions.assertEquals(2, classLoader.getClassLoadOrder().size());
+        classLoader.close();
+    }
+
+    @Test
+    public void testClassLoadOrderIsRecordedWhenApplicationExits() throws Exception {
+        final Path appRoot = Files.createTempDirectory("warmup");
+        Files.createDirectories(appRoot.resolve("quarkus"));
+        final Path jarPath = Files.createDirectories(appRoot.resolve("lib/main")).resolve("app.jar");
+        ShrinkWrap.create(JavaArchive.class).addClasses(ExitingMain.class, Alpha.class)
+                .as(ZipExporter.class).exportTo(jarPath.toFile(), true);
+        try (OutputStream out = Files.newOutputStream(appRoot.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT))) {
+            SerializedApplication.write(out, ExitingMain.class.getName(), appRoot, List.of(jarPath), List.of(), List.of());
+        }
+        // QuarkusEntryPoint resolves the application root from the location of the runner jar
+        final Path runnerJar = Files.createDirectories(appRoot.resolve("lib/boot")).resolve("quarkus-bootstrap-runner.jar");
+        final Path runnerClasses = Path.of(QuarkusEntryPoint.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        ShrinkWrap.create(JavaArchive.class).addAsResource(runnerClasses.toFile(), "/")
+                .as(ZipExporter.class).exportTo(runnerJar.toFile(), true);
+        final List<String> classPath = new ArrayList<>();
+        classPath.add(runnerJar.toString());
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            // the dependencies of the runner, but not the classes of this module
+            if (!Files.isDirectory(Path.of(entry))) {
+                classPath.add(entry);
+            }
+        }
+
+        Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-D" + ClassLoaderWarmup.RECORD_CLASS_LOAD_ORDER_PROPERTY + "=true",
+                "-cp", String.join(File.pathSeparator, classPath),
+                QuarkusEntryPoint.class.getName())
+                .inheritIO()
+                .start();
+        Assertions.assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        Assertions.assertEquals(ExitingMain.EXIT_CODE, process.exitValue());
+
+        // the main method never returned, the class load order was written by the shutdown hook
+        Assertions.assertEquals(List.of(ExitingMain.class.getName(), Alpha.class.getName()),
+                Files.readAllLines(appRoot.resolve(ClassLoaderWarmup.CLASS_LOAD_ORDER_TXT)));
+    }
+
+    private static RunnerClassLoader read(ByteArrayOutputStream out, Path appRoot) throws Exception {
+        return SerializedApplication.read(new ByteArrayInputStream(out.toByteArray()), appRoot).getRunnerClassLoader();
+    }
+
+    public static class Alpha {
+    }
+
+    public static class ExitingMain {
+
+        static final int EXIT_CODE = 42;
+
+        public static void main(String[] args) {
+            new Alpha();
+            // like ApplicationLifecycleManager
+            System.exit(EXIT_CODE);
+        }
+    }
+
+    public static class Bravo {
+    }
+}
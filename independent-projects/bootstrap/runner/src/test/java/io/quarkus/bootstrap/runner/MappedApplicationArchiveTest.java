@@ -0,0 +1,92 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MappedApplicationArchive}
+ */
+public class MappedApplicationArchiveTest {
+
+    @Test
+    public void testMappedArchive() throws Exception {
+        final Path appRoot = Files.createTempDirectory("mapped");
+        final Path libDir = Files.createDirectories(appRoot.resolve("lib"));
+        final Path classesJar = libDir.resolve("classes.jar");
+        ShrinkWrap.create(JavaArchive.class).addClass(Alpha.class).addAsResource(new StringAsset("hello"), "hello.txt")
+                .as(ZipExporter.class).exportTo(classesJar.toFile(), true);
+        final Path multiReleaseJar = libDir.resolve("multi-release.jar");
+        ShrinkWrap.create(JavaArchive.class).addClass(Bravo.class)
+                .addAsManifestResource(new StringAsset("Manifest-Version: 1.0\nMulti-Release: true\n"), "MANIFEST.MF")
+                .as(ZipExporter.class).exportTo(multiReleaseJar.toFile(), true);
+        final List<Path> classPath = List.of(classesJar, multiReleaseJar);
+
+        final Path archivePath = appRoot.resolve("application.classes");
+        MappedApplicationArchive.write(archivePath, classPath);
+        MappedApplicationArchive archive = MappedApplicationArchive.open(archivePath);
+        Assertions.assertTrue(archive.isMapped(0));
+        Assertions.assertFalse(archive.isMapped(1));
+        final String alphaClassFile = Alpha.class.getName().replace('.', '/') + ".class";
+        ByteBuffer alphaData = archive.getClassData(0, alphaClassFile);
+        Assertions.assertNotNull(alphaData);
+        Assertions.assertEquals(0xCAFEBABE, alphaData.getInt(0));
+        Assertions.assertNull(archive.getClassData(0, "hello.txt"));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, Alpha.class.getName(), appRoot, classPath, List.of(), List.of());
+        RunnerClassLoader classLoader = SerializedApplication
+                .read(new ByteArrayInputStream(out.toByteArray()), appRoot, archive).getRunnerClassLoader();
+        try {
+            Class<?> alpha = classLoader.loadClass(Alpha.class.getName());
+            Assertions.assertSame(classLoader, alpha.getClassLoader());
+            Assertions.assertEquals("alpha", alpha.getMethod("ping").invoke(alpha.getConstructor().newInstance()));
+            Class<?> bravo = classLoader.loadClass(Bravo.class.getName());
+            Assertions.assertSame(classLoader, bravo.getClassLoader());
+            Assertions.assertNotNull(classLoader.getResource("hello.txt"));
+        } finally {
+            classLoader.close();
+        }
+    }
+
+    @Test
+    public void testArchiveLargerThanTheMaxSizeIsRejected() throws Exception {
+        final Path appRoot = Files.createTempDirectory("mapped");
+        final Path classesJar = appRoot.resolve("classes.jar");
+        ShrinkWrap.create(JavaArchive.class).addClass(Alpha.class)
+                .as(ZipExporter.class).exportTo(classesJar.toFile(), true);
+        final long classFileSize;
+        try (InputStream in = Alpha.class.getClassLoader()
+                .getResourceAsStream(Alpha.class.getName().replace('.', '/') + ".class")) {
+            classFileSize = in.readAllBytes().length;
+        }
+
+        // the class file fits but the index that follows it does not
+        final Path archivePath = appRoot.resolve("application.classes");
+        Assertions.assertThrows(IOException.class,
+                () -> MappedApplicationArchive.write(archivePath, List.of(classesJar), classFileSize + 1));
+        Assertions.assertFalse(Files.exists(archivePath));
+    }
+
+    public static class Alpha {
+
+        public String ping() {
+            return "alpha";
+        }
+    }
+
+    public static class Bravo {
+    }
+}
@@ -20,6 +20,11 @@ class EvaluatorImpl implements Evaluator {
 
     private static final Logger LOG = Logger.getLogger(EvaluatorImpl.class);
 
+    /**
+     * Marks a value which is not available yet, see {@link #valueOf(CompletionStage)}.
+     */
+    private static final Object PENDING = new Object();
+
     private final List<ValueResolver> resolvers;
     private final Map<String, NamespaceResolver[]> namespaceResolvers;
     private final boolean strictRendering;
@@ -74,9 +79,16 @@ public CompletionStage<Object> evaluate(Expression expression, ResolutionContext
                     : new NamespaceEvalContextImpl(resolutionContext, part);
             if (matching.length == 1) {
                 // Very often a single matching resolver will be found
-                return matching[0].resolve(context).thenCompose(r -> (parts.size() > 1)
-                        ? resolveReference(false, r, parts, resolutionContext, expression, 1)
-                        : CompletionStageSupport.toCompletionStage(r));
+                CompletionStage<Object> result = matching[0].resolve(context);
+                Object value = valueOf(result);
+                if (value != PENDING) {
+                    try {
+                        return namespaceResolverResult(value, parts, resolutionContext, expression);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return result.thenCompose(r -> namespaceResolverResult(r, parts, resolutionContext, expression));
             } else {
                 // Multiple namespace resolvers match
                 return resolveNamespace(context, resolutionContext, parts, matching, 0, expression);
@@ -92,6 +104,13 @@ public boolean strictRendering() {
         return strictRendering;
     }
 
+    private CompletionStage<Object> namespaceResolverResult(Object result, List<Part> parts,
+            ResolutionContext resolutionContext, Expression expression) {
+        return parts.size() > 1
+                ? resolveReference(false, result, parts, resolutionContext, expression, 1)
+                : CompletionStageSupport.toCompletionStage(result);
+    }
+
     private CompletionStage<Object> resolveNamespace(EvalContext context, ResolutionContext resolutionContext,
             List<Part> parts, NamespaceResolver[] resolvers, int resolverIndex, Expression expression) {
         // Use the next matching namespace resolver
@@ -131,8 +150,17 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
             return resolve(evalContext, null, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+            CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+            Object value = valueOf(result);
+            if (value != PENDING) {
+                // The value is already available - no need to compose
+                try {
+                    return resolveReference(false, value, parts, resolutionContext, expression, partIndex + 1);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
 
@@ -143,13 +171,16 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cachedResolver = evalContext.getCachedResolver();
             if (cachedResolver != null && cachedResolver.appliesTo(evalContext)) {
-                return cachedResolver.resolve(evalContext).thenCompose(r -> {
-                    if (Results.isNotFound(r)) {
-                        return resolve(evalContext, null, false, expression, isLastPart, partIndex);
-                    } else {
-                        return CompletionStageSupport.toCompletionStage(r);
+                CompletionStage<Object> result = cachedResolver.resolve(evalContext);
+                Object value = valueOf(result);
+                if (value != PENDING) {
+                    try {
+                        return cachedResolverResult(value, evalContext, expression, isLastPart, partIndex);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
                     }
-                });
+                }
+                return result.thenCompose(r -> cachedResolverResult(r, evalContext, expression, isLastPart, partIndex));
             }
         }
 
@@ -208,16 +239,60 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
 
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
-            if (Results.isNotFound(r)) {
-                // Result not found - try the next resolver
-                return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
-            } else {
-                // Cache the first resolver where a result is found
-                evalContext.setCachedResolver(foundResolver);
-                return CompletionStageSupport.toCompletionStage(r);
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        Object value = valueOf(result);
+        if (value != PENDING) {
+            try {
+                return resolverResult(value, evalContext, foundResolver, remainingResolvers, expression, isLastPart,
+                        partIndex);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
             }
-        });
+        }
+        return result.thenCompose(r -> resolverResult(r, evalContext, foundResolver, remainingResolvers, expression,
+                isLastPart, partIndex));
+    }
+
+    private CompletionStage<Object> cachedResolverResult(Object result, EvalContextImpl evalContext, Expression expression,
+            boolean isLastPart, int partIndex) {
+        if (Results.isNotFound(result)) {
+            return resolve(evalContext, null, false, expression, isLastPart, partIndex);
+        } else {
+            return CompletionStageSupport.toCompletionStage(result);
+        }
+    }
+
+    private CompletionStage<Object> resolverResult(Object result, EvalContextImpl evalContext, ValueResolver resolver,
+            Iterator<ValueResolver> remainingResolvers, Expression expression, boolean isLastPart, int partIndex) {
+        if (Results.isNotFound(result)) {
+            // Result not found - try the next resolver
+            return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
+        } else {
+            // Cache the first resolver where a result is found
+            evalContext.setCachedResolver(resolver);
+            return CompletionStageSupport.toCompletionStage(result);
+        }
+    }
+
+    /**
+     * Most value resolvers complete synchronously, in which case the value can be used right away, without allocating the
+     * function and the stage needed to compose the stages.
+     *
+     * @return the value of a successfully completed stage, or {@link #PENDING}
+     */
+    @SuppressWarnings("unchecked")
+    static Object valueOf(CompletionStage<?> stage) {
+        if (stage instanceof CompletedStage) {
+            CompletedStage<Object> completed = (CompletedStage<Object>) stage;
+            if (!completed.isFailure()) {
+                return completed.get();
+            }
+        }
+        return PENDING;
+    }
+
+    static boolean isPending(Object value) {
+        return value == PENDING;
     }
 
     private TemplateException propertyNotFound(Object result, Expression expression) {
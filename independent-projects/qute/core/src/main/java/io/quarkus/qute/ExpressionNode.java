@@ -33,7 +33,13 @@ public CompletionStage<ResultNode> resolve(ResolutionContext context) {
         if (traceLevel) {
             LOG.tracef("Resolve {%s} started:%s", expression.toOriginalString(), expression.getOrigin());
         }
-        return context.evaluate(expression).thenCompose(this::toResultNode);
+        CompletionStage<Object> result = context.evaluate(expression);
+        Object value = EvaluatorImpl.valueOf(result);
+        if (!EvaluatorImpl.isPending(value)) {
+            // Avoid the composition if the value is already available
+            return toResultNode(value);
+        }
+        return result.thenCompose(this::toResultNode);
     }
 
     CompletionStage<ResultNode> toResultNode(Object result) {
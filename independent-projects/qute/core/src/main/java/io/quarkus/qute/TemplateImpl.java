@@ -144,9 +144,22 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
         public String render() {
+            CompletionStage<ResultNode> resolved = root.resolve(newRootContext(data()));
+            if (resolved instanceof CompletedStage && !((CompletedStage<ResultNode>) resolved).isFailure()) {
+                // Nothing is async - build the output right away, there is no need to wait for the result
+                StringBuilder builder = new StringBuilder(1028);
+                try {
+                    ((CompletedStage<ResultNode>) resolved).get().process(builder::append);
+                } finally {
+                    runRenderedActions();
+                }
+                return builder.toString();
+            }
             long timeout = getTimeout();
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                StringBuilder builder = new StringBuilder(1028);
+                return processResult(resolved, builder::append).thenApply(v -> builder.toString()).toCompletableFuture()
+                        .get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -225,12 +238,20 @@ private CompletionStage<String> renderAsyncNoTimeout() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
+            // Async resolution
+            return processResult(root.resolve(newRootContext(data)), consumer);
+        }
+
+        private ResolutionContext newRootContext(Object data) {
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this::getAttribute);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
-            // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            return rootContext;
+        }
+
+        private CompletionStage<Void> processResult(CompletionStage<ResultNode> resolved, Consumer<String> consumer) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            resolved.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
@@ -241,22 +262,25 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
             });
             return result;
         }
 
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
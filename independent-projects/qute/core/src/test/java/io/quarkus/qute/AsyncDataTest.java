@@ -6,6 +6,8 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +24,26 @@ public void testAsyncData() {
         assertEquals("alpha", engine.parse("{token}").data("token", CompletedStage.of("alpha")).render());
     }
 
+    @Test
+    public void testSyncAndAsyncResultsAreMixed() throws Exception {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build();
+        Template template = engine.parse("{name.length}:{#each items}{it.toUpperCase}{#if it_hasNext},{/if}{/each}:{late}");
+
+        // All values are available synchronously
+        assertEquals("5:A,B:done", template.data("name", "alpha").data("items", List.of("a", "b"))
+                .data("late", "done").render());
+
+        // Some values are completed later, from a different thread
+        CompletableFuture<String> late = new CompletableFuture<>();
+        ForkJoinPool.commonPool().execute(() -> late.complete("done"));
+        assertEquals("5:A,B:done", template.data("name", CompletedStage.of("alpha"))
+                .data("items", CompletableFuture.supplyAsync(() -> List.of("a", "b")))
+                .data("late", late).render());
+        assertEquals("5:A,B:done", template.data("name", "alpha").data("items", List.of("a", "b"))
+                .data("late", CompletableFuture.supplyAsync(() -> "done")).renderAsync().toCompletableFuture()
+                .get(5, TimeUnit.SECONDS));
+    }
+
     static class Client {
 
         public CompletionStage<List<String>> getTokens() {
@@ -39,6 +39,12 @@ public class ResteasyReactiveConfig {
      */
     private boolean defaultProduces;
 
+    /**
+     * When enabled, the path parameters of a request are only captured as offsets into the request path while
+     * matching, and decoded when they are actually read.
+     */
+    private boolean lazyPathParams;
+
     // we need this (and the setters) due to Bytecode Recording
     public ResteasyReactiveConfig() {
     }
@@ -52,6 +58,12 @@ public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int output
         this.defaultProduces = defaultProduces;
     }
 
+    public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int outputBufferSize, boolean singleDefaultProduces,
+            boolean defaultProduces, boolean lazyPathParams) {
+        this(inputBufferSize, minChunkSize, outputBufferSize, singleDefaultProduces, defaultProduces);
+        this.lazyPathParams = lazyPathParams;
+    }
+
     public long getInputBufferSize() {
         return inputBufferSize;
     }
@@ -91,4 +103,12 @@ public boolean isDefaultProduces() {
     public void setDefaultProduces(boolean defaultProduces) {
         this.defaultProduces = defaultProduces;
     }
+
+    public boolean isLazyPathParams() {
+        return lazyPathParams;
+    }
+
+    public void setLazyPathParams(boolean lazyPathParams) {
+        this.lazyPathParams = lazyPathParams;
+    }
 }
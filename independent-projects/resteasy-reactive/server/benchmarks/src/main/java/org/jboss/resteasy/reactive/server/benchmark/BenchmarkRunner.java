@@ -0,0 +1,32 @@
+package org.jboss.resteasy.reactive.server.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the shaded benchmarks jar.
+ * <p>
+ * Accepts the regular JMH command line options, but always enables the {@link GCProfiler} so that
+ * {@code gc.alloc.rate.norm} (bytes allocated per operation) is reported and can be compared release to release:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar RequestPipelineBenchmark -rf json
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,101 @@
+package org.jboss.resteasy.reactive.server.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in-memory stand-in for an HTTP exchange.
+ * <p>
+ * The request side is parsed once when the exchange is created, so that the benchmarks only measure the cost
+ * of the RESTEasy Reactive pipeline and not the cost of parsing the request off the wire. The response side
+ * is captured by {@link InMemoryRequestContext} and must be {@link #reset() reset} between invocations.
+ */
+public final class InMemoryExchange {
+
+    final String method;
+    final String path;
+    final String query;
+    final String[] requestHeaders;
+    final Map<String, List<String>> queryParams;
+
+    int status;
+    boolean ended;
+    Object body;
+    final List<Map.Entry<String, String>> responseHeaders = new ArrayList<>();
+
+    /**
+     * @param method the HTTP method
+     * @param uri the request URI, optionally including a query string
+     * @param requestHeaders the request headers, as alternating name and value entries
+     */
+    public InMemoryExchange(String method, String uri, String... requestHeaders) {
+        if ((requestHeaders.length % 2) != 0) {
+            throw new IllegalArgumentException("Request headers must be provided as name/value pairs");
+        }
+        this.method = method;
+        int queryIndex = uri.indexOf('?');
+        if (queryIndex == -1) {
+            this.path = uri;
+            this.query = null;
+            this.queryParams = Collections.emptyMap();
+        } else {
+            this.path = uri.substring(0, queryIndex);
+            this.query = uri.substring(queryIndex + 1);
+            this.queryParams = parseQuery(query);
+        }
+        this.requestHeaders = requestHeaders;
+        reset();
+    }
+
+    private static Map<String, List<String>> parseQuery(String query) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        for (String pair : query.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int eq = pair.indexOf('=');
+            String name = eq == -1 ? pair : pair.substring(0, eq);
+            String value = eq == -1 ? "" : pair.substring(eq + 1);
+            result.computeIfAbsent(name, k -> new ArrayList<>(1)).add(value);
+        }
+        return result;
+    }
+
+    /**
+     * Clears the captured response so that the exchange can be dispatched again.
+     */
+    public void reset() {
+        status = 200;
+        ended = false;
+        body = null;
+        responseHeaders.clear();
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public boolean isEnded() {
+        return ended;
+    }
+
+    /**
+     * @return the response body as handed to the transport, either a {@code String} or a {@code byte[]}
+     */
+    public Object getBody() {
+        return body;
+    }
+
+    public String getResponseHeader(String name) {
+        for (int i = 0; i < responseHeaders.size(); i++) {
+            Map.Entry<String, String> entry = responseHeaders.get(i);
+            if (entry.getKey().equalsIgnoreCase(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
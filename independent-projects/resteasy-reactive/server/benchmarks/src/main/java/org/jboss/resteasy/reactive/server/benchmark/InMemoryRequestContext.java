@@ -0,0 +1,398 @@
+package org.jboss.resteasy.reactive.server.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * A request context that serves an {@link InMemoryExchange} instead of a real connection.
+ * <p>
+ * Everything runs on the calling thread, so the full handler chain completes before
+ * {@link org.jboss.resteasy.reactive.server.handlers.RestInitialHandler#beginProcessing(Object)} returns.
+ */
+public class InMemoryRequestContext extends ResteasyReactiveRequestContext
+        implements ServerHttpRequest, ServerHttpResponse {
+
+    private static final Executor CALLER_RUNS = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final InMemoryExchange exchange;
+    private Consumer<ResteasyReactiveRequestContext> preCommitTask;
+    private boolean headWritten;
+
+    public InMemoryRequestContext(Deployment deployment, InMemoryExchange exchange,
+            ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        super(deployment, requestContext, handlerChain, abortHandlerChain);
+        this.exchange = exchange;
+    }
+
+    @Override
+    public ServerHttpRequest serverRequest() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse serverResponse() {
+        return this;
+    }
+
+    @Override
+    protected Executor getEventLoop() {
+        return CALLER_RUNS;
+    }
+
+    @Override
+    public Runnable registerTimer(long millis, Runnable task) {
+        throw new UnsupportedOperationException("Timers are not supported by the in-memory transport");
+    }
+
+    @Override
+    public boolean resumeExternalProcessing() {
+        return false;
+    }
+
+    @Override
+    public String getRequestHeader(CharSequence name) {
+        String[] headers = exchange.requestHeaders;
+        for (int i = 0; i < headers.length; i += 2) {
+            if (equalsIgnoreCase(headers[i], name)) {
+                return headers[i + 1];
+            }
+        }
+        return null;
+    }
+
+    private static boolean equalsIgnoreCase(String headerName, CharSequence name) {
+        int length = headerName.length();
+        if (length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char a = headerName.charAt(i);
+            char b = name.charAt(i);
+            if (a != b && Character.toLowerCase(a) != Character.toLowerCase(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllRequestHeaders() {
+        String[] headers = exchange.requestHeaders;
+        List<Map.Entry<String, String>> result = new ArrayList<>(headers.length / 2);
+        for (int i = 0; i < headers.length; i += 2) {
+            result.add(new AbstractMap.SimpleImmutableEntry<>(headers[i], headers[i + 1]));
+        }
+        return result;
+    }
+
+    @Override
+    public List<String> getAllRequestHeaders(String name) {
+        String[] headers = exchange.requestHeaders;
+        List<String> result = null;
+        for (int i = 0; i < headers.length; i += 2) {
+            if (headers[i].equalsIgnoreCase(name)) {
+                if (result == null) {
+                    result = new ArrayList<>(1);
+                }
+                result.add(headers[i + 1]);
+            }
+        }
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    @Override
+    public boolean containsRequestHeader(CharSequence accept) {
+        return getRequestHeader(accept) != null;
+    }
+
+    @Override
+    public String getRequestPath() {
+        return exchange.path;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return exchange.method;
+    }
+
+    @Override
+    public String getRequestNormalisedPath() {
+        return exchange.path;
+    }
+
+    @Override
+    public String getRequestAbsoluteUri() {
+        String host = getRequestHost();
+        return getRequestScheme() + "://" + host + exchange.path + (exchange.query == null ? "" : "?" + exchange.query);
+    }
+
+    @Override
+    public String getRequestScheme() {
+        return "http";
+    }
+
+    @Override
+    public String getRequestHost() {
+        String host = getRequestHeader("Host");
+        return host == null ? "localhost" : host;
+    }
+
+    @Override
+    public void closeConnection() {
+        exchange.ended = true;
+    }
+
+    @Override
+    public String getQueryParam(String name) {
+        List<String> values = exchange.queryParams.get(name);
+        return values == null ? null : values.get(0);
+    }
+
+    @Override
+    public List<String> getAllQueryParams(String name) {
+        List<String> values = exchange.queryParams.get(name);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    @Override
+    public String query() {
+        return exchange.query;
+    }
+
+    @Override
+    public Collection<String> queryParamNames() {
+        return exchange.queryParams.keySet();
+    }
+
+    @Override
+    public boolean isRequestEnded() {
+        return true;
+    }
+
+    @Override
+    public InputStream createInputStream(ByteBuffer existingData) {
+        if (existingData == null) {
+            return createInputStream();
+        }
+        byte[] data = new byte[existingData.remaining()];
+        existingData.get(data);
+        return new ByteArrayInputStream(data);
+    }
+
+    @Override
+    public InputStream createInputStream() {
+        return InputStream.nullInputStream();
+    }
+
+    @Override
+    public ServerHttpResponse pauseRequestInput() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse resumeRequestInput() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setReadListener(ReadCallback callback) {
+        callback.done();
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unwrap(Class<T> theType) {
+        if (theType == InMemoryExchange.class) {
+            return (T) exchange;
+        } else if (theType == ResteasyReactiveRequestContext.class) {
+            return (T) this;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isOnIoThread() {
+        return true;
+    }
+
+    @Override
+    public ServerHttpResponse setStatusCode(int code) {
+        if (!headWritten) {
+            exchange.status = code;
+        }
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end() {
+        return doEnd(null);
+    }
+
+    @Override
+    public boolean headWritten() {
+        return headWritten;
+    }
+
+    @Override
+    public ServerHttpResponse end(byte[] data) {
+        return doEnd(data);
+    }
+
+    @Override
+    public ServerHttpResponse end(String data) {
+        return doEnd(data);
+    }
+
+    private ServerHttpResponse doEnd(Object data) {
+        if (!exchange.ended) {
+            commitHead();
+            exchange.body = data;
+            exchange.ended = true;
+        }
+        return this;
+    }
+
+    /**
+     * Mirrors the Vert.x headers end handler, which runs the pre-commit listener right before
+     * the status line and headers are sent.
+     */
+    private void commitHead() {
+        if (!headWritten) {
+            if (preCommitTask != null) {
+                preCommitTask.accept(this);
+            }
+            headWritten = true;
+        }
+    }
+
+    @Override
+    public ServerHttpResponse addResponseHeader(CharSequence name, CharSequence value) {
+        exchange.responseHeaders.add(new AbstractMap.SimpleImmutableEntry<>(name.toString(), value.toString()));
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, CharSequence value) {
+        removeResponseHeader(name.toString());
+        if (value != null) {
+            addResponseHeader(name, value);
+        }
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, Iterable<CharSequence> values) {
+        removeResponseHeader(name.toString());
+        for (CharSequence value : values) {
+            addResponseHeader(name, value);
+        }
+        return this;
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllResponseHeaders() {
+        return exchange.responseHeaders;
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        return exchange.getResponseHeader(name);
+    }
+
+    @Override
+    public void removeResponseHeader(String name) {
+        List<Map.Entry<String, String>> headers = exchange.responseHeaders;
+        for (int i = headers.size() - 1; i >= 0; i--) {
+            if (headers.get(i).getKey().equalsIgnoreCase(name)) {
+                headers.remove(i);
+            }
+        }
+    }
+
+    @Override
+    public boolean closed() {
+        return exchange.ended;
+    }
+
+    @Override
+    public ServerHttpResponse setChunked(boolean chunked) {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+        commitHead();
+        exchange.body = data;
+        asyncResultHandler.accept(null);
+        return this;
+    }
+
+    @Override
+    public CompletionStage<Void> write(byte[] data) {
+        commitHead();
+        exchange.body = data;
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public ServerHttpResponse sendFile(String path, long offset, long length) {
+        throw new UnsupportedOperationException("sendFile is not supported by the in-memory transport");
+    }
+
+    @Override
+    public OutputStream createResponseOutputStream() {
+        return new ByteArrayOutputStream() {
+            @Override
+            public void close() throws IOException {
+                doEnd(toByteArray());
+            }
+        };
+    }
+
+    @Override
+    public void setPreCommitListener(Consumer<ResteasyReactiveRequestContext> task) {
+        preCommitTask = task;
+    }
+
+    @Override
+    public ServerHttpResponse addCloseHandler(Runnable onClose) {
+        return this;
+    }
+
+    @Override
+    public boolean isWriteQueueFull() {
+        return false;
+    }
+
+    @Override
+    public ServerHttpResponse addDrainHandler(Runnable onDrain) {
+        return this;
+    }
+}
@@ -0,0 +1,297 @@
+package org.jboss.resteasy.reactive.server.benchmark;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.jboss.resteasy.reactive.common.ResteasyReactiveConfig;
+import org.jboss.resteasy.reactive.common.core.UnmanagedBeanFactory;
+import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
+import org.jboss.resteasy.reactive.common.model.ResourceWriter;
+import org.jboss.resteasy.reactive.common.util.ServerMediaType;
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.ExceptionMapping;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.RuntimeExceptionMapper;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.core.parameters.PathParamExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.QueryParamExtractor;
+import org.jboss.resteasy.reactive.server.core.serialization.DynamicEntityWriter;
+import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriter;
+import org.jboss.resteasy.reactive.server.handlers.AbortChainHandler;
+import org.jboss.resteasy.reactive.server.handlers.ClassRoutingHandler;
+import org.jboss.resteasy.reactive.server.handlers.ExceptionHandler;
+import org.jboss.resteasy.reactive.server.handlers.FixedProducesHandler;
+import org.jboss.resteasy.reactive.server.handlers.InstanceHandler;
+import org.jboss.resteasy.reactive.server.handlers.InvocationHandler;
+import org.jboss.resteasy.reactive.server.handlers.NonBlockingHandler;
+import org.jboss.resteasy.reactive.server.handlers.ParameterHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseWriterHandler;
+import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
+import org.jboss.resteasy.reactive.server.mapping.RadixRequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.jboss.resteasy.reactive.server.model.ContextResolvers;
+import org.jboss.resteasy.reactive.server.model.ParamConverterProviders;
+import org.jboss.resteasy.reactive.server.providers.serialisers.ServerStringMessageBodyHandler;
+import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.BeanFactory;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * Builds a {@link Deployment} by hand, wiring the same handler chains that
+ * {@link org.jboss.resteasy.reactive.server.core.startup.RuntimeResourceDeployment} would produce for a simple
+ * non-blocking resource without filters or interceptors.
+ * <p>
+ * The deployment contains a {@link GreetingResource} mounted at {@value #GREETINGS_PATH} together with a configurable
+ * number of filler resources that share the {@code /api/v1} prefix, so that path matching has to discriminate between
+ * many candidate templates just like it would in a large application.
+ */
+public final class PipelineDeployment {
+
+    public static final String GREETINGS_PATH = "/api/v1/greetings";
+    static final String FILLER_PATH = "/api/v1/resource";
+
+    private static final ServerRestHandler[] EMPTY_REST_HANDLER_ARRAY = new ServerRestHandler[0];
+
+    private final Deployment deployment;
+    private final RestInitialHandler initialHandler;
+
+    private PipelineDeployment(Deployment deployment) {
+        this.deployment = deployment;
+        this.initialHandler = new RestInitialHandler(deployment);
+    }
+
+    public Deployment getDeployment() {
+        return deployment;
+    }
+
+    /**
+     * Runs the full handler chain for the given exchange on the calling thread.
+     */
+    public void dispatch(InMemoryExchange exchange) {
+        initialHandler.beginProcessing(exchange);
+    }
+
+    /**
+     * @param fillerResources the number of additional resource classes to deploy next to the greeting resource
+     * @param lazyPathParams whether path parameters are captured as offsets and only decoded when read
+     */
+    public static PipelineDeployment create(int fillerResources, boolean lazyPathParams) {
+        ServerSerialisers serialisers = new ServerSerialisers();
+        ServerStringMessageBodyHandler stringWriter = new ServerStringMessageBodyHandler();
+        serialisers.addWriter(String.class, writer(stringWriter, MediaType.TEXT_PLAIN));
+        serialisers.addWriter(Object.class, writer(stringWriter, MediaType.WILDCARD));
+
+        DynamicEntityWriter dynamicEntityWriter = new DynamicEntityWriter(serialisers);
+        ResponseWriterHandler responseWriterHandler = new ResponseWriterHandler(dynamicEntityWriter);
+        ServerRestHandler[] abortHandlerChain = new ServerRestHandler[] { new ExceptionHandler(),
+                ResponseHandler.NO_CUSTOMIZER_INSTANCE, responseWriterHandler };
+
+        HandlerChains chains = new HandlerChains(serialisers, responseWriterHandler, abortHandlerChain, lazyPathParams);
+        ArrayList<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> classMappers = new ArrayList<>();
+        classMappers.add(greetingMapper(chains));
+        for (int i = 0; i < fillerResources; i++) {
+            classMappers.add(fillerMapper(chains, FILLER_PATH + i));
+        }
+
+        ResteasyReactiveConfig config = new ResteasyReactiveConfig();
+        config.setLazyPathParams(lazyPathParams);
+        ExceptionMapping exceptionMapping = new ExceptionMapping();
+        RuntimeExceptionMapper exceptionMapper = new RuntimeExceptionMapper(exceptionMapping,
+                PipelineDeployment.class.getClassLoader());
+        Deployment deployment = new Deployment(exceptionMapping, new ContextResolvers(), serialisers,
+                abortHandlerChain, dynamicEntityWriter, "", new ParamConverterProviders(),
+                new ConfigurationImpl(RuntimeType.SERVER), () -> null, ThreadSetupAction.NOOP,
+                new RequestContextFactory() {
+                    @Override
+                    public ResteasyReactiveRequestContext createContext(Deployment deployment, Object context,
+                            ThreadSetupAction requestContext, ServerRestHandler[] handlerChain,
+                            ServerRestHandler[] abortHandlerChain) {
+                        return new InMemoryRequestContext(deployment, (InMemoryExchange) context, requestContext,
+                                handlerChain, abortHandlerChain);
+                    }
+                }, Collections.emptyList(), classMappers, Collections.emptyList(), exceptionMapper, false,
+                config, Collections.emptyMap());
+        return new PipelineDeployment(deployment);
+    }
+
+    private static ResourceWriter writer(MessageBodyWriter<?> instance, String mediaType) {
+        return new ResourceWriter()
+                .setFactory(new UnmanagedBeanFactory<>(instance))
+                .setMediaTypeStrings(List.of(mediaType))
+                .setConstraint(RuntimeType.SERVER)
+                .setBuiltin(true);
+    }
+
+    /**
+     * {@code GET /api/v1/greetings/{name}} uses a {@link FixedEntityWriter} as the return type is known to be
+     * {@code String}, while {@code GET /api/v1/greetings/{name}/profile?lang=} returns a {@link Greeting} and so
+     * goes through the {@link DynamicEntityWriter}.
+     */
+    private static RequestMapper.RequestPath<RestInitialHandler.InitialMatch> greetingMapper(HandlerChains chains) {
+        GreetingResource resource = new GreetingResource();
+        URITemplate classTemplate = new URITemplate(GREETINGS_PATH, true);
+
+        RuntimeResource hello = chains.resource(classTemplate, "/{name}", "hello", String.class,
+                new ServerMediaType(List.of(MediaType.TEXT_PLAIN_TYPE), "UTF-8", false),
+                resource, new EndpointInvoker() {
+                    @Override
+                    public Object invoke(Object instance, Object[] parameters) {
+                        return ((GreetingResource) instance).hello((String) parameters[0]);
+                    }
+                },
+                new ParameterHandler(0, null, new PathParamExtractor(0, false, true), null, ParameterType.PATH, false,
+                        false));
+        RuntimeResource profile = chains.resource(classTemplate, "/{name}/profile", "profile", Greeting.class, null,
+                resource, new EndpointInvoker() {
+                    @Override
+                    public Object invoke(Object instance, Object[] parameters) {
+                        return ((GreetingResource) instance).profile((String) parameters[0], (String) parameters[1]);
+                    }
+                },
+                new ParameterHandler(0, null, new PathParamExtractor(0, false, true), null, ParameterType.PATH, false,
+                        false),
+                new ParameterHandler(1, "en", new QueryParamExtractor("lang", true, false, null), null,
+                        ParameterType.QUERY, false, false));
+        return classMapper(chains, classTemplate, hello, profile);
+    }
+
+    private static RequestMapper.RequestPath<RestInitialHandler.InitialMatch> fillerMapper(HandlerChains chains,
+            String path) {
+        GreetingResource resource = new GreetingResource();
+        URITemplate classTemplate = new URITemplate(path, true);
+        EndpointInvoker invoker = new EndpointInvoker() {
+            @Override
+            public Object invoke(Object instance, Object[] parameters) {
+                return ((GreetingResource) instance).hello((String) parameters[0]);
+            }
+        };
+        RuntimeResource byId = chains.resource(classTemplate, "/{id}", "byId", String.class,
+                new ServerMediaType(List.of(MediaType.TEXT_PLAIN_TYPE), "UTF-8", false), resource, invoker,
+                new ParameterHandler(0, null, new PathParamExtractor(0, false, true), null, ParameterType.PATH, false,
+                        false));
+        RuntimeResource items = chains.resource(classTemplate, "/{id}/items", "items", String.class,
+                new ServerMediaType(List.of(MediaType.TEXT_PLAIN_TYPE), "UTF-8", false), resource, invoker,
+                new ParameterHandler(0, null, new PathParamExtractor(0, false, true), null, ParameterType.PATH, false,
+                        false));
+        return classMapper(chains, classTemplate, byId, items);
+    }
+
+    private static RequestMapper.RequestPath<RestInitialHandler.InitialMatch> classMapper(HandlerChains chains,
+            URITemplate classTemplate,
+            RuntimeResource... resources) {
+        ArrayList<RequestMapper.RequestPath<RuntimeResource>> templates = new ArrayList<>(resources.length);
+        int maxMethodParams = 0;
+        for (RuntimeResource resource : resources) {
+            templates.add(new RequestMapper.RequestPath<>(false, resource.getPath(), resource));
+            maxMethodParams = Math.max(maxMethodParams, resource.getPath().countPathParamNames());
+        }
+        Map<String, RequestMapper<RuntimeResource>> mappers = new HashMap<>();
+        mappers.put(HttpMethod.GET, new RadixRequestMapper<>(templates, chains.lazyPathParams));
+        int classParams = classTemplate.countPathParamNames();
+        ClassRoutingHandler classRoutingHandler = new ClassRoutingHandler(mappers, classParams, false);
+        return new RequestMapper.RequestPath<>(true, classTemplate,
+                new RestInitialHandler.InitialMatch(new ServerRestHandler[] { classRoutingHandler },
+                        maxMethodParams + classParams));
+    }
+
+    private static final class HandlerChains {
+
+        private final ServerSerialisers serialisers;
+        private final ResponseWriterHandler responseWriterHandler;
+        private final ServerRestHandler[] abortHandlerChain;
+        private final boolean lazyPathParams;
+
+        HandlerChains(ServerSerialisers serialisers, ResponseWriterHandler responseWriterHandler,
+                ServerRestHandler[] abortHandlerChain, boolean lazyPathParams) {
+            this.serialisers = serialisers;
+            this.responseWriterHandler = responseWriterHandler;
+            this.abortHandlerChain = abortHandlerChain;
+            this.lazyPathParams = lazyPathParams;
+        }
+
+        /**
+         * Mirrors the handler order of {@code RuntimeResourceDeployment#buildResourceMethod}
+         */
+        RuntimeResource resource(URITemplate classTemplate, String path, String javaMethodName, Class<?> returnType,
+                ServerMediaType produces, Object instance, EndpointInvoker invoker, ParameterHandler... parameters) {
+            BeanFactory<Object> factory = new UnmanagedBeanFactory<>(instance);
+            List<ServerRestHandler> handlers = new ArrayList<>();
+            handlers.add(new AbortChainHandler(abortHandlerChain));
+            handlers.add(NonBlockingHandler.INSTANCE);
+            handlers.add(new InstanceHandler(factory));
+            Collections.addAll(handlers, parameters);
+            handlers.add(new InvocationHandler(invoker));
+            if (produces != null) {
+                MediaType mediaType = produces.getSortedOriginalMediaTypes()[0];
+                List<MessageBodyWriter<?>> writers = serialisers.findBuildTimeWriters(returnType, RuntimeType.SERVER,
+                        List.of(mediaType));
+                handlers.add(new FixedProducesHandler(mediaType, new FixedEntityWriter(writers.get(0), serialisers)));
+            }
+            handlers.add(ResponseHandler.NO_CUSTOMIZER_INSTANCE);
+            handlers.add(responseWriterHandler);
+
+            Class<?>[] parameterTypes = new Class<?>[parameters.length];
+            Map<String, Integer> pathParameterIndexes = new HashMap<>();
+            for (int i = 0; i < parameters.length; i++) {
+                parameterTypes[i] = String.class;
+            }
+            URITemplate methodTemplate = new URITemplate(path, false);
+            int index = classTemplate.countPathParamNames();
+            for (URITemplate.TemplateComponent component : methodTemplate.components) {
+                if (component.name != null) {
+                    pathParameterIndexes.put(component.name, index++);
+                }
+            }
+            ResteasyReactiveResourceInfo lazyMethod = new ResteasyReactiveResourceInfo(javaMethodName,
+                    instance.getClass(), parameterTypes, Set.of(), Set.of(), true);
+            return new RuntimeResource(HttpMethod.GET, methodTemplate, classTemplate, produces,
+                    Collections.emptyList(), invoker, factory, handlers.toArray(EMPTY_REST_HANDLER_ARRAY),
+                    javaMethodName, parameterTypes, (Type) returnType, false, false, instance.getClass(), lazyMethod,
+                    pathParameterIndexes, null, null, Collections.emptyMap());
+        }
+    }
+
+    public static class GreetingResource {
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+
+        public Greeting profile(String name, String lang) {
+            return new Greeting(name, lang);
+        }
+    }
+
+    public static class Greeting {
+
+        private final String name;
+        private final String lang;
+
+        public Greeting(String name, String lang) {
+            this.name = name;
+            this.lang = lang;
+        }
+
+        @Override
+        public String toString() {
+            return "{\"name\":\"" + name + "\",\"lang\":\"" + lang + "\"}";
+        }
+    }
+}
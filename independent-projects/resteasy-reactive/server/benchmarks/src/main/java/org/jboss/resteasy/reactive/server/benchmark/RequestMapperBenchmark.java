@@ -0,0 +1,89 @@
+package org.jboss.resteasy.reactive.server.benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RadixRequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link RequestMapper#map(String)} in isolation, for a set of templates that share long literal prefixes.
+ * <p>
+ * The {@code mapperType} parameter compares the original linear scan of the templates with {@link RadixRequestMapper},
+ * with and without lazy path parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    @Param({ "10", "400" })
+    public int templates;
+
+    @Param({ "linear", "radix", "radix-lazy" })
+    public String mapperType;
+
+    private RequestMapper<String> mapper;
+    private String literalPath;
+    private String paramPath;
+    private String missPath;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        for (int i = 0; i < templates; i++) {
+            String base = "/api/v1/resource" + i;
+            paths.add(new RequestMapper.RequestPath<>(false, new URITemplate(base + "/list", false), base + "/list"));
+            paths.add(new RequestMapper.RequestPath<>(false, new URITemplate(base + "/{id}", false), base + "/{id}"));
+            paths.add(new RequestMapper.RequestPath<>(false, new URITemplate(base + "/{id}/items/{item}", false),
+                    base + "/{id}/items/{item}"));
+        }
+        switch (mapperType) {
+            case "radix":
+                mapper = new RadixRequestMapper<>(paths);
+                break;
+            case "radix-lazy":
+                mapper = new RadixRequestMapper<>(paths, true);
+                break;
+            default:
+                mapper = new RequestMapper<>(paths);
+        }
+        int last = templates - 1;
+        literalPath = "/api/v1/resource" + last + "/list";
+        paramPath = "/api/v1/resource" + last + "/42/items/abc%20def";
+        missPath = "/api/v1/resource" + last + "/42/unknown";
+        if (mapper.map(literalPath) == null || mapper.map(paramPath) == null || mapper.map(missPath) != null) {
+            throw new IllegalStateException("Mapper does not behave as expected");
+        }
+    }
+
+    @Benchmark
+    public Object literal() {
+        return mapper.map(literalPath);
+    }
+
+    @Benchmark
+    public Object pathParams() {
+        return mapper.map(paramPath);
+    }
+
+    @Benchmark
+    public Object miss() {
+        return mapper.map(missPath);
+    }
+}
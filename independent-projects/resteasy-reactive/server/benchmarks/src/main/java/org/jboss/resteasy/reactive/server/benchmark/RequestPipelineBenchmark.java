@@ -0,0 +1,85 @@
+package org.jboss.resteasy.reactive.server.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full trip through the server handler chain:
+ * {@code RestInitialHandler} -> {@code ClassRoutingHandler} -> {@code ParameterHandler} -> {@code InvocationHandler}
+ * -> {@code ResponseWriterHandler}.
+ * <p>
+ * Run with {@code -prof gc} (the default when launched through {@link BenchmarkRunner}) to get
+ * {@code gc.alloc.rate.norm}, the number of bytes allocated per request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestPipelineBenchmark {
+
+    @Param({ "10", "400" })
+    public int resources;
+
+    @Param({ "false", "true" })
+    public boolean lazyPathParams;
+
+    private PipelineDeployment deployment;
+    private InMemoryExchange fixedWriter;
+    private InMemoryExchange dynamicWriter;
+    private InMemoryExchange notFound;
+
+    @Setup
+    public void setup() {
+        deployment = PipelineDeployment.create(resources, lazyPathParams);
+        fixedWriter = new InMemoryExchange("GET", PipelineDeployment.GREETINGS_PATH + "/quarkus",
+                "Accept", "text/plain");
+        dynamicWriter = new InMemoryExchange("GET", PipelineDeployment.GREETINGS_PATH + "/quarkus/profile?lang=fr");
+        notFound = new InMemoryExchange("GET", PipelineDeployment.FILLER_PATH + "0/1/missing");
+
+        // fail fast rather than benchmarking an error path by accident
+        expect(fixedWriter, 200);
+        expect(dynamicWriter, 200);
+        expect(notFound, 404);
+    }
+
+    private void expect(InMemoryExchange exchange, int status) {
+        dispatch(exchange);
+        if (!exchange.isEnded() || exchange.getStatus() != status) {
+            throw new IllegalStateException("Unexpected response " + exchange.getStatus() + " for " + exchange.path);
+        }
+    }
+
+    private Object dispatch(InMemoryExchange exchange) {
+        exchange.reset();
+        deployment.dispatch(exchange);
+        return exchange.getBody();
+    }
+
+    @Benchmark
+    public Object fixedEntityWriter() {
+        return dispatch(fixedWriter);
+    }
+
+    @Benchmark
+    public Object dynamicEntityWriter() {
+        return dispatch(dynamicWriter);
+    }
+
+    @Benchmark
+    public Object notFound() {
+        return dispatch(notFound);
+    }
+}
@@ -43,6 +43,7 @@
 import org.jboss.resteasy.reactive.server.jaxrs.RequestImpl;
 import org.jboss.resteasy.reactive.server.jaxrs.SseEventSinkImpl;
 import org.jboss.resteasy.reactive.server.jaxrs.UriInfoImpl;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.mapping.URITemplate;
 import org.jboss.resteasy.reactive.server.multipart.FormValue;
@@ -77,7 +78,9 @@
      * while multiple params this will be an array. This optimisation allows us to avoid
      * allocating anything in the common case that there is zero or one path param.
      * <p>
-     * Note: those are decoded.
+     * Note: those are decoded, unless lazy path parameters are enabled, in which case this is either the
+     * {@link RequestMapper.RequestMatch} that holds the offsets of the parameters, or a {@link LazyPathParams} when
+     * several matches contributed parameters. The values are then only decoded when they are read.
      */
     private Object pathParamValues;
 
@@ -234,15 +237,56 @@ private String doGetPathParam(int index, Object pathParamValues) {
         if (pathParamValues instanceof String[]) {
             return ((String[]) pathParamValues)[index];
         }
+        if (pathParamValues instanceof RequestMapper.RequestMatch) {
+            RequestMapper.RequestMatch<?> match = (RequestMapper.RequestMatch<?>) pathParamValues;
+            return RequestMapper.RequestMatch.pathParamValue(match.path, match.pathParamOffsets, index);
+        }
+        if (pathParamValues instanceof LazyPathParams) {
+            LazyPathParams lazy = (LazyPathParams) pathParamValues;
+            if (index < lazy.firstIndex) {
+                return doGetPathParam(index, lazy.previous);
+            }
+            return RequestMapper.RequestMatch.pathParamValue(lazy.match.path, lazy.match.pathParamOffsets,
+                    index - lazy.firstIndex);
+        }
         if (index > 1) {
             throw new IndexOutOfBoundsException();
         }
         return (String) pathParamValues;
     }
 
+    /**
+     * Returns the value of a path parameter as it appears in the request path, e.g. for {@code @Encoded} parameters.
+     * <p>
+     * The raw value is only available if the parameters were captured as offsets, i.e. if lazy path parameters are
+     * enabled, otherwise the decoded value is encoded again.
+     */
+    public String getEncodedPathParam(int index) {
+        return doGetEncodedPathParam(index, pathParamValues);
+    }
+
+    private String doGetEncodedPathParam(int index, Object pathParamValues) {
+        if (pathParamValues instanceof RequestMapper.RequestMatch) {
+            RequestMapper.RequestMatch<?> match = (RequestMapper.RequestMatch<?>) pathParamValues;
+            return RequestMapper.RequestMatch.rawPathParamValue(match.path, match.pathParamOffsets, index);
+        }
+        if (pathParamValues instanceof LazyPathParams) {
+            LazyPathParams lazy = (LazyPathParams) pathParamValues;
+            if (index < lazy.firstIndex) {
+                return doGetEncodedPathParam(index, lazy.previous);
+            }
+            return RequestMapper.RequestMatch.rawPathParamValue(lazy.match.path, lazy.match.pathParamOffsets,
+                    index - lazy.firstIndex);
+        }
+        String value = doGetPathParam(index, pathParamValues);
+        return value == null ? null : Encode.encodeQueryParam(value);
+    }
+
     public ResteasyReactiveRequestContext setPathParamValue(int index, String value) {
         if (pathParamValues instanceof String[]) {
             ((String[]) pathParamValues)[index] = value;
+        } else if (pathParamValues instanceof RequestMapper.RequestMatch || pathParamValues instanceof LazyPathParams) {
+            throw new IllegalStateException("Path parameters have been captured as offsets");
         } else {
             if (index > 1) {
                 throw new IndexOutOfBoundsException();
@@ -252,6 +296,23 @@ public ResteasyReactiveRequestContext setPathParamValue(int index, String value)
         return this;
     }
 
+    /**
+     * Sets the path parameters starting at {@code firstIndex} from a match that captured them as
+     * {@link RequestMapper.RequestMatch#pathParamOffsets offsets}, the values are only decoded when they are read.
+     * <p>
+     * When {@code firstIndex} is zero this replaces all the existing path parameters, otherwise the parameters
+     * before {@code firstIndex} are kept.
+     */
+    public ResteasyReactiveRequestContext setPathParamOffsets(int firstIndex, RequestMapper.RequestMatch<?> match) {
+        if (firstIndex == 0) {
+            // the match holds everything we need, so don't allocate anything in the common case
+            pathParamValues = match.pathParamOffsets.length == 0 ? null : match;
+        } else if (match.pathParamOffsets.length > 0) {
+            pathParamValues = new LazyPathParams(firstIndex, match, pathParamValues);
+        }
+        return this;
+    }
+
     public void setUriInfo(UriInfo uriInfo) {
         this.uriInfo = uriInfo;
     }
@@ -926,6 +987,9 @@ public String getPathParameter(String name, boolean encoded) {
         Integer index = target.getPathParameterIndexes().get(name);
         String value;
         if (index != null) {
+            if (encoded) {
+                return getEncodedPathParam(index);
+            }
             value = getPathParam(index);
         } else {
             // Check previous resources if the path is not defined in the current target
@@ -1053,6 +1117,23 @@ private String getResourceLocatorPathParam(String name, PreviousResource previou
 
     public abstract boolean resumeExternalProcessing();
 
+    /**
+     * Path parameters captured as offsets by a match, chained to the parameters that were captured by a previous
+     * match.
+     */
+    static final class LazyPathParams {
+
+        final int firstIndex;
+        final RequestMapper.RequestMatch<?> match;
+        final Object previous;
+
+        LazyPathParams(int firstIndex, RequestMapper.RequestMatch<?> match, Object previous) {
+            this.firstIndex = firstIndex;
+            this.match = match;
+            this.previous = previous;
+        }
+    }
+
     static class PreviousResource {
 
         private static final String PROPERTY_KEY = AbstractResteasyReactiveContext.CUSTOM_RR_PROPERTIES_PREFIX
@@ -2,7 +2,6 @@
 
 import java.util.List;
 
-import org.jboss.resteasy.reactive.common.util.Encode;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 
 public class PathParamExtractor implements ParameterExtractor {
@@ -19,10 +18,7 @@ public PathParamExtractor(int index, boolean encoded, boolean single) {
 
     @Override
     public Object extractParameter(ResteasyReactiveRequestContext context) {
-        String pathParam = context.getPathParam(index);
-        if (encoded) {
-            pathParam = Encode.encodeQueryParam(pathParam);
-        }
+        String pathParam = encoded ? context.getEncodedPathParam(index) : context.getPathParam(index);
         if (single) {
             return pathParam;
         } else {
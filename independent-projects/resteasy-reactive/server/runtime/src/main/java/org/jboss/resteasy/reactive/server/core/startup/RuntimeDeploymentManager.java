@@ -241,7 +241,8 @@ public BeanFactory.BeanInstance<?> apply(Class<?> aClass) {
     private void forEachMapperEntry(MappersKey key,
             Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates) {
         int classTemplateNameCount = key.path.countPathParamNames();
-        RuntimeMappingDeployment runtimeMappingDeployment = new RuntimeMappingDeployment(classTemplates);
+        RuntimeMappingDeployment runtimeMappingDeployment = new RuntimeMappingDeployment(classTemplates,
+                info.getResteasyReactiveConfig().isLazyPathParams());
         ClassRoutingHandler classRoutingHandler = new ClassRoutingHandler(runtimeMappingDeployment.buildClassMapper(),
                 classTemplateNameCount,
                 info.isResumeOn404());
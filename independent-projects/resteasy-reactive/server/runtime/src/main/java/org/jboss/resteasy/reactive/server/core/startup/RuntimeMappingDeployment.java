@@ -10,6 +10,7 @@
 
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.server.handlers.MediaTypeMapper;
+import org.jboss.resteasy.reactive.server.mapping.RadixRequestMapper;
 import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.mapping.URITemplate;
@@ -21,6 +22,7 @@ class RuntimeMappingDeployment {
     private final Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates;
 
     private final SortedMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>> nullMethod;
+    private final boolean lazyPathParams;
 
     private String currentHttpMethod;
     private ArrayList<RequestMapper.RequestPath<RuntimeResource>> currentMapperPerMethodTemplates;
@@ -30,8 +32,15 @@ class RuntimeMappingDeployment {
 
     RuntimeMappingDeployment(
             Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates) {
+        this(classTemplates, false);
+    }
+
+    RuntimeMappingDeployment(
+            Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates,
+            boolean lazyPathParams) {
         this.classTemplates = classTemplates;
         this.nullMethod = classTemplates.get(null);
+        this.lazyPathParams = lazyPathParams;
     }
 
     int getMaxMethodTemplateNameCount() {
@@ -67,7 +76,7 @@ private void forEachClassTemplate(String httpMethod,
         currentMapperPerMethodTemplates = new ArrayList<>();
         perMethodTemplateMap.forEach(this::forEachMethodTemplateMap);
 
-        classMapper.put(httpMethod, new RequestMapper<>(currentMapperPerMethodTemplates));
+        classMapper.put(httpMethod, new RadixRequestMapper<>(currentMapperPerMethodTemplates, lazyPathParams));
     }
 
     private void forEachMethodTemplateMap(URITemplate path, List<RequestMapper.RequestPath<RuntimeResource>> requestPaths) {
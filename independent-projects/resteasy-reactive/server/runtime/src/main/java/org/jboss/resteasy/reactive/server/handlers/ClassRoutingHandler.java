@@ -145,6 +145,10 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
 
         requestContext.restart(target.value);
         requestContext.setRemaining(target.remaining);
+        if (target.pathParamOffsets != null) {
+            requestContext.setPathParamOffsets(parameterOffset, target);
+            return;
+        }
         for (int i = 0; i < target.pathParamValues.length; ++i) {
             String pathParamValue = target.pathParamValues[i];
             if (pathParamValue == null) {
@@ -14,6 +14,7 @@
 import jakarta.ws.rs.core.Response;
 
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.mapping.RadixRequestMapper;
 import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
@@ -120,7 +121,7 @@ private Map<String, RequestMapper<RuntimeResource>> findTarget(Class<?> locatorC
         }
         Map<String, RequestMapper<RuntimeResource>> finalResult = new HashMap<>();
         for (Map.Entry<String, ArrayList<RequestMapper.RequestPath<RuntimeResource>>> i : newMapper.entrySet()) {
-            finalResult.put(i.getKey(), new RequestMapper<RuntimeResource>(i.getValue()));
+            finalResult.put(i.getKey(), new RadixRequestMapper<RuntimeResource>(i.getValue()));
         }
         //it does not matter if this is computed twice
         resourceLocatorHandlers.put(locatorClass, finalResult);
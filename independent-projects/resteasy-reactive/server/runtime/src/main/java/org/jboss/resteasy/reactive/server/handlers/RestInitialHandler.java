@@ -7,6 +7,7 @@
 import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.mapping.RadixRequestMapper;
 import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
@@ -23,7 +24,8 @@ public class RestInitialHandler implements ServerRestHandler {
     final boolean resumeOn404;
 
     public RestInitialHandler(Deployment deployment) {
-        this.mappers = new RequestMapper<>(deployment.getClassMappers());
+        this.mappers = new RadixRequestMapper<>(deployment.getClassMappers(),
+                deployment.getResteasyReactiveConfig().isLazyPathParams());
         this.deployment = deployment;
         this.preMappingHandlers = deployment.getPreMatchHandlers();
         this.resumeOn404 = deployment.isResumeOn404();
@@ -73,8 +75,12 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
             return;
         }
         requestContext.restart(target.value.handlers);
-        requestContext.setMaxPathParams(target.value.maxPathParams);
         requestContext.setRemaining(target.remaining);
+        if (target.pathParamOffsets != null) {
+            requestContext.setPathParamOffsets(0, target);
+            return;
+        }
+        requestContext.setMaxPathParams(target.value.maxPathParams);
         for (int i = 0; i < target.pathParamValues.length; ++i) {
             String pathParamValue = target.pathParamValues[i];
             if (pathParamValue == null) {
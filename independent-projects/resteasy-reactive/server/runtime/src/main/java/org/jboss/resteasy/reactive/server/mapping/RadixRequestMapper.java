@@ -0,0 +1,491 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+import org.jboss.resteasy.reactive.common.util.URIDecoder;
+
+/**
+ * A {@link RequestMapper} that compiles its templates into radix trees instead of scanning them one by one.
+ * <p>
+ * The stems are stored in a radix tree so that the longest matching stem is found in a single pass over the path,
+ * and the templates that share a stem are merged into a second radix tree whose edges are literal text, with
+ * dedicated edges for {@code {param}} segments and terminal entries for trailing custom regular expressions.
+ * Matching walks that tree once, only following branches that can still produce a template with a higher precedence
+ * than the best match found so far, and only materializes the path parameter values of the winning template.
+ * <p>
+ * The result is exactly the same as the one {@link RequestMapper} would produce: the longest stem wins, templates
+ * are ordered by {@link URITemplate#compareTo(URITemplate)} within a stem and the {@code /} stem is used as a fallback.
+ * <p>
+ * When created with {@code lazyPathParams} the path parameters are not materialized at all, the matches only carry
+ * their offsets into the path (see {@link RequestMatch#pathParamOffsets}) and it is up to the caller to decode the
+ * values when they are actually needed.
+ */
+@SuppressWarnings("ForLoopReplaceableByForEach")
+public class RadixRequestMapper<T> extends RequestMapper<T> {
+
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    private static final int[] NO_OFFSETS = new int[0];
+
+    private final StemNode<T> stems;
+    private final Group<T> defaultGroup;
+
+    public RadixRequestMapper(ArrayList<RequestPath<T>> templates) {
+        this(templates, false);
+    }
+
+    public RadixRequestMapper(ArrayList<RequestPath<T>> templates, boolean lazyPathParams) {
+        super(templates, maxParams(templates));
+        Map<String, List<RequestPath<T>>> aggregates = new HashMap<>();
+        for (RequestPath<T> i : templates) {
+            aggregates.computeIfAbsent(i.template.stem, s -> new ArrayList<>()).add(i);
+        }
+        StemNode<T> stems = new StemNode<>();
+        Group<T> defaultGroup = null;
+        for (Map.Entry<String, List<RequestPath<T>>> entry : aggregates.entrySet()) {
+            List<RequestPath<T>> list = entry.getValue();
+            list.sort(new Comparator<RequestPath<T>>() {
+                @Override
+                public int compare(RequestPath<T> t1, RequestPath<T> t2) {
+                    return t2.template.compareTo(t1.template);
+                }
+            });
+            Group<T> group = new Group<>(list, maxParams, lazyPathParams);
+            if (entry.getKey().equals("/")) {
+                defaultGroup = group;
+            } else {
+                stems.insert(entry.getKey()).group = group;
+            }
+        }
+        stems.freeze();
+        this.stems = stems;
+        this.defaultGroup = defaultGroup;
+    }
+
+    private static <T> int maxParams(List<RequestPath<T>> templates) {
+        int max = 0;
+        for (RequestPath<T> i : templates) {
+            max = Math.max(max, i.template.countPathParamNames());
+        }
+        return max;
+    }
+
+    @Override
+    public void dump() {
+        for (RequestPath<T> i : getTemplates()) {
+            i.dump(0);
+        }
+    }
+
+    @Override
+    public RequestMatch<T> map(String path) {
+        Group<T> group = stems.longestPrefix(path);
+        if (group != null) {
+            RequestMatch<T> result = group.match(path, group.stemLength);
+            if (result != null) {
+                return result;
+            }
+        }
+        // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
+        if (defaultGroup != null) {
+            return defaultGroup.match(path, 1);
+        }
+        return null;
+    }
+
+    /**
+     * A radix tree node whose edges are labelled with literal text.
+     */
+    abstract static class RadixNode<N extends RadixNode<N>> {
+
+        private static final char[] NO_CHARS = new char[0];
+        private static final String[] NO_LABELS = new String[0];
+
+        private final List<String> labelList = new ArrayList<>();
+        private final List<N> childList = new ArrayList<>();
+
+        /**
+         * The first character of every label, to select an edge without touching the labels.
+         */
+        char[] firstChars = NO_CHARS;
+        String[] labels = NO_LABELS;
+        N[] children;
+
+        abstract N newNode();
+
+        abstract N[] newArray(int size);
+
+        /**
+         * Returns the node reached by the given literal text, creating and splitting edges as required.
+         */
+        @SuppressWarnings("unchecked")
+        N insert(String text) {
+            N current = (N) this;
+            int pos = 0;
+            while (pos < text.length()) {
+                RadixNode<N> node = current;
+                int edge = -1;
+                for (int i = 0; i < node.labelList.size(); i++) {
+                    if (node.labelList.get(i).charAt(0) == text.charAt(pos)) {
+                        edge = i;
+                        break;
+                    }
+                }
+                if (edge == -1) {
+                    N child = newNode();
+                    node.labelList.add(text.substring(pos));
+                    node.childList.add(child);
+                    return child;
+                }
+                String label = node.labelList.get(edge);
+                int common = 0;
+                while (common < label.length() && pos + common < text.length()
+                        && label.charAt(common) == text.charAt(pos + common)) {
+                    common++;
+                }
+                N child = node.childList.get(edge);
+                if (common < label.length()) {
+                    // split the edge so that the common part leads to a new intermediate node
+                    N intermediate = newNode();
+                    ((RadixNode<N>) intermediate).labelList.add(label.substring(common));
+                    ((RadixNode<N>) intermediate).childList.add(child);
+                    node.labelList.set(edge, label.substring(0, common));
+                    node.childList.set(edge, intermediate);
+                    child = intermediate;
+                }
+                pos += common;
+                current = child;
+            }
+            return current;
+        }
+
+        /**
+         * Moves the edges into arrays, must be called once the tree is complete.
+         */
+        void freeze() {
+            int size = labelList.size();
+            labels = labelList.toArray(NO_LABELS);
+            children = childList.toArray(newArray(size));
+            firstChars = new char[size];
+            for (int i = 0; i < size; i++) {
+                firstChars[i] = labels[i].charAt(0);
+                ((RadixNode<N>) children[i]).freeze();
+            }
+            labelList.clear();
+            childList.clear();
+        }
+
+        /**
+         * @return the index of the edge whose label matches the path at the given position, or {@code -1}
+         */
+        final int edgeFor(String path, int pos) {
+            if (pos >= path.length()) {
+                return -1;
+            }
+            char c = path.charAt(pos);
+            char[] firstChars = this.firstChars;
+            for (int i = 0; i < firstChars.length; i++) {
+                if (firstChars[i] == c) {
+                    String label = labels[i];
+                    return path.regionMatches(pos, label, 0, label.length()) ? i : -1;
+                }
+            }
+            return -1;
+        }
+    }
+
+    static final class StemNode<T> extends RadixNode<StemNode<T>> {
+
+        Group<T> group;
+
+        @Override
+        StemNode<T> newNode() {
+            return new StemNode<>();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        StemNode<T>[] newArray(int size) {
+            return new StemNode[size];
+        }
+
+        /**
+         * Same semantics as {@link PathMatcher#match(String)}: the longest stem that is a prefix of the path.
+         */
+        Group<T> longestPrefix(String path) {
+            Group<T> result = null;
+            StemNode<T> node = this;
+            int pos = 0;
+            while (true) {
+                if (node.group != null) {
+                    result = node.group;
+                }
+                int edge = node.edgeFor(path, pos);
+                if (edge == -1) {
+                    return result;
+                }
+                pos += node.labels[edge].length();
+                node = node.children[edge];
+            }
+        }
+    }
+
+    static final class TemplateNode extends RadixNode<TemplateNode> {
+
+        private static final int[] NO_TERMINALS = new int[0];
+        private static final URITemplate.TemplateComponent[] NO_REGEX = new URITemplate.TemplateComponent[0];
+
+        /**
+         * The child reached by a {@link URITemplate.Type#DEFAULT_REGEX} component
+         */
+        TemplateNode param;
+        /**
+         * The indexes of the templates that end at this node, in ascending order
+         */
+        int[] terminals = NO_TERMINALS;
+        /**
+         * The indexes of the templates that end with a {@link URITemplate.Type#CUSTOM_REGEX} component at this node,
+         * in ascending order, along with the matching component
+         */
+        int[] regexTerminals = NO_TERMINALS;
+        URITemplate.TemplateComponent[] regexComponents = NO_REGEX;
+        /**
+         * The lowest template index reachable from this node, used to prune branches that cannot win
+         */
+        int minIndex = Integer.MAX_VALUE;
+
+        @Override
+        TemplateNode newNode() {
+            return new TemplateNode();
+        }
+
+        @Override
+        TemplateNode[] newArray(int size) {
+            return new TemplateNode[size];
+        }
+
+        @Override
+        void freeze() {
+            super.freeze();
+            if (param != null) {
+                param.freeze();
+            }
+            for (TemplateNode child : children) {
+                minIndex = Math.min(minIndex, child.minIndex);
+            }
+            if (param != null) {
+                minIndex = Math.min(minIndex, param.minIndex);
+            }
+        }
+    }
+
+    /**
+     * The templates that share a stem, compiled into a tree of their remaining components.
+     */
+    static final class Group<T> {
+
+        final int stemLength;
+        final RequestPath<T>[] paths;
+        final int maxParams;
+        final boolean lazyPathParams;
+        final TemplateNode root = new TemplateNode();
+
+        @SuppressWarnings("unchecked")
+        Group(List<RequestPath<T>> sorted, int maxParams, boolean lazyPathParams) {
+            this.stemLength = sorted.get(0).template.stem.length();
+            this.paths = sorted.toArray(new RequestPath[0]);
+            this.maxParams = maxParams;
+            this.lazyPathParams = lazyPathParams;
+            for (int index = 0; index < paths.length; index++) {
+                add(index, paths[index].template);
+            }
+            root.freeze();
+        }
+
+        private void add(int index, URITemplate template) {
+            // the first component is always the stem, which has already been matched
+            TemplateNode node = root;
+            node.minIndex = Math.min(node.minIndex, index);
+            for (int i = 1; i < template.components.length; ++i) {
+                URITemplate.TemplateComponent component = template.components[i];
+                if (component.type == URITemplate.Type.LITERAL) {
+                    node = node.insert(component.literalText);
+                } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (node.param == null) {
+                        node.param = new TemplateNode();
+                    }
+                    node = node.param;
+                } else {
+                    // custom regexes always swallow the rest of the template
+                    node.regexTerminals = append(node.regexTerminals, index);
+                    node.regexComponents = Arrays.copyOf(node.regexComponents, node.regexComponents.length + 1);
+                    node.regexComponents[node.regexComponents.length - 1] = component;
+                    node.minIndex = Math.min(node.minIndex, index);
+                    return;
+                }
+                node.minIndex = Math.min(node.minIndex, index);
+            }
+            node.terminals = append(node.terminals, index);
+        }
+
+        private static int[] append(int[] array, int value) {
+            int[] result = Arrays.copyOf(array, array.length + 1);
+            result[array.length] = value;
+            return result;
+        }
+
+        RequestMatch<T> match(String path, int start) {
+            MatchState state = new MatchState(path, maxParams);
+            state.walk(root, start, 0);
+            if (state.bestIndex == Integer.MAX_VALUE) {
+                return null;
+            }
+            RequestPath<T> winner = paths[state.bestIndex];
+            String remaining = remaining(path, state.bestEnd);
+            if (lazyPathParams) {
+                return new RequestMatch<>(winner.template, winner.value, path, lazyOffsets(state), remaining);
+            }
+            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            int paramCount = 0;
+            int[] offsets = state.bestOffsets;
+            for (int i = 0; i < state.bestParamCount; i++) {
+                params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(offsets[i * 2], offsets[i * 2 + 1]),
+                        false);
+            }
+            if (state.bestMatcher != null) {
+                for (String group : state.bestRegex.groups) {
+                    params[paramCount++] = state.bestMatcher.group(group);
+                }
+            }
+            return new RequestMatch<>(winner.template, winner.value, params, remaining);
+        }
+
+        private static String remaining(String path, int matchPos) {
+            if (matchPos == path.length()) {
+                return "";
+            } else if (matchPos == 1) {
+                return path;
+            } else {
+                return path.substring(matchPos);
+            }
+        }
+
+        /**
+         * Completes the offsets of the winning template with those of its regular expression groups, in the form
+         * described by {@link RequestMatch#pathParamOffsets}.
+         */
+        private int[] lazyOffsets(MatchState state) {
+            int[] offsets = state.bestOffsets;
+            int pos = state.bestParamCount * 2;
+            if (state.bestMatcher != null) {
+                for (String group : state.bestRegex.groups) {
+                    int start = state.bestMatcher.start(group);
+                    offsets[pos++] = start;
+                    offsets[pos++] = start < 0 ? -1 : ~state.bestMatcher.end(group);
+                }
+            }
+            Arrays.fill(offsets, pos, offsets.length, -1);
+            return offsets;
+        }
+
+        /**
+         * The state of a single lookup, the parameters are only recorded as offsets into the path.
+         */
+        final class MatchState {
+            final String path;
+            final int[] offsets;
+            int bestIndex = Integer.MAX_VALUE;
+            int bestEnd;
+            int bestParamCount;
+            int[] bestOffsets;
+            Matcher bestMatcher;
+            URITemplate.TemplateComponent bestRegex;
+
+            MatchState(String path, int maxParams) {
+                this.path = path;
+                this.offsets = maxParams == 0 ? NO_OFFSETS : new int[maxParams * 2];
+            }
+
+            void walk(TemplateNode node, int pos, int paramCount) {
+                int pathLength = path.length();
+                int[] terminals = node.terminals;
+                for (int i = 0; i < terminals.length; i++) {
+                    int index = terminals[i];
+                    if (index >= bestIndex) {
+                        break;
+                    }
+                    if (accepts(index, pos)) {
+                        record(index, pos, paramCount, null, null);
+                        break;
+                    }
+                }
+                int[] regexTerminals = node.regexTerminals;
+                for (int i = 0; i < regexTerminals.length; i++) {
+                    int index = regexTerminals[i];
+                    if (index >= bestIndex) {
+                        break;
+                    }
+                    URITemplate.TemplateComponent component = node.regexComponents[i];
+                    Matcher matcher = component.pattern.matcher(path);
+                    if (pos <= pathLength && matcher.find(pos) && matcher.start() == pos && accepts(index, matcher.end())) {
+                        record(index, matcher.end(), paramCount, matcher, component);
+                        break;
+                    }
+                }
+                int edge = node.edgeFor(path, pos);
+                if (edge != -1) {
+                    TemplateNode child = node.children[edge];
+                    if (child.minIndex < bestIndex) {
+                        walk(child, pos + node.labels[edge].length(), paramCount);
+                    }
+                }
+                TemplateNode param = node.param;
+                if (param != null && param.minIndex < bestIndex && pos < pathLength) {
+                    int end = pos;
+                    while (end < pathLength && path.charAt(end) != '/') {
+                        end++;
+                    }
+                    offsets[paramCount * 2] = pos;
+                    offsets[paramCount * 2 + 1] = end;
+                    walk(param, end, paramCount + 1);
+                }
+            }
+
+            /**
+             * According to the spec every template ends with (/.*)? so a partial match is accepted when it stops at a
+             * segment boundary, and the template is a prefix template or only a trailing slash is left.
+             */
+            private boolean accepts(int index, int matchPos) {
+                int pathLength = path.length();
+                if (matchPos == pathLength) {
+                    return true;
+                }
+                boolean prefixAllowed = paths[index].prefixTemplate;
+                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+                    return prefixAllowed || pathLength == 1;
+                } else if (matchPos < pathLength && path.charAt(matchPos) == '/') {
+                    return prefixAllowed || matchPos == pathLength - 1;
+                }
+                return false;
+            }
+
+            private void record(int index, int end, int paramCount, Matcher matcher,
+                    URITemplate.TemplateComponent regex) {
+                bestIndex = index;
+                bestEnd = end;
+                bestParamCount = paramCount;
+                if (bestOffsets == null) {
+                    bestOffsets = offsets.length == 0 ? NO_OFFSETS : new int[offsets.length];
+                }
+                System.arraycopy(offsets, 0, bestOffsets, 0, paramCount * 2);
+                bestMatcher = matcher;
+                bestRegex = regex;
+            }
+        }
+    }
+}
@@ -38,6 +38,19 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
         requestPaths = pathMatcherBuilder.build();
     }
 
+    /**
+     * For the subclasses that match the templates with their own structures: the path matcher is not built.
+     *
+     * @param templates the templates
+     * @param maxParams the maximum number of path parameters of a template
+     */
+    protected RequestMapper(ArrayList<RequestPath<T>> templates, int maxParams) {
+        this.pathMatcherBuilder = null;
+        this.templates = templates;
+        this.maxParams = maxParams;
+        this.requestPaths = null;
+    }
+
     private void sortAggregates(String stem, List<RequestPath<T>> list) {
         list.sort(new Comparator<RequestPath<T>>() {
             @Override
@@ -185,16 +198,86 @@ public void dump(int level) {
          */
         public final String[] pathParamValues;
         public final String remaining;
+        /**
+         * The path that was matched, only set when the parameters are captured as {@link #pathParamOffsets}.
+         */
+        public final String path;
+        /**
+         * The matched parameters in order, as pairs of start and end offsets into {@link #path}, or {@code null} if the
+         * parameters were captured as {@link #pathParamValues}.
+         * <p>
+         * Parameters that must be URL-decoded have a positive end offset, while the end offset of parameters that
+         * must be used as is (such as regular expression groups) is stored as its bitwise complement. A parameter
+         * without a value has a start offset of {@code -1}, and the array may be padded with {@code -1} values at the
+         * end.
+         *
+         * @see #pathParamValue(String, int[], int)
+         */
+        public final int[] pathParamOffsets;
 
         public RequestMatch(URITemplate template, T value, String[] pathParamValues, String remaining) {
             this.template = template;
             this.value = value;
             this.pathParamValues = pathParamValues;
             this.remaining = remaining;
+            this.path = null;
+            this.pathParamOffsets = null;
+        }
+
+        public RequestMatch(URITemplate template, T value, String path, int[] pathParamOffsets, String remaining) {
+            this.template = template;
+            this.value = value;
+            this.pathParamValues = EMPTY_STRING_ARRAY;
+            this.remaining = remaining;
+            this.path = path;
+            this.pathParamOffsets = pathParamOffsets;
+        }
+
+        /**
+         * Materializes a parameter that was captured as offsets into the path.
+         *
+         * @return the value of the parameter, or {@code null} if it did not capture anything
+         */
+        public static String pathParamValue(String path, int[] pathParamOffsets, int index) {
+            int start = pathParamOffsets[index * 2];
+            if (start < 0) {
+                return null;
+            }
+            int end = pathParamOffsets[index * 2 + 1];
+            if (end < 0) {
+                return path.substring(start, ~end);
+            }
+            return URIDecoder.decodeURIComponent(path.substring(start, end), false);
+        }
+
+        /**
+         * Returns a parameter that was captured as offsets into the path as it appears in the path, i.e. without
+         * URL-decoding it.
+         *
+         * @return the value of the parameter, or {@code null} if it did not capture anything
+         */
+        public static String rawPathParamValue(String path, int[] pathParamOffsets, int index) {
+            int start = pathParamOffsets[index * 2];
+            if (start < 0) {
+                return null;
+            }
+            int end = pathParamOffsets[index * 2 + 1];
+            return path.substring(start, end < 0 ? ~end : end);
         }
 
         @Override
         public String toString() {
+            if (pathParamOffsets != null) {
+                StringBuilder params = new StringBuilder("[");
+                for (int i = 0; i < pathParamOffsets.length / 2; i++) {
+                    if (i > 0) {
+                        params.append(", ");
+                    }
+                    params.append(pathParamValue(path, pathParamOffsets, i));
+                }
+                return "RequestMatch{ value: " + value + ", template: " + template + ", pathParamValues: "
+                        + params.append(']') + " }";
+            }
             return "RequestMatch{ value: " + value + ", template: " + template + ", pathParamValues: "
                     + Arrays.toString(pathParamValues) + " }";
         }
@@ -204,6 +287,9 @@ public void dump() {
         this.requestPaths.dump(0);
     }
 
+    /**
+     * @return the path matcher, or {@code null} if the templates are matched by a subclass with its own structures
+     */
     public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
         return requestPaths;
     }
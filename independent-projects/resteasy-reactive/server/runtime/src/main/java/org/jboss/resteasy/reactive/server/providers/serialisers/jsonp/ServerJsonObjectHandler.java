@@ -1,6 +1,5 @@
 package org.jboss.resteasy.reactive.server.providers.serialisers.jsonp;
 
-import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Type;
 
 import jakarta.json.JsonObject;
@@ -23,11 +22,10 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
 
     @Override
     public void writeResponse(JsonObject o, Type genericType, ServerRequestContext context) throws WebApplicationException {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try (JsonWriter writer = JsonpUtil.writer(out, context.getResponseMediaType())) {
-            writer.writeObject(o);
-        }
-        context.serverResponse().end(out.toByteArray());
+        JsonWriter writer = JsonpUtil.writer(context.getOrCreateOutputStream(), context.getResponseMediaType());
+        writer.writeObject(o);
+        // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
+        writer.close();
     }
 
 }
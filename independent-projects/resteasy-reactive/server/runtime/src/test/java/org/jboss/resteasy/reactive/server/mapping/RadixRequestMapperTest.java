@@ -0,0 +1,177 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RadixRequestMapperTest {
+
+    private static final String[] TEMPLATES = {
+            "/", "/id", "/id/{param}", "/bar/{p1}/{p2}", "/bar/{p1}", "/bar/list", "/bar/{p1}/items",
+            "/bar/{p1}/items/{item}", "/bar/list/{p1}", "/barista", "/ba", "/files/{name}.json",
+            "/files/{path:.*}", "/files/static/logo.png", "/{any}", "/{any}/tail", "/regex/{id:\\d+}",
+            "/regex/{id:\\d+}/details", "/regex/{name}", "/multi/{a}-{b}", "/trailing/", "/trailing/{x}/",
+            "/enc/{value}", "/a/b/c/d", "/a/{b}/c/{d}", "/a/b/{c}/d"
+    };
+
+    private static final String[] PATHS = {
+            "/", "/id", "/id/", "/id/34", "/id/34/", "/id/34/55", "/bar/34/44", "/bar/34", "/bar/list",
+            "/bar/list/", "/bar/list/7", "/bar/34/items", "/bar/34/items/x", "/bar/34/items/x/y", "/barista",
+            "/barista/x", "/ba", "/bax", "/files/readme.json", "/files/a/b/c", "/files/static/logo.png",
+            "/files/static/logo.gif", "/foo", "/foo/", "/foo/tail", "/foo/tail/more", "/regex/42", "/regex/abc",
+            "/regex/42/details", "/regex/42/other", "/multi/x-y", "/multi/x", "/trailing", "/trailing/",
+            "/trailing/v", "/trailing/v/", "/enc/a%20b", "/enc/%2F", "/a/b/c/d", "/a/x/c/y", "/a/b/x/d",
+            "/a/b/c/x", "/a//c/d", "//", "/unknown/path/entirely"
+    };
+
+    @Test
+    public void testSameResultAsLinearMapper() {
+        for (boolean prefix : new boolean[] { false, true }) {
+            ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+            for (String template : TEMPLATES) {
+                templates.add(new RequestMapper.RequestPath<>(prefix, new URITemplate(template, prefix), template));
+            }
+            RequestMapper<String> linear = new RequestMapper<>(new ArrayList<>(templates));
+            RequestMapper<String> radix = new RadixRequestMapper<>(new ArrayList<>(templates));
+            // The path matcher of the linear mapper is not built
+            assertNull(radix.getRequestPaths());
+            assertEquals(linear.maxParams, radix.maxParams);
+            for (String path : PATHS) {
+                assertSameMatch(path, linear.map(path), radix.map(path));
+            }
+        }
+    }
+
+    @Test
+    public void testSameResultForSubsets() {
+        // drop one template at a time, so that the fallback to other stems and the default stem get exercised
+        for (int skip = 0; skip < TEMPLATES.length; skip++) {
+            ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+            for (int i = 0; i < TEMPLATES.length; i++) {
+                if (i != skip) {
+                    templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(TEMPLATES[i], false),
+                            TEMPLATES[i]));
+                }
+            }
+            RequestMapper<String> linear = new RequestMapper<>(new ArrayList<>(templates));
+            RequestMapper<String> radix = new RadixRequestMapper<>(new ArrayList<>(templates));
+            for (String path : PATHS) {
+                assertSameMatch(path, linear.map(path), radix.map(path));
+            }
+        }
+    }
+
+    @Test
+    public void testLazyPathParams() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (String template : TEMPLATES) {
+            templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+        }
+        RequestMapper<String> eager = new RadixRequestMapper<>(new ArrayList<>(templates));
+        RequestMapper<String> lazy = new RadixRequestMapper<>(new ArrayList<>(templates), true);
+        for (String path : PATHS) {
+            RequestMapper.RequestMatch<String> expected = eager.map(path);
+            RequestMapper.RequestMatch<String> actual = lazy.map(path);
+            if (expected == null) {
+                assertNull(actual, path);
+                continue;
+            }
+            assertEquals(expected.value, actual.value, path);
+            assertEquals(expected.remaining, actual.remaining, path);
+            assertSame(path, actual.path);
+            String[] values = new String[expected.pathParamValues.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = RequestMapper.RequestMatch.pathParamValue(actual.path, actual.pathParamOffsets, i);
+            }
+            assertArrayEquals(expected.pathParamValues, values, path);
+        }
+    }
+
+    @Test
+    public void testRawPathParams() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (String template : new String[] { "/bar/{p1}/{p2}", "/regex/{r:[a-z%0-9]+}" }) {
+            templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+        }
+        RequestMapper<String> lazy = new RadixRequestMapper<>(templates, true);
+
+        RequestMapper.RequestMatch<String> match = lazy.map("/bar/a%20b+c/x%2Fy");
+        assertEquals("a b+c", RequestMapper.RequestMatch.pathParamValue(match.path, match.pathParamOffsets, 0));
+        assertEquals("x/y", RequestMapper.RequestMatch.pathParamValue(match.path, match.pathParamOffsets, 1));
+        // As it appears in the path, not decoded then encoded again
+        assertEquals("a%20b+c", RequestMapper.RequestMatch.rawPathParamValue(match.path, match.pathParamOffsets, 0));
+        assertEquals("x%2Fy", RequestMapper.RequestMatch.rawPathParamValue(match.path, match.pathParamOffsets, 1));
+
+        // Regex groups are never decoded
+        match = lazy.map("/regex/ab%20c");
+        assertEquals("ab%20c", RequestMapper.RequestMatch.pathParamValue(match.path, match.pathParamOffsets, 0));
+        assertEquals("ab%20c", RequestMapper.RequestMatch.rawPathParamValue(match.path, match.pathParamOffsets, 0));
+    }
+
+    @Test
+    public void testPathMapper() {
+        RequestMapper<String> mapper = mapper("/id", "/id/{param}", "/bar/{p1}/{p2}", "/bar/{p1}");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/bar/34/44");
+        assertEquals("/bar/{p1}/{p2}", result.value);
+        assertEquals("34", result.pathParamValues[0]);
+        assertEquals("44", result.pathParamValues[1]);
+        assertNull(mapper.map("/foo"));
+        assertEquals("/id", mapper.map("/id").value);
+        result = mapper.map("/id/34");
+        assertEquals("/id/{param}", result.value);
+        assertEquals("34", result.pathParamValues[0]);
+        result = mapper.map("/id/34/");
+        assertNotNull(result);
+        assertEquals("/id/{param}", result.value);
+        assertEquals("34", result.pathParamValues[0]);
+        result = mapper.map("/bar/34");
+        assertEquals("/bar/{p1}", result.value);
+        assertEquals("34", result.pathParamValues[0]);
+    }
+
+    @Test
+    public void testManyTemplatesSharingAStem() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            values.add("/api/resource" + i + "/{id}");
+            values.add("/api/resource" + i + "/{id}/items/{item}");
+            values.add("/api/resource" + i + "/list");
+        }
+        RequestMapper<String> mapper = mapper(values.toArray(new String[0]));
+        RequestMapper.RequestMatch<String> result = mapper.map("/api/resource123/42/items/a%20b");
+        assertEquals("/api/resource123/{id}/items/{item}", result.value);
+        assertEquals("42", result.pathParamValues[0]);
+        assertEquals("a b", result.pathParamValues[1]);
+        assertEquals("/api/resource399/list", mapper.map("/api/resource399/list").value);
+        assertEquals("/api/resource39/{id}", mapper.map("/api/resource39/other").value);
+        assertNull(mapper.map("/api/resource400/list"));
+    }
+
+    private static void assertSameMatch(String path, RequestMapper.RequestMatch<String> expected,
+            RequestMapper.RequestMatch<String> actual) {
+        if (expected == null) {
+            assertNull(actual, () -> "Expected no match for " + path + " but got " + actual);
+            return;
+        }
+        assertNotNull(actual, () -> "Expected " + expected + " for " + path);
+        assertEquals(expected.value, actual.value, path);
+        assertEquals(expected.remaining, actual.remaining, path);
+        assertArrayEquals(expected.pathParamValues, actual.pathParamValues, path);
+    }
+
+    private static RequestMapper<String> mapper(String... values) {
+        ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
+        for (String i : values) {
+            list.add(new RequestMapper.RequestPath<>(false, new URITemplate(i, false), i));
+        }
+        return new RadixRequestMapper<>(list);
+    }
+}
@@ -1,6 +1,5 @@
 package org.jboss.resteasy.reactive.server.vertx;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.io.OutputStream;
@@ -13,6 +12,7 @@
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.vertx.core.AsyncResult;
@@ -34,7 +34,11 @@ public class ResteasyReactiveOutputStream extends OutputStream {
     protected boolean drainHandlerRegistered;
     protected boolean first = true;
     protected Throwable throwable;
-    private ByteArrayOutputStream overflow;
+    /**
+     * The data that could not be written yet because the write queue was full, the pooled buffers are kept as they are
+     * until the connection is drained rather than copied to the heap.
+     */
+    private CompositeByteBuf overflow;
 
     public ResteasyReactiveOutputStream(VertxResteasyReactiveRequestContext context) {
         this.context = context;
@@ -54,6 +58,7 @@ public void handle(Throwable event) {
                     if (waitingForDrain) {
                         request.connection().notifyAll();
                     }
+                    releaseOverflow();
                 }
             }
         });
@@ -65,6 +70,7 @@ public void handle(AsyncResult<Void> event) {
                     if (waitingForDrain) {
                         request.connection().notifyAll();
                     }
+                    releaseOverflow();
                 }
                 terminateResponse();
             }
@@ -81,28 +87,37 @@ Buffer createBuffer(ByteBuf data) {
 
     public void write(ByteBuf data, boolean last) throws IOException {
         if (last && data == null) {
+            synchronized (request.connection()) {
+                if (overflow != null && overflow.isReadable()) {
+                    // the drain handler ends the response once the pending data has been written
+                    closed = true;
+                    return;
+                }
+            }
             request.response().end((Handler<AsyncResult<Void>>) null);
             return;
         }
         //do all this in the same lock
         synchronized (request.connection()) {
             try {
-                boolean bufferRequired = awaitWriteable() || (overflow != null && overflow.size() > 0);
+                if (request.response().closed()) {
+                    // the overflow would never be released
+                    throw new IOException("Connection has been closed");
+                }
+                boolean bufferRequired = awaitWriteable() || (overflow != null && overflow.isReadable());
                 if (bufferRequired) {
                     //just buffer everything
                     registerDrainHandler();
                     if (overflow == null) {
-                        overflow = new ByteArrayOutputStream();
-                    }
-                    if (data.hasArray()) {
-                        overflow.write(data.array(), data.arrayOffset() + data.readerIndex(), data.readableBytes());
-                    } else {
-                        data.getBytes(data.readerIndex(), overflow, data.readableBytes());
+                        overflow = PooledByteBufAllocator.DEFAULT.compositeDirectBuffer();
                     }
+                    ByteBuf toAdd = data;
+                    data = null;
+                    // the overflow takes ownership of the buffer
+                    overflow.addComponent(true, toAdd);
                     if (last) {
                         closed = true;
                     }
-                    data.release();
                 } else {
                     if (last) {
                         request.response().end(createBuffer(data), null);
@@ -159,20 +174,39 @@ public void handle(Void event) {
                             request.connection().notifyAll();
                         }
                         if (overflow != null) {
-                            if (overflow.size() > 0) {
+                            if (overflow.isReadable()) {
+                                Buffer data = createBuffer(overflow);
+                                overflow = null;
                                 if (closed) {
-                                    request.response().end(Buffer.buffer(overflow.toByteArray()), null);
+                                    request.response().end(data, null);
                                 } else {
-                                    request.response().write(Buffer.buffer(overflow.toByteArray()), null);
+                                    request.response().write(data, null);
                                 }
-                                overflow.reset();
                             }
                         }
                     }
                 }
             };
             request.response().drainHandler(handler);
-            request.response().closeHandler(handler);
+            request.response().closeHandler(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    // the pending data can no longer be written
+                    synchronized (request.connection()) {
+                        if (waitingForDrain) {
+                            request.connection().notifyAll();
+                        }
+                        releaseOverflow();
+                    }
+                }
+            });
+        }
+    }
+
+    private void releaseOverflow() {
+        if (overflow != null) {
+            overflow.release();
+            overflow = null;
         }
     }
 
@@ -371,6 +371,14 @@ public ServerHttpResponse end(String data) {
         return this;
     }
 
+    /**
+     * Ends the response with the given buffer, which is handed over to Vert.x as is instead of being copied.
+     */
+    public ServerHttpResponse end(Buffer data) {
+        response.end(data, null);
+        return this;
+    }
+
     @Override
     public ServerHttpResponse addResponseHeader(CharSequence name, CharSequence value) {
         response.headers().add(name, value);
@@ -1,11 +1,17 @@
 package org.jboss.resteasy.reactive.server.vertx.test.providers;
 
 import static io.restassured.RestAssured.get;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.equalTo;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.net.Socket;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import jakarta.ws.rs.GET;
@@ -13,12 +19,18 @@
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.StreamingOutput;
 
+import org.jboss.resteasy.reactive.server.vertx.ResteasyReactiveOutputStream;
 import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.resteasy.reactive.server.vertx.test.simple.PortProviderUtil;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.smallrye.common.annotation.NonBlocking;
+
 public class StreamingOutputTestCase {
 
     @RegisterExtension
@@ -39,9 +51,28 @@ public void testWith() {
                 .body(equalTo("hello world"));
     }
 
+    @Test
+    public void testQueuedDataIsReleasedWhenTheClientDisconnects() throws Exception {
+        try (Socket socket = new Socket(PortProviderUtil.getHost(), PortProviderUtil.getPort())) {
+            socket.getOutputStream().write("GET /test/large HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                    .getBytes(StandardCharsets.US_ASCII));
+            // Read the beginning of the response only, most of the data stays queued on the server
+            socket.getInputStream().readNBytes(1024);
+        }
+        // The application classes are not loaded by the class loader of the test
+        await().atMost(10, TimeUnit.SECONDS).until(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return "true".equals(get("/test/large/released").asString());
+            }
+        });
+    }
+
     @Path("test")
     public static class TestResource {
 
+        static final List<ByteBuf> CHUNKS = new CopyOnWriteArrayList<>();
+
         @GET
         public StreamingOutput with() {
             return new StreamingOutput() {
@@ -51,5 +82,34 @@ public void write(OutputStream output) throws IOException, WebApplicationExcepti
                 }
             };
         }
+
+        @GET
+        @Path("large")
+        @NonBlocking
+        public StreamingOutput large() {
+            return new StreamingOutput() {
+                @Override
+                public void write(OutputStream output) throws IOException, WebApplicationException {
+                    // On the event loop, the data that does not fit in the write queue is kept until the connection is drained
+                    ResteasyReactiveOutputStream stream = (ResteasyReactiveOutputStream) output;
+                    for (int i = 0; i < 1024; i++) {
+                        ByteBuf chunk = Unpooled.buffer(16 * 1024).writeZero(16 * 1024);
+                        CHUNKS.add(chunk);
+                        stream.writeBlocking(chunk, false);
+                    }
+                }
+            };
+        }
+
+        @GET
+        @Path("large/released")
+        public boolean released() {
+            for (ByteBuf chunk : CHUNKS) {
+                if (chunk.refCnt() > 0) {
+                    return false;
+                }
+            }
+            return !CHUNKS.isEmpty();
+        }
     }
 }
@@ -378,6 +378,22 @@ public Integer jsonpArray(JsonArray jsonArray) {
         return jsonArray.size();
     }
 
+    @Path("jsonp-object-echo")
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public JsonObject jsonpObjectEcho(JsonObject jsonObject) {
+        return jsonObject;
+    }
+
+    @Path("jsonp-array-echo")
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public JsonArray jsonpArrayEcho(JsonArray jsonArray) {
+        return jsonArray;
+    }
+
     @Path("/bool")
     @POST
     @Consumes(MediaType.TEXT_PLAIN)
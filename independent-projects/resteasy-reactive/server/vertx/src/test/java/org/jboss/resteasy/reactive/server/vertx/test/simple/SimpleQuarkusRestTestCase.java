@@ -353,6 +353,12 @@ public void testJsonp() {
 
         RestAssured.with().body("[{}, {}]").contentType("application/json").post("/simple/jsonp-array")
                 .then().statusCode(200).body(Matchers.equalTo("2"));
+
+        RestAssured.with().body("{\"k\": \"v\"}").contentType("application/json").post("/simple/jsonp-object-echo")
+                .then().statusCode(200).contentType("application/json").body(Matchers.equalTo("{\"k\":\"v\"}"));
+
+        RestAssured.with().body("[1, 2]").contentType("application/json").post("/simple/jsonp-array-echo")
+                .then().statusCode(200).contentType("application/json").body(Matchers.equalTo("[1,2]"));
     }
 
     @Test